@@ -60,6 +60,7 @@ import com.jogamp.gluegen.runtime.opengl.GLNameResolver;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -492,6 +493,36 @@ public class GLEmitter extends ProcAddressEmitter {
         return (GLConfiguration) getConfig();
     }
 
+    /**
+     * Lazy function address resolution of tables and call sites,
+     * see <code>jogamp.opengl.LazyProcAddressResolver</code>.
+     */
+    static final String LAZY_RESOLVER = "jogamp.opengl.LazyProcAddressResolver";
+
+    private final Set<String> emittedTableEntries = new HashSet<String>();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Address fields are plain, i.e. not <code>volatile</code>, keeping the call sites of eagerly resolved tables
+     * free of volatile reads. Call sites reading a zero address, maybe stale if resolved lazily by another thread,
+     * fall back to {@link #LAZY_RESOLVER}, which reads the field again under its lock.
+     * </p>
+     */
+    @Override
+    protected void emitProcAddressTableEntryForString(final String str) {
+        // Deal gracefully with forced proc address generation in the
+        // presence of renamings
+        if( !emittedTableEntries.add(str) ) {
+            return;
+        }
+        final PrintWriter w = tableWriter;
+        w.print("  /* pp */ long ");
+        w.print(PROCADDRESS_VAR_PREFIX);
+        w.print(str);
+        w.println(";");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -527,7 +558,11 @@ public class GLEmitter extends ProcAddressEmitter {
         w.println("          \"function\");");
         w.println("    } ");
         w.println("    try {");
-        w.println("      return 0 != addressField.getLong(this);");
+        w.println("      long addr = addressField.getLong(this);");
+        w.println("      if( 0 == addr ) {");
+        w.println("        addr = "+LAZY_RESOLVER+".resolve(this, addressField.getName().substring(" + PROCADDRESS_VAR_PREFIX.length() + "));");
+        w.println("      }");
+        w.println("      return 0 != addr;");
         w.println("    } catch (Exception e) {");
         w.println("      throw new RuntimeException(");
         w.println("          \"WARNING: Address query failed for \\\"\" + functionNameBase + \"\\\"/\\\"\" + functionNameUsr +");
@@ -565,7 +600,8 @@ public class GLEmitter extends ProcAddressEmitter {
         w.println("          \"function\");");
         w.println("    } ");
         w.println("    try {");
-        w.println("      return addressField.getLong(this);");
+        w.println("      final long addr = addressField.getLong(this);");
+        w.println("      return 0 != addr ? addr : "+LAZY_RESOLVER+".resolve(this, addressField.getName().substring(" + PROCADDRESS_VAR_PREFIX.length() + "));");
         w.println("    } catch (Exception e) {");
         w.println("      throw new RuntimeException(");
         w.println("          \"WARNING: Address query failed for \\\"\" + functionNameBase + \"\\\"/\\\"\" + functionNameUsr +");
@@ -49,6 +49,9 @@ import com.jogamp.gluegen.cgram.types.Type;
 import com.jogamp.gluegen.procaddress.ProcAddressJavaMethodBindingEmitter;
 
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /** A specialization of the proc address emitter which knows how to
 change argument names to take into account Vertex Buffer Object /
@@ -79,6 +82,41 @@ public class GLJavaMethodBindingEmitter extends ProcAddressJavaMethodBindingEmit
         this(methodToWrap, methodToWrap.glEmitter, methodToWrap.bufferObjectVariant);
     }
 
+    /** Matches the generated proc address fetch <code>final long __addr_ = table._addressof_func;</code> */
+    private static final Pattern procAddressFetch = Pattern.compile("final long __addr_ = (.+)\\."+GLEmitter.PROCADDRESS_VAR_PREFIX+"(\\w+);");
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If calling through the proc address table, a zero address is resolved
+     * on first use via {@link GLEmitter#LAZY_RESOLVER} before the availability check.
+     * </p>
+     * @throws GlueGenException if the generated proc address fetch could not be found
+     */
+    @Override
+    protected void emitPreCallSetup(final MethodBinding binding, final PrintWriter writer) {
+        if( !callThroughProcAddress ) {
+            super.emitPreCallSetup(binding, writer);
+            return;
+        }
+        final StringWriter sw = new StringWriter();
+        final PrintWriter pw = new PrintWriter(sw);
+        super.emitPreCallSetup(binding, pw);
+        pw.flush();
+        final String setup = sw.toString();
+        final Matcher m = procAddressFetch.matcher(setup);
+        if( m.find() ) {
+            final String lazy = "long __addr_ = " + m.group(1) + "." + GLEmitter.PROCADDRESS_VAR_PREFIX + m.group(2) + ";" + System.lineSeparator() +
+                                "    if (__addr_ == 0) {" + System.lineSeparator() +
+                                "      __addr_ = " + GLEmitter.LAZY_RESOLVER + ".resolve(" + m.group(1) + ", \"" + m.group(2) + "\");" + System.lineSeparator() +
+                                "    }";
+            writer.print(setup.substring(0, m.start()) + lazy + setup.substring(m.end()));
+        } else {
+            throw new GlueGenException("Couldn't find proc address fetch for lazy resolution of "+binding.getName()+" in: "+setup,
+                                       binding.getCSymbol().getASTLocusTag());
+        }
+    }
+
     @Override
     protected String getArgumentName(final int i) {
         final String name = super.getArgumentName(i);
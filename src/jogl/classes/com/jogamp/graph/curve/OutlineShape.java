@@ -175,6 +175,7 @@ public final class OutlineShape implements Comparable<OutlineShape> {
     private final ArrayList<Triangle> triangles;
     private final ArrayList<Vertex> vertices;
     private int addedVerticeCount;
+    private OutlineShapeMesh mesh;
 
     private VerticesState outlineState;
 
@@ -182,6 +183,7 @@ public final class OutlineShape implements Comparable<OutlineShape> {
     private int dirtyBits;
 
     private float sharpness;
+    private boolean spatialIndexTriangulation;
 
     private final float[] tmpV1 = new float[3];
     private final float[] tmpV2 = new float[3];
@@ -200,6 +202,7 @@ public final class OutlineShape implements Comparable<OutlineShape> {
         this.addedVerticeCount = 0;
         this.dirtyBits = 0;
         this.sharpness = DEFAULT_SHARPNESS;
+        this.spatialIndexTriangulation = false;
     }
 
     /**
@@ -222,6 +225,20 @@ public final class OutlineShape implements Comparable<OutlineShape> {
         }
     }
 
+    /** Returns true if the triangulation uses a spatial index for large outlines, defaults to false. */
+    public final boolean isSpatialIndexTriangulation() { return spatialIndexTriangulation; }
+
+    /**
+     * Enables a spatial index for the triangulation of large outlines, defaults to false.
+     * <p>
+     * Recommended for outlines w/ thousands of vertices, e.g. map contours or complex logos,
+     * see {@link Triangulation#create(boolean)}.
+     * </p>
+     */
+    public final void setSpatialIndexTriangulation(final boolean enable) {
+        spatialIndexTriangulation = enable;
+    }
+
     /** Clears all data and reset all states as if this instance was newly created */
     public final void clear() {
         outlines.clear();
@@ -230,14 +247,16 @@ public final class OutlineShape implements Comparable<OutlineShape> {
         bbox.reset();
         vertices.clear();
         triangles.clear();
+        mesh = null;
         addedVerticeCount = 0;
         dirtyBits = 0;
     }
 
-    /** Clears cached triangulated data, i.e. {@link #getTriangles(VerticesState)} and {@link #getVertices()}.  */
+    /** Clears cached triangulated data, i.e. {@link #getTriangles(VerticesState)}, {@link #getVertices()} and {@link #getMesh()}.  */
     public final void clearCache() {
         vertices.clear();
         triangles.clear();
+        mesh = null;
         dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
     }
 
@@ -1002,7 +1021,7 @@ public final class OutlineShape implements Comparable<OutlineShape> {
             generateVertexIds();
 
             triangles.clear();
-            final Triangulator triangulator2d = Triangulation.create();
+            final Triangulator triangulator2d = Triangulation.create(spatialIndexTriangulation);
             for(int index = 0; index<outlines.size(); index++) {
                 triangulator2d.addCurve(triangles, outlines.get(index), sharpness);
             }
@@ -1041,6 +1060,21 @@ public final class OutlineShape implements Comparable<OutlineShape> {
         return triangles;
     }
 
+    /**
+     * Returns the {@link OutlineShapeMesh} of this shape's {@link #getTriangles(VerticesState) triangulation}
+     * and {@link #getVertices() vertices}, i.e. flat arrays ready to be appended to a {@link Region}.
+     * <p>
+     * The mesh is cached until this shape is modified, see {@link #getTriangles(VerticesState)}.
+     * </p>
+     * @see Region#addOutlineShapeMesh(OutlineShapeMesh, AffineTransform, float[])
+     */
+    public final OutlineShapeMesh getMesh() {
+        if( null == mesh || 0 != ( ( DIRTY_TRIANGLES | DIRTY_VERTICES ) & dirtyBits ) ) {
+            mesh = new OutlineShapeMesh(this);
+        }
+        return mesh;
+    }
+
     /**
      * Return a transformed instance with all {@link Outline}s are copied and transformed.
      * <p>
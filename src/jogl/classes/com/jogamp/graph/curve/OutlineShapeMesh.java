@@ -0,0 +1,141 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.graph.curve;
+
+import java.util.ArrayList;
+
+import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.math.geom.AABBox;
+
+/**
+ * Immutable flat triangulation of an {@link OutlineShape},
+ * i.e. vertex coordinates, curve parameter and local indices ready to be appended to a {@link Region}.
+ * <p>
+ * Retrieved and cached via {@link OutlineShape#getMesh()}, which is invalidated with the shape's triangulation.
+ * A {@link com.jogamp.graph.font.Font.Glyph}'s {@link OutlineShape} is owned and kept by its font,
+ * hence its mesh is computed only once per glyph and reused for all strings.
+ * </p>
+ * <p>
+ * Layout equals {@link Region#addOutlineShape(OutlineShape, com.jogamp.graph.geom.plane.AffineTransform, float[])},
+ * i.e. all {@link OutlineShape#getVertices() vertices} followed by the copied vertices of triangles
+ * not referencing them by ID, e.g. the curve triangles.
+ * </p>
+ * @see Region#addOutlineShapeMesh(OutlineShapeMesh, com.jogamp.graph.geom.plane.AffineTransform, float[])
+ */
+public final class OutlineShapeMesh {
+    /** Vertex coordinates, 3 components per vertex */
+    private final float[] coords;
+    /** Curve parameter, 3 components per vertex */
+    private final float[] texCoords;
+    /** Triangle indices, 3 per triangle, local to this mesh */
+    private final int[] indices;
+    private final int vertexCount;
+    private final AABBox bounds;
+
+    /* pp */ OutlineShapeMesh(final OutlineShape shape) {
+        final ArrayList<Triangle> trisIn = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        final ArrayList<Vertex> vertsIn = shape.getVertices();
+        bounds = new AABBox(shape.getBounds());
+        if( vertsIn.size() < 3 ) {
+            coords = new float[0];
+            texCoords = new float[0];
+            indices = new int[0];
+            vertexCount = 0;
+            return;
+        }
+        final int vertsInCount = vertsIn.size();
+        int addedCount = 0;
+        for(int i=0; i<trisIn.size(); i++) {
+            if( !isKnown(trisIn.get(i).getVertices()[0], vertsInCount) ) {
+                addedCount += 3;
+            }
+        }
+        vertexCount = vertsInCount + addedCount;
+        coords = new float[3*vertexCount];
+        texCoords = new float[3*vertexCount];
+        indices = new int[3*trisIn.size()];
+        for(int i=0; i<vertsInCount; i++) {
+            put(i, vertsIn.get(i));
+        }
+        int next = vertsInCount;
+        for(int i=0, j=0; i<trisIn.size(); i++, j+=3) {
+            final Vertex[] triVertices = trisIn.get(i).getVertices();
+            if( isKnown(triVertices[0], vertsInCount) ) {
+                indices[j  ] = triVertices[0].getId();
+                indices[j+1] = triVertices[1].getId();
+                indices[j+2] = triVertices[2].getId();
+            } else {
+                for(int k=0; k<3; k++) {
+                    put(next, triVertices[k]);
+                    indices[j+k] = next++;
+                }
+            }
+        }
+    }
+
+    /** Same criteria as {@link Region#addOutlineShape(OutlineShape, com.jogamp.graph.geom.plane.AffineTransform, float[])}: only the first vertex ID is tested */
+    private static boolean isKnown(final Vertex v, final int vertsInCount) {
+        final int id = v.getId();
+        return 0 <= id && id < vertsInCount;
+    }
+
+    private void put(final int idx, final Vertex v) {
+        System.arraycopy(v.getCoord(), 0, coords, 3*idx, 3);
+        System.arraycopy(v.getTexCoord(), 0, texCoords, 3*idx, 3);
+    }
+
+    /** Returns the number of vertices. */
+    public final int getVertexCount() { return vertexCount; }
+
+    /** Returns the number of indices, i.e. 3 x triangle count. */
+    public final int getIndexCount() { return indices.length; }
+
+    /** Returns the bounding box of the source {@link OutlineShape}, do not modify. */
+    public final AABBox getBounds() { return bounds; }
+
+    /** Copies the coordinates of vertex <code>idx</code> into <code>dest</code> at offset 0 and returns it. */
+    public final float[] getCoord(final int idx, final float[] dest) {
+        System.arraycopy(coords, 3*idx, dest, 0, 3);
+        return dest;
+    }
+
+    /** Copies the curve parameter of vertex <code>idx</code> into <code>dest</code> at offset 0 and returns it. */
+    public final float[] getTexCoord(final int idx, final float[] dest) {
+        System.arraycopy(texCoords, 3*idx, dest, 0, 3);
+        return dest;
+    }
+
+    /** Returns the local vertex index at position <code>i</code>. */
+    public final int getIndex(final int i) { return indices[i]; }
+
+    @Override
+    public String toString() {
+        return "OutlineShapeMesh[vertices "+vertexCount+", triangles "+(indices.length/3)+", box "+bounds+"]";
+    }
+}
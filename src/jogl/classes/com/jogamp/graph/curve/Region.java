@@ -32,7 +32,12 @@ import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import jogamp.opengl.Debug;
@@ -120,6 +125,10 @@ public abstract class Region {
 
     protected static final int DIRTY_SHAPE    = 1 << 0 ;
     protected static final int DIRTY_STATE    = 1 << 1 ;
+    protected static final int DIRTY_SHAPE_RANGE = 1 << 2 ;
+
+    /** Default relative slack capacity of a {@link #addOutlineShapeRange(OutlineShape, AffineTransform, float[], float) shape range}, {@value}. */
+    public static final float DEFAULT_SHAPE_RANGE_SLACK = 0.25f;
 
     private final int renderModes;
     private final boolean use_int32_idx;
@@ -127,6 +136,8 @@ public abstract class Region {
     private int quality;
     private int dirty = DIRTY_SHAPE | DIRTY_STATE;
     private int numVertices = 0;
+    private int numIndices = 0;
+    private final ArrayList<ShapeRange> shapeRanges = new ArrayList<ShapeRange>();
     protected final AABBox box = new AABBox();
     protected Frustum frustum = null;
 
@@ -231,6 +242,11 @@ public abstract class Region {
     protected abstract void pushIndex(int idx);
     protected abstract void pushIndices(int idx1, int idx2, int idx3);
 
+    /** Writes the vertex at the given absolute vertex index, already pushed, w/o changing the append position. */
+    protected abstract void putVertex(int vertexIdx, final float[] coords, final float[] texParams, float[] rgba);
+    /** Writes the triangle indices at the given absolute index position, already pushed, w/o changing the append position. */
+    protected abstract void putIndices(int indexPos, int idx1, int idx2, int idx3);
+
     /**
      * Return bit-field of render modes, see {@link GLRegion#create(GLProfile, int, TextureSequence)}.
      */
@@ -245,6 +261,8 @@ public abstract class Region {
     protected void clearImpl() {
         dirty = DIRTY_SHAPE | DIRTY_STATE;
         numVertices = 0;
+        numIndices = 0;
+        shapeRanges.clear();
         box.reset();
     }
 
@@ -352,10 +370,12 @@ public abstract class Region {
     @SuppressWarnings("unused")
     private void pushNewVertexIdxImpl(final Vertex vertIn, final AffineTransform transform, final float[] rgba) {
         pushIndex(numVertices);
+        numIndices++;
         pushNewVertexImpl(vertIn, transform, rgba);
     }
     private void pushNewVerticesIdxImpl(final Vertex vertIn1, final Vertex vertIn2, final Vertex vertIn3, final AffineTransform transform, final float[] rgba) {
         pushIndices(numVertices, numVertices+1, numVertices+2);
+        numIndices+=3;
         pushNewVerticesImpl(vertIn1, vertIn2, vertIn3, transform, rgba);
     }
 
@@ -373,6 +393,9 @@ public abstract class Region {
     }
 
     private final AABBox tmpBox = new AABBox();
+    private final float[] tmpCoordsIn = new float[3];
+    private final float[] tmpCoordsEx = new float[3];
+    private final float[] tmpTexCoord = new float[3];
 
     protected static final int GL_UINT16_MAX = 0xffff; // 65,535
     protected static final int GL_INT32_MAX = 0x7fffffff; // 2,147,483,647
@@ -549,6 +572,7 @@ public abstract class Region {
                     pushIndices(tv0Idx+idxOffset,
                                 triInVertices[1].getId()+idxOffset,
                                 triInVertices[2].getId()+idxOffset);
+                    numIndices+=3;
                 } else {
                     // FIXME: If exceeding max_indices, we would need to generate a new buffer w/ indices
                     pushNewVerticesIdxImpl(triInVertices[0], triInVertices[1], triInVertices[2], t, rgbaColor);
@@ -611,6 +635,7 @@ public abstract class Region {
                     pushIndices(tv0Idx+idxOffset,
                                 triInVertices[1].getId()+idxOffset,
                                 triInVertices[2].getId()+idxOffset);
+                    numIndices+=3;
                     perf.td_tri_push_idx += Clock.currentNanos() - tpi;
                     vertsTMovIdxCount+=3;
                 } else {
@@ -640,6 +665,82 @@ public abstract class Region {
         }
     }
 
+    /**
+     * Add the given {@link OutlineShapeMesh} with an optional {@link AffineTransform} to this region.
+     * <p>
+     * Produces the same result as {@link #addOutlineShape(OutlineShape, AffineTransform, float[])} of the mesh's source shape,
+     * but merely copies the mesh's flat arrays w/o traversing the shape's vertices and triangles.
+     * Hence preferred for repeatedly added shapes, e.g. glyphs, see {@link OutlineShape#getMesh()}.
+     * </p>
+     * @param mesh the mesh to add
+     * @param t the optional {@link AffineTransform} to be applied on each vertex
+     * @param rgbaColor if {@link #hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     */
+    public final void addOutlineShapeMesh(final OutlineShapeMesh mesh, final AffineTransform t, final float[] rgbaColor) {
+        if( isCulled(mesh.getBounds(), t) ) {
+            return;
+        }
+        addOutlineShapeMeshImpl(mesh, t, rgbaColor);
+        markShapeDirty();
+    }
+    private final boolean isCulled(final AABBox shapeBox, final AffineTransform t) {
+        if( null != frustum ) {
+            final AABBox shapeBoxT;
+            if( null != t ) {
+                t.transform(shapeBox, tmpBox);
+                shapeBoxT = tmpBox;
+            } else {
+                shapeBoxT = shapeBox;
+            }
+            return frustum.isAABBoxOutside(shapeBoxT);
+        }
+        return false;
+    }
+    private final void addOutlineShapeMeshImpl(final OutlineShapeMesh mesh, final AffineTransform t, final float[] rgbaColor) {
+        final int vertexCount = mesh.getVertexCount();
+        final int indexCount = mesh.getIndexCount();
+        growBuffer(vertexCount, indexCount);
+        if( 0 < vertexCount ) {
+            final float[] coordsIn = tmpCoordsIn;
+            final float[] coordsEx = tmpCoordsEx;
+            final float[] texCoord = tmpTexCoord;
+            final int idxOffset = numVertices;
+            if( max_indices - idxOffset >= vertexCount ) {
+                for(int i=0; i<vertexCount; i++) {
+                    pushMeshVertex(mesh, i, t, coordsIn, coordsEx, texCoord, rgbaColor);
+                }
+                for(int i=0; i<indexCount; i+=3) {
+                    pushIndices(mesh.getIndex(i)+idxOffset, mesh.getIndex(i+1)+idxOffset, mesh.getIndex(i+2)+idxOffset);
+                    numIndices+=3;
+                }
+            } else {
+                // FIXME: If exceeding max_indices, we would need to generate a new buffer w/ indices
+                for(int i=0; i<indexCount; i+=3) {
+                    pushIndices(numVertices, numVertices+1, numVertices+2);
+                    numIndices+=3;
+                    pushMeshVertex(mesh, mesh.getIndex(i  ), t, coordsIn, coordsEx, texCoord, rgbaColor);
+                    pushMeshVertex(mesh, mesh.getIndex(i+1), t, coordsIn, coordsEx, texCoord, rgbaColor);
+                    pushMeshVertex(mesh, mesh.getIndex(i+2), t, coordsIn, coordsEx, texCoord, rgbaColor);
+                }
+            }
+        }
+    }
+    private void pushMeshVertex(final OutlineShapeMesh mesh, final int idx, final AffineTransform t,
+                                final float[] coordsIn, final float[] coordsEx, final float[] texCoord, final float[] rgba) {
+        mesh.getCoord(idx, coordsIn);
+        mesh.getTexCoord(idx, texCoord);
+        if( null != t ) {
+            t.transform(coordsIn, coordsEx);
+            coordsEx[2] = coordsIn[2];
+            box.resize(coordsEx);
+            pushVertex(coordsEx, texCoord, rgba);
+        } else {
+            box.resize(coordsIn);
+            pushVertex(coordsIn, texCoord, rgba);
+        }
+        numVertices++;
+    }
+
     /**
      * Add the given list of {@link OutlineShape}s to this region with the given optional {@link AffineTransform}.
      * <p>
@@ -657,6 +758,284 @@ public abstract class Region {
         }
     }
 
+    /**
+     * Add the given list of {@link OutlineShape}s to this region with the given optional {@link AffineTransform},
+     * triangulating the shapes in parallel.
+     * <p>
+     * Produces the same result as {@link #addOutlineShapes(List, AffineTransform, float[])},
+     * however each distinct shape is triangulated to its {@link OutlineShape#getMesh() mesh}
+     * on the given {@link Executor}, e.g. a fork-join pool, using up to <code>parallelism</code> tasks,
+     * where the calling thread processes the first task.
+     * Thereafter all meshes are merged into this region's buffers in one pass,
+     * which are grown only once.
+     * </p>
+     * <p>
+     * Shapes are culled by {@link #setFrustum(Frustum) frustum} before their triangulation.
+     * A shape must not be modified by other threads while this method runs.
+     * The same shape instance may be contained multiple times.
+     * </p>
+     * <p>
+     * This method does not require the GL context, i.e. the region can be filled off the GL thread,
+     * only the later {@link GLRegion#draw(com.jogamp.opengl.GL2ES2, com.jogamp.graph.curve.opengl.RegionRenderer, int[]) draw}
+     * uploads the buffers on the GL thread.
+     * </p>
+     * @param shapes list of {@link OutlineShape} to add
+     * @param transform the optional {@link AffineTransform} to be applied on each vertex
+     * @param rgbaColor if {@link #hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * @param executor the {@link Executor} running the triangulation tasks, or <code>null</code> to triangulate on the calling thread
+     * @param parallelism maximum number of concurrent triangulation tasks
+     */
+    public final void addOutlineShapes(final List<OutlineShape> shapes, final AffineTransform transform, final float[] rgbaColor,
+                                       final Executor executor, final int parallelism) {
+        // distinct, not culled shapes, since an OutlineShape must not be triangulated concurrently
+        final int shapeCount = shapes.size();
+        final IdentityHashMap<OutlineShape, OutlineShapeMesh> meshes = new IdentityHashMap<OutlineShape, OutlineShapeMesh>();
+        final ArrayList<OutlineShape> distinct = new ArrayList<OutlineShape>(shapeCount);
+        final boolean[] culled = new boolean[shapeCount];
+        for(int i=0; i<shapeCount; i++) {
+            final OutlineShape shape = shapes.get(i);
+            culled[i] = isCulled(shape.getBounds(), transform);
+            if( !culled[i] && !meshes.containsKey(shape) ) {
+                meshes.put(shape, null);
+                distinct.add(shape);
+            }
+        }
+        final OutlineShapeMesh[] distinctMeshes = new OutlineShapeMesh[distinct.size()];
+        triangulateMeshes(distinct, distinctMeshes, executor, parallelism);
+        for(int i=0; i<distinctMeshes.length; i++) {
+            meshes.put(distinct.get(i), distinctMeshes[i]);
+        }
+
+        // merge on the calling thread
+        int vertexCount = 0, indexCount = 0;
+        for(int i=0; i<shapeCount; i++) {
+            if( !culled[i] ) {
+                final OutlineShapeMesh mesh = meshes.get(shapes.get(i));
+                vertexCount += mesh.getVertexCount();
+                indexCount += mesh.getIndexCount();
+            }
+        }
+        growBuffer(vertexCount, indexCount);
+        for(int i=0; i<shapeCount; i++) {
+            if( !culled[i] ) {
+                addOutlineShapeMeshImpl(meshes.get(shapes.get(i)), transform, rgbaColor);
+            }
+        }
+        markShapeDirty();
+    }
+
+    /** Stores each shape's {@link OutlineShape#getMesh() mesh} in <code>meshes</code>, computed in up to <code>parallelism</code> interleaved tasks. */
+    private static void triangulateMeshes(final List<OutlineShape> shapes, final OutlineShapeMesh[] meshes,
+                                          final Executor executor, final int parallelism) {
+        final int tasksCount = null != executor ? Math.max(1, Math.min(parallelism, shapes.size())) : 1;
+        final ArrayList<FutureTask<Object>> tasks = new ArrayList<FutureTask<Object>>(tasksCount - 1);
+        for(int j=1; j<tasksCount; j++) {
+            final int _j = j;
+            final FutureTask<Object> task = new FutureTask<Object>(new Runnable() {
+                @Override
+                public void run() {
+                    for(int i=_j; i<meshes.length; i+=tasksCount) {
+                        meshes[i] = shapes.get(i).getMesh();
+                    }
+                } }, null);
+            tasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (final RejectedExecutionException ree) {
+                // run below by caller
+            }
+        }
+        for(int i=0; i<meshes.length; i+=tasksCount) {
+            meshes[i] = shapes.get(i).getMesh();
+        }
+        for(int i=0; i<tasks.size(); i++) {
+            final FutureTask<Object> task = tasks.get(i);
+            task.run(); // no-op if already started
+            try {
+                task.get();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ie);
+            } catch (final ExecutionException ee) {
+                throw new RuntimeException(ee.getCause());
+            }
+        }
+    }
+
+    /**
+     * Vertex and index span of a shape within this region's buffers incl. slack capacity,
+     * see {@link Region#addOutlineShapeRange(OutlineShape, AffineTransform, float[], float)}.
+     */
+    protected static final class ShapeRange {
+        /** First vertex index */
+        public final int vertexStart;
+        /** Number of reserved vertices */
+        public final int vertexCapacity;
+        /** First index position */
+        public final int indexStart;
+        /** Number of reserved indices, a multiple of 3 */
+        public final int indexCapacity;
+        private boolean dirty;
+
+        ShapeRange(final int vertexStart, final int vertexCapacity, final int indexStart, final int indexCapacity) {
+            this.vertexStart = vertexStart;
+            this.vertexCapacity = vertexCapacity;
+            this.indexStart = indexStart;
+            this.indexCapacity = indexCapacity;
+            this.dirty = false;
+        }
+
+        /** Returns true if this range has been {@link Region#updateOutlineShapeRange(int, OutlineShape, AffineTransform, float[]) updated} since the last upload. */
+        public boolean isDirty() { return dirty; }
+
+        @Override
+        public String toString() {
+            return "ShapeRange[vertices "+vertexStart+" + "+vertexCapacity+", indices "+indexStart+" + "+indexCapacity+", dirty "+dirty+"]";
+        }
+    }
+
+    /**
+     * Add the given {@link OutlineShape} to this region in its own range w/ {@link #DEFAULT_SHAPE_RANGE_SLACK default slack},
+     * see {@link #addOutlineShapeRange(OutlineShape, AffineTransform, float[], float)}.
+     */
+    public final int addOutlineShapeRange(final OutlineShape shape, final AffineTransform t, final float[] rgbaColor) {
+        return addOutlineShapeRange(shape, t, rgbaColor, DEFAULT_SHAPE_RANGE_SLACK);
+    }
+
+    /**
+     * Add the given {@link OutlineShape} to this region in its own range of vertices and indices,
+     * which can later be replaced in place via {@link #updateOutlineShapeRange(int, OutlineShape, AffineTransform, float[])}.
+     * <p>
+     * The range reserves <code>slack</code> times the shape's vertex and index count as additional capacity,
+     * allowing a replacing shape to grow w/o reallocation.
+     * Unused index capacity is filled w/ degenerated triangles.
+     * </p>
+     * <p>
+     * A shape range is not subject to {@link #setFrustum(Frustum) frustum culling}
+     * and uses the shape's cached {@link OutlineShape#getMesh() mesh}.
+     * </p>
+     * @param shape the {@link OutlineShape} to add
+     * @param t the optional {@link AffineTransform} to be applied on each vertex
+     * @param rgbaColor if {@link #hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * @param slack relative additional capacity, e.g. {@link #DEFAULT_SHAPE_RANGE_SLACK}
+     * @return the range index for {@link #updateOutlineShapeRange(int, OutlineShape, AffineTransform, float[])},
+     *         or -1 if the range exceeds the maximum index value of this region
+     */
+    public final int addOutlineShapeRange(final OutlineShape shape, final AffineTransform t, final float[] rgbaColor, final float slack) {
+        final OutlineShapeMesh mesh = shape.getMesh();
+        final int vertexCount = mesh.getVertexCount();
+        final int indexCount = mesh.getIndexCount();
+        final int vertexCapacity = vertexCount + (int)Math.ceil(vertexCount * slack);
+        final int indexCapacity = 3 * ( ( indexCount + (int)Math.ceil(indexCount * slack) + 2 ) / 3 );
+        if( max_indices - numVertices < vertexCapacity ) {
+            return -1;
+        }
+        growBuffer(vertexCapacity, indexCapacity);
+        final ShapeRange range = new ShapeRange(numVertices, vertexCapacity, numIndices, indexCapacity);
+        writeShapeRange(range, mesh, t, rgbaColor, true);
+        numVertices += vertexCapacity;
+        numIndices += indexCapacity;
+        shapeRanges.add(range);
+        markShapeDirty();
+        return shapeRanges.size() - 1;
+    }
+
+    /**
+     * Replaces the shape of the given range, added via {@link #addOutlineShapeRange(OutlineShape, AffineTransform, float[], float)},
+     * in place if its vertex and index count fit into the range's capacity.
+     * <p>
+     * Only the changed ranges are uploaded at the next {@link GLRegion#draw(com.jogamp.opengl.GL2ES2, com.jogamp.graph.curve.opengl.RegionRenderer, int[]) draw},
+     * instead of all buffers.
+     * </p>
+     * <p>
+     * The {@link #getBounds() bounding box} is only extended by the new shape.
+     * </p>
+     * @param rangeIdx the range index as returned by {@link #addOutlineShapeRange(OutlineShape, AffineTransform, float[], float)}
+     * @param shape the replacing {@link OutlineShape}
+     * @param t the optional {@link AffineTransform} to be applied on each vertex
+     * @param rgbaColor if {@link #hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * @return true if replaced, otherwise false if the shape exceeds the range's capacity and this region must be rebuilt.
+     */
+    public final boolean updateOutlineShapeRange(final int rangeIdx, final OutlineShape shape, final AffineTransform t, final float[] rgbaColor) {
+        final ShapeRange range = shapeRanges.get(rangeIdx);
+        final OutlineShapeMesh mesh = shape.getMesh();
+        if( mesh.getVertexCount() > range.vertexCapacity || mesh.getIndexCount() > range.indexCapacity ) {
+            return false;
+        }
+        writeShapeRange(range, mesh, t, rgbaColor, false);
+        range.dirty = true;
+        dirty |= DIRTY_SHAPE_RANGE;
+        return true;
+    }
+
+    /** Writes the mesh to the range, padded w/ copies of its last vertex and degenerated triangles, appending or in place. */
+    private void writeShapeRange(final ShapeRange range, final OutlineShapeMesh mesh, final AffineTransform t, final float[] rgbaColor, final boolean append) {
+        final float[] coordsIn = tmpCoordsIn;
+        final float[] coordsEx = tmpCoordsEx;
+        final float[] texCoord = tmpTexCoord;
+        final int vertexCount = mesh.getVertexCount();
+        for(int i=0; i<range.vertexCapacity; i++) {
+            final float[] coords;
+            if( i < vertexCount ) {
+                mesh.getCoord(i, coordsIn);
+                mesh.getTexCoord(i, texCoord);
+                if( null != t ) {
+                    t.transform(coordsIn, coordsEx);
+                    coordsEx[2] = coordsIn[2];
+                    coords = coordsEx;
+                } else {
+                    coords = coordsIn;
+                }
+                box.resize(coords);
+            } else if( 0 < vertexCount ) {
+                coords = null != t ? coordsEx : coordsIn; // last written vertex
+            } else {
+                coordsIn[0] = 0f; coordsIn[1] = 0f; coordsIn[2] = 0f;
+                texCoord[0] = 0f; texCoord[1] = 0f; texCoord[2] = 0f;
+                coords = coordsIn;
+            }
+            if( append ) {
+                pushVertex(coords, texCoord, rgbaColor);
+            } else {
+                putVertex(range.vertexStart+i, coords, texCoord, rgbaColor);
+            }
+        }
+        final int indexCount = mesh.getIndexCount();
+        final int v0 = range.vertexStart;
+        for(int i=0; i<range.indexCapacity; i+=3) {
+            final int i0, i1, i2;
+            if( i < indexCount ) {
+                i0 = v0 + mesh.getIndex(i); i1 = v0 + mesh.getIndex(i+1); i2 = v0 + mesh.getIndex(i+2);
+            } else {
+                i0 = v0; i1 = v0; i2 = v0; // degenerated
+            }
+            if( append ) {
+                pushIndices(i0, i1, i2);
+            } else {
+                putIndices(range.indexStart+i, i0, i1, i2);
+            }
+        }
+    }
+
+    /** Returns the number of shape ranges, see {@link #addOutlineShapeRange(OutlineShape, AffineTransform, float[], float)}. */
+    public final int getShapeRangeCount() { return shapeRanges.size(); }
+
+    /** Returns the shape range at given index, see {@link #addOutlineShapeRange(OutlineShape, AffineTransform, float[], float)}. */
+    protected final ShapeRange getShapeRange(final int rangeIdx) { return shapeRanges.get(rangeIdx); }
+
+    /** Returns true if any shape range has been {@link #updateOutlineShapeRange(int, OutlineShape, AffineTransform, float[]) updated} since the last upload. */
+    public final boolean isShapeRangeDirty() {
+        return 0 != ( dirty & DIRTY_SHAPE_RANGE ) ;
+    }
+
+    /** Clears the dirty state of all shape ranges, see {@link #isShapeRangeDirty()}. */
+    protected final void clearShapeRangesDirty() {
+        for(int i=0; i<shapeRanges.size(); i++) {
+            shapeRanges.get(i).dirty = false;
+        }
+        dirty &= ~DIRTY_SHAPE_RANGE;
+    }
+
     /** @return the AxisAligned bounding box of current region */
     public final AABBox getBounds() {
         return box;
@@ -32,6 +32,7 @@ import com.jogamp.opengl.GL2ES2;
 import com.jogamp.opengl.GLArrayData;
 import com.jogamp.opengl.util.GLArrayDataClient;
 import com.jogamp.opengl.util.GLArrayDataEditable;
+import com.jogamp.opengl.util.GLArrayDataServer;
 import com.jogamp.opengl.GLProfile;
 
 import jogamp.graph.curve.opengl.VBORegion2PMSAAES2;
@@ -43,6 +44,10 @@ import com.jogamp.opengl.util.texture.TextureSequence;
 import com.jogamp.graph.curve.Region;
 
 import java.io.PrintStream;
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
 
 import com.jogamp.graph.curve.OutlineShape;
 
@@ -139,6 +144,13 @@ public abstract class GLRegion extends Region {
      */
     protected abstract void updateImpl(final GL2ES2 gl);
 
+    /**
+     * Uploads the given {@link Region.ShapeRange shape range} of the already uploaded buffers
+     * after it has been {@link #updateOutlineShapeRange(int, OutlineShape, com.jogamp.graph.geom.plane.AffineTransform, float[]) updated}.
+     * <p>Called by {@link #draw(GL2ES2, RegionRenderer, int[])} before {@link #updateImpl(GL2ES2)}.</p>
+     */
+    protected abstract void updateRangeImpl(final GL2ES2 gl, final ShapeRange range);
+
     protected abstract void destroyImpl(final GL2ES2 gl);
 
     protected abstract void clearImpl(final GL2ES2 gl);
@@ -155,6 +167,57 @@ public abstract class GLRegion extends Region {
         }
     }
 
+    /** Writes the vertex at given vertex index to the attribute buffers using absolute puts. */
+    protected static void putVertex(final GLArrayDataServer vertices, final GLArrayDataServer curveParams, final GLArrayDataServer colors,
+                                    final int vertexIdx, final float[] coords, final float[] texParams, final float[] rgba) {
+        final FloatBuffer vb = (FloatBuffer)vertices.getBuffer();
+        final FloatBuffer cb = (FloatBuffer)curveParams.getBuffer();
+        final int i3 = vertexIdx * 3;
+        vb.put(i3, coords[0]); vb.put(i3+1, coords[1]); vb.put(i3+2, coords[2]);
+        cb.put(i3, texParams[0]); cb.put(i3+1, texParams[1]); cb.put(i3+2, texParams[2]);
+        if( null != colors ) {
+            if( null != rgba ) {
+                final FloatBuffer b = (FloatBuffer)colors.getBuffer();
+                final int i4 = vertexIdx * 4;
+                b.put(i4, rgba[0]); b.put(i4+1, rgba[1]); b.put(i4+2, rgba[2]); b.put(i4+3, rgba[3]);
+            } else {
+                throw new IllegalArgumentException("Null color given for COLOR_CHANNEL rendering mode");
+            }
+        }
+    }
+
+    /** Writes the triangle indices at given index position to the index buffer using absolute puts. */
+    protected final void putIndices(final GLArrayDataServer indices, final int indexPos, final int idx1, final int idx2, final int idx3) {
+        if( usesI32Idx() ) {
+            final IntBuffer b = (IntBuffer)indices.getBuffer();
+            b.put(indexPos, idx1); b.put(indexPos+1, idx2); b.put(indexPos+2, idx3);
+        } else {
+            final ShortBuffer b = (ShortBuffer)indices.getBuffer();
+            b.put(indexPos, (short)idx1); b.put(indexPos+1, (short)idx2); b.put(indexPos+2, (short)idx3);
+        }
+    }
+
+    /**
+     * Uploads the given component span of the client buffer to its VBO via {@link GL#glBufferSubData(int, long, long, Buffer)},
+     * if the VBO has been written already. Otherwise the span is included in the next full upload.
+     */
+    protected static void updateSubData(final GL gl, final GLArrayDataServer data, final int compStart, final int compCount) {
+        if( 0 >= compCount || 0 == data.getVBOName() || !data.isVBOWritten() || !data.sealed() ) {
+            return;
+        }
+        final Buffer buffer = data.getBuffer();
+        final int bytesPerComp = data.getBytesPerComp();
+        final int pos = buffer.position();
+        buffer.position(compStart);
+        try {
+            gl.glBindBuffer(data.getVBOTarget(), data.getVBOName());
+            gl.glBufferSubData(data.getVBOTarget(), (long)compStart * bytesPerComp, (long)compCount * bytesPerComp, buffer);
+            gl.glBindBuffer(data.getVBOTarget(), 0);
+        } finally {
+            buffer.position(pos);
+        }
+    }
+
     /**
      * Clears all buffers, i.e. triangles, vertices etc and and resets states accordingly, see {@link GLArrayDataEditable#clear(GL)}.
      * <p>
@@ -209,6 +272,15 @@ public abstract class GLRegion extends Region {
      * @see RegionRenderer#enable(GL2ES2, boolean)
      */
     public final void draw(final GL2ES2 gl, final RegionRenderer renderer, final int[/*1*/] sampleCount) {
+        if( isShapeRangeDirty() ) {
+            for(int i=0; i<getShapeRangeCount(); i++) {
+                final ShapeRange range = getShapeRange(i);
+                if( range.isDirty() ) {
+                    updateRangeImpl(gl, range);
+                }
+            }
+            clearShapeRangesDirty();
+        }
         if( isShapeDirty() ) {
             updateImpl(gl);
         }
@@ -305,6 +305,7 @@ public class RegionRenderer {
 
     private static String GLSL_USE_COLOR_CHANNEL = "#define USE_COLOR_CHANNEL 1\n";
     private static String GLSL_USE_COLOR_TEXTURE = "#define USE_COLOR_TEXTURE 1\n";
+    private static String GLSL_USE_INSTANCED_OFFSET = "#define USE_INSTANCED_OFFSET 1\n";
     private static String GLSL_DEF_SAMPLE_COUNT = "#define SAMPLE_COUNT ";
     private static String GLSL_CONST_SAMPLE_COUNT = "const float sample_count = ";
     private static String GLSL_MAIN_BEGIN = "void main (void)\n{\n";
@@ -409,6 +410,7 @@ public class RegionRenderer {
     private final IntObjectHashMap shaderPrograms = new IntObjectHashMap();
 
     private static final int HIGH_MASK = Region.COLORCHANNEL_RENDERING_BIT | Region.COLORTEXTURE_RENDERING_BIT;
+    private static final int INSTANCED_BIT = 1 <<  30;
     private static final int TWO_PASS_BIT = 1 <<  31;
 
     /**
@@ -423,6 +425,30 @@ public class RegionRenderer {
      */
     public final boolean useShaderProgram(final GL2ES2 gl, final int renderModes,
                                           final boolean pass1, final int quality, final int sampleCount, final TextureSequence colorTexSeq) {
+        return useShaderProgram(gl, renderModes, pass1, quality, sampleCount, colorTexSeq, false);
+    }
+
+    /**
+     * @param gl
+     * @param renderModes
+     * @param pass1
+     * @param quality
+     * @param sampleCount
+     * @param colorTexSeq
+     * @param instanced if true, the single pass vertex shader adds the per instance attribute
+     *                  {@link AttributeNames#INSTANCE_OFFSET_ATTR_NAME} to each vertex.
+     *                  Requires a single pass render mode w/o color texture.
+     * @return true if a new shader program is being used and hence external uniform-data and -location,
+     *         as well as the attribute-location must be updated, otherwise false.
+     * @throws IllegalArgumentException if instanced and renderModes are {@link Region#isTwoPass(int) two pass}
+     *                                  or {@link Region#hasColorTexture(int) use a color texture}.
+     */
+    public final boolean useShaderProgram(final GL2ES2 gl, final int renderModes,
+                                          final boolean pass1, final int quality, final int sampleCount, final TextureSequence colorTexSeq,
+                                          final boolean instanced) {
+        if( instanced && ( Region.isTwoPass( renderModes ) || Region.hasColorTexture( renderModes ) ) ) {
+            throw new IllegalArgumentException("Instancing requires single pass w/o color texture, renderModes "+Region.getRenderModeString(renderModes));
+        }
         final int colorTexSeqHash;
         if( null != colorTexSeq ) {
             colorTexSeqHash = colorTexSeq.getTextureFragmentShaderHashCode();
@@ -434,7 +460,7 @@ public class RegionRenderer {
         final boolean isTwoPass = Region.isTwoPass( renderModes );
         final boolean isPass1ColorTexSeq = pass1 && null != colorTexSeq;
         final int shaderKey = ( (colorTexSeqHash << 5) - colorTexSeqHash ) +
-                              ( sel1.ordinal() | ( HIGH_MASK & renderModes ) | ( isTwoPass ? TWO_PASS_BIT : 0 ) );
+                              ( sel1.ordinal() | ( HIGH_MASK & renderModes ) | ( isTwoPass ? TWO_PASS_BIT : 0 ) | ( instanced ? INSTANCED_BIT : 0 ) );
 
         /**
         if(DEBUG) {
@@ -511,6 +537,9 @@ public class RegionRenderer {
                     rsVp.insertShaderSource(0, posVp, GLSL_USE_COLOR_TEXTURE);
             posFp = rsFp.insertShaderSource(0, posFp, GLSL_USE_COLOR_TEXTURE);
         }
+        if( instanced ) {
+            posVp = rsVp.insertShaderSource(0, posVp, GLSL_USE_INSTANCED_OFFSET);
+        }
         if( !pass1 ) {
             posFp = rsFp.insertShaderSource(0, posFp, GLSL_DEF_SAMPLE_COUNT+sel1.sampleCount+"\n");
             posFp = rsFp.insertShaderSource(0, posFp, GLSL_CONST_SAMPLE_COUNT+sel1.sampleCount+".0;\n");
@@ -34,6 +34,9 @@ import java.util.Iterator;
 import com.jogamp.opengl.GL2ES2;
 import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.math.geom.AABBox;
+
+import jogamp.graph.curve.opengl.VBOGlyphInstancesES3;
+
 import com.jogamp.graph.curve.OutlineShape;
 import com.jogamp.graph.curve.Region;
 import com.jogamp.graph.font.Font;
@@ -99,6 +102,10 @@ public class TextRegionUtil {
      * @param transform optional given transform
      * @param str string text
      * @param rgbaColor if {@link Region#hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * <p>
+     * Each glyph is added via its cached {@link OutlineShape#getMesh() triangulated mesh},
+     * i.e. the glyph's {@link OutlineShape} is triangulated and traversed only once per {@link Font}.
+     * </p>
      * @param temp1 temporary AffineTransform storage, mandatory
      * @param temp2 temporary AffineTransform storage, mandatory
      * @return the bounding box of the given string by taking each glyph's font em-sized [0..1] OutlineShape into account.
@@ -109,7 +116,7 @@ public class TextRegionUtil {
         final OutlineShape.Visitor visitor = new OutlineShape.Visitor() {
             @Override
             public final void visit(final OutlineShape shape, final AffineTransform t) {
-                region.addOutlineShape(shape, t, region.hasColorChannel() ? rgbaColor : null);
+                region.addOutlineShapeMesh(shape.getMesh(), t, region.hasColorChannel() ? rgbaColor : null);
             } };
         return font.processString(visitor, transform, str, temp1, temp2);
     }
@@ -176,6 +183,58 @@ public class TextRegionUtil {
         return res;
     }
 
+    /**
+     * Returns true if {@link #drawStringInstanced(GL2ES2, RegionRenderer, Font, CharSequence, float[], int[]) drawStringInstanced(..)}
+     * uses instanced draw calls w/ the given GL profile and this instance's render modes,
+     * i.e. single pass render modes w/o color texture on {@link GL2ES2#isGL2ES3() GL2ES3}
+     * w/ <code>glDrawElementsInstanced</code> and <code>glVertexAttribDivisor</code>.
+     */
+    public boolean isInstancingSupported(final GL2ES2 gl) {
+        return VBOGlyphInstancesES3.isSupported(gl, renderModes);
+    }
+
+    /**
+     * Render the string in 3D space w.r.t. the font in font em-size [0..1] by instancing the glyphs' cached triangulated meshes.
+     * <p>
+     * Each distinct glyph's {@link OutlineShape#getMesh() mesh} is uploaded only once into buffers shared by all strings of this instance.
+     * A string is drawn w/ one instanced draw call per distinct glyph, passing the glyph offsets per instance.
+     * Hence no {@link GLRegion} is created or cached per string, suitable for frequently changing text.
+     * </p>
+     * <p>
+     * Origin of rendered text is 0/0 at bottom left.
+     * </p>
+     * <p>
+     * Falls back to {@link #drawString3D(GL2ES2, RegionRenderer, Font, CharSequence, float[], int[])}
+     * if not {@link #isInstancingSupported(GL2ES2) supported}, e.g. for the two pass
+     * {@link Region#VBAA_RENDERING_BIT VBAA} and {@link Region#MSAA_RENDERING_BIT MSAA} render modes.
+     * </p>
+     * <p>
+     * The shared glyph buffers will be destroyed w/ {@link #clear(GL2ES2)}.
+     * </p>
+     * @param gl the current GL state
+     * @param renderer the initialized {@link RegionRenderer}
+     * @param font {@link Font} to be used
+     * @param str text to be rendered
+     * @param rgbaColor if {@link Region#hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * @param sampleCount desired multisampling sample count for msaa-rendering, only used by the fallback.
+     * @return the bounding box of the given string
+     * @throws GLException if renderer not initialized
+     */
+    public AABBox drawStringInstanced(final GL2ES2 gl,
+                                      final RegionRenderer renderer, final Font font, final CharSequence str,
+                                      final float[] rgbaColor, final int[/*1*/] sampleCount) {
+        if( !renderer.isInitialized() ) {
+            throw new GLException("TextRendererImpl01: not initialized!");
+        }
+        if( !isInstancingSupported(gl) ) {
+            return drawString3D(gl, renderer, font, str, rgbaColor, sampleCount);
+        }
+        if( null == glyphInstances ) {
+            glyphInstances = new VBOGlyphInstancesES3(renderModes, GLRegion.defaultVerticesCount, GLRegion.defaultIndicesCount);
+        }
+        return glyphInstances.drawString(gl, renderer, font, str, rgbaColor, tempT1, tempT2);
+    }
+
     /**
      * Try using {@link #drawString3D(GL2ES2, int, RegionRenderer, Font, CharSequence, float[], int[], AffineTransform, AffineTransform)} to reuse {@link AffineTransform} instances.
      */
@@ -279,6 +338,10 @@ public class TextRegionUtil {
        }
        stringCacheMap.clear();
        stringCacheArray.clear();
+       if( null != glyphInstances ) {
+           glyphInstances.destroy(gl);
+           glyphInstances = null;
+       }
    }
 
    /**
@@ -392,4 +455,5 @@ public class TextRegionUtil {
    private final HashMap<Key, GLRegion> stringCacheMap = new HashMap<Key, GLRegion>(DEFAULT_CACHE_LIMIT);
    private final ArrayList<Key> stringCacheArray = new ArrayList<Key>(DEFAULT_CACHE_LIMIT);
    private int stringCacheLimit = DEFAULT_CACHE_LIMIT;
+   private VBOGlyphInstancesES3 glyphInstances = null;
 }
@@ -41,4 +41,22 @@ public class Triangulation {
     public static Triangulator create() {
         return new CDTriangulator2D();
     }
+
+    /**
+     * Create a new instance of a triangulation.
+     * <p>
+     * With <code>spatialIndex</code> enabled, the Delaunay in-circle test of each ear candidate
+     * only considers loop vertices near its circumcircle using a uniform grid,
+     * instead of testing all remaining loop vertices.
+     * Rejected ears are remembered w/ their witness vertex while it remains in the loop.
+     * This considerably reduces the triangulation cost of large outlines, e.g. thousands of vertices,
+     * while producing the same triangles.
+     * </p>
+     * @param spatialIndex pass true to use a spatial index for large outlines
+     * @return instance of a triangulator
+     * @see Triangulator
+     */
+    public static Triangulator create(final boolean spatialIndex) {
+        return new CDTriangulator2D(spatialIndex);
+    }
 }
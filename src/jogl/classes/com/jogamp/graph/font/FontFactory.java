@@ -101,6 +101,22 @@ public class FontFactory {
         return fontConstr.create(file);
     }
 
+    /**
+     * Creates a Font instance.
+     * <p>
+     * If <code>lazy</code> is true, the font file is memory mapped
+     * and glyph outlines are parsed on demand, recommended for large fonts, e.g. CJK.
+     * Otherwise same as {@link #get(File)}.
+     * </p>
+     * @param file font file
+     * @param lazy pass true to load the glyphs on demand from the memory mapped font file
+     * @return the new Font instance
+     * @throws IOException
+     */
+    public static final Font get(final File file, final boolean lazy) throws IOException {
+        return fontConstr.create(file, lazy);
+    }
+
     /**
      * Creates a Font instance based on a determinated font stream with its given length
      * of the font segment.
@@ -37,6 +37,12 @@ import java.io.PrintStream;
 public interface FPSCounter {
     public static final int DEFAULT_FRAMES_PER_INTERVAL = 5*60;
 
+    /** Resolution of the frame duration histogram in nanoseconds, i.e. 50 microseconds, see {@link #getFrameDurationPercentile(int)}. */
+    public static final long FRAME_HISTOGRAM_RESOLUTION_NS = 50000L;
+
+    /** Maximum frame duration of the histogram in nanoseconds, i.e. 102.4 milliseconds, see {@link #getFrameDurationPercentile(int)}. */
+    public static final long FRAME_HISTOGRAM_MAX_NS = 2048L * FRAME_HISTOGRAM_RESOLUTION_NS;
+
     /**
      * @param frames Update interval in frames.<br> At every rendered <i>frames</i> interval the currentTime and fps values are updated.
      *        If the <i>frames</i> interval is <= 0, no update will be issued, ie the FPSCounter feature is turned off. You may choose {@link #DEFAULT_FRAMES_PER_INTERVAL}.
@@ -114,4 +120,44 @@ public interface FPSCounter {
      * @see #resetFPSCounter()
      */
     float getTotalFPS();
+
+    /**
+     * Returns the frame duration at the given percentile in nanoseconds,
+     * i.e. the duration which the given percentage of all frame durations do not exceed.
+     * <p>
+     * Frame durations between two consecutive frames are recorded in a histogram
+     * w/ {@link #FRAME_HISTOGRAM_RESOLUTION_NS} resolution, where durations above {@link #FRAME_HISTOGRAM_MAX_NS} are clamped.
+     * Recording is independent of {@link #setUpdateFPSFrames(int, PrintStream)}
+     * and only performed if {@link #setFrameDurationHistogram(boolean) enabled}.
+     * </p>
+     *
+     * @param percentile the percentile within [1..100], e.g. 50, 95 or 99
+     * @return the frame duration in nanoseconds, or zero if no frame duration has been recorded
+     *
+     * @see #resetFPSCounter()
+     */
+    long getFrameDurationPercentile(int percentile);
+
+    /**
+     * Enables or disables recording of the frame duration histogram, see {@link #getFrameDurationPercentile(int)}.
+     * <p>
+     * Recording is disabled by default. Changing the state resets the histogram.
+     * </p>
+     * @param enable
+     */
+    void setFrameDurationHistogram(boolean enable);
+
+    /** Returns true if recording of the frame duration histogram is {@link #setFrameDurationHistogram(boolean) enabled}. */
+    boolean isFrameDurationHistogramEnabled();
+
+    /**
+     * Returns the number of missed frame deadlines,
+     * as reported by a deadline driven frame pacer, e.g. {@link com.jogamp.opengl.util.FPSAnimator#setHighPrecisionPacing(boolean)}.
+     * <p>
+     * Without such pacer the result is zero.
+     * </p>
+     *
+     * @see #resetFPSCounter()
+     */
+    int getMissedFrameDeadlines();
 }
@@ -54,6 +54,7 @@ import jogamp.opengl.Debug;
 import jogamp.opengl.GLContextImpl;
 import jogamp.opengl.GLContextShareSet;
 
+import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.os.Platform;
 import com.jogamp.common.util.Bitfield;
 import com.jogamp.common.util.VersionNumber;
@@ -609,6 +610,37 @@ public abstract class GLContext {
     return 0 != contextHandle;
   }
 
+  /**
+   * An {@link #attachObject(String, Object) attached object} owning GL resources of its context,
+   * which are released via {@link #dispose(GL)} when the context gets {@link #destroy() destroyed}.
+   */
+  public static interface DisposableAttachment {
+      /**
+       * Releases the GL resources, called with the context being current before its destruction.
+       * @param gl the current GL of the context being destroyed
+       */
+      void dispose(GL gl);
+  }
+
+  /**
+   * {@link DisposableAttachment#dispose(GL) Disposes} all attached {@link DisposableAttachment}s,
+   * called with this context being current before its destruction.
+   * Exceptions are dumped and do not abort the destruction.
+   */
+  protected final void disposeAttachedObjects(final GL gl) {
+      // attachments may detach themselves
+      final Object[] objs = attachedObjects.values().toArray();
+      for(int i=0; i<objs.length; i++) {
+          if( objs[i] instanceof DisposableAttachment ) {
+              try {
+                  ((DisposableAttachment)objs[i]).dispose(gl);
+              } catch (final Throwable t) {
+                  ExceptionUtils.dumpThrowable("disposeAttachedObjects", t);
+              }
+          }
+      }
+  }
+
   /**
    * Returns the attached user object for the given name to this GLContext.
    */
@@ -694,6 +726,33 @@ public abstract class GLContext {
    */
   public abstract boolean isExtensionAvailable(String glExtensionName);
 
+  /**
+   * Returns true if the OpenGL extension of the given id can be
+   * successfully called using this GL context, see {@link #isExtensionAvailable(String)}.
+   * <p>
+   * This lookup is O(1) and does not hash the extension name,
+   * hence it is suitable for rendering hot paths.
+   * </p>
+   *
+   * @param glExtensionId the id of the OpenGL extension as returned by {@link #getExtensionId(String)}
+   */
+  public abstract boolean isExtensionAvailable(int glExtensionId);
+
+  /**
+   * Returns the process wide unique id of the given OpenGL extension name,
+   * to be used w/ {@link #isExtensionAvailable(int)}.
+   * <p>
+   * Ids are small non-negative integers, assigned on first use and
+   * valid for the lifetime of the process. They may be stored in static fields.
+   * </p>
+   *
+   * @param glExtensionName the name of the OpenGL extension (e.g.,
+   * "GL_VERTEX_PROGRAM_ARB").
+   */
+  public static final int getExtensionId(final String glExtensionName) {
+      return GLContextImpl.getExtensionIdImpl(glExtensionName);
+  }
+
   /** Returns the number of platform extensions */
   public abstract int getPlatformExtensionCount();
 
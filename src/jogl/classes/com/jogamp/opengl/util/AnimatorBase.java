@@ -163,6 +163,7 @@ public abstract class AnimatorBase implements GLAnimatorControl {
                 impl = new DefaultAnimatorImpl();
                 baseName = getBaseName("")+seqSuffix;
             }
+            impl = wrapImpl(impl);
             if(DEBUG) {
                 System.err.println("Animator.initImpl: baseName "+baseName+", implClazz "+impl.getClass().getName()+" - "+toString()+" - "+getThreadName());
             }
@@ -170,6 +171,19 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     }
     protected abstract String getBaseName(String prefix);
 
+    /**
+     * Returns the {@link AnimatorImpl} to be used, invoked by {@link #initImpl(boolean)}
+     * w/ the implementation chosen by the {@link #getModeBits() mode bits}.
+     * <p>
+     * Default returns the given instance.
+     * Implementations may wrap it, e.g. to not {@link AnimatorImpl#blockUntilDone(Thread) block}
+     * on threads other than the {@link #getThread() animator thread}.
+     * </p>
+     */
+    protected AnimatorImpl wrapImpl(final AnimatorImpl impl) {
+        return impl;
+    }
+
     /**
      * Enables or disables the given <code>bitValues</code>
      * in this Animators <code>modeBits</code>.
@@ -504,6 +518,26 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         return fpsCounter.getTotalFPS();
     }
 
+    @Override
+    public final long getFrameDurationPercentile(final int percentile) {
+        return fpsCounter.getFrameDurationPercentile(percentile);
+    }
+
+    @Override
+    public final int getMissedFrameDeadlines() {
+        return fpsCounter.getMissedFrameDeadlines();
+    }
+
+    @Override
+    public final void setFrameDurationHistogram(final boolean enable) {
+        fpsCounter.setFrameDurationHistogram(enable);
+    }
+
+    @Override
+    public final boolean isFrameDurationHistogramEnabled() {
+        return fpsCounter.isFrameDurationHistogramEnabled();
+    }
+
     /** Sets a flag causing this Animator to ignore exceptions produced
     while redrawing the drawables. By default this flag is set to
     false, causing any exception thrown to halt the Animator. */
@@ -41,11 +41,13 @@ package com.jogamp.opengl.util;
 
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.locks.LockSupport;
 
 import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLException;
 
 import com.jogamp.common.ExceptionUtils;
+import com.jogamp.common.util.InterruptSource;
 
 /**
  * An Animator subclass which attempts to achieve a target
@@ -56,12 +58,26 @@ import com.jogamp.common.ExceptionUtils;
  * so it is able to keep an application from terminating.<br>
  * Call {@link #stop() } to terminate the animation and it's execution thread.
  * </p>
+ * <p>
+ * By default frames are scheduled via a {@link Timer} w/ millisecond period.
+ * Optionally a {@link #setHighPrecisionPacing(boolean) high precision pacer} may be used,
+ * scheduling frames at {@link System#nanoTime()} deadlines while waiting by parking the thread
+ * and spinning shortly before the deadline.
+ * </p>
  */
 public class FPSAnimator extends AnimatorBase {
+    /** Default remaining time in nanoseconds before a deadline, from which on the high precision pacer spins instead of parking. */
+    public static final long DEFAULT_SPIN_THRESHOLD_NS = 1000000L;
+
     private Timer timer = null;
+    private FramePacer pacer = null;
     private MainTask task = null;
     private int fps;
     private final boolean scheduleAtFixedRate;
+    private boolean highPrecisionPacing = false;
+    private volatile boolean frameSkipping = true;
+    private volatile long spinThresholdNS = DEFAULT_SPIN_THRESHOLD_NS;
+    private volatile int skippedFrames = 0;
     private boolean isAnimating;          // MainTask feedback
     private volatile boolean pauseIssued; // MainTask trigger
     private volatile boolean stopIssued;  // MainTask trigger
@@ -116,15 +132,163 @@ public class FPSAnimator extends AnimatorBase {
     }
     public final int getFPS() { return fps; }
 
+    /**
+     * Enables or disables high precision frame pacing, disabled by default.
+     * <p>
+     * If enabled, frames are scheduled at {@link System#nanoTime()} deadlines instead of using a {@link Timer}
+     * w/ millisecond period, reducing jitter at high frame rates, e.g. 120 or 144 Hz.
+     * The pacer thread parks until {@link #setSpinThreshold(long) spin threshold} nanoseconds are left
+     * and spins for the remaining time.
+     * </p>
+     * <p>
+     * If {@link #FPSAnimator(GLAutoDrawable, int, boolean) scheduled at fixed rate}, deadlines are absolute
+     * and missed deadlines are either skipped or caught up, see {@link #setFrameSkipping(boolean)}.
+     * Otherwise the next deadline is relative to the start of the last frame.
+     * </p>
+     * <p>
+     * Missed deadlines are reported via {@link #getMissedFrameDeadlines()}
+     * and the frame duration distribution via {@link #getFrameDurationPercentile(int)},
+     * if {@link #setFrameDurationHistogram(boolean) enabled}.
+     * </p>
+     * @param enable
+     * @throws GLException if the animator has already been started
+     */
+    public final void setHighPrecisionPacing(final boolean enable) throws GLException {
+        if ( isStarted() ) {
+            throw new GLException("Animator already started.");
+        }
+        highPrecisionPacing = enable;
+    }
+    /** Returns true if {@link #setHighPrecisionPacing(boolean) high precision frame pacing} is enabled. */
+    public final boolean getHighPrecisionPacing() { return highPrecisionPacing; }
+
+    /**
+     * Sets the policy of the {@link #setHighPrecisionPacing(boolean) high precision pacer} at fixed rate,
+     * if the animation falls behind by one or more frame periods.
+     * <p>
+     * If enabled, the default, all missed deadlines are skipped and the next frame is scheduled at the next deadline in the future,
+     * preserving the frame phase. Otherwise missed frames are rendered back to back to catch up, like {@link Timer#scheduleAtFixedRate(TimerTask, long, long)}.
+     * </p>
+     * @param enable
+     */
+    public final void setFrameSkipping(final boolean enable) { frameSkipping = enable; }
+    /** Returns true if missed deadlines are skipped, see {@link #setFrameSkipping(boolean)}. */
+    public final boolean getFrameSkipping() { return frameSkipping; }
+
+    /**
+     * Sets the remaining time in nanoseconds before a deadline, from which on
+     * the {@link #setHighPrecisionPacing(boolean) high precision pacer} spins instead of parking the thread,
+     * defaults to {@link #DEFAULT_SPIN_THRESHOLD_NS}.
+     * <p>
+     * Higher values increase precision at the cost of CPU time, zero disables spinning.
+     * </p>
+     * @param ns
+     */
+    public final void setSpinThreshold(final long ns) { spinThresholdNS = Math.max(0, ns); }
+    /** Returns the spin threshold in nanoseconds, see {@link #setSpinThreshold(long)}. */
+    public final long getSpinThreshold() { return spinThresholdNS; }
+
+    /** Returns the number of frames skipped by the {@link #setHighPrecisionPacing(boolean) high precision pacer} since start or resume. */
+    public final int getSkippedFrames() { return skippedFrames; }
+
+    /**
+     * Deadline driven replacement of {@link Timer}, running the scheduled {@link MainTask}
+     * on its own thread until it gets cancelled.
+     */
+    class FramePacer {
+        private final String name;
+        private int threadNo = 0;
+        private volatile boolean cancelled = false;
+
+        FramePacer(final String name) {
+            this.name = name;
+        }
+
+        void schedule(final MainTask mainTask, final long periodNS, final boolean fixedRate) {
+            final Thread thread = new InterruptSource.Thread(null, new Runnable() {
+                @Override
+                public void run() {
+                    runLoop(mainTask, periodNS, fixedRate);
+                } }, name+"-"+(threadNo++));
+            thread.start();
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        private void runLoop(final MainTask mainTask, final long periodNS, final boolean fixedRate) {
+            skippedFrames = 0;
+            long deadline = System.nanoTime();
+            // last deadline counted as missed, w/o frame skipping catch-up frames would count it again
+            long lastMissedDeadline = deadline - periodNS;
+            while( !cancelled && !mainTask.isCancelled() ) {
+                waitUntil(deadline);
+                if( cancelled || mainTask.isCancelled() ) {
+                    break;
+                }
+                final long frameStart = System.nanoTime();
+                mainTask.run();
+                final long now = System.nanoTime();
+                if( fixedRate ) {
+                    deadline += periodNS;
+                    if( now - deadline >= 0 ) {
+                        // behind, i.e. missed at least one deadline
+                        final long behind = ( now - deadline ) / periodNS;
+                        final long newest = deadline + behind * periodNS;
+                        final long oldest = lastMissedDeadline - deadline >= 0 ? lastMissedDeadline + periodNS : deadline;
+                        if( newest - oldest >= 0 ) {
+                            fpsCounter.tickMissedDeadlines( (int) Math.min( 1 + ( newest - oldest ) / periodNS, Integer.MAX_VALUE ) );
+                            lastMissedDeadline = newest;
+                        }
+                        if( frameSkipping ) {
+                            final int missed = (int) Math.min( 1 + behind, Integer.MAX_VALUE );
+                            skippedFrames += missed;
+                            deadline += missed * periodNS;
+                        }
+                    }
+                } else {
+                    deadline = frameStart + periodNS;
+                    if( now - deadline > 0 ) {
+                        fpsCounter.tickMissedDeadlines(1);
+                    }
+                }
+            }
+        }
+
+        /** Parks until {@link FPSAnimator#getSpinThreshold()} is left, then spins until the deadline. */
+        private void waitUntil(final long deadline) {
+            long remaining = deadline - System.nanoTime();
+            while( remaining > 0 && !cancelled ) {
+                final long spin = spinThresholdNS;
+                if( remaining > spin ) {
+                    LockSupport.parkNanos(remaining - spin);
+                } else {
+                    Thread.yield();
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+
     class MainTask extends TimerTask {
         private boolean justStarted;
         private boolean alreadyStopped;
         private boolean alreadyPaused;
+        private volatile boolean cancelled = false;
 
         public MainTask() {
         }
 
-        public void start(final Timer timer) {
+        @Override
+        public boolean cancel() {
+            cancelled = true;
+            return super.cancel();
+        }
+
+        public boolean isCancelled() { return cancelled; }
+
+        public void start() {
             fpsCounter.resetFPSCounter();
             pauseIssued = false;
             stopIssued = false;
@@ -134,6 +298,11 @@ public class FPSAnimator extends AnimatorBase {
             alreadyStopped = false;
             alreadyPaused = false;
 
+            if( null != pacer ) {
+                final long periodNS = 0 < fps ? (long) (1000000000.0 / fps) : 1000000L; // 0 -> 1ms, as w/ Timer
+                pacer.schedule(this, periodNS, scheduleAtFixedRate);
+                return;
+            }
             final long period = 0 < fps ? (long) (1000.0f / fps) : 1; // 0 -> 1: IllegalArgumentException: Non-positive period
             if (scheduleAtFixedRate) {
                 timer.scheduleAtFixedRate(this, 0, period);
@@ -274,15 +443,19 @@ public class FPSAnimator extends AnimatorBase {
 
     @Override
     public final synchronized boolean start() {
-        if ( null != timer || null != task || isStarted() ) {
+        if ( null != timer || null != pacer || null != task || isStarted() ) {
             return false;
         }
-        timer = new Timer( getThreadName()+"-"+baseName+"-Timer"+(timerNo++) );
+        if( highPrecisionPacing ) {
+            pacer = new FramePacer( getThreadName()+"-"+baseName+"-Pacer"+(timerNo++) );
+        } else {
+            timer = new Timer( getThreadName()+"-"+baseName+"-Timer"+(timerNo++) );
+        }
         task = new MainTask();
         if(DEBUG) {
             System.err.println("FPSAnimator.start() START: "+task+", "+ Thread.currentThread() + ": " + toString());
         }
-        task.start(timer);
+        task.start();
 
         final boolean res = finishLifecycleAction( drawablesEmpty ? waitForStartedEmptyCondition : waitForStartedAddedCondition,
                                                    POLLP_WAIT_FOR_FINISH_LIFECYCLE_ACTION);
@@ -311,7 +484,7 @@ public class FPSAnimator extends AnimatorBase {
     completely stopped by the time this method returns. */
     @Override
     public final synchronized boolean stop() {
-        if ( null == timer || !isStarted() ) {
+        if ( ( null == timer && null == pacer ) || !isStarted() ) {
             return false;
         }
         if(DEBUG) {
@@ -337,6 +510,10 @@ public class FPSAnimator extends AnimatorBase {
             timer.cancel();
             timer = null;
         }
+        if(null != pacer) {
+            pacer.cancel();
+            pacer = null;
+        }
         animThread = null;
         return res;
     }
@@ -400,7 +577,7 @@ public class FPSAnimator extends AnimatorBase {
                 task = null;
             }
             task = new MainTask();
-            task.start(timer);
+            task.start();
             res = finishLifecycleAction(waitForResumeCondition, POLLP_WAIT_FOR_FINISH_LIFECYCLE_ACTION);
         }
         if(DEBUG) {
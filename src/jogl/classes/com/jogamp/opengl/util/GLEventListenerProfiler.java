@@ -0,0 +1,529 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+import com.jogamp.common.os.Clock;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLEventListener;
+
+/**
+ * Records the CPU and GPU time spent in each {@link GLEventListener}'s
+ * {@link GLEventListener#init(GLAutoDrawable) init}, {@link GLEventListener#display(GLAutoDrawable) display}
+ * and {@link GLEventListener#reshape(GLAutoDrawable, int, int, int, int) reshape} callback
+ * of one {@link GLAutoDrawable}.
+ * <p>
+ * Attach an instance via <code>GLAutoDrawableBase.setGLEventListenerProfiler(..)</code>.
+ * </p>
+ * <p>
+ * CPU time is the wall time of the callback.
+ * GPU time is measured via <code>GL_TIME_ELAPSED</code> queries, if <code>GL_ARB_timer_query</code> on a {@link GL2GL3} and {@link GL2ES3} context, i.e. not on a pure GL2 profile,
+ * or <code>GL_EXT_disjoint_timer_query</code> on a {@link GL2ES3} context is available.
+ * The queries of each callback use a ring of {@link #GPU_QUERY_RING_SIZE} query objects,
+ * results are fetched not before they are available, i.e. w/o stalling the pipeline and a few frames late.
+ * If the ring is exhausted, the GPU time of the callback is not measured.
+ * With <code>GL_EXT_disjoint_timer_query</code>, the disjoint state is read once per frame
+ * and all queries pending at that time are discarded if the GPU timer has been disjoint.
+ * Since timer queries cannot be nested, {@link GLEventListener}s shall not issue <code>GL_TIME_ELAPSED</code> queries themselves
+ * while GPU timing is {@link #setGPUTimingEnabled(boolean) enabled}.
+ * </p>
+ * <p>
+ * Samples are aggregated into rolling histograms covering the last {@link #getWindowSize()} samples,
+ * see {@link Stats}. A {@link ReportListener} may be notified every n frames to export the data.
+ * </p>
+ */
+public class GLEventListenerProfiler {
+    /** The profiled {@link GLEventListener} callback. */
+    public static enum Method {
+        INIT, DISPLAY, RESHAPE;
+    }
+
+    /** Notified every n frames, see {@link GLEventListenerProfiler#setReportListener(ReportListener, int)}. */
+    public static interface ReportListener {
+        /**
+         * Called on the GL thread after {@link GLAutoDrawable#display()}.
+         * @param drawable the profiled drawable
+         * @param profiler the profiler, allowing to query all {@link Stats}
+         */
+        public void statsUpdated(GLAutoDrawable drawable, GLEventListenerProfiler profiler);
+    }
+
+    /** Histogram resolution in nanoseconds, i.e. 10 us. */
+    public static final long HISTOGRAM_RESOLUTION_NS = 10000L;
+    /** Histogram upper bound in nanoseconds, longer samples are accumulated in the last bucket. */
+    public static final long HISTOGRAM_MAX_NS = 4096 * HISTOGRAM_RESOLUTION_NS;
+    /** Default number of samples covered by the rolling histograms. */
+    public static final int DEFAULT_WINDOW_SIZE = 256;
+    /** Number of query objects per callback. */
+    public static final int GPU_QUERY_RING_SIZE = 4;
+
+    private static final int GL_TIME_ELAPSED = 0x88BF;
+    private static final int GL_QUERY_RESULT = 0x8866;
+    private static final int GL_QUERY_RESULT_AVAILABLE = 0x8867;
+    private static final int GL_GPU_DISJOINT_EXT = 0x8FBB;
+
+    private static final int GPU_NONE = 0;
+    private static final int GPU_ARB = 1;
+    private static final int GPU_EXT_DISJOINT = 2;
+
+    /**
+     * Rolling histogram of the last {@link #getWindowSize()} duration samples.
+     */
+    public static class RollingHistogram {
+        private final long[] window;
+        private final int[] buckets = new int[(int)(HISTOGRAM_MAX_NS / HISTOGRAM_RESOLUTION_NS)];
+        private int windowIdx, count;
+        private long sum, total;
+
+        RollingHistogram(final int windowSize) {
+            window = new long[windowSize];
+        }
+
+        synchronized final void add(final long ns) {
+            if( count == window.length ) {
+                final long old = window[windowIdx];
+                buckets[bucket(old)]--;
+                sum -= old;
+            } else {
+                count++;
+            }
+            window[windowIdx] = ns;
+            windowIdx = ( windowIdx + 1 ) % window.length;
+            buckets[bucket(ns)]++;
+            sum += ns;
+            total++;
+        }
+        private final int bucket(final long ns) {
+            return (int) Math.max(0, Math.min( ns / HISTOGRAM_RESOLUTION_NS, buckets.length - 1 ));
+        }
+
+        /** Returns the number of samples within the window. */
+        public final synchronized int getCount() { return count; }
+        /** Returns the number of all samples since creation or {@link #reset()}. */
+        public final synchronized long getTotalCount() { return total; }
+        /** Returns the mean duration of the samples within the window in nanoseconds. */
+        public final synchronized long getMean() { return 0 < count ? sum / count : 0; }
+        /**
+         * Returns the given percentile of the durations within the window in nanoseconds,
+         * i.e. the upper bound of the histogram bucket.
+         * <p>
+         * Durations of {@link GLEventListenerProfiler#HISTOGRAM_MAX_NS} and longer are accumulated in the last bucket,
+         * hence a percentile falling into it is reported as {@link GLEventListenerProfiler#HISTOGRAM_MAX_NS},
+         * i.e. only as a lower bound of the actual duration. {@link #getMean()} is not clamped.
+         * </p>
+         * @param percentile [1..100], e.g. 50, 95 or 99
+         */
+        public final synchronized long getPercentile(final int percentile) {
+            if( 0 == count ) {
+                return 0;
+            }
+            final int p = Math.max(1, Math.min(100, percentile));
+            final long threshold = ( (long)count * p + 99 ) / 100; // ceil
+            long s = 0;
+            for(int i=0; i<buckets.length; i++) {
+                s += buckets[i];
+                if( s >= threshold ) {
+                    return ( i + 1 ) * HISTOGRAM_RESOLUTION_NS;
+                }
+            }
+            return HISTOGRAM_MAX_NS;
+        }
+        /** Returns a copy of the histogram buckets, each covering {@link GLEventListenerProfiler#HISTOGRAM_RESOLUTION_NS}. */
+        public final synchronized int[] getBuckets() { return buckets.clone(); }
+
+        /** Clears all samples. */
+        public final synchronized void reset() {
+            Arrays.fill(buckets, 0);
+            windowIdx = 0; count = 0;
+            sum = 0; total = 0;
+        }
+
+        public final StringBuilder toString(StringBuilder sb) {
+            if(null==sb) {
+                sb = new StringBuilder();
+            }
+            sb.append("n ").append(getTotalCount())
+              .append(", mean ").append(getMean()/1000).append(" us")
+              .append(", p50 ").append(getPercentile(50)/1000).append(" us")
+              .append(", p95 ").append(getPercentile(95)/1000).append(" us")
+              .append(", p99 ").append(getPercentile(99)/1000).append(" us");
+            return sb;
+        }
+        @Override
+        public final String toString() { return toString(null).toString(); }
+    }
+
+    /**
+     * CPU and GPU timing of one {@link Method} of one {@link GLEventListener}.
+     */
+    public static class Stats {
+        private final GLEventListener listener;
+        private final Method method;
+        private final RollingHistogram cpu;
+        private final RollingHistogram gpu;
+        private long cpuStart;
+
+        // GPU query ring, GL thread only
+        private GLContext queryContext;
+        private int gpuMode;
+        private final int[] queries = new int[GPU_QUERY_RING_SIZE];
+        private int queryHead, queryPending;
+        /** Number of pending queries at {@link #queryHead} to be discarded due to a disjoint GPU timer. */
+        private int queryDiscard;
+        private boolean queryActive;
+        private final int[] tmpI = new int[1];
+        private final long[] tmpL = new long[1];
+        private volatile int gpuSkipped, gpuDiscarded;
+
+        Stats(final GLEventListener listener, final Method method, final int windowSize) {
+            this.listener = listener;
+            this.method = method;
+            cpu = new RollingHistogram(windowSize);
+            gpu = new RollingHistogram(windowSize);
+        }
+
+        /** Returns the profiled {@link GLEventListener}. */
+        public final GLEventListener getListener() { return listener; }
+        /** Returns the profiled {@link Method}. */
+        public final Method getMethod() { return method; }
+        /** Returns the CPU wall time histogram. */
+        public final RollingHistogram getCPUTime() { return cpu; }
+        /** Returns the GPU time histogram, empty if GPU timing is not available. */
+        public final RollingHistogram getGPUTime() { return gpu; }
+        /** Returns the number of calls not GPU timed due to an exhausted query ring. */
+        public final int getGPUSkippedCount() { return gpuSkipped; }
+        /** Returns the number of GPU samples discarded due to a disjoint GPU timer. */
+        public final int getGPUDiscardedCount() { return gpuDiscarded; }
+
+        final void reset() {
+            cpu.reset();
+            gpu.reset();
+            gpuSkipped = 0;
+            gpuDiscarded = 0;
+        }
+
+        public final StringBuilder toString(StringBuilder sb) {
+            if(null==sb) {
+                sb = new StringBuilder();
+            }
+            sb.append(listener.getClass().getSimpleName()).append("@").append(Integer.toHexString(listener.hashCode()))
+              .append(".").append(method).append(": cpu[");
+            cpu.toString(sb).append("], gpu[");
+            gpu.toString(sb).append(", skipped ").append(gpuSkipped).append(", discarded ").append(gpuDiscarded).append("]");
+            return sb;
+        }
+        @Override
+        public final String toString() { return toString(null).toString(); }
+    }
+
+    private final Object statsLock = new Object();
+    private final IdentityHashMap<GLEventListener, Stats[]> statsMap = new IdentityHashMap<GLEventListener, Stats[]>();
+    private final ArrayList<Stats> statsList = new ArrayList<Stats>();
+    private final int windowSize;
+    private volatile boolean gpuTimingEnabled = true;
+    private boolean gpuQueryActive;
+    private final int[] tmpI = new int[1];
+    private ReportListener reportListener;
+    private int reportInterval;
+    private long frames;
+
+    /** Creates a profiler w/ {@link #DEFAULT_WINDOW_SIZE}. */
+    public GLEventListenerProfiler() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a profiler.
+     * @param windowSize number of samples covered by the rolling histograms
+     */
+    public GLEventListenerProfiler(final int windowSize) {
+        this.windowSize = Math.max(1, windowSize);
+    }
+
+    /** Returns the number of samples covered by the rolling histograms. */
+    public final int getWindowSize() { return windowSize; }
+
+    /** Enables or disables GPU timing, enabled by default. */
+    public final void setGPUTimingEnabled(final boolean enable) { gpuTimingEnabled = enable; }
+    /** Returns true if GPU timing is enabled, see {@link #setGPUTimingEnabled(boolean)}. */
+    public final boolean isGPUTimingEnabled() { return gpuTimingEnabled; }
+
+    /**
+     * Sets the {@link ReportListener} notified every <code>frameInterval</code> frames.
+     * @param l the listener, maybe <code>null</code>
+     * @param frameInterval number of frames between notifications, 0 disables notification
+     */
+    public final synchronized void setReportListener(final ReportListener l, final int frameInterval) {
+        reportListener = l;
+        reportInterval = Math.max(0, frameInterval);
+    }
+
+    /** Returns the number of profiled frames, i.e. {@link GLAutoDrawable#display()} calls. */
+    public final synchronized long getFrameCount() { return frames; }
+
+    /**
+     * Returns the {@link Stats} of the given {@link GLEventListener} and {@link Method},
+     * or <code>null</code> if not yet profiled.
+     */
+    public final Stats getStats(final GLEventListener listener, final Method method) {
+        synchronized(statsLock) {
+            final Stats[] s = statsMap.get(listener);
+            return null != s ? s[method.ordinal()] : null;
+        }
+    }
+
+    /** Returns a snapshot of all profiled {@link Stats}, in order of their first occurrence. */
+    public final Stats[] getAllStats() {
+        synchronized(statsLock) {
+            return statsList.toArray(new Stats[statsList.size()]);
+        }
+    }
+
+    /** Clears all samples, while keeping the GPU query objects. */
+    public final void reset() {
+        synchronized(statsLock) {
+            for(int i=0; i<statsList.size(); i++) {
+                statsList.get(i).reset();
+            }
+        }
+        synchronized(this) {
+            frames = 0;
+        }
+    }
+
+    /**
+     * Called by the {@link GLAutoDrawable} implementation before invoking the given callback.
+     * @return the {@link Stats} to be passed to {@link #end(GLAutoDrawable, Stats)}
+     */
+    public final Stats begin(final GLAutoDrawable drawable, final GLEventListener listener, final Method method) {
+        final Stats s = getOrCreate(listener, method);
+        if( gpuTimingEnabled && !gpuQueryActive ) {
+            final GL gl = drawable.getGL();
+            if( validateQueries(gl, s) ) {
+                pollQueries(gl, s);
+                if( s.queryPending < GPU_QUERY_RING_SIZE ) {
+                    final int idx = ( s.queryHead + s.queryPending ) % GPU_QUERY_RING_SIZE;
+                    gl.getGL2ES3().glBeginQuery(GL_TIME_ELAPSED, s.queries[idx]);
+                    s.queryActive = true;
+                    gpuQueryActive = true;
+                } else {
+                    s.gpuSkipped++;
+                }
+            }
+        }
+        s.cpuStart = Clock.currentNanos();
+        return s;
+    }
+
+    /**
+     * Called by the {@link GLAutoDrawable} implementation after invoking the callback,
+     * even if it has thrown an exception.
+     * @param s the {@link Stats} returned by {@link #begin(GLAutoDrawable, GLEventListener, Method)}
+     */
+    public final void end(final GLAutoDrawable drawable, final Stats s) {
+        s.cpu.add(Clock.currentNanos() - s.cpuStart);
+        if( s.queryActive ) {
+            drawable.getGL().getGL2ES3().glEndQuery(GL_TIME_ELAPSED);
+            s.queryActive = false;
+            s.queryPending++;
+            gpuQueryActive = false;
+        }
+    }
+
+    /**
+     * Called by the {@link GLAutoDrawable} implementation after each {@link GLAutoDrawable#display()},
+     * notifying the {@link ReportListener} if due.
+     */
+    public final void endFrame(final GLAutoDrawable drawable) {
+        if( gpuTimingEnabled ) {
+            checkDisjoint(drawable.getGL());
+        }
+        final ReportListener l;
+        synchronized(this) {
+            frames++;
+            l = ( 0 < reportInterval && 0 == frames % reportInterval ) ? reportListener : null;
+        }
+        if( null != l ) {
+            l.statsUpdated(drawable, this);
+        }
+    }
+
+    /**
+     * Releases all GPU query objects of the drawable's current context,
+     * called by the {@link GLAutoDrawable} implementation before its {@link GLEventListener}s are disposed.
+     */
+    public final void disposeGL(final GLAutoDrawable drawable) {
+        final GLContext ctx = drawable.getContext();
+        synchronized(statsLock) {
+            for(int i=0; i<statsList.size(); i++) {
+                final Stats s = statsList.get(i);
+                if( null != s.queryContext && s.queryContext == ctx && GPU_NONE != s.gpuMode && ctx.isCurrent() ) {
+                    ctx.getGL().getGL2ES3().glDeleteQueries(GPU_QUERY_RING_SIZE, s.queries, 0);
+                }
+                s.queryContext = null;
+                s.queryPending = 0;
+                s.queryDiscard = 0;
+                s.queryActive = false;
+            }
+        }
+        gpuQueryActive = false;
+    }
+
+    /**
+     * Reads the reset on read <code>GL_GPU_DISJOINT_EXT</code> state once per frame, if queries of the current context are pending.
+     * If disjoint, all queries pending at this time are marked to be discarded.
+     */
+    private final void checkDisjoint(final GL gl) {
+        final GLContext ctx = gl.getContext();
+        synchronized(statsLock) {
+            boolean pending = false;
+            for(int i=0; !pending && i<statsList.size(); i++) {
+                final Stats s = statsList.get(i);
+                pending = ctx == s.queryContext && GPU_EXT_DISJOINT == s.gpuMode && 0 < s.queryPending;
+            }
+            if( !pending ) {
+                return;
+            }
+            gl.glGetIntegerv(GL_GPU_DISJOINT_EXT, tmpI, 0);
+            if( 0 == tmpI[0] ) {
+                return;
+            }
+            for(int i=0; i<statsList.size(); i++) {
+                final Stats s = statsList.get(i);
+                if( ctx == s.queryContext && GPU_EXT_DISJOINT == s.gpuMode ) {
+                    s.queryDiscard = s.queryPending;
+                }
+            }
+        }
+    }
+
+    private final Stats getOrCreate(final GLEventListener listener, final Method method) {
+        synchronized(statsLock) {
+            Stats[] s = statsMap.get(listener);
+            if( null == s ) {
+                s = new Stats[Method.values().length];
+                statsMap.put(listener, s);
+            }
+            Stats r = s[method.ordinal()];
+            if( null == r ) {
+                r = new Stats(listener, method, windowSize);
+                s[method.ordinal()] = r;
+                statsList.add(r);
+            }
+            return r;
+        }
+    }
+
+    /** Returns true if GPU timing is available, (re)creating the query objects for a new context. */
+    private static boolean validateQueries(final GL gl, final Stats s) {
+        final GLContext ctx = gl.getContext();
+        if( ctx != s.queryContext ) {
+            // new or recreated context, previous query objects are gone
+            s.queryContext = ctx;
+            s.queryHead = 0;
+            s.queryPending = 0;
+            s.queryDiscard = 0;
+            s.queryActive = false;
+            // GL_ARB_timer_query on a pure GL2 profile lacks GL2ES3, used to issue the queries
+            if( gl.isGL2GL3() && gl.isGL2ES3() && gl.isExtensionAvailable("GL_ARB_timer_query") ) {
+                s.gpuMode = GPU_ARB;
+            } else if( gl.isGL2ES3() && gl.isExtensionAvailable("GL_EXT_disjoint_timer_query") ) {
+                s.gpuMode = GPU_EXT_DISJOINT;
+            } else {
+                s.gpuMode = GPU_NONE;
+            }
+            if( GPU_NONE != s.gpuMode ) {
+                gl.getGL2ES3().glGenQueries(GPU_QUERY_RING_SIZE, s.queries, 0);
+            }
+        }
+        return GPU_NONE != s.gpuMode;
+    }
+
+    /**
+     * Fetches all available query results in order, w/o blocking.
+     * Results of queries marked by {@link #checkDisjoint(GL)} are discarded.
+     */
+    private static void pollQueries(final GL gl, final Stats s) {
+        final GL2ES3 gl2es3 = gl.getGL2ES3();
+        while( 0 < s.queryPending ) {
+            final int id = s.queries[s.queryHead];
+            gl2es3.glGetQueryObjectuiv(id, GL_QUERY_RESULT_AVAILABLE, s.tmpI, 0);
+            if( 0 == s.tmpI[0] ) {
+                break; // not yet available, don't stall
+            }
+            final long ns;
+            if( GPU_ARB == s.gpuMode ) {
+                gl.getGL2GL3().glGetQueryObjectui64v(id, GL_QUERY_RESULT, s.tmpL, 0);
+                ns = s.tmpL[0];
+            } else {
+                gl2es3.glGetQueryObjectuiv(id, GL_QUERY_RESULT, s.tmpI, 0);
+                ns = s.tmpI[0] & 0xFFFFFFFFL;
+            }
+            if( 0 < s.queryDiscard ) {
+                s.queryDiscard--;
+                s.gpuDiscarded++;
+            } else {
+                s.gpu.add(ns);
+            }
+            s.queryHead = ( s.queryHead + 1 ) % GPU_QUERY_RING_SIZE;
+            s.queryPending--;
+        }
+    }
+
+    public final StringBuilder toString(StringBuilder sb) {
+        if(null==sb) {
+            sb = new StringBuilder();
+        }
+        final Stats[] all = getAllStats();
+        sb.append("GLEventListenerProfiler[frames ").append(getFrameCount()).append(", window ").append(windowSize)
+          .append(", gpu ").append(gpuTimingEnabled).append("]");
+        for(int i=0; i<all.length; i++) {
+            sb.append(System.getProperty("line.separator")).append("  ");
+            all[i].toString(sb);
+        }
+        return sb;
+    }
+
+    /** Prints all {@link Stats} to the given stream. */
+    public final void print(final PrintStream out) {
+        out.println(toString(null).toString());
+    }
+
+    @Override
+    public String toString() {
+        return toString(null).toString();
+    }
+}
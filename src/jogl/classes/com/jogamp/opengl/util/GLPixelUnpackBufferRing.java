@@ -0,0 +1,459 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GL4;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLException;
+
+import jogamp.opengl.Debug;
+
+/**
+ * Ring of {@link GL2ES3#GL_PIXEL_UNPACK_BUFFER pixel unpack buffer} segments
+ * used to stream client pixel data to textures, see {@link com.jogamp.opengl.util.texture.Texture#setPixelUnpackBufferRing(GLPixelUnpackBufferRing)}.
+ * <p>
+ * Instead of passing client memory to <code>glTexSubImage2D</code>, which forces the driver
+ * to copy the data synchronously, the data is copied into the next ring segment
+ * and the upload is sourced from the bound buffer object.
+ * </p>
+ * <p>
+ * All segments reside in one buffer object, each segment is guarded by a fence sync.
+ * If <code>GL_ARB_buffer_storage</code> is available, i.e. {@link GL4}, the immutable buffer storage
+ * is {@link GL4#GL_MAP_PERSISTENT_BIT persistently mapped}.
+ * Otherwise, if fence syncs are available, i.e. {@link GL#isGL3ES3()}, each segment's range is mapped
+ * {@link GL#GL_MAP_UNSYNCHRONIZED_BIT unsynchronized} after its fence has been passed.
+ * Without fence syncs the buffer holds one segment being orphaned via <code>glBufferData(.., null, ..)</code>
+ * before mapping it for writing.
+ * Without {@link GL#isGL2ES3() pixel buffer object support} the ring is {@link #isSupported(GL) not supported}
+ * and the caller shall use client memory.
+ * </p>
+ * <p>
+ * Instances are bound to one GL context, or a shared context group, and are not thread safe.
+ * The {@link #getShared(GL) shared} instance is {@link #dispose(GL) disposed} when its context gets destroyed,
+ * see {@link GLContext.DisposableAttachment}.
+ * </p>
+ * <p>
+ * Upload statistics are collected per {@link #stage(GL, Buffer) upload}, see {@link #getUploadCount()}.
+ * </p>
+ */
+public class GLPixelUnpackBufferRing implements GLContext.DisposableAttachment {
+    private static final boolean DEBUG = Debug.debug("Texture");
+
+    /** Default number of ring segments, {@value}. */
+    public static final int DEFAULT_RING_SIZE = 3;
+
+    /** Name of the {@link #getShared(GL) shared} instance {@link GLContext#attachObject(String, Object) attached} to the context. */
+    private static final String SHARED_KEY = GLPixelUnpackBufferRing.class.getName();
+
+    /** Wait timeout per {@link GL3ES3#glClientWaitSync(long, int, long)} call in nanoseconds. */
+    private static final long WAIT_TIMEOUT_NS = 100L * 1000L * 1000L;
+
+    private static final String GL_ARB_buffer_storage = "GL_ARB_buffer_storage";
+    private static final String GL_VERSION_4_4 = "GL_VERSION_4_4";
+
+    private final int ringSize;
+    private final int[] names = { 0 };
+    private final long[] syncs;
+    private int segmentSize = 0;
+    private int next = 0;
+    private int current = -1;
+    private boolean persistent = false;
+    private boolean fenced = false;
+    private ByteBuffer persistentMap = null;
+    private boolean initialized = false;
+    private boolean supported = false;
+
+    private long stageStart;
+    private long uploadCount, uploadBytes, uploadNanos, waitNanos, lastUploadNanos;
+
+    /**
+     * Returns the shared instance w/ {@link #DEFAULT_RING_SIZE} segments {@link GLContext#attachObject(String, Object) attached}
+     * to the current context, creating it if not existing.
+     */
+    public static GLPixelUnpackBufferRing getShared(final GL gl) {
+        final GLContext ctx = gl.getContext();
+        GLPixelUnpackBufferRing ring = (GLPixelUnpackBufferRing) ctx.getAttachedObject(SHARED_KEY);
+        if( null == ring ) {
+            ring = new GLPixelUnpackBufferRing(DEFAULT_RING_SIZE);
+            ctx.attachObject(SHARED_KEY, ring);
+        }
+        return ring;
+    }
+
+    /**
+     * @param ringSize number of segments, i.e. uploads in flight before reusing a segment
+     */
+    public GLPixelUnpackBufferRing(final int ringSize) {
+        if( 1 > ringSize ) {
+            throw new IllegalArgumentException("Invalid ringSize "+ringSize);
+        }
+        this.ringSize = ringSize;
+        this.syncs = new long[ringSize];
+    }
+
+    /** Returns the number of segments. */
+    public final int getRingSize() { return ringSize; }
+
+    /** Returns true if pixel unpack buffers are supported, i.e. {@link GL#isGL2ES3()}. */
+    public final boolean isSupported(final GL gl) {
+        return gl.isGL2ES3();
+    }
+
+    /** Returns true if the persistently mapped buffer storage is used. Only valid after the first {@link #stage(GL, Buffer) upload}. */
+    public final boolean isPersistentMapped() { return persistent; }
+
+    /**
+     * Returns true if the segments are guarded by fence syncs, i.e. the ring is in use.
+     * Otherwise one orphaned segment is used. Only valid after the first {@link #stage(GL, Buffer) upload}.
+     */
+    public final boolean isFenced() { return fenced; }
+
+    private void init(final GL gl) {
+        initialized = true;
+        supported = isSupported(gl);
+        persistent = supported && gl.isGL4() &&
+                     ( gl.isExtensionAvailable(GL_ARB_buffer_storage) || gl.isExtensionAvailable(GL_VERSION_4_4) );
+        fenced = supported && gl.isGL3ES3();
+        if( DEBUG ) {
+            System.err.println("GLPixelUnpackBufferRing: supported "+supported+", persistent "+persistent+", fenced "+fenced+", ringSize "+ringSize);
+        }
+    }
+
+    /**
+     * Copies the remaining elements of the given client buffer into the next segment
+     * and binds it as the {@link GL2ES3#GL_PIXEL_UNPACK_BUFFER}.
+     * <p>
+     * On success, the caller shall issue the pixel upload using the returned byte offset
+     * and call {@link #release(GL)} afterwards.
+     * </p>
+     * @param gl current GL
+     * @param data client pixel data, its position is unchanged
+     * @return the byte offset to be passed as the pixel pointer, or <code>-1</code>
+     *         if not {@link #isSupported(GL) supported}, the buffer type is not handled
+     *         or a user {@link GL2ES3#GL_PIXEL_UNPACK_BUFFER} is bound.
+     *         In the latter case nothing is bound and client memory shall be used.
+     */
+    public long stage(final GL gl, final Buffer data) {
+        final int byteCount = sizeOfRemaining(data);
+        return stage(gl, data, 0, byteCount, byteCount, 1, 1);
+    }
+
+    /**
+     * Copies the given rows of the given client buffer into the next segment, tightly packed w/ the given alignment,
+     * and binds it as the {@link GL2ES3#GL_PIXEL_UNPACK_BUFFER}, see {@link #stage(GL, Buffer)}.
+     * <p>
+     * Used for sub-rectangle updates, only copying the pixels being uploaded.
+     * The caller shall issue the pixel upload w/ <code>GL_UNPACK_ROW_LENGTH</code>, <code>GL_UNPACK_SKIP_ROWS</code>
+     * and <code>GL_UNPACK_SKIP_PIXELS</code> being zero and <code>GL_UNPACK_ALIGNMENT</code> being the given alignment.
+     * </p>
+     * <p>
+     * All byte values must be a multiple of the buffer's element size, otherwise <code>-1</code> is returned.
+     * </p>
+     * @param gl current GL
+     * @param data client pixel data, its position is unchanged
+     * @param skipBytes bytes from the buffer's position to the first pixel of the first row
+     * @param rowBytes bytes of each row to be copied
+     * @param rowStride bytes from one row to the next within the client buffer
+     * @param rowCount number of rows
+     * @param alignment the unpack alignment of the rows within the segment, i.e. 1, 2, 4 or 8
+     * @return the byte offset to be passed as the pixel pointer, or <code>-1</code>, see {@link #stage(GL, Buffer)}
+     */
+    public long stage(final GL gl, final Buffer data, final int skipBytes, final int rowBytes, final int rowStride,
+                      final int rowCount, final int alignment) {
+        if( !initialized ) {
+            init(gl);
+        }
+        if( !supported || null == data || 0 <= current || 0 != gl.getBoundBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER) ) {
+            return -1;
+        }
+        final int elemSize = elementSize(data);
+        if( 0 == elemSize || 0 >= rowBytes || 0 >= rowCount || 0 > skipBytes || rowBytes > rowStride || 0 >= alignment ) {
+            return -1;
+        }
+        final int dstStride = ( ( rowBytes + alignment - 1 ) / alignment ) * alignment;
+        if( 0 != skipBytes % elemSize || 0 != rowBytes % elemSize || 0 != rowStride % elemSize || 0 != dstStride % elemSize ||
+            (long) skipBytes + (long) ( rowCount - 1 ) * rowStride + rowBytes > (long) data.remaining() * elemSize )
+        {
+            return -1;
+        }
+        final long byteCount0 = (long) ( rowCount - 1 ) * dstStride + rowBytes;
+        if( byteCount0 > Integer.MAX_VALUE ) {
+            return -1;
+        }
+        final int byteCount = (int) byteCount0;
+        stageStart = System.nanoTime();
+        if( byteCount > segmentSize ) {
+            allocate(gl, byteCount);
+        }
+        final int idx = fenced ? next : 0;
+        next = ( next + 1 ) % ringSize;
+        final long offset = (long) idx * segmentSize;
+        waitSync(gl, idx);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, names[0]);
+        current = idx;
+        boolean mapped = false;
+        boolean staged = false;
+        try {
+            final ByteBuffer dst;
+            if( persistent ) {
+                dst = persistentMap.duplicate();
+                dst.order(persistentMap.order());
+                dst.position((int) offset);
+                dst.limit((int) offset + byteCount);
+            } else {
+                if( fenced ) {
+                    // segment passed its fence, no implicit synchronization required
+                    dst = gl.glMapBufferRange(GL2ES3.GL_PIXEL_UNPACK_BUFFER, offset, byteCount,
+                                              GL.GL_MAP_WRITE_BIT | GL.GL_MAP_INVALIDATE_RANGE_BIT | GL.GL_MAP_UNSYNCHRONIZED_BIT);
+                } else {
+                    gl.glBufferData(GL2ES3.GL_PIXEL_UNPACK_BUFFER, segmentSize, null, GL2ES2.GL_STREAM_DRAW); // orphan
+                    dst = gl.glMapBufferRange(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0, byteCount,
+                                              GL.GL_MAP_WRITE_BIT | GL.GL_MAP_INVALIDATE_BUFFER_BIT);
+                }
+                if( null == dst ) {
+                    throw new GLException("Mapping pixel unpack buffer segment "+idx+" of "+byteCount+" bytes failed");
+                }
+                mapped = true;
+            }
+            copyRows(data, dst.slice().order(ByteOrder.nativeOrder()), elemSize,
+                     skipBytes / elemSize, rowBytes / elemSize, rowStride / elemSize, dstStride / elemSize, rowCount);
+            staged = true;
+        } finally {
+            if( mapped ) {
+                gl.glUnmapBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER);
+            }
+            if( !staged ) {
+                gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+                current = -1;
+            }
+        }
+        uploadBytes += byteCount;
+        return offset;
+    }
+
+    /**
+     * Completes an upload {@link #stage(GL, Buffer) staged} before, fences its segment
+     * and unbinds the {@link GL2ES3#GL_PIXEL_UNPACK_BUFFER}.
+     */
+    public void release(final GL gl) {
+        if( 0 > current ) {
+            return;
+        }
+        if( fenced ) {
+            syncs[current] = gl.getGL3ES3().glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+        current = -1;
+        lastUploadNanos = System.nanoTime() - stageStart;
+        uploadNanos += lastUploadNanos;
+        uploadCount++;
+    }
+
+    private void waitSync(final GL gl, final int idx) {
+        if( 0 != syncs[idx] ) {
+            final GL3ES3 gl3es3 = gl.getGL3ES3();
+            final long t0 = System.nanoTime();
+            int status;
+            do {
+                status = gl3es3.glClientWaitSync(syncs[idx], GL3ES3.GL_SYNC_FLUSH_COMMANDS_BIT, WAIT_TIMEOUT_NS);
+            } while( GL3ES3.GL_TIMEOUT_EXPIRED == status );
+            gl3es3.glDeleteSync(syncs[idx]);
+            syncs[idx] = 0;
+            waitNanos += System.nanoTime() - t0;
+        }
+    }
+
+    private void allocate(final GL gl, final int minSegmentSize) {
+        // round up to 64k to reduce reallocations of slightly varying sizes
+        final int newSegmentSize = ( minSegmentSize + 0xffff ) & ~0xffff;
+        destroy(gl);
+        gl.glGenBuffers(1, names, 0);
+        final long size = (long) newSegmentSize * ( fenced ? ringSize : 1 );
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, names[0]);
+        if( persistent ) {
+            final GL4 gl4 = gl.getGL4();
+            final int flags = GL.GL_MAP_WRITE_BIT | GL4.GL_MAP_PERSISTENT_BIT | GL4.GL_MAP_COHERENT_BIT;
+            gl4.glBufferStorage(GL2ES3.GL_PIXEL_UNPACK_BUFFER, size, null, flags);
+            persistentMap = gl.glMapBufferRange(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0, size, flags);
+        } else {
+            gl.glBufferData(GL2ES3.GL_PIXEL_UNPACK_BUFFER, size, null, GL2ES2.GL_STREAM_DRAW);
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+        if( persistent && null == persistentMap ) {
+            gl.glDeleteBuffers(1, names, 0);
+            names[0] = 0;
+            throw new GLException("Mapping persistent pixel unpack buffer of "+size+" bytes failed");
+        }
+        segmentSize = newSegmentSize;
+        next = 0;
+        if( DEBUG ) {
+            System.err.println("GLPixelUnpackBufferRing: segmentSize "+segmentSize+", ringSize "+ringSize+", persistent "+persistent);
+        }
+    }
+
+    private void destroy(final GL gl) {
+        // pending uploads may still source the buffer
+        for(int i=0; i<ringSize; i++) {
+            waitSync(gl, i);
+        }
+        if( 0 != names[0] ) {
+            if( persistent && null != persistentMap ) {
+                gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, names[0]);
+                gl.glUnmapBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER);
+                gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+                persistentMap = null;
+            }
+            gl.glDeleteBuffers(1, names, 0);
+            names[0] = 0;
+        }
+        segmentSize = 0;
+    }
+
+    /**
+     * Deletes all GL resources. The instance may be reused afterwards.
+     * <p>
+     * Called for the {@link #getShared(GL) shared} instance when its context gets destroyed.
+     * </p>
+     */
+    @Override
+    public void dispose(final GL gl) {
+        if( 0 <= current ) {
+            release(gl);
+        }
+        destroy(gl);
+        initialized = false;
+        final GLContext ctx = gl.getContext();
+        if( this == ctx.getAttachedObject(SHARED_KEY) ) {
+            ctx.detachObject(SHARED_KEY);
+        }
+    }
+
+    /** Returns the size of each segment in bytes, zero if no GL resources are allocated. */
+    public final int getSegmentSize() { return segmentSize; }
+
+    /** Returns the number of completed uploads. */
+    public final long getUploadCount() { return uploadCount; }
+
+    /** Returns the number of staged bytes. */
+    public final long getUploadBytes() { return uploadBytes; }
+
+    /** Returns the accumulated duration in nanoseconds of all uploads, from {@link #stage(GL, Buffer) staging} until {@link #release(GL) release}. */
+    public final long getUploadNanos() { return uploadNanos; }
+
+    /** Returns the duration in nanoseconds of the last upload, see {@link #getUploadNanos()}. */
+    public final long getLastUploadNanos() { return lastUploadNanos; }
+
+    /** Returns the accumulated duration in nanoseconds waiting for a segment's fence sync. */
+    public final long getWaitNanos() { return waitNanos; }
+
+    /** Clears all upload statistics. */
+    public final void resetCounters() {
+        uploadCount = 0;
+        uploadBytes = 0;
+        uploadNanos = 0;
+        waitNanos = 0;
+        lastUploadNanos = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "GLPixelUnpackBufferRing[ringSize "+ringSize+", segmentSize "+segmentSize+", persistent "+persistent+", fenced "+fenced+
+               ", uploads "+uploadCount+", bytes "+uploadBytes+", "+(uploadNanos/1000)+" us, wait "+(waitNanos/1000)+" us]";
+    }
+
+    /** Returns the element size in bytes of the handled buffer types, otherwise zero. */
+    private static int elementSize(final Buffer data) {
+        if( data instanceof ByteBuffer ) {
+            return 1;
+        } else if( data instanceof ShortBuffer ) {
+            return 2;
+        } else if( data instanceof IntBuffer || data instanceof FloatBuffer ) {
+            return 4;
+        }
+        return 0;
+    }
+
+    private static int sizeOfRemaining(final Buffer data) {
+        return null != data ? data.remaining() * elementSize(data) : 0;
+    }
+
+    /** Copies the given rows from the source's position on, all values in elements. */
+    private static void copyRows(final Buffer src, final ByteBuffer dst, final int elemSize,
+                                 final int skip, final int rowLen, final int srcStride, final int dstStride, final int rowCount) {
+        final Buffer srcRows = duplicate(src);
+        final Buffer dstRows;
+        switch( elemSize ) {
+            case 1: dstRows = dst; break;
+            case 2: dstRows = dst.asShortBuffer(); break;
+            default: dstRows = src instanceof IntBuffer ? dst.asIntBuffer() : dst.asFloatBuffer(); break;
+        }
+        final int srcPos = src.position();
+        for(int i=0; i<rowCount; i++) {
+            final int srcRow = srcPos + skip + i * srcStride;
+            srcRows.limit(srcRow + rowLen);
+            srcRows.position(srcRow);
+            dstRows.position(i * dstStride);
+            put(dstRows, srcRows);
+        }
+    }
+
+    private static Buffer duplicate(final Buffer src) {
+        if( src instanceof ByteBuffer ) {
+            return ((ByteBuffer)src).duplicate();
+        } else if( src instanceof ShortBuffer ) {
+            return ((ShortBuffer)src).duplicate();
+        } else if( src instanceof IntBuffer ) {
+            return ((IntBuffer)src).duplicate();
+        } else {
+            return ((FloatBuffer)src).duplicate();
+        }
+    }
+
+    private static void put(final Buffer dst, final Buffer src) {
+        if( dst instanceof ByteBuffer ) {
+            ((ByteBuffer)dst).put((ByteBuffer)src);
+        } else if( dst instanceof ShortBuffer ) {
+            ((ShortBuffer)dst).put((ShortBuffer)src);
+        } else if( dst instanceof IntBuffer ) {
+            ((IntBuffer)dst).put((IntBuffer)src);
+        } else {
+            ((FloatBuffer)dst).put((FloatBuffer)src);
+        }
+    }
+}
@@ -30,10 +30,15 @@ package com.jogamp.opengl.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 
 import com.jogamp.nativewindow.util.PixelFormat;
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3ES3;
 import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLDrawable;
 import com.jogamp.opengl.GLException;
@@ -49,8 +54,55 @@ import com.jogamp.opengl.util.texture.TextureIO;
 /**
  * Utility to read out the current FB to TextureData, optionally writing the data back to a texture object.
  * <p>May be used directly to write the TextureData to file (screenshot).</p>
+ * <p>
+ * Besides the synchronous {@link #readPixels(GL, boolean) readPixels(..)},
+ * frames may be read asynchronously via {@link #readPixelsAsync(GL, boolean) readPixelsAsync(..)}
+ * into a ring of {@link GL2ES3#GL_PIXEL_PACK_BUFFER pixel pack buffers} guarded by fence syncs,
+ * avoiding to stall the pipeline. Completed frames are passed to the {@link AsyncReadListener} a few frames later.
+ * </p>
  */
 public class GLReadBufferUtil {
+    /**
+     * Receiver of frames read via {@link GLReadBufferUtil#readPixelsAsync(GL, int, int, int, int, boolean) readPixelsAsync(..)}.
+     * @see GLReadBufferUtil#setAsyncReadListener(AsyncReadListener, int)
+     */
+    public static interface AsyncReadListener {
+        /**
+         * Notifies about a completed asynchronous read.
+         * <p>
+         * Called on the GL thread with the context being current, from within
+         * {@link GLReadBufferUtil#readPixelsAsync(GL, int, int, int, int, boolean) readPixelsAsync(..)}
+         * or {@link GLReadBufferUtil#flushAsync(GL)}.
+         * </p>
+         * <p>
+         * The frame is available via {@link GLReadBufferUtil#getTextureData()}, {@link GLReadBufferUtil#getPixelBuffer()}
+         * and {@link GLReadBufferUtil#write(File)} until this method returns.
+         * </p>
+         * @param gl the current GL context object
+         * @param source the notifying {@link GLReadBufferUtil}
+         * @param frameNumber the 0-based number of the corresponding {@link GLReadBufferUtil#readPixelsAsync(GL, int, int, int, int, boolean) readPixelsAsync(..)} call
+         */
+        void frameRead(GL gl, GLReadBufferUtil source, long frameNumber);
+    }
+
+    /** Default number of {@link GL2ES3#GL_PIXEL_PACK_BUFFER pixel pack buffers} used for asynchronous reads, {@value}. */
+    public static final int DEFAULT_ASYNC_RING_SIZE = 3;
+
+    /** Wait timeout per {@link GL3ES3#glClientWaitSync(long, int, long)} call in nanoseconds, when the ring is full. */
+    private static final long ASYNC_WAIT_TIMEOUT_NS = 100L * 1000L * 1000L;
+
+    /** One pending asynchronous read. */
+    private static class AsyncRead {
+        int pbo = 0;
+        int pboSize = 0;
+        long sync = 0;
+        long frameNumber;
+        int x, y, width, height, readPixelSize;
+        boolean flipVertically;
+        PixelFormat.Composition hostPixelComp;
+        GLPixelAttributes pixelAttribs;
+    }
+
     protected final GLPixelBufferProvider pixelBufferProvider;
     protected final Texture readTexture;
     protected final GLPixelStorageModes psm;
@@ -60,6 +112,13 @@ public class GLReadBufferUtil {
     protected GLPixelBuffer readPixelBuffer = null;
     protected TextureData readTextureData = null;
 
+    private PNGPixelRect.WriteCompression pngWriteCompression = null;
+    private AsyncReadListener asyncListener = null;
+    private AsyncRead[] asyncReads = null;
+    private int asyncHead = 0;
+    private int asyncCount = 0;
+    private long asyncFrameNumber = 0;
+
     /**
      * Using the default {@link GLPixelBuffer}: {@link GLPixelBuffer#defaultProviderNoRowStride}.
      *
@@ -117,12 +176,26 @@ public class GLReadBufferUtil {
      */
     public Texture getTexture() { return readTexture; }
 
+    /**
+     * Sets the compression used by {@link #write(File)} for PNG files,
+     * e.g. parallel and fast compression for recording frames.
+     * <p>
+     * The caller owns the given instance and shall {@link PNGPixelRect.WriteCompression#dispose() dispose} it.
+     * </p>
+     * @param compression the compression setting, maybe <code>null</code> for the default single threaded compression
+     */
+    public void setPNGWriteCompression(final PNGPixelRect.WriteCompression compression) { pngWriteCompression = compression; }
+
+    /** Returns the PNG compression used by {@link #write(File)}, see {@link #setPNGWriteCompression(PNGPixelRect.WriteCompression)}. */
+    public PNGPixelRect.WriteCompression getPNGWriteCompression() { return pngWriteCompression; }
+
     /**
      * Write the TextureData filled by {@link #readPixels(GLAutoDrawable, boolean)} to file
+     * @see #setPNGWriteCompression(PNGPixelRect.WriteCompression)
      */
     public void write(final File dest) {
         try {
-            TextureIO.write(readTextureData, dest);
+            TextureIO.write(readTextureData, dest, pngWriteCompression);
             rewindPixelBuffer();
         } catch (final IOException ex) {
             throw new RuntimeException("can not write to file: " + dest.getAbsolutePath(), ex);
@@ -186,27 +259,45 @@ public class GLReadBufferUtil {
         final int reqCompCount = alphaRequested ? 4 : 3; // see Bug 1381: we keep host PixelFormat functional using requested immutable alphaRequested
         final PixelFormat.Composition hostPixelComp = pixelBufferProvider.getHostPixelComp(gl.getGLProfile(), reqCompCount);
         final GLPixelAttributes pixelAttribs = pixelBufferProvider.getAttributes(gl, reqCompCount, true);
-        final int componentCount = pixelAttribs.pfmt.comp.componentCount();
-        hasAlpha = 0 <= pixelAttribs.pfmt.comp.find(PixelFormat.CType.A);
-        final int alignment, internalFormat;
-        if( 4 == componentCount ) {
-            alignment = 4;
-            internalFormat = GL.GL_RGBA;
-        } else {
-            alignment = 1;
-            internalFormat = GL.GL_RGB;
-        }
-        final boolean flipVertically;
-        if( drawable.isGLOriented() ) {
-            flipVertically = mustFlipVertically;
-        } else {
-            flipVertically = !mustFlipVertically;
-        }
+        final boolean flipVertically = drawable.isGLOriented() ? mustFlipVertically : !mustFlipVertically;
 
         final int tmp[] = new int[1];
         final int readPixelSize = GLBuffers.sizeof(gl, tmp, pixelAttribs.pfmt.comp.bytesPerPixel(), width, height, 1, true);
 
-        boolean newData = false;
+        final boolean newData = setupTextureData(gl, hostPixelComp, pixelAttribs, width, height, readPixelSize, flipVertically);
+        boolean res = null!=readPixelBuffer && readPixelBuffer.isValid();
+        if(res) {
+            setPackStorageModes(gl, pixelAttribs, width);
+            readPixelBuffer.clear();
+            try {
+                gl.glReadPixels(inX, inY, width, height, pixelAttribs.format, pixelAttribs.type, readPixelBuffer.buffer);
+            } catch(final GLException gle) { res = false; gle.printStackTrace(); }
+            readPixelBuffer.position( readPixelSize );
+            readPixelBuffer.flip();
+            final int glerr1 = gl.glGetError();
+            if(GL.GL_NO_ERROR != glerr1) {
+                System.err.println("GLReadBufferUtil.readPixels: readPixels error 0x"+Integer.toHexString(glerr1)+
+                                   " "+width+"x"+height+
+                                   ", "+pixelAttribs+
+                                   ", "+readPixelBuffer+", sz "+readPixelSize);
+                res = false;
+            }
+            if(res) {
+                updateTexture(gl, newData, inX, inY, width, height);
+            }
+            psm.restore(gl);
+        }
+        return res;
+    }
+
+    /**
+     * Allocates {@link #readPixelBuffer} and {@link #readTextureData} if required, otherwise updates the latter.
+     * @return true if the {@link #readTextureData} has been newly created
+     */
+    private boolean setupTextureData(final GL gl, final PixelFormat.Composition hostPixelComp, final GLPixelAttributes pixelAttribs,
+                                     final int width, final int height, final int readPixelSize, final boolean flipVertically) {
+        hasAlpha = 0 <= pixelAttribs.pfmt.comp.find(PixelFormat.CType.A);
+        final int internalFormat = 4 == pixelAttribs.pfmt.comp.componentCount() ? GL.GL_RGBA : GL.GL_RGB;
         if( null == readPixelBuffer || readPixelBuffer.requiresNewBuffer(gl, width, height, readPixelSize) ) {
             readPixelBuffer = pixelBufferProvider.allocate(gl, hostPixelComp, pixelAttribs, true, width, height, 1, readPixelSize);
             Buffers.rangeCheckBytes(readPixelBuffer.buffer, readPixelSize);
@@ -221,7 +312,7 @@ public class GLReadBufferUtil {
                            flipVertically,
                            readPixelBuffer.buffer,
                            null /* Flusher */);
-                newData = true;
+                return true;
             } catch (final Exception e) {
                 readTextureData = null;
                 readPixelBuffer = null;
@@ -232,46 +323,283 @@ public class GLReadBufferUtil {
             readTextureData.setWidth(width);
             readTextureData.setHeight(height);
             readTextureData.setPixelAttributes(pixelAttribs);
+            return false;
         }
-        boolean res = null!=readPixelBuffer && readPixelBuffer.isValid();
-        if(res) {
-            psm.setPackAlignment(gl, alignment);
-            if(gl.isGL2ES3()) {
-                final GL2ES3 gl2es3 = gl.getGL2ES3();
-                psm.setPackRowLength(gl2es3, width);
-                gl2es3.glReadBuffer(gl2es3.getDefaultReadBuffer());
-            }
-            readPixelBuffer.clear();
-            try {
-                gl.glReadPixels(inX, inY, width, height, pixelAttribs.format, pixelAttribs.type, readPixelBuffer.buffer);
-            } catch(final GLException gle) { res = false; gle.printStackTrace(); }
-            readPixelBuffer.position( readPixelSize );
-            readPixelBuffer.flip();
-            final int glerr1 = gl.glGetError();
-            if(GL.GL_NO_ERROR != glerr1) {
-                System.err.println("GLReadBufferUtil.readPixels: readPixels error 0x"+Integer.toHexString(glerr1)+
-                                   " "+width+"x"+height+
-                                   ", "+pixelAttribs+
-                                   ", "+readPixelBuffer+", sz "+readPixelSize);
-                res = false;
+    }
+
+    /** Sets pack alignment, row length and read buffer, to be {@link GLPixelStorageModes#restore(GL) restored} via {@link #psm}. */
+    private void setPackStorageModes(final GL gl, final GLPixelAttributes pixelAttribs, final int width) {
+        psm.setPackAlignment(gl, 4 == pixelAttribs.pfmt.comp.componentCount() ? 4 : 1);
+        if(gl.isGL2ES3()) {
+            final GL2ES3 gl2es3 = gl.getGL2ES3();
+            psm.setPackRowLength(gl2es3, width);
+            gl2es3.glReadBuffer(gl2es3.getDefaultReadBuffer());
+        }
+    }
+
+    private void updateTexture(final GL gl, final boolean newData, final int inX, final int inY, final int width, final int height) {
+        if(null != readTexture) {
+            if(newData) {
+                readTexture.updateImage(gl, readTextureData);
+            } else {
+                readTexture.updateSubImage(gl, readTextureData, 0,
+                                           inX, inY, // dst offset
+                                           0,   0,   // src offset
+                                           width, height);
             }
-            if(res && null != readTexture) {
-                if(newData) {
-                    readTexture.updateImage(gl, readTextureData);
-                } else {
-                    readTexture.updateSubImage(gl, readTextureData, 0,
-                                               inX, inY, // dst offset
-                                               0,   0,   // src offset
-                                               width, height);
+            readPixelBuffer.rewind();
+        }
+    }
+
+    /**
+     * Sets the {@link AsyncReadListener} receiving the frames read via {@link #readPixelsAsync(GL, int, int, int, int, boolean) readPixelsAsync(..)}.
+     * <p>
+     * Pending asynchronous reads must have been {@link #flushAsync(GL) flushed} before.
+     * </p>
+     * @param listener the listener, maybe <code>null</code> to disable asynchronous reads
+     * @param ringSize number of {@link GL2ES3#GL_PIXEL_PACK_BUFFER pixel pack buffers} in flight, i.e. the latency in frames,
+     *                 see {@link #DEFAULT_ASYNC_RING_SIZE}
+     * @throws IllegalStateException if asynchronous reads are pending
+     */
+    public void setAsyncReadListener(final AsyncReadListener listener, final int ringSize) throws IllegalStateException {
+        if( 0 < asyncCount ) {
+            throw new IllegalStateException("Pending asynchronous reads: "+asyncCount);
+        }
+        if( 1 > ringSize ) {
+            throw new IllegalArgumentException("Invalid ringSize "+ringSize);
+        }
+        asyncListener = listener;
+        if( null == asyncReads || asyncReads.length != ringSize ) {
+            if( null != asyncReads ) {
+                for(int i=0; i<asyncReads.length; i++) {
+                    if( 0 != asyncReads[i].pbo ) {
+                        throw new IllegalStateException("Pixel pack buffers not disposed, call dispose(GL) first");
+                    }
                 }
-                readPixelBuffer.rewind();
             }
-            psm.restore(gl);
+            asyncReads = new AsyncRead[ringSize];
+            for(int i=0; i<ringSize; i++) {
+                asyncReads[i] = new AsyncRead();
+            }
+            asyncHead = 0;
+        }
+    }
+
+    /** Returns the {@link AsyncReadListener}, see {@link #setAsyncReadListener(AsyncReadListener, int)}. */
+    public AsyncReadListener getAsyncReadListener() { return asyncListener; }
+
+    /**
+     * Returns true if {@link #readPixelsAsync(GL, int, int, int, int, boolean) readPixelsAsync(..)}
+     * uses pixel pack buffers and fence syncs, i.e. {@link GL#isGL3ES3()},
+     * otherwise it falls back to {@link #readPixels(GL, int, int, int, int, boolean) synchronous reads}.
+     */
+    public boolean isAsyncReadSupported(final GL gl) {
+        return gl.isGL3ES3();
+    }
+
+    /** Returns the number of pending asynchronous reads. */
+    public int getAsyncPendingCount() { return asyncCount; }
+
+    /**
+     * Read the drawable's pixels asynchronously, see {@link #readPixelsAsync(GL, int, int, int, int, boolean)}.
+     */
+    public boolean readPixelsAsync(final GL gl, final boolean mustFlipVertically) {
+        return readPixelsAsync(gl, 0, 0, 0, 0, mustFlipVertically);
+    }
+
+    /**
+     * Issues an asynchronous read of the drawable's pixels into a {@link GL2ES3#GL_PIXEL_PACK_BUFFER pixel pack buffer}
+     * guarded by a fence sync and passes previously completed reads to the {@link AsyncReadListener}.
+     * <p>
+     * If all {@link #setAsyncReadListener(AsyncReadListener, int) ring} buffers are pending,
+     * this method waits for the oldest one to complete.
+     * Call {@link #flushAsync(GL)} to receive all pending frames.
+     * </p>
+     * <p>
+     * If {@link #isAsyncReadSupported(GL) not supported}, e.g. on ES2 or GL2,
+     * a synchronous {@link #readPixels(GL, int, int, int, int, boolean) read} is performed
+     * and passed to the {@link AsyncReadListener} right away.
+     * </p>
+     * <p>
+     * The arguments are equal to {@link #readPixels(GL, int, int, int, int, boolean)}.
+     * </p>
+     * @return true if the read has been issued successfully
+     * @throws IllegalStateException if no {@link AsyncReadListener} has been {@link #setAsyncReadListener(AsyncReadListener, int) set}
+     * @throws GLException if a completed pending read could not be mapped, the frame is dropped
+     */
+    public boolean readPixelsAsync(final GL gl, final int inX, final int inY, final int inWidth, final int inHeight, final boolean mustFlipVertically) {
+        if( null == asyncListener ) {
+            throw new IllegalStateException("No AsyncReadListener set");
+        }
+        final long frameNumber = asyncFrameNumber++;
+        if( !isAsyncReadSupported(gl) ) {
+            final boolean res = readPixels(gl, inX, inY, inWidth, inHeight, mustFlipVertically);
+            if( res ) {
+                asyncListener.frameRead(gl, this, frameNumber);
+            }
+            return res;
+        }
+        final GLDrawable drawable = gl.getContext().getGLReadDrawable();
+        final int width, height;
+        if( 0 >= inWidth || drawable.getSurfaceWidth() < inWidth ) {
+            width = drawable.getSurfaceWidth();
+        } else {
+            width = inWidth;
+        }
+        if( 0 >= inHeight || drawable.getSurfaceHeight() < inHeight ) {
+            height = drawable.getSurfaceHeight();
+        } else {
+            height= inHeight;
+        }
+        final GL3ES3 gl3es3 = gl.getGL3ES3();
+        // pass on completed reads, wait for the oldest if the ring is full
+        while( 0 < asyncCount && deliverAsync(gl3es3, asyncReads.length == asyncCount) ) { }
+
+        final int glerr0 = gl.glGetError();
+        if(GL.GL_NO_ERROR != glerr0) {
+            System.err.println("Info: GLReadBufferUtil.readPixelsAsync: pre-exisiting GL error 0x"+Integer.toHexString(glerr0));
+        }
+        final AsyncRead r = asyncReads[( asyncHead + asyncCount ) % asyncReads.length];
+        final int reqCompCount = alphaRequested ? 4 : 3; // see Bug 1381
+        r.hostPixelComp = pixelBufferProvider.getHostPixelComp(gl.getGLProfile(), reqCompCount);
+        r.pixelAttribs = pixelBufferProvider.getAttributes(gl, reqCompCount, true);
+        r.flipVertically = drawable.isGLOriented() ? mustFlipVertically : !mustFlipVertically;
+        r.x = inX;
+        r.y = inY;
+        r.width = width;
+        r.height = height;
+        r.frameNumber = frameNumber;
+        {
+            final int tmp[] = new int[1];
+            r.readPixelSize = GLBuffers.sizeof(gl, tmp, r.pixelAttribs.pfmt.comp.bytesPerPixel(), width, height, 1, true);
+        }
+        if( 0 == r.pbo ) {
+            final int tmp[] = new int[1];
+            gl.glGenBuffers(1, tmp, 0);
+            r.pbo = tmp[0];
+            r.pboSize = 0;
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, r.pbo);
+        if( r.pboSize < r.readPixelSize ) {
+            gl.glBufferData(GL2ES3.GL_PIXEL_PACK_BUFFER, r.readPixelSize, null, GL2ES3.GL_STREAM_READ);
+            r.pboSize = r.readPixelSize;
+        }
+        setPackStorageModes(gl, r.pixelAttribs, width);
+        boolean res = true;
+        try {
+            gl.glReadPixels(inX, inY, width, height, r.pixelAttribs.format, r.pixelAttribs.type, 0L);
+        } catch(final GLException gle) { res = false; gle.printStackTrace(); }
+        psm.restore(gl);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+        final int glerr1 = gl.glGetError();
+        if(GL.GL_NO_ERROR != glerr1) {
+            System.err.println("GLReadBufferUtil.readPixelsAsync: readPixels error 0x"+Integer.toHexString(glerr1)+
+                               " "+width+"x"+height+", "+r.pixelAttribs+", sz "+r.readPixelSize);
+            res = false;
+        }
+        if( res ) {
+            r.sync = gl3es3.glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+            asyncCount++;
         }
         return res;
     }
 
+    /**
+     * Waits for all pending asynchronous reads to complete and passes them to the {@link AsyncReadListener}.
+     * <p>
+     * No-op if {@link #isAsyncReadSupported(GL) not supported}, since reads are synchronous then.
+     * </p>
+     * @throws GLException if a pending read could not be mapped, the frame is dropped
+     */
+    public void flushAsync(final GL gl) {
+        if( 0 < asyncCount ) {
+            final GL3ES3 gl3es3 = gl.getGL3ES3();
+            while( 0 < asyncCount ) {
+                deliverAsync(gl3es3, true);
+            }
+        }
+    }
+
+    /**
+     * Passes the oldest pending read to the {@link AsyncReadListener} if completed.
+     * @param wait if true, wait until completed
+     * @return true if the read has been passed on or dropped due to an error, otherwise false
+     * @throws GLException if the pixel pack buffer could not be mapped, the read is dropped
+     */
+    private boolean deliverAsync(final GL3ES3 gl, final boolean wait) {
+        final AsyncRead r = asyncReads[asyncHead];
+        int status;
+        do {
+            status = gl.glClientWaitSync(r.sync, wait ? GL3ES3.GL_SYNC_FLUSH_COMMANDS_BIT : 0, wait ? ASYNC_WAIT_TIMEOUT_NS : 0);
+        } while( wait && GL3ES3.GL_TIMEOUT_EXPIRED == status );
+        if( GL3ES3.GL_TIMEOUT_EXPIRED == status ) {
+            return false;
+        }
+        gl.glDeleteSync(r.sync);
+        r.sync = 0;
+        asyncHead = ( asyncHead + 1 ) % asyncReads.length;
+        asyncCount--;
+        if( GL3ES3.GL_WAIT_FAILED == status ) {
+            System.err.println("GLReadBufferUtil.readPixelsAsync: wait failed, dropping frame "+r.frameNumber);
+            return true;
+        }
+        final boolean newData = setupTextureData(gl, r.hostPixelComp, r.pixelAttribs, r.width, r.height, r.readPixelSize, r.flipVertically);
+        if( null == readPixelBuffer || !readPixelBuffer.isValid() ) {
+            return true;
+        }
+        readTextureData.setMustFlipVertically(r.flipVertically);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, r.pbo);
+        try {
+            final ByteBuffer mapped = gl.glMapBufferRange(GL2ES3.GL_PIXEL_PACK_BUFFER, 0, r.readPixelSize, GL.GL_MAP_READ_BIT);
+            if( null == mapped ) {
+                throw new GLException("GLReadBufferUtil.readPixelsAsync: mapping pixel pack buffer "+r.pbo+" failed, dropping frame "+r.frameNumber+
+                                      ", error 0x"+Integer.toHexString(gl.glGetError()));
+            }
+            try {
+                readPixelBuffer.clear();
+                copyPixels(mapped, readPixelBuffer.buffer, r.readPixelSize);
+            } finally {
+                gl.glUnmapBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER);
+            }
+        } finally {
+            gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+        }
+        readPixelBuffer.position( r.readPixelSize );
+        readPixelBuffer.flip();
+        updateTexture(gl, newData, r.x, r.y, r.width, r.height);
+        asyncListener.frameRead(gl, this, r.frameNumber);
+        return true;
+    }
+
+    private static void copyPixels(final ByteBuffer src, final Buffer dst, final int byteCount) {
+        src.clear();
+        src.limit(byteCount);
+        if( dst instanceof ByteBuffer ) {
+            ((ByteBuffer)dst).put(src);
+        } else if( dst instanceof IntBuffer ) {
+            ((IntBuffer)dst).put(src.order(ByteOrder.nativeOrder()).asIntBuffer());
+        } else {
+            throw new GLException("Unsupported pixel buffer type "+dst.getClass().getName());
+        }
+    }
+
     public void dispose(final GL gl) {
+        if(null != asyncReads) {
+            for(int i=0; i<asyncReads.length; i++) {
+                final AsyncRead r = asyncReads[i];
+                if( 0 != r.sync ) {
+                    gl.getGL3ES3().glDeleteSync(r.sync);
+                    r.sync = 0;
+                }
+                if( 0 != r.pbo ) {
+                    gl.glDeleteBuffers(1, new int[] { r.pbo }, 0);
+                    r.pbo = 0;
+                    r.pboSize = 0;
+                }
+            }
+            asyncHead = 0;
+            asyncCount = 0;
+        }
         if(null != readTexture) {
             readTexture.destroy(gl);
             readTextureData = null;
@@ -33,6 +33,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.concurrent.Executor;
 
 import com.jogamp.nativewindow.util.Dimension;
 import com.jogamp.nativewindow.util.DimensionImmutable;
@@ -43,10 +44,10 @@ import com.jogamp.nativewindow.util.PixelFormatUtil;
 import jogamp.opengl.Debug;
 import jogamp.opengl.util.pngj.ImageInfo;
 import jogamp.opengl.util.pngj.ImageLine;
-import jogamp.opengl.util.pngj.ImageLineHelper;
+import jogamp.opengl.util.pngj.PngParallelCompression;
+import jogamp.opengl.util.pngj.PngPixelDecoder;
 import jogamp.opengl.util.pngj.PngReader;
 import jogamp.opengl.util.pngj.PngWriter;
-import jogamp.opengl.util.pngj.chunks.PngChunkPLTE;
 import jogamp.opengl.util.pngj.chunks.PngChunkTRNS;
 import jogamp.opengl.util.pngj.chunks.PngChunkTextVar;
 
@@ -56,6 +57,62 @@ import com.jogamp.common.util.IOUtil;
 public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
     private static final boolean DEBUG = Debug.debug("PNG");
 
+    /**
+     * Compression setting of write operations,
+     * see {@link PNGPixelRect#write(OutputStream, boolean, WriteCompression)},
+     * {@link com.jogamp.opengl.util.texture.TextureIO#write(com.jogamp.opengl.util.texture.TextureData, java.io.File, WriteCompression) TextureIO}
+     * and {@link GLReadBufferUtil#setPNGWriteCompression(WriteCompression)}.
+     * <p>
+     * Parallel compression deflates independent stripes of rows concurrently,
+     * while the resulting PNG stays compatible.
+     * </p>
+     * <p>
+     * The stripe buffers and native deflaters are pooled by this instance
+     * and reused by subsequent writes, e.g. when recording frames.
+     * Call {@link #dispose()} to release them.
+     * This instance may be shared by concurrent writers.
+     * </p>
+     */
+    public static class WriteCompression {
+        private final PngParallelCompression parallel;
+        private final boolean speedOverSize;
+
+        /**
+         * @param executor executor for parallel compression, maybe <code>null</code> for single threaded compression
+         * @param parallelism number of stripes compressed concurrently, e.g. the number of cores
+         * @param speedOverSize if true, favor compression speed over file size, e.g. for recording frames
+         */
+        public WriteCompression(final Executor executor, final int parallelism, final boolean speedOverSize) {
+            this.parallel = new PngParallelCompression(executor, parallelism);
+            this.speedOverSize = speedOverSize;
+        }
+
+        public final Executor getExecutor() { return parallel.getExecutor(); }
+        public final int getParallelism() { return parallel.getParallelism(); }
+        public final boolean getSpeedOverSize() { return speedOverSize; }
+
+        /** Releases the pooled stripe buffers and native deflaters. */
+        public final void dispose() {
+            parallel.dispose();
+        }
+
+        @Override
+        public String toString() {
+            return "WriteCompression[speedOverSize "+speedOverSize+", "+parallel+"]";
+        }
+    }
+
+    private static PngWriter createWriter(final OutputStream outstream, final ImageInfo imi, final WriteCompression compression) {
+        final PngWriter png = new PngWriter(outstream, imi);
+        if( null != compression ) {
+            if( compression.speedOverSize ) {
+                png.setSpeedPreset();
+            }
+            png.setParallelCompression(compression.parallel);
+        }
+        return png;
+    }
+
     /**
      * Reads a PNG image from the specified InputStream.
      * <p>
@@ -81,7 +138,6 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
         final BufferedInputStream bin = (in instanceof BufferedInputStream) ? (BufferedInputStream)in : new BufferedInputStream(in);
         final PngReader pngr = new PngReader(bin, null);
         final ImageInfo imgInfo = pngr.imgInfo;
-        final PngChunkPLTE plte = pngr.getMetadata().getPLTE();
         final PngChunkTRNS trns = pngr.getMetadata().getTRNS();
         final boolean indexed = imgInfo.indexed;
         final boolean hasAlpha = indexed ? ( trns != null ) : imgInfo.alpha ;
@@ -89,18 +145,7 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
         if(DEBUG) {
             System.err.println("PNGPixelRect: "+imgInfo);
         }
-        final int channels = indexed ? ( hasAlpha ? 4 : 3 ) : imgInfo.channels ;
-        final boolean isGrayAlpha = 2 == channels && imgInfo.greyscale && imgInfo.alpha;
-        if ( ! ( 1 == channels || 3 == channels || 4 == channels || isGrayAlpha ) ) {
-            throw new RuntimeException("PNGPixelRect can only handle Lum/RGB/RGBA [1/3/4 channels] or Lum+A (GA) images for now. Channels "+channels + " Paletted: " + indexed);
-        }
-        final int bytesPerPixel = indexed ? channels : imgInfo.bytesPixel ;
-        if ( ! ( 1 == bytesPerPixel || 3 == bytesPerPixel || 4 == bytesPerPixel || isGrayAlpha ) ) {
-            throw new RuntimeException("PNGPixelRect can only handle Lum/RGB/RGBA [1/3/4 bpp] images for now. BytesPerPixel "+bytesPerPixel);
-        }
-        if( channels != bytesPerPixel ) {
-            throw new RuntimeException("PNGPixelRect currently only handles Channels [1/3/4] == BytePerPixel [1/3/4], channels: "+channels+", bytesPerPixel "+bytesPerPixel);
-        }
+        final boolean isGrayAlpha = imgInfo.greyscale && imgInfo.alpha;
         final int width = imgInfo.cols;
         final int height = imgInfo.rows;
         final double dpiX, dpiY;
@@ -109,25 +154,7 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
             dpiX = dpi[0];
             dpiY = dpi[1];
         }
-        final PixelFormat srcFmt;
-        if ( indexed ) {
-            if ( hasAlpha ) {
-                srcFmt = PixelFormat.RGBA8888;
-            } else {
-                srcFmt = PixelFormat.RGB888;
-            }
-        } else {
-            switch( channels ) {
-                case 1: srcFmt = PixelFormat.LUMINANCE; break;
-                case 2: srcFmt = isGrayAlpha ? PixelFormat.LUMINANCE : null; break;
-                case 3: srcFmt = PixelFormat.RGB888; break;
-                case 4: srcFmt = PixelFormat.RGBA8888; break;
-                default: srcFmt = null;
-            }
-            if( null == srcFmt ) {
-                throw new InternalError("XXX: channels: "+channels+", bytesPerPixel "+bytesPerPixel);
-            }
-        }
+        final PixelFormat srcFmt = PngPixelDecoder.getSourcePixelFormat(imgInfo, trns);
         final PixelFormat destFmt;
         if( null == ddestFmt ) {
             if( isGrayAlpha ) {
@@ -141,115 +168,18 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
         final int destStrideInBytes = Math.max(destMinStrideInBytes, destFmt.comp.bytesPerPixel() * width);
         final ByteBuffer destPixels = destDirectBuffer ? Buffers.newDirectByteBuffer(destStrideInBytes * height) :
                                                          ByteBuffer.allocate(destStrideInBytes * height);
-        {
-            final int reqBytes = destStrideInBytes * height;
-            if( destPixels.limit() < reqBytes ) {
-                throw new IndexOutOfBoundsException("Dest buffer has insufficient bytes left, needs "+reqBytes+": "+destPixels);
-            }
-        }
-        final boolean vert_flip = destIsGLOriented;
-
-        int[] rgbaScanline = indexed ? new int[width * channels] : null;
         if(DEBUG) {
-            System.err.println("PNGPixelRect: indexed "+indexed+", alpha "+hasAlpha+", grayscale "+imgInfo.greyscale+", channels "+channels+"/"+imgInfo.channels+
-                               ", bytesPerPixel "+bytesPerPixel+"/"+imgInfo.bytesPixel+
+            System.err.println("PNGPixelRect: indexed "+indexed+", alpha "+hasAlpha+", grayscale "+imgInfo.greyscale+", channels "+imgInfo.channels+
+                               ", bitDepth "+imgInfo.bitDepth+", interlaced "+pngr.isInterlaced()+
                                ", grayAlpha "+isGrayAlpha+", pixels "+width+"x"+height+", dpi "+dpiX+"x"+dpiY+", format "+srcFmt);
             System.err.println("PNGPixelRect: destFormat "+destFmt+" ("+ddestFmt+", fast-path "+(destFmt==srcFmt)+"), destDirectBuffer "+destDirectBuffer+", destIsGLOriented (flip) "+destIsGLOriented);
             System.err.println("PNGPixelRect: destStrideInBytes "+destStrideInBytes+" (destMinStrideInBytes "+destMinStrideInBytes+")");
         }
-
-        for (int row = 0; row < height; row++) {
-            final ImageLine l1 = pngr.readRow(row);
-            int lineOff = 0;
-            int dataOff = vert_flip ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes;
-            if( indexed ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    rgbaScanline = ImageLineHelper.palette2rgb(l1, plte, trns, rgbaScanline); // reuse rgbaScanline and update if resized
-                    dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, rgbaScanline, lineOff, hasAlpha);
-                    lineOff += bytesPerPixel;
-                }
-            } else if( 1 == channels ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)0xff); // Luminance, 1 bytesPerPixel
-                }
-            } else if( isGrayAlpha ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)l1.scanline[lineOff++]); // Luminance+Alpha, 2 bytesPerPixel
-                }
-            } else if( srcFmt == destFmt ) { // fast-path
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelRGBSame(destPixels, dataOff, l1.scanline, lineOff, bytesPerPixel);
-                    lineOff += bytesPerPixel;
-                }
-            } else {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, l1.scanline, lineOff, hasAlpha);
-                    lineOff += bytesPerPixel;
-                }
-            }
-        }
-        pngr.end();
+        new PngPixelDecoder().decode(pngr, destFmt, destPixels, destStrideInBytes, destIsGLOriented);
 
         return new PNGPixelRect(destFmt, new Dimension(width, height), destStrideInBytes, destIsGLOriented, destPixels, dpiX, dpiY);
     }
 
-    private static final int getPixelLUMToAny(final PixelFormat dest_fmt, final ByteBuffer d, int dOff, final byte lum, final byte alpha) {
-        switch(dest_fmt) {
-            case LUMINANCE:
-                d.put(dOff++, lum);
-                break;
-            case BGR888:
-            case RGB888:
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                break;
-            case ABGR8888:
-            case ARGB8888:
-                d.put(dOff++, alpha); // A
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                break;
-            case BGRA8888:
-            case RGBA8888:
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, alpha); // A
-                break;
-            default:
-                throw new InternalError("Unhandled format "+dest_fmt);
-        }
-        return dOff;
-    }
-    private static final int getPixelRGBA8ToAny(final PixelFormat dest_fmt, final ByteBuffer d, int dOff, final int[] scanline, final int lineOff, final boolean srcHasAlpha) {
-        final int p = PixelFormatUtil.convertToInt32(dest_fmt, (byte)scanline[lineOff],   // R
-                                                               (byte)scanline[lineOff+1], // G
-                                                               (byte)scanline[lineOff+2], // B
-                                                               srcHasAlpha ? (byte)scanline[lineOff+3] : (byte)0xff); // A
-        final int dbpp = dest_fmt.comp.bytesPerPixel();
-        d.put(dOff++, (byte) ( p ));                // 1
-        if( 1 < dbpp ) {
-            d.put(dOff++, (byte) ( p >>>  8 ));     // 2
-            d.put(dOff++, (byte) ( p >>> 16 ));     // 3
-            if( 4 == dbpp ) {
-                d.put(dOff++, (byte) ( p >>> 24 )); // 4
-            }
-        }
-        return dOff;
-    }
-    private static final int getPixelRGBSame(final ByteBuffer d, int dOff, final int[] scanline, final int lineOff, final int bpp) {
-        d.put(dOff++, (byte)scanline[lineOff]);             // R
-        if( 1 < bpp ) {
-            d.put(dOff++, (byte)scanline[lineOff + 1]);     // G
-            d.put(dOff++, (byte)scanline[lineOff + 2]);     // B
-            if( 4 == bpp ) {
-                d.put(dOff++, (byte)scanline[lineOff + 3]); // A
-            }
-        }
-        return dOff;
-    }
     private int setPixelRGBA8(final ImageLine line, final int lineOff, final ByteBuffer src, final int srcOff, final int bytesPerPixel, final boolean hasAlpha) {
         final int b = hasAlpha ? 4-1 : 3-1;
         if( src.limit() <= srcOff + b ) {
@@ -303,6 +233,17 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
     public double[] getDpi() { return dpi; }
 
     public void write(final OutputStream outstream, final boolean closeOutstream) throws IOException {
+        write(outstream, closeOutstream, null);
+    }
+
+    /**
+     * Writes this image as PNG.
+     * @param outstream the destination stream
+     * @param closeOutstream if true, the stream is closed
+     * @param compression the compression setting, maybe <code>null</code> for the default single threaded compression
+     * @throws IOException
+     */
+    public void write(final OutputStream outstream, final boolean closeOutstream, final WriteCompression compression) throws IOException {
         final int width = size.getWidth();
         final int height = size.getHeight();
         final int bytesPerPixel = pixelformat.comp.bytesPerPixel();
@@ -312,8 +253,9 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
                                             false /* indexed */);
 
         // open image for writing to a output stream
+        PngWriter png = null;
         try {
-            final PngWriter png = new PngWriter(outstream, imi);
+            png = createWriter(outstream, imi, compression);
             // add some optional metadata (chunks)
             png.getMetadata().setDpi(dpi[0], dpi[1]);
             png.getMetadata().setTimeNow(0); // 0 seconds from now = now
@@ -338,6 +280,9 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
             }
             png.end();
         } finally {
+            if( null != png ) {
+                png.close(); // releases deflaters, aborts if not ended
+            }
             if( closeOutstream ) {
                 IOUtil.close(outstream, false);
             }
@@ -348,6 +293,17 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
                              int strideInPixels, final boolean isGLOriented, final IntBuffer pixels,
                              final double dpiX, final double dpiY,
                              final OutputStream outstream, final boolean closeOutstream) throws IOException {
+        write(pixelformat, size, strideInPixels, isGLOriented, pixels, dpiX, dpiY, outstream, closeOutstream, null);
+    }
+
+    /**
+     * Writes the given pixels as PNG, see {@link #write(OutputStream, boolean, WriteCompression)}.
+     */
+    public static void write(final PixelFormat pixelformat, final DimensionImmutable size,
+                             int strideInPixels, final boolean isGLOriented, final IntBuffer pixels,
+                             final double dpiX, final double dpiY,
+                             final OutputStream outstream, final boolean closeOutstream,
+                             final WriteCompression compression) throws IOException {
         final int width = size.getWidth();
         final int height = size.getHeight();
         final int bytesPerPixel = pixelformat.comp.bytesPerPixel();
@@ -368,8 +324,9 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
         }
 
         // open image for writing to a output stream
+        PngWriter png = null;
         try {
-            final PngWriter png = new PngWriter(outstream, imi);
+            png = createWriter(outstream, imi, compression);
             // add some optional metadata (chunks)
             png.getMetadata().setDpi(dpiX, dpiY);
             png.getMetadata().setTimeNow(0); // 0 seconds from now = now
@@ -394,6 +351,9 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
             }
             png.end();
         } finally {
+            if( null != png ) {
+                png.close(); // releases deflaters, aborts if not ended
+            }
             if( closeOutstream ) {
                 IOUtil.close(outstream, false);
             }
@@ -0,0 +1,637 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.ArrayList;
+
+import com.jogamp.common.ExceptionUtils;
+import com.jogamp.common.util.InterruptSource;
+import com.jogamp.common.util.SourcedInterruptedException;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLException;
+
+/**
+ * An Animator rendering each attached {@link GLAutoDrawable} on its own render thread,
+ * e.g. to drive multiple displays in parallel.
+ * <p>
+ * Each render thread claims its drawable's {@link GLAutoDrawable#setExclusiveContextThread(Thread) exclusive context thread}
+ * while animating and releases it when paused or stopped.
+ * </p>
+ * <p>
+ * Frames are synchronized by the animator thread via a frame barrier:
+ * All drawables are rendered in parallel and, if {@link #setLockStepSwap(boolean) lock-step swap} is enabled (default),
+ * all buffers are swapped in parallel after all drawables have been rendered.
+ * Hence the animation rate is bound by the slowest drawable.
+ * </p>
+ * <p>
+ * Lifecycle semantics of {@link #start()}, {@link #pause()}, {@link #resume()} and {@link #stop()}
+ * are identical to {@link Animator}.
+ * </p>
+ * <p>
+ * {@link #setExclusiveContext(boolean)} and {@link #setExclusiveContext(Thread)} are not supported,
+ * since each drawable uses its render thread as exclusive context thread.
+ * {@link #start()} throws a {@link GLException} if enabled,
+ * as does the animation thread if enabled while animating, stopping the animation.
+ * </p>
+ * <p>
+ * A render thread which gets interrupted releases its drawable's exclusive context thread and terminates,
+ * a new render thread is created for the drawable with the next frame.
+ * </p>
+ * <p>
+ * The Animator execution thread does not run as a daemon thread,
+ * so it is able to keep an application from terminating.<br>
+ * Call {@link #stop() } to terminate the animation and it's execution thread.
+ * </p>
+ */
+public class ParallelAnimator extends AnimatorBase {
+    private ThreadGroup threadGroup;
+    private Runnable runnable;
+    private boolean lockStepSwap = true;
+    boolean isAnimating;
+    volatile boolean pauseIssued;
+    volatile boolean stopIssued;
+
+    /** Render threads, also used as lock of the frame barrier */
+    private final ArrayList<RenderThread> renderThreads = new ArrayList<RenderThread>();
+    /** Number of render threads still executing the current stage, guarded by {@link #renderThreads}. */
+    private int pendingStage = 0;
+    /** The {@link RenderThread} of the current thread, if it is one of this animator's render threads. */
+    private final ThreadLocal<RenderThread> currentRenderThread = new ThreadLocal<RenderThread>();
+
+    /**
+     * Creates a new, empty ParallelAnimator.
+     */
+    public ParallelAnimator() {
+        super();
+        setModeBits(false, MODE_EXPECT_AWT_RENDERING_THREAD);
+        if(DEBUG) {
+            System.err.println("ParallelAnimator created");
+        }
+    }
+
+    /**
+     * Creates a new ParallelAnimator w/ an associated ThreadGroup,
+     * used for the animator and all render threads.
+     */
+    public ParallelAnimator(final ThreadGroup tg) {
+        super();
+        setModeBits(false, MODE_EXPECT_AWT_RENDERING_THREAD);
+        setThreadGroup(tg);
+        if(DEBUG) {
+            System.err.println("ParallelAnimator created, ThreadGroup: "+threadGroup);
+        }
+    }
+
+    @Override
+    protected final String getBaseName(final String prefix) {
+        return prefix + "ParallelAnimator" ;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Lifecycle actions issued on a render thread, e.g. {@link #stop()} or {@link #pause()} from within
+     * {@link com.jogamp.opengl.GLEventListener#display(GLAutoDrawable) display(..)}, must not block,
+     * since the animator thread waits for the render thread to complete its stage.
+     * </p>
+     */
+    @Override
+    protected final AnimatorImpl wrapImpl(final AnimatorImpl impl) {
+        return new AnimatorImpl() {
+            @Override
+            public void display(final ArrayList<GLAutoDrawable> drawables, final boolean ignoreExceptions, final boolean printExceptions) throws UncaughtAnimatorException {
+                impl.display(drawables, ignoreExceptions, printExceptions);
+            }
+            @Override
+            public boolean blockUntilDone(final Thread thread) {
+                return null == currentRenderThread.get() && impl.blockUntilDone(thread);
+            }
+        };
+    }
+
+    /**
+     * Enables or disables lock-step buffer swapping, enabled by default.
+     * <p>
+     * If enabled, {@link GLAutoDrawable#setAutoSwapBufferMode(boolean) auto swap buffer mode} of all drawables
+     * is disabled while animating and buffers are swapped in a separate stage after all drawables have been rendered.
+     * Otherwise each drawable swaps its buffers right after rendering.
+     * </p>
+     * @throws GLException if the animator has already been started
+     */
+    public final synchronized void setLockStepSwap(final boolean enable) throws GLException {
+        if ( isStarted() ) {
+            throw new GLException("Animator already started.");
+        }
+        lockStepSwap = enable;
+    }
+    /** Returns true if lock-step buffer swapping is enabled, see {@link #setLockStepSwap(boolean)}. */
+    public final synchronized boolean getLockStepSwap() { return lockStepSwap; }
+
+    /**
+     * Set a {@link ThreadGroup} for the {@link #getThread() animation thread} and all render threads.
+     *
+     * @param tg the {@link ThreadGroup}
+     * @throws GLException if the animator has already been started
+     */
+    public final synchronized void setThreadGroup(final ThreadGroup tg) throws GLException {
+        if ( isStarted() ) {
+            throw new GLException("Animator already started.");
+        }
+        threadGroup = tg;
+    }
+
+    private static final int CMD_NONE    = 0;
+    private static final int CMD_RENDER  = 1;
+    private static final int CMD_SWAP    = 2;
+    private static final int CMD_RELEASE = 3;
+    private static final int CMD_QUIT    = 4;
+
+    /** Render thread of one {@link GLAutoDrawable}, executing the stages issued by the animator thread. */
+    class RenderThread implements Runnable {
+        final GLAutoDrawable drawable;
+        final Thread thread;
+        /** Stage command, guarded by {@link ParallelAnimator#renderThreads}. */
+        int cmd = CMD_NONE;
+        /** Exception caught in last stage, guarded by {@link ParallelAnimator#renderThreads}. */
+        Throwable caught = null;
+        /** True if terminated and removed from {@link ParallelAnimator#renderThreads}, guarded by the latter. */
+        boolean terminated = false;
+        private boolean claimedECT = false;
+        private boolean swapModeChanged = false;
+        private boolean autoSwapBufferMode;
+
+        RenderThread(final GLAutoDrawable drawable, final int no) {
+            this.drawable = drawable;
+            this.thread = new InterruptSource.Thread(threadGroup, this, baseName+"-Render"+no);
+            this.thread.setDaemon(false);
+        }
+
+        @Override
+        public void run() {
+            currentRenderThread.set(this);
+            boolean quit = false;
+            while( !quit ) {
+                int c;
+                synchronized( renderThreads ) {
+                    while( CMD_NONE == cmd ) {
+                        try {
+                            renderThreads.wait();
+                        } catch (final InterruptedException e) {
+                            break; // terminate w/o pending command
+                        }
+                    }
+                    c = cmd;
+                }
+                if( CMD_NONE == c ) {
+                    terminate();
+                    return;
+                }
+                Throwable t = null;
+                try {
+                    execute(c);
+                } catch (final Throwable t0) {
+                    t = t0;
+                }
+                quit = CMD_QUIT == c;
+                synchronized( renderThreads ) {
+                    caught = t;
+                    cmd = CMD_NONE;
+                    pendingStage--;
+                    renderThreads.notifyAll();
+                }
+            }
+        }
+
+        /**
+         * Terminates this interrupted render thread w/o a pending command,
+         * releasing the exclusive context thread and removing it from {@link ParallelAnimator#renderThreads}.
+         * <p>
+         * A command issued meanwhile is completed w/o execution, i.e. removed from {@link ParallelAnimator#pendingStage}.
+         * </p>
+         */
+        private void terminate() {
+            try {
+                execute(CMD_QUIT);
+            } catch (final Throwable t) {
+                ExceptionUtils.dumpThrowable("(ParallelAnimator.RenderThread)", t);
+            }
+            synchronized( renderThreads ) {
+                terminated = true;
+                renderThreads.remove(this);
+                if( CMD_NONE != cmd ) {
+                    cmd = CMD_NONE;
+                    pendingStage--;
+                }
+                renderThreads.notifyAll();
+            }
+            if( DEBUG ) {
+                System.err.println("ParallelAnimator: Render thread "+thread.getName()+" interrupted, terminated");
+            }
+        }
+
+        private void execute(final int c) {
+            switch( c ) {
+                case CMD_RENDER:
+                    if( !claimedECT && null == drawable.getExclusiveContextThread() ) {
+                        drawable.setExclusiveContextThread(thread);
+                        claimedECT = true;
+                    }
+                    if( lockStepSwap && !swapModeChanged ) {
+                        autoSwapBufferMode = drawable.getAutoSwapBufferMode();
+                        drawable.setAutoSwapBufferMode(false);
+                        swapModeChanged = true;
+                    }
+                    drawable.display();
+                    break;
+                case CMD_SWAP:
+                    if( drawable.isRealized() ) {
+                        drawable.swapBuffers();
+                    }
+                    break;
+                case CMD_RELEASE:
+                case CMD_QUIT:
+                    if( swapModeChanged ) {
+                        swapModeChanged = false;
+                        drawable.setAutoSwapBufferMode(autoSwapBufferMode);
+                    }
+                    if( claimedECT ) {
+                        claimedECT = false;
+                        if( thread == drawable.getExclusiveContextThread() ) {
+                            drawable.setExclusiveContextThread(null);
+                            drawable.display(); // propagate exclusive context -> off!
+                        }
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Issues the given command to the given render threads and waits until all of them have executed it.
+     * <p>
+     * Terminated render threads are skipped. If interrupted, this method still waits until the stage is completed,
+     * i.e. all render threads have either executed the command or terminated, before throwing.
+     * </p>
+     * @throws UncaughtAnimatorException as caused by {@link GLAutoDrawable#display()} or {@link GLAutoDrawable#swapBuffers()},
+     *         unless exceptions are ignored, or if interrupted
+     */
+    private final void runStage(final ArrayList<RenderThread> threads, final int cmd) throws UncaughtAnimatorException {
+        if( 0 == threads.size() ) {
+            return;
+        }
+        UncaughtAnimatorException uae = null;
+        synchronized( renderThreads ) {
+            int pending = 0;
+            for(int i=0; i<threads.size(); i++) {
+                final RenderThread rt = threads.get(i);
+                if( !rt.terminated ) {
+                    rt.cmd = cmd;
+                    rt.caught = null;
+                    pending++;
+                }
+            }
+            pendingStage = pending;
+            renderThreads.notifyAll();
+            while( 0 < pendingStage ) {
+                try {
+                    renderThreads.wait();
+                } catch (final InterruptedException e) {
+                    // complete the stage, keeping the frame barrier consistent
+                    if( null == uae ) {
+                        uae = new UncaughtAnimatorException(null, SourcedInterruptedException.wrap(e));
+                    }
+                }
+            }
+            for(int i=0; i<threads.size(); i++) {
+                final RenderThread rt = threads.get(i);
+                if( null != rt.caught ) {
+                    if (ignoreExceptions) {
+                        if (printExceptions) {
+                            rt.caught.printStackTrace();
+                        }
+                    } else if( null == uae ) {
+                        uae = new UncaughtAnimatorException(rt.drawable, rt.caught);
+                    } else {
+                        ExceptionUtils.dumpThrowable("(ParallelAnimator)", rt.caught);
+                    }
+                    rt.caught = null;
+                }
+            }
+        }
+        if( null != uae ) {
+            throw uae;
+        }
+    }
+
+    /**
+     * Quits all render threads of drawables no more attached, or all render threads if <code>all</code> is true,
+     * releasing their exclusive context thread.
+     */
+    private final void retireRenderThreads(final boolean all) throws UncaughtAnimatorException {
+        final ArrayList<RenderThread> retired = new ArrayList<RenderThread>();
+        synchronized( ParallelAnimator.this ) {
+            synchronized( renderThreads ) {
+                for(int i=renderThreads.size()-1; i>=0; i--) {
+                    final RenderThread rt = renderThreads.get(i);
+                    if( all || !drawables.contains(rt.drawable) ) {
+                        retired.add(rt);
+                        renderThreads.remove(i);
+                    }
+                }
+            }
+        }
+        runStage(retired, CMD_QUIT);
+    }
+
+    /** Renders one frame of all drawables on their render threads, creating render threads of newly attached drawables. */
+    private final void displayParallel() throws UncaughtAnimatorException {
+        retireRenderThreads(false);
+        final ArrayList<RenderThread> threads;
+        synchronized( ParallelAnimator.this ) {
+            if( isExclusiveContextEnabled() ) {
+                throw new UncaughtAnimatorException(null, new GLException("Exclusive context not supported by ParallelAnimator"));
+            }
+            synchronized( renderThreads ) {
+                for(int i=0; i<drawables.size(); i++) {
+                    final GLAutoDrawable drawable = drawables.get(i);
+                    boolean found = false;
+                    for(int j=0; !found && j<renderThreads.size(); j++) {
+                        found = renderThreads.get(j).drawable == drawable;
+                    }
+                    if( !found ) {
+                        final RenderThread rt = new RenderThread(drawable, renderThreads.size());
+                        renderThreads.add(rt);
+                        rt.thread.start();
+                    }
+                }
+                threads = new ArrayList<RenderThread>(renderThreads);
+            }
+        }
+        runStage(threads, CMD_RENDER);
+        if( lockStepSwap ) {
+            runStage(threads, CMD_SWAP);
+        }
+        fpsCounter.tickFPS();
+    }
+
+    /** Releases the exclusive context thread of all drawables, keeping their render threads. */
+    private final void releaseRenderThreads() throws UncaughtAnimatorException {
+        final ArrayList<RenderThread> threads;
+        synchronized( renderThreads ) {
+            threads = new ArrayList<RenderThread>(renderThreads);
+        }
+        runStage(threads, CMD_RELEASE);
+    }
+
+    class MainLoop implements Runnable {
+        @Override
+        public String toString() {
+            return "[started "+isStarted()+", animating "+isAnimating()+", paused "+isPaused()+", drawable "+drawables.size()+
+                   ", drawablesEmpty "+drawablesEmpty+", renderThreads "+renderThreads.size()+"]";
+        }
+
+        @Override
+        public void run() {
+            ThreadDeath caughtThreadDeath = null;
+            UncaughtAnimatorException caughtException = null;
+
+            try {
+                synchronized (ParallelAnimator.this) {
+                    if(DEBUG) {
+                        System.err.println("ParallelAnimator start on " + getThreadName() + ": " + toString());
+                    }
+                    fpsCounter.resetFPSCounter();
+                    animThread = Thread.currentThread();
+                    isAnimating = false;
+                    // 'waitForStartedCondition' wake-up is handled below!
+                }
+
+                boolean released = false;
+                while (!stopIssued) {
+                    boolean releaseIssued = false;
+                    synchronized (ParallelAnimator.this) {
+                        // Pause; Also don't consume CPU unless there is work to be done and not paused
+                        while ( !stopIssued && ( pauseIssued || drawablesEmpty ) ) {
+                            if( drawablesEmpty ) {
+                                pauseIssued = true;
+                            }
+                            final boolean wasPaused = pauseIssued;
+                            if (DEBUG) {
+                                System.err.println("ParallelAnimator pause on " + animThread.getName() + ": " + toString());
+                            }
+                            if ( !released ) {
+                                // Release outside of monitor, since render threads may query this animator
+                                releaseIssued = true;
+                                break; // end pause loop
+                            }
+                            isAnimating = false;
+                            ParallelAnimator.this.notifyAll();
+                            try {
+                                ParallelAnimator.this.wait();
+                            } catch (final InterruptedException e) {
+                                caughtException = new UncaughtAnimatorException(null, SourcedInterruptedException.wrap(e));
+                                stopIssued = true;
+                                break; // end pause loop
+                            }
+                            if (wasPaused) {
+                                // resume from pause -> reset counter
+                                fpsCounter.resetFPSCounter();
+                                if (DEBUG) {
+                                    System.err.println("ParallelAnimator resume on " + animThread.getName() + ": " + toString());
+                                }
+                            }
+                        }
+                        if (!releaseIssued && !stopIssued && !isAnimating) {
+                            // Wakes up 'waitForStartedCondition' sync
+                            // - and -
+                            // Resume from pause or drawablesEmpty,
+                            // implies !pauseIssued and !drawablesEmpty
+                            isAnimating = true;
+                            ParallelAnimator.this.notifyAll();
+                        }
+                    } // sync ParallelAnimator.this
+                    if ( releaseIssued ) {
+                        released = true;
+                        try {
+                            releaseRenderThreads(); // propagate exclusive context -> off!
+                            retireRenderThreads(false);
+                        } catch (final UncaughtAnimatorException dre) {
+                            caughtException = dre;
+                            stopIssued = true;
+                            break; // end animation loop
+                        }
+                    } else if ( !pauseIssued && !stopIssued ) {
+                        released = false;
+                        try {
+                            displayParallel();
+                        } catch (final UncaughtAnimatorException dre) {
+                            caughtException = dre;
+                            stopIssued = true;
+                            break; // end animation loop
+                        }
+                    }
+                }
+            } catch(final ThreadDeath td) {
+                if(DEBUG) {
+                    ExceptionUtils.dumpThrowable("", td);
+                }
+                caughtThreadDeath = td;
+            }
+            try {
+                retireRenderThreads(true); // propagate exclusive context -> off!
+            } catch (final UncaughtAnimatorException dre) {
+                if( null == caughtException ) {
+                    caughtException = dre;
+                } else {
+                    ExceptionUtils.dumpThrowable("(retireRenderThreads)", dre);
+                }
+            }
+            boolean flushGLRunnables = false;
+            boolean throwCaughtException = false;
+            synchronized (ParallelAnimator.this) {
+                if(DEBUG) {
+                    System.err.println("ParallelAnimator stop on " + animThread.getName() + ": " + toString());
+                    if( null != caughtException ) {
+                        ExceptionUtils.dumpThrowable("", caughtException);
+                    }
+                }
+                stopIssued = false;
+                pauseIssued = false;
+                isAnimating = false;
+                if( null != caughtException ) {
+                    flushGLRunnables = true;
+                    throwCaughtException = !handleUncaughtException(caughtException);
+                }
+                animThread = null;
+                ParallelAnimator.this.notifyAll();
+            }
+            if( flushGLRunnables ) {
+                flushGLRunnables();
+            }
+            if( throwCaughtException ) {
+                throw caughtException;
+            }
+            if( null != caughtThreadDeath ) {
+                throw caughtThreadDeath;
+            }
+        }
+    }
+
+    @Override
+    public final synchronized boolean isAnimating() {
+        return animThread != null && isAnimating ;
+    }
+
+    @Override
+    public final synchronized boolean isPaused() {
+        return animThread != null && pauseIssued ;
+    }
+
+    /** Returns the number of render threads, i.e. the number of animated drawables. */
+    public final int getRenderThreadCount() {
+        synchronized( renderThreads ) {
+            return renderThreads.size();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws GLException if {@link #isExclusiveContextEnabled() exclusive context} is enabled, which is not supported
+     */
+    @Override
+    public final synchronized boolean start() throws GLException {
+        if ( isStarted() ) {
+            return false;
+        }
+        if( isExclusiveContextEnabled() ) {
+            throw new GLException("Exclusive context not supported by ParallelAnimator");
+        }
+        if (runnable == null) {
+            runnable = new MainLoop();
+        }
+        initImpl(false);
+        fpsCounter.resetFPSCounter();
+        final Thread thread = new InterruptSource.Thread(threadGroup, runnable, getThreadName()+"-"+baseName);
+        thread.setDaemon(false); // force to be non daemon, regardless of parent thread
+        if(DEBUG) {
+            final Thread ct = Thread.currentThread();
+            System.err.println("ParallelAnimator "+ct.getName()+"[daemon "+ct.isDaemon()+"]: starting "+thread.getName()+"[daemon "+thread.isDaemon()+"]");
+        }
+        thread.start();
+        return finishLifecycleAction(waitForStartedCondition, 0);
+    }
+    private final Condition waitForStartedCondition = new Condition() {
+        @Override
+        public boolean eval() {
+            return !isStarted() || (!drawablesEmpty && !isAnimating) ;
+        } };
+
+    @Override
+    public final synchronized boolean stop() {
+        if ( !isStarted() ) {
+            return false;
+        }
+        stopIssued = true;
+        return finishLifecycleAction(waitForStoppedCondition, 0);
+    }
+    private final Condition waitForStoppedCondition = new Condition() {
+        @Override
+        public boolean eval() {
+            return isStarted();
+        } };
+
+    @Override
+    public final synchronized boolean pause() {
+        if ( !isStarted() || pauseIssued ) {
+            return false;
+        }
+        pauseIssued = true;
+        return finishLifecycleAction(waitForPausedCondition, 0);
+    }
+    private final Condition waitForPausedCondition = new Condition() {
+        @Override
+        public boolean eval() {
+            // end waiting if stopped as well
+            return isStarted() && isAnimating;
+        } };
+
+    @Override
+    public final synchronized boolean resume() {
+        if ( !isStarted() || !pauseIssued ) {
+            return false;
+        }
+        pauseIssued = false;
+        return finishLifecycleAction(waitForResumeCondition, 0);
+    }
+    private final Condition waitForResumeCondition = new Condition() {
+        @Override
+        public boolean eval() {
+            // end waiting if stopped as well
+            return isStarted() && ( !drawablesEmpty && !isAnimating || drawablesEmpty && !pauseIssued ) ;
+        } };
+}
@@ -32,6 +32,7 @@ import com.jogamp.opengl.*;
 
 import com.jogamp.common.os.Platform;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.io.PrintStream;
@@ -58,6 +59,38 @@ public class ShaderProgram {
      */
     public int id() { return id; }
 
+    /**
+     * Sets the {@link ShaderProgramBinaryCache} used by {@link #link(GL2ES2, PrintStream)},
+     * maybe <code>null</code> to always link from source.
+     * <p>
+     * Defaults to {@link ShaderProgramBinaryCache#getDefault()}.
+     * </p>
+     */
+    public synchronized void setBinaryCache(final ShaderProgramBinaryCache cache) {
+        binaryCache = cache;
+    }
+
+    /** Returns the {@link ShaderProgramBinaryCache}, maybe <code>null</code>. */
+    public synchronized ShaderProgramBinaryCache getBinaryCache() { return binaryCache; }
+
+    /** Returns true if the program has been linked from a cached binary, see {@link #setBinaryCache(ShaderProgramBinaryCache)}. */
+    public synchronized boolean linkedFromBinaryCache() { return programFromBinaryCache; }
+
+    /**
+     * Binds the given attribute name to the given location via {@link GL2ES2#glBindAttribLocation(int, int, String)},
+     * effective with the next {@link #link(GL2ES2, PrintStream) link}. Creates the program if required, see {@link #init(GL2ES2)}.
+     * <p>
+     * Bindings issued via this method, as done by {@link ShaderState}, are part of the {@link ShaderProgramBinaryCache} key
+     * and are validated after loading a cached binary.
+     * </p>
+     */
+    public synchronized void bindAttribLocation(final GL2ES2 gl, final int location, final String name) {
+        if( init(gl) ) {
+            boundAttribLocations.put(name, Integer.valueOf(location));
+            gl.glBindAttribLocation(shaderProgram, location, name);
+        }
+    }
+
     /**
      * Detaches all shader codes and deletes the program.
      * Destroys the shader codes as well.
@@ -102,7 +135,9 @@ public class ShaderProgram {
         if( 0 != shaderProgram ) {
             gl.glDeleteProgram(shaderProgram);
             shaderProgram=0;
+            programFromBinaryCache=false;
         }
+        boundAttribLocations.clear();
     }
 
     //
@@ -212,13 +247,22 @@ public class ShaderProgram {
         }
 
         add(newShader);
-        if(attachedShaderCode.add(newShader)) {
-            ShaderUtil.attachShader(gl, shaderProgram, newShader.shader());
+        for(final Iterator<ShaderCode> iter=allShaderCode.iterator(); iter.hasNext(); ) {
+            final ShaderCode shaderCode = iter.next();
+            // shader code of a program linked from cached binary is not yet compiled
+            if(!shaderCode.compile(gl, verboseOut)) {
+                programLinked = false;
+                return false;
+            }
+            if(attachedShaderCode.add(shaderCode)) {
+                ShaderUtil.attachShader(gl, shaderProgram, shaderCode.shader());
+            }
         }
 
         gl.glLinkProgram(shaderProgram);
 
         programLinked = ShaderUtil.isProgramLinkStatusValid(gl, shaderProgram, verboseOut);
+        programFromBinaryCache = false;
         if ( programLinked && shaderWasInUse )  {
             useProgram(gl, true);
         }
@@ -232,6 +276,11 @@ public class ShaderProgram {
      *
      * <p>Within this process, all GL resources (shader and program objects) are created if necessary.</p>
      *
+     * <p>If a {@link #setBinaryCache(ShaderProgramBinaryCache) binary cache} is set,
+     * the program is loaded from a cached binary if available and accepted by the driver,
+     * skipping compilation of the shader code. Otherwise the program is linked from source
+     * and its binary is stored in the cache.</p>
+     *
      * @param gl
      * @param verboseOut
      * @return true if program was successfully linked and is valid, otherwise false
@@ -243,6 +292,18 @@ public class ShaderProgram {
             programLinked = false; // mark unlinked due to user attempt to [re]link
             return false;
         }
+        programFromBinaryCache = false;
+
+        final ShaderProgramBinaryCache cache = binaryCache;
+        final String cacheKey = null != cache ? cache.getKey(gl, allShaderCode, boundAttribLocations) : null;
+        if( null != cacheKey ) {
+            if( cache.load(gl, shaderProgram, cacheKey, boundAttribLocations) ) {
+                programFromBinaryCache = true;
+                programLinked = true;
+                return true;
+            }
+            cache.setRetrievableHint(gl, shaderProgram);
+        }
 
         for(final Iterator<ShaderCode> iter=allShaderCode.iterator(); iter.hasNext(); ) {
             final ShaderCode shaderCode = iter.next();
@@ -260,6 +321,9 @@ public class ShaderProgram {
 
         programLinked = ShaderUtil.isProgramLinkStatusValid(gl, shaderProgram, verboseOut);
 
+        if( programLinked && null != cacheKey ) {
+            cache.store(gl, shaderProgram, cacheKey);
+        }
         return programLinked;
     }
 
@@ -282,7 +346,7 @@ public class ShaderProgram {
             sb = new StringBuilder();
         }
         sb.append("ShaderProgram[id=").append(id);
-        sb.append(", linked="+programLinked+", inUse="+programInUse+", program: "+shaderProgram+",");
+        sb.append(", linked="+programLinked+", fromBinaryCache="+programFromBinaryCache+", inUse="+programInUse+", program: "+shaderProgram+",");
         for(final Iterator<ShaderCode> iter=allShaderCode.iterator(); iter.hasNext(); ) {
             sb.append(Platform.getNewline()).append("   ").append(iter.next());
         }
@@ -317,10 +381,14 @@ public class ShaderProgram {
     }
 
     private boolean programLinked = false;
+    private boolean programFromBinaryCache = false;
+    private ShaderProgramBinaryCache binaryCache = ShaderProgramBinaryCache.getDefault();
     private boolean programInUse = false;
     private int shaderProgram = 0; // non zero is valid!
     private final HashSet<ShaderCode> allShaderCode = new HashSet<ShaderCode>();
     private final HashSet<ShaderCode> attachedShaderCode = new HashSet<ShaderCode>();
+    /** Attribute locations bound via {@link #bindAttribLocation(GL2ES2, int, String)} */
+    private final HashMap<String, Integer> boundAttribLocations = new HashMap<String, Integer>();
     private final int id;
 
     private static synchronized int getNextID() {
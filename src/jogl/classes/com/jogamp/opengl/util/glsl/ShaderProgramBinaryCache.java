@@ -0,0 +1,377 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.glsl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+
+import jogamp.opengl.Debug;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.PropertyAccess;
+
+/**
+ * Disk cache of linked {@link ShaderProgram} binaries,
+ * used by {@link ShaderProgram#link(GL2ES2, java.io.PrintStream)} if set via {@link ShaderProgram#setBinaryCache(ShaderProgramBinaryCache)}.
+ * <p>
+ * Each binary is keyed by a hash of the program's shader sources, including all inserted defines,
+ * the attribute locations bound via {@link ShaderProgram#bindAttribLocation(GL2ES2, int, String)}
+ * and the driver fingerprint, i.e. <code>GL_VENDOR</code>, <code>GL_RENDERER</code> and <code>GL_VERSION</code>.
+ * If the driver rejects a cached binary, e.g. after a driver update w/o version change,
+ * the file is removed and the program is compiled and linked from source.
+ * </p>
+ * <p>
+ * Programs using precompiled {@link ShaderCode} binaries are not cached.
+ * Since {@link GL2ES2#glProgramBinary(int, int, java.nio.Buffer, int)} ignores attribute location bindings,
+ * the bound locations are validated after loading, rejecting a mismatching binary.
+ * Attribute locations bound directly via {@link GL2ES2#glBindAttribLocation(int, int, String)} are not known to the cache,
+ * use {@link ShaderProgram#bindAttribLocation(GL2ES2, int, String)} or {@link ShaderState} instead.
+ * </p>
+ * <p>
+ * The {@link #getDefault() default cache} is enabled via property <code>jogl.glsl.programBinaryCache</code>,
+ * set to the cache directory or empty for <code>$HOME/.jogamp/jogl/glsl-program-cache</code>.
+ * </p>
+ */
+public class ShaderProgramBinaryCache {
+    private static final boolean DEBUG;
+    private static final ShaderProgramBinaryCache defaultCache;
+
+    static {
+        Debug.initSingleton();
+        DEBUG = Debug.debug("ShaderProgramBinaryCache");
+        final String dir = PropertyAccess.getProperty("jogl.glsl.programBinaryCache", true);
+        if( null != dir ) {
+            final File f = dir.trim().length() > 0 ? new File(dir) :
+                           new File(System.getProperty("user.home"), ".jogamp"+File.separator+"jogl"+File.separator+"glsl-program-cache");
+            defaultCache = new ShaderProgramBinaryCache(f);
+        } else {
+            defaultCache = null;
+        }
+    }
+
+    /** File magic 'JGPB' */
+    private static final int MAGIC = 0x4A475042;
+    /** File format version, part of the key */
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".bin";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * Returns the default cache enabled via property <code>jogl.glsl.programBinaryCache</code>,
+     * otherwise <code>null</code>.
+     */
+    public static ShaderProgramBinaryCache getDefault() { return defaultCache; }
+
+    private final File directory;
+    private volatile int hits, misses, rejected, stored;
+
+    /**
+     * Creates a cache using the given directory, which is created if not existing.
+     */
+    public ShaderProgramBinaryCache(final File directory) {
+        this.directory = directory;
+    }
+
+    /** Returns the cache directory. */
+    public final File getDirectory() { return directory; }
+
+    /** Returns the number of programs loaded from the cache. */
+    public final int getHitCount() { return hits; }
+    /** Returns the number of programs not found in the cache. */
+    public final int getMissCount() { return misses; }
+    /** Returns the number of cached binaries rejected by the driver or unreadable. */
+    public final int getRejectedCount() { return rejected; }
+    /** Returns the number of programs stored in the cache. */
+    public final int getStoredCount() { return stored; }
+
+    /**
+     * Returns the cache key for the given shaders and bound attribute locations on the current context,
+     * or <code>null</code> if program binaries are not supported or a shader has no source code.
+     * @param attribLocations attribute locations by name, bound before linking, maybe <code>null</code>
+     */
+    public String getKey(final GL2ES2 gl, final Set<ShaderCode> shaders, final Map<String, Integer> attribLocations) {
+        if( shaders.isEmpty() || !ShaderUtil.isProgramBinarySupported(gl) ) {
+            return null;
+        }
+        try {
+            // ShaderCode ids differ between runs, hence digest each shader and sort
+            final ArrayList<String> shaderDigests = new ArrayList<String>(shaders.size());
+            for(final Iterator<ShaderCode> iter=shaders.iterator(); iter.hasNext(); ) {
+                final ShaderCode shaderCode = iter.next();
+                final CharSequence[][] source = shaderCode.shaderSource();
+                if( null == source ) {
+                    return null;
+                }
+                final MessageDigest md = MessageDigest.getInstance("SHA-256");
+                update(md, String.valueOf(shaderCode.shaderType()));
+                for(int i=0; i<source.length; i++) {
+                    for(int j=0; j<source[i].length; j++) {
+                        update(md, source[i][j]);
+                    }
+                    update(md, "\n#next\n");
+                }
+                shaderDigests.add(toHexString(md.digest()));
+            }
+            Collections.sort(shaderDigests);
+
+            final MessageDigest md = MessageDigest.getInstance("SHA-256");
+            update(md, String.valueOf(VERSION));
+            update(md, gl.glGetString(GL.GL_VENDOR));
+            update(md, gl.glGetString(GL.GL_RENDERER));
+            update(md, gl.glGetString(GL.GL_VERSION));
+            for(int i=0; i<shaderDigests.size(); i++) {
+                update(md, shaderDigests.get(i));
+            }
+            if( null != attribLocations && !attribLocations.isEmpty() ) {
+                final ArrayList<String> bindings = new ArrayList<String>(attribLocations.size());
+                for(final Iterator<Map.Entry<String, Integer>> iter=attribLocations.entrySet().iterator(); iter.hasNext(); ) {
+                    final Map.Entry<String, Integer> e = iter.next();
+                    bindings.add(e.getKey()+"="+e.getValue());
+                }
+                Collections.sort(bindings);
+                update(md, "\n#attribs\n");
+                for(int i=0; i<bindings.size(); i++) {
+                    update(md, bindings.get(i));
+                    update(md, "\n");
+                }
+            }
+            return toHexString(md.digest());
+        } catch (final NoSuchAlgorithmException e) {
+            if( DEBUG ) {
+                e.printStackTrace();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Sets <code>GL_PROGRAM_BINARY_RETRIEVABLE_HINT</code> on the given program, if supported.
+     * Shall be called before linking.
+     */
+    public void setRetrievableHint(final GL2ES2 gl, final int program) {
+        if( gl.isGL2ES3() ) {
+            gl.getGL2ES3().glProgramParameteri(program, GL2ES3.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL.GL_TRUE);
+            gl.glGetError(); // clear error if unsupported
+        }
+    }
+
+    /**
+     * Loads the cached binary of the given key into the given program.
+     * <p>
+     * The given bound attribute locations are read back from the loaded program
+     * and the binary is rejected if one of the active attributes is located elsewhere.
+     * </p>
+     * @param attribLocations attribute locations by name, bound before linking, maybe <code>null</code>
+     * @return true if the program is linked from the cached binary, otherwise false and the program shall be linked from source.
+     */
+    public boolean load(final GL2ES2 gl, final int program, final String key, final Map<String, Integer> attribLocations) {
+        final File file = new File(directory, key+SUFFIX);
+        if( !file.isFile() ) {
+            misses++;
+            return false;
+        }
+        final int format;
+        final ByteBuffer binary;
+        try {
+            final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            try {
+                if( MAGIC != in.readInt() || VERSION != in.readInt() ) {
+                    throw new IOException("Invalid header");
+                }
+                format = in.readInt();
+                final int length = in.readInt();
+                if( 0 >= length || length > file.length() - 16 ) {
+                    throw new IOException("Invalid length "+length+", file size "+file.length());
+                }
+                final byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                binary = Buffers.newDirectByteBuffer(bytes);
+            } finally {
+                in.close();
+            }
+        } catch (final IOException ioe) {
+            if( DEBUG ) {
+                System.err.println("ShaderProgramBinaryCache: Unreadable "+file+": "+ioe.getMessage());
+            }
+            rejected++;
+            file.delete();
+            return false;
+        }
+        gl.glGetError(); // flush previous errors ..
+        gl.glProgramBinary(program, format, binary, binary.remaining());
+        if( GL.GL_NO_ERROR != gl.glGetError() || !ShaderUtil.isProgramLinkStatusValid(gl, program, null) ) {
+            if( DEBUG ) {
+                System.err.println("ShaderProgramBinaryCache: Rejected "+file+", format 0x"+Integer.toHexString(format));
+            }
+            rejected++;
+            file.delete();
+            return false;
+        }
+        if( null != attribLocations ) {
+            for(final Iterator<Map.Entry<String, Integer>> iter=attribLocations.entrySet().iterator(); iter.hasNext(); ) {
+                final Map.Entry<String, Integer> e = iter.next();
+                final int loc = gl.glGetAttribLocation(program, e.getKey());
+                if( 0 <= loc && loc != e.getValue().intValue() ) {
+                    if( DEBUG ) {
+                        System.err.println("ShaderProgramBinaryCache: Rejected "+file+", attribute "+e.getKey()+" at "+loc+" != "+e.getValue());
+                    }
+                    rejected++;
+                    file.delete();
+                    return false;
+                }
+            }
+        }
+        if( DEBUG ) {
+            System.err.println("ShaderProgramBinaryCache: Loaded "+file);
+        }
+        hits++;
+        return true;
+    }
+
+    /**
+     * Stores the binary of the given linked program with the given key.
+     * @return true if stored, otherwise false
+     */
+    public boolean store(final GL2ES2 gl, final int program, final String key) {
+        final int[] length = new int[1];
+        gl.glGetProgramiv(program, GL2ES2.GL_PROGRAM_BINARY_LENGTH, length, 0);
+        if( GL.GL_NO_ERROR != gl.glGetError() || 0 >= length[0] ) {
+            return false;
+        }
+        final ByteBuffer binary = Buffers.newDirectByteBuffer(length[0]);
+        final IntBuffer binaryLength = Buffers.newDirectIntBuffer(1);
+        final IntBuffer binaryFormat = Buffers.newDirectIntBuffer(1);
+        gl.glGetProgramBinary(program, length[0], binaryLength, binaryFormat, binary);
+        if( GL.GL_NO_ERROR != gl.glGetError() || 0 >= binaryLength.get(0) ) {
+            return false;
+        }
+        final byte[] bytes = new byte[binaryLength.get(0)];
+        binary.get(bytes);
+
+        if( !directory.isDirectory() && !directory.mkdirs() ) {
+            if( DEBUG ) {
+                System.err.println("ShaderProgramBinaryCache: Cannot create "+directory);
+            }
+            return false;
+        }
+        final File file = new File(directory, key+SUFFIX);
+        File tmpFile = null;
+        try {
+            // unique across threads and processes sharing the cache directory
+            tmpFile = File.createTempFile(key, TMP_SUFFIX, directory);
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)));
+            try {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(binaryFormat.get(0));
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            } finally {
+                out.close();
+            }
+            // replace atomically, concurrent readers see either the old or the new file
+            if( !tmpFile.renameTo(file) ) {
+                file.delete();
+                if( !tmpFile.renameTo(file) ) {
+                    throw new IOException("Cannot rename "+tmpFile+" to "+file);
+                }
+            }
+        } catch (final IOException ioe) {
+            if( DEBUG ) {
+                System.err.println("ShaderProgramBinaryCache: Cannot write "+file+": "+ioe.getMessage());
+            }
+            if( null != tmpFile ) {
+                tmpFile.delete();
+            }
+            return false;
+        }
+        if( DEBUG ) {
+            System.err.println("ShaderProgramBinaryCache: Stored "+file+", "+bytes.length+" bytes, format 0x"+Integer.toHexString(binaryFormat.get(0)));
+        }
+        stored++;
+        return true;
+    }
+
+    /** Removes all cached binaries, including leftover temporary files. */
+    public void clear() {
+        final File[] files = directory.listFiles();
+        if( null != files ) {
+            for(int i=0; i<files.length; i++) {
+                final String name = files[i].getName();
+                if( name.endsWith(SUFFIX) || name.endsWith(TMP_SUFFIX) ) {
+                    files[i].delete();
+                }
+            }
+        }
+    }
+
+    private static void update(final MessageDigest md, final CharSequence s) {
+        try {
+            md.update(String.valueOf(s).getBytes("UTF-8"));
+        } catch (final UnsupportedEncodingException e) {
+            throw new InternalError(e.getMessage());
+        }
+    }
+
+    private static String toHexString(final byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length*2);
+        for(int i=0; i<bytes.length; i++) {
+            final int v = bytes[i] & 0xFF;
+            if( v < 0x10 ) {
+                sb.append('0');
+            }
+            sb.append(Integer.toHexString(v));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ShaderProgramBinaryCache["+directory+", hits "+hits+", misses "+misses+", rejected "+rejected+", stored "+stored+"]";
+    }
+}
@@ -349,7 +349,7 @@ public class ShaderState {
         if(null==shaderProgram) throw new GLException("No program is attached");
         if(shaderProgram.linked()) throw new GLException("Program is already linked");
         activeAttribLocationMap.put(name, Integer.valueOf(location));
-        gl.glBindAttribLocation(shaderProgram.program(), location, name);
+        shaderProgram.bindAttribLocation(gl, location, name);
     }
 
     /**
@@ -372,7 +372,8 @@ public class ShaderState {
         if(shaderProgram.linked()) throw new GLException("Program is already linked");
         final String name = data.getName();
         activeAttribLocationMap.put(name, Integer.valueOf(location));
-        data.setLocation(gl, shaderProgram.program(), location);
+        data.setLocation(location);
+        shaderProgram.bindAttribLocation(gl, location, name);
         activeAttribDataMap.put(data.getName(), data);
     }
 
@@ -181,6 +181,31 @@ public class ShaderUtil {
         return info.shaderBinaryFormats;
     }
 
+    /**
+     * Returns true if linked program binaries can be retrieved and loaded
+     * via {@link GL2ES2#glGetProgramBinary(int, int, IntBuffer, IntBuffer, Buffer) glGetProgramBinary}
+     * and {@link GL2ES2#glProgramBinary(int, int, Buffer, int) glProgramBinary},
+     * i.e. at least one format is reported via {@link GL2ES2#GL_NUM_PROGRAM_BINARY_FORMATS}.
+     */
+    public static boolean isProgramBinarySupported(final GL _gl) {
+        final GL2ES2 gl = _gl.getGL2ES2();
+        final ProfileInformation info = getProfileInformation(gl);
+        if(null == info.programBinarySupported) {
+            boolean v = false;
+            try {
+                final int[] param = new int[1];
+                gl.glGetIntegerv(GL2ES2.GL_NUM_PROGRAM_BINARY_FORMATS, param, 0);
+                final int err = gl.glGetError();
+                v = GL.GL_NO_ERROR == err && param[0] > 0;
+            } catch (final GLException gle) {
+                System.err.println("Caught exception on thread "+Thread.currentThread().getName());
+                gle.printStackTrace();
+            }
+            info.programBinarySupported = Boolean.valueOf(v);
+        }
+        return info.programBinarySupported.booleanValue();
+    }
+
     /** Returns true if a hader compiler is available, otherwise false. */
     public static boolean isShaderCompilerAvailable(final GL _gl) {
         final GL2ES2 gl = _gl.getGL2ES2();
@@ -388,6 +413,7 @@ public class ShaderUtil {
     private static class ProfileInformation {
         Boolean shaderCompilerAvailable = null;
         Set<Integer> shaderBinaryFormats = null;
+        Boolean programBinarySupported = null;
     }
 
     private static ProfileInformation getProfileInformation(final GL gl) {
@@ -0,0 +1,533 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLRunnable;
+
+import jogamp.opengl.Debug;
+
+/**
+ * Asynchronous {@link Texture} loader.
+ * <p>
+ * {@link TextureData} is decoded via {@link TextureIO#newTextureData(GLProfile, URL, boolean, String) TextureIO},
+ * i.e. the registered {@link com.jogamp.opengl.util.texture.spi.TextureProvider TextureProvider}s,
+ * on a bounded pool of worker threads.
+ * The decoded data is then uploaded on the GL thread via {@link GLAutoDrawable#invoke(boolean, GLRunnable)},
+ * i.e. the upload happens with the next {@link GLAutoDrawable#display()}.
+ * </p>
+ * <p>
+ * The loader attaches an internal {@link GLEventListener} to each drawable,
+ * which also uploads decoded textures in its {@link GLEventListener#display(GLAutoDrawable) display(..)}
+ * in case the {@link GLRunnable} queue has been flushed, e.g. after an exception.
+ * Decoded requests not yet uploaded when the drawable gets disposed fail with a {@link GLException}.
+ * The listener is detached after {@link #shutdown()} once all its uploads are done.
+ * </p>
+ * <p>
+ * Pending requests are decoded in order of their priority, higher first, and their submission.
+ * A {@link Request} may be {@link Request#cancel(boolean) cancelled} until its upload starts.
+ * </p>
+ * <p>
+ * The amount of decoded but not yet uploaded bytes is capped: a worker does not start decoding
+ * while the in-flight amount exceeds the given limit. Hence the actual maximum is the limit
+ * plus the size of the decoded images of all workers.
+ * </p>
+ */
+public class AsyncTextureLoader {
+    private static final boolean DEBUG = Debug.debug("TextureIO");
+
+    /**
+     * Notified about a completed {@link Request}.
+     */
+    public static interface Listener {
+        /**
+         * The texture has been created, called on the GL thread with the context being current.
+         * @param drawable the drawable the texture has been created for
+         * @param request the completed request
+         * @param texture the created texture
+         */
+        void textureLoaded(GLAutoDrawable drawable, Request request, Texture texture);
+
+        /**
+         * Decoding or upload failed, called on the worker or GL thread.
+         * Not called for {@link Request#cancel(boolean) cancelled} requests.
+         * @param request the failed request
+         * @param cause the cause
+         */
+        void textureFailed(Request request, Throwable cause);
+    }
+
+    private static final int PENDING = 0, DECODING = 1, DECODED = 2, UPLOADING = 3, DONE = 4, FAILED = 5, CANCELLED = 6;
+
+    private static final AtomicInteger loaderCount = new AtomicInteger(0);
+
+    private final ThreadPoolExecutor executor;
+    private final long maxInFlightBytes;
+    private final AtomicLong sequence = new AtomicLong(0);
+    private final Object inFlightLock = new Object();
+    private long inFlightBytes = 0;
+    private final IdentityHashMap<GLAutoDrawable, UploadHook> hooks = new IdentityHashMap<GLAutoDrawable, UploadHook>();
+    private volatile boolean isShutdown = false;
+
+    /**
+     * A pending texture load, obtained via {@link AsyncTextureLoader#load(GLAutoDrawable, URL, boolean, String, int, Listener) load(..)}.
+     * <p>
+     * {@link #get()} blocks until the texture has been uploaded, hence it must not be called on the GL thread.
+     * </p>
+     */
+    public final class Request implements Future<Texture>, Runnable, Comparable<Request> {
+        private final GLAutoDrawable drawable;
+        private final URL url;
+        private final File file;
+        private final boolean mipmap;
+        private final String fileSuffix;
+        private final int priority;
+        private final long seqNo;
+        private final Listener listener;
+        private int state = PENDING;
+        private TextureData data;
+        private int dataBytes;
+        private Texture texture;
+        private Throwable failure;
+
+        private Request(final GLAutoDrawable drawable, final URL url, final File file, final boolean mipmap, final String fileSuffix,
+                        final int priority, final Listener listener) {
+            this.drawable = drawable;
+            this.url = url;
+            this.file = file;
+            this.mipmap = mipmap;
+            this.fileSuffix = fileSuffix;
+            this.priority = priority;
+            this.seqNo = sequence.getAndIncrement();
+            this.listener = listener;
+        }
+
+        /** Returns the source, either a {@link URL} or a {@link File}. */
+        public Object getSource() { return null != url ? url : file; }
+
+        /** Returns the priority, higher values are decoded first. */
+        public int getPriority() { return priority; }
+
+        @Override
+        public int compareTo(final Request o) {
+            if( priority != o.priority ) {
+                return priority > o.priority ? -1 : 1;
+            }
+            return seqNo < o.seqNo ? -1 : ( seqNo > o.seqNo ? 1 : 0 );
+        }
+
+        /** Decodes the {@link TextureData} on the worker thread. */
+        @Override
+        public void run() {
+            synchronized( this ) {
+                if( PENDING != state ) {
+                    return;
+                }
+                state = DECODING;
+            }
+            try {
+                awaitInFlightBudget();
+                final TextureData td;
+                final GLProfile glp = drawable.getGLProfile();
+                if( null != url ) {
+                    td = TextureIO.newTextureData(glp, url, mipmap, fileSuffix);
+                } else {
+                    td = TextureIO.newTextureData(glp, file, mipmap, fileSuffix);
+                }
+                if( null == td ) {
+                    throw new IOException("No suitable reader for "+getSource());
+                }
+                final int bytes = td.getEstimatedMemorySize();
+                synchronized( this ) {
+                    if( CANCELLED == state ) {
+                        td.flush();
+                        return;
+                    }
+                    data = td;
+                    dataBytes = bytes;
+                    state = DECODED;
+                }
+                addInFlightBytes(bytes);
+                enqueueUpload(this);
+            } catch (final Throwable t) {
+                fail(t);
+            }
+        }
+
+        /** Uploads the {@link TextureData} on the GL thread. */
+        private void upload(final GLAutoDrawable glad) {
+            final TextureData td;
+            synchronized( this ) {
+                if( DECODED != state ) {
+                    return; // cancelled, budget released by cancel
+                }
+                td = data;
+                data = null;
+                state = UPLOADING; // not cancelable anymore, td is in use
+            }
+            final Texture tex;
+            try {
+                tex = TextureIO.newTexture(glad.getGL(), td);
+            } catch (final Throwable t) {
+                fail(t);
+                return;
+            } finally {
+                td.flush();
+                addInFlightBytes(-dataBytes);
+            }
+            synchronized( this ) {
+                texture = tex;
+                state = DONE;
+                notifyAll();
+            }
+            if( null != listener ) {
+                listener.textureLoaded(glad, this, tex);
+            }
+        }
+
+        private void fail(final Throwable t) {
+            final TextureData td;
+            synchronized( this ) {
+                if( CANCELLED == state ) {
+                    return;
+                }
+                td = data;
+                data = null;
+                failure = t;
+                state = FAILED;
+                notifyAll();
+            }
+            if( null != td ) {
+                td.flush();
+                addInFlightBytes(-dataBytes);
+            }
+            if( DEBUG ) {
+                System.err.println("AsyncTextureLoader: Failed loading "+getSource()+": "+t.getMessage());
+            }
+            if( null != listener ) {
+                listener.textureFailed(this, t);
+            }
+        }
+
+        /**
+         * Cancels this request if its upload has not yet started.
+         * A pending request is removed from the worker queue,
+         * a decoded one releases its {@link TextureData}.
+         * @param mayInterruptIfRunning ignored, decoding is not interrupted but its result is dropped
+         */
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final TextureData td;
+            synchronized( this ) {
+                if( UPLOADING == state || DONE == state || FAILED == state || CANCELLED == state ) {
+                    return false;
+                }
+                td = data;
+                data = null;
+                state = CANCELLED;
+                notifyAll();
+            }
+            executor.remove(this);
+            if( null != td ) {
+                td.flush();
+                addInFlightBytes(-dataBytes);
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized boolean isCancelled() { return CANCELLED == state; }
+
+        @Override
+        public synchronized boolean isDone() { return DONE == state || FAILED == state || CANCELLED == state; }
+
+        @Override
+        public synchronized Texture get() throws InterruptedException, ExecutionException {
+            while( !isDone() ) {
+                wait();
+            }
+            return getResult();
+        }
+
+        @Override
+        public synchronized Texture get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while( !isDone() ) {
+                final long left = deadline - System.nanoTime();
+                if( 0 >= left ) {
+                    throw new TimeoutException("Loading "+getSource());
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, left);
+            }
+            return getResult();
+        }
+
+        private Texture getResult() throws ExecutionException {
+            switch( state ) {
+                case DONE: return texture;
+                case FAILED: throw new ExecutionException(failure);
+                default: throw new CancellationException("Loading "+getSource());
+            }
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "AsyncTextureLoader.Request["+getSource()+", prio "+priority+", state "+state+"]";
+        }
+    }
+
+    /**
+     * @param threadCount number of decoding worker threads
+     * @param maxInFlightBytes maximum amount of decoded but not yet uploaded bytes
+     *                         before workers pause decoding, see above.
+     */
+    public AsyncTextureLoader(final int threadCount, final long maxInFlightBytes) {
+        if( 1 > threadCount ) {
+            throw new IllegalArgumentException("Invalid threadCount "+threadCount);
+        }
+        this.maxInFlightBytes = maxInFlightBytes;
+        final int loaderNo = loaderCount.getAndIncrement();
+        final ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger threadNo = new AtomicInteger(0);
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = new Thread(r, "AsyncTextureLoader-"+loaderNo+"-"+threadNo.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            }
+        };
+        // Request is Comparable, hence passed via execute(..) w/o being wrapped
+        executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                                          new PriorityBlockingQueue<Runnable>(), threadFactory);
+        // Otherwise the first requests are passed to newly started core threads directly, bypassing the priority queue
+        executor.prestartAllCoreThreads();
+    }
+
+    /**
+     * Loads a texture asynchronously for the given drawable.
+     * @param drawable the drawable, used to determine the {@link GLProfile} and to upload the texture via {@link GLAutoDrawable#invoke(boolean, GLRunnable)}
+     * @param url the source
+     * @param mipmap see {@link TextureIO#newTextureData(GLProfile, URL, boolean, String)}
+     * @param fileSuffix see {@link TextureIO#newTextureData(GLProfile, URL, boolean, String)}, maybe <code>null</code>
+     * @param priority higher values are decoded first
+     * @param listener optional {@link Listener}, maybe <code>null</code>
+     * @return the {@link Request}
+     */
+    public Request load(final GLAutoDrawable drawable, final URL url, final boolean mipmap, final String fileSuffix,
+                        final int priority, final Listener listener) {
+        if( null == url ) {
+            throw new IllegalArgumentException("URL is null");
+        }
+        return submit(new Request(drawable, url, null, mipmap,
+                                  null != fileSuffix ? fileSuffix : IOUtil.getFileSuffix(url.getPath()), priority, listener));
+    }
+
+    /**
+     * Loads a texture asynchronously for the given drawable,
+     * see {@link #load(GLAutoDrawable, URL, boolean, String, int, Listener)}.
+     */
+    public Request load(final GLAutoDrawable drawable, final File file, final boolean mipmap, final String fileSuffix,
+                        final int priority, final Listener listener) {
+        if( null == file ) {
+            throw new IllegalArgumentException("File is null");
+        }
+        return submit(new Request(drawable, null, file, mipmap, fileSuffix, priority, listener));
+    }
+
+    /**
+     * Uploads decoded {@link Request}s of one drawable, either via the enqueued {@link GLRunnable}
+     * or via {@link #display(GLAutoDrawable)} if the former has been flushed,
+     * and fails them at {@link #dispose(GLAutoDrawable)}.
+     * <p>
+     * The queue is guarded by {@link AsyncTextureLoader#hooks}.
+     * </p>
+     */
+    private final class UploadHook implements GLEventListener {
+        private final GLAutoDrawable drawable;
+        private final ArrayList<Request> queue = new ArrayList<Request>();
+        private final GLRunnable uploadAction = new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable glad) {
+                upload(glad);
+                detachIfDone(UploadHook.this);
+                return true;
+            } };
+
+        private UploadHook(final GLAutoDrawable drawable) {
+            this.drawable = drawable;
+        }
+
+        private Request[] takeAll() {
+            synchronized( hooks ) {
+                final Request[] rs = queue.toArray(new Request[queue.size()]);
+                queue.clear();
+                return rs;
+            }
+        }
+
+        private void upload(final GLAutoDrawable glad) {
+            final Request[] rs = takeAll();
+            for(int i=0; i<rs.length; i++) {
+                rs[i].upload(glad);
+            }
+        }
+
+        @Override
+        public void init(final GLAutoDrawable glad) { }
+
+        @Override
+        public void dispose(final GLAutoDrawable glad) {
+            final Request[] rs = takeAll();
+            for(int i=0; i<rs.length; i++) {
+                rs[i].fail(new GLException("Drawable disposed before upload: "+drawable));
+            }
+        }
+
+        @Override
+        public void display(final GLAutoDrawable glad) {
+            upload(glad);
+        }
+
+        @Override
+        public void reshape(final GLAutoDrawable glad, final int x, final int y, final int width, final int height) { }
+    }
+
+    private void enqueueUpload(final Request r) {
+        final UploadHook hook;
+        final boolean added;
+        synchronized( hooks ) {
+            final UploadHook h = hooks.get(r.drawable);
+            if( null == h ) {
+                hook = new UploadHook(r.drawable);
+                hooks.put(r.drawable, hook);
+                added = true;
+            } else {
+                hook = h;
+                added = false;
+            }
+            hook.queue.add(r);
+        }
+        if( added ) {
+            r.drawable.addGLEventListener(hook);
+        }
+        if( !r.drawable.invoke(false, hook.uploadAction) ) {
+            final boolean removed;
+            synchronized( hooks ) {
+                removed = hook.queue.remove(r);
+            }
+            if( removed ) {
+                throw new IllegalStateException("Drawable not realized: "+r.drawable);
+            }
+        }
+    }
+
+    /** Detaches the given hook from its drawable after {@link #shutdown()} if no upload is pending. */
+    private void detachIfDone(final UploadHook hook) {
+        synchronized( hooks ) {
+            if( !isShutdown || !hook.queue.isEmpty() || hooks.get(hook.drawable) != hook ) {
+                return;
+            }
+            hooks.remove(hook.drawable);
+        }
+        hook.drawable.removeGLEventListener(hook);
+    }
+
+    private Request submit(final Request r) {
+        executor.execute(r);
+        return r;
+    }
+
+    /** Returns the amount of decoded but not yet uploaded bytes. */
+    public long getInFlightBytes() {
+        synchronized( inFlightLock ) {
+            return inFlightBytes;
+        }
+    }
+
+    /** Returns the number of requests waiting to be decoded. */
+    public int getPendingCount() {
+        return executor.getQueue().size();
+    }
+
+    private void awaitInFlightBudget() throws InterruptedException {
+        synchronized( inFlightLock ) {
+            while( inFlightBytes > maxInFlightBytes ) {
+                inFlightLock.wait();
+            }
+        }
+    }
+
+    private void addInFlightBytes(final long bytes) {
+        synchronized( inFlightLock ) {
+            inFlightBytes += bytes;
+            if( 0 > bytes ) {
+                inFlightLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Cancels all pending requests and stops the worker threads.
+     * Requests being decoded complete, decoded requests are still uploaded.
+     * The internal {@link GLEventListener} is detached from each drawable once its uploads are done.
+     */
+    public void shutdown() {
+        isShutdown = true;
+        for(final Runnable r : executor.getQueue().toArray(new Runnable[0])) {
+            ((Request)r).cancel(false);
+        }
+        executor.shutdown();
+        final UploadHook[] hs;
+        synchronized( hooks ) {
+            hs = hooks.values().toArray(new UploadHook[hooks.size()]);
+        }
+        for(int i=0; i<hs.length; i++) {
+            detachIfDone(hs[i]);
+        }
+    }
+}
@@ -47,6 +47,8 @@ import com.jogamp.nativewindow.NativeWindowFactory;
 import jogamp.opengl.*;
 
 import com.jogamp.opengl.GLExtensions;
+import com.jogamp.opengl.util.GLBuffers;
+import com.jogamp.opengl.util.GLPixelUnpackBufferRing;
 import com.jogamp.opengl.util.texture.spi.*;
 
 /**
@@ -202,6 +204,9 @@ public class Texture {
     /** An estimate of the amount of texture memory this texture consumes. */
     private int estimatedMemorySize;
 
+    /** Optional ring of pixel unpack buffers used to stream uncompressed uploads. */
+    private GLPixelUnpackBufferRing pixelUnpackBufferRing;
+
     private static final boolean DEBUG = Debug.debug("Texture");
     private static final boolean VERBOSE = Debug.verbose();
 
@@ -209,6 +214,9 @@ public class Texture {
     private static final boolean disableNPOT    = Debug.isPropertyDefined("jogl.texture.nonpot", true);
     private static final boolean disableTexRect = Debug.isPropertyDefined("jogl.texture.notexrect", true);
 
+    /** Use the context's {@link GLPixelUnpackBufferRing#getShared(GL) shared} pixel unpack buffer ring for all textures w/o a custom one. */
+    private static final boolean usePBOUpload   = Debug.isPropertyDefined("jogl.texture.pbo", true);
+
     public Texture(final GL gl, final TextureData data) throws GLException {
         this.texID = 0;
         this.target = 0;
@@ -952,6 +960,38 @@ public class Texture {
         return estimatedMemorySize;
     }
 
+    /**
+     * Sets the {@link GLPixelUnpackBufferRing} used to stream uncompressed pixel data
+     * of {@link #updateImage(GL, TextureData)} and {@link #updateSubImage(GL, TextureData, int, int, int)},
+     * instead of passing client memory to <code>glTexSubImage2D</code>.
+     * <p>
+     * The ring may be shared between textures of the same context.
+     * If <code>null</code>, the default, client memory is used unless property <code>jogl.texture.pbo</code>
+     * is set, which uses the context's {@link GLPixelUnpackBufferRing#getShared(GL) shared} ring.
+     * </p>
+     * <p>
+     * The ring falls back to client memory if pixel buffer objects are not
+     * {@link GLPixelUnpackBufferRing#isSupported(GL) supported}.
+     * </p>
+     */
+    public void setPixelUnpackBufferRing(final GLPixelUnpackBufferRing ring) {
+        pixelUnpackBufferRing = ring;
+    }
+
+    /** Returns the {@link GLPixelUnpackBufferRing} set via {@link #setPixelUnpackBufferRing(GLPixelUnpackBufferRing)}, maybe <code>null</code>. */
+    public GLPixelUnpackBufferRing getPixelUnpackBufferRing() {
+        return pixelUnpackBufferRing;
+    }
+
+    private GLPixelUnpackBufferRing getPixelUnpackBufferRing(final GL gl) {
+        if( null != pixelUnpackBufferRing ) {
+            return pixelUnpackBufferRing;
+        } else if( usePBOUpload ) {
+            return GLPixelUnpackBufferRing.getShared(gl);
+        }
+        return null;
+    }
+
     /** Indicates whether this Texture is using automatic mipmap
         generation (via the OpenGL texture parameter
         GL_GENERATE_MIPMAP). This will automatically be used when
@@ -1095,10 +1135,29 @@ public class Texture {
                 }
             }
 
-            gl.glTexSubImage2D(newTarget, mipmapLevel,
-                               dstx, dsty, width, height,
-                               data.getPixelFormat(), data.getPixelType(),
-                               buffer);
+            final GLPixelUnpackBufferRing ring = getPixelUnpackBufferRing(gl);
+            final long pboOffset = null != ring ? stageSubImage(gl, ring, data, buffer, rowlen, dataWidth, srcx, srcy, width, height) : -1;
+            if( 0 <= pboOffset ) {
+                if(gl.isGL2GL3()) {
+                    // staged rows are tightly packed
+                    gl.glPixelStorei(GL2ES2.GL_UNPACK_ROW_LENGTH, 0);
+                    gl.glPixelStorei(GL2ES2.GL_UNPACK_SKIP_ROWS, 0);
+                    gl.glPixelStorei(GL2ES2.GL_UNPACK_SKIP_PIXELS, 0);
+                }
+                try {
+                    gl.glTexSubImage2D(newTarget, mipmapLevel,
+                                       dstx, dsty, width, height,
+                                       data.getPixelFormat(), data.getPixelType(),
+                                       pboOffset);
+                } finally {
+                    ring.release(gl);
+                }
+            } else {
+                gl.glTexSubImage2D(newTarget, mipmapLevel,
+                                   dstx, dsty, width, height,
+                                   data.getPixelFormat(), data.getPixelType(),
+                                   buffer);
+            }
             gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT,   align[0]);      // restore alignment
             if(gl.isGL2GL3()) {
                 gl.glPixelStorei(GL2ES2.GL_UNPACK_ROW_LENGTH,  rowLength[0]);  // restore row length
@@ -1108,6 +1167,39 @@ public class Texture {
         }
     }
 
+    /**
+     * Stages only the rows and pixels of the given sub-rectangle in the given ring, tightly packed w/ the data's alignment.
+     * On GL2GL3 the rectangle is addressed via the source row length and skip parameters,
+     * otherwise the buffer holds the rectangle's rows w/ its width as the row length.
+     * @return the byte offset of the staged pixels, or <code>-1</code> if client memory shall be used
+     */
+    private static long stageSubImage(final GL gl, final GLPixelUnpackBufferRing ring, final TextureData data, final Buffer buffer,
+                                      final int rowlen, final int dataWidth, final int srcx, final int srcy, final int width, final int height) {
+        if( null == buffer || 0 >= width || 0 >= height || GL2.GL_BITMAP == data.getPixelType() ) {
+            return -1;
+        }
+        final int bpp;
+        try {
+            bpp = GLBuffers.bytesPerPixel(data.getPixelFormat(), data.getPixelType());
+        } catch (final GLException gle) {
+            return -1; // unknown format or type
+        }
+        final int alignment = data.getAlignment();
+        final int rowPixels, skipBytes;
+        if( gl.isGL2GL3() ) {
+            rowPixels = 0 < rowlen ? rowlen : dataWidth;
+            skipBytes = srcy * align(rowPixels * bpp, alignment) + srcx * bpp;
+        } else {
+            rowPixels = width;
+            skipBytes = 0;
+        }
+        return ring.stage(gl, buffer, skipBytes, width * bpp, align(rowPixels * bpp, alignment), height, alignment);
+    }
+
+    private static int align(final int bytes, final int alignment) {
+        return 1 < alignment ? ( ( bytes + alignment - 1 ) / alignment ) * alignment : bytes;
+    }
+
     private void checkCompressedTextureExtensions(final GL gl, final TextureData data) {
         if (data.isDataCompressed()) {
             switch (data.getInternalFormat()) {
@@ -38,6 +38,13 @@
 package com.jogamp.opengl.util.texture;
 
 import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 
 import com.jogamp.opengl.GLProfile;
 
@@ -344,6 +351,67 @@ public class TextureData {
     /** Used only by subclasses */
     protected TextureData(final GLProfile glp) { this.glProfile = glp; this.pixelAttributes = GLPixelAttributes.UNDEF; }
 
+    /**
+     * Shallow copy sharing the pixel data of the given instance, w/o its {@link Flusher}.
+     * <p>
+     * Each pixel buffer is {@link Buffer#duplicate() duplicated}, i.e. position and limit
+     * are independent of the source and other copies.
+     * </p>
+     * Used by {@link TextureDataCache}.
+     * @param src the source
+     * @param flusher optional flusher of this copy
+     */
+    /* pp */ TextureData(final TextureData src, final Flusher flusher) {
+        this.glProfile = src.glProfile;
+        this.width = src.width;
+        this.height = src.height;
+        this.border = src.border;
+        this.pixelAttributes = src.pixelAttributes;
+        this.internalFormat = src.internalFormat;
+        this.mipmap = src.mipmap;
+        this.dataIsCompressed = src.dataIsCompressed;
+        this.mustFlipVertically = src.mustFlipVertically;
+        this.buffer = duplicate(src.buffer);
+        if( null != src.mipmapData ) {
+            this.mipmapData = new Buffer[src.mipmapData.length];
+            for(int i=0; i<mipmapData.length; i++) {
+                this.mipmapData[i] = duplicate(src.mipmapData[i]);
+            }
+        } else {
+            this.mipmapData = null;
+        }
+        this.flusher = flusher;
+        this.rowLength = src.rowLength;
+        this.alignment = src.alignment;
+        this.estimatedMemorySize = src.estimatedMemorySize;
+        this.haveEXTABGR = src.haveEXTABGR;
+        this.haveGL12 = src.haveGL12;
+        this.pixelCS = src.pixelCS;
+        this.srcImageType = src.srcImageType;
+    }
+
+    private static Buffer duplicate(final Buffer b) {
+        if( null == b ) {
+            return null;
+        } else if( b instanceof ByteBuffer ) {
+            final ByteBuffer bb = (ByteBuffer) b;
+            return bb.duplicate().order(bb.order());
+        } else if( b instanceof ShortBuffer ) {
+            return ((ShortBuffer) b).duplicate();
+        } else if( b instanceof IntBuffer ) {
+            return ((IntBuffer) b).duplicate();
+        } else if( b instanceof FloatBuffer ) {
+            return ((FloatBuffer) b).duplicate();
+        } else if( b instanceof LongBuffer ) {
+            return ((LongBuffer) b).duplicate();
+        } else if( b instanceof DoubleBuffer ) {
+            return ((DoubleBuffer) b).duplicate();
+        } else if( b instanceof CharBuffer ) {
+            return ((CharBuffer) b).duplicate();
+        }
+        throw new IllegalArgumentException("Unsupported buffer type "+b.getClass().getName());
+    }
+
     /**
      * Returns the source {@link ImageType} if applicable and known, otherwise {@code null}.
      * @since 2.3.2
@@ -0,0 +1,306 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.jogamp.opengl.GLProfile;
+
+import jogamp.opengl.Debug;
+
+/**
+ * Memory budgeted cache of decoded {@link TextureData}, evicting the least recently used entries.
+ * <p>
+ * If {@link TextureIO#setTextureDataCache(TextureDataCache) set}, {@link TextureIO}'s
+ * <code>newTextureData(..)</code> and <code>newTexture(..)</code> methods reading a {@link File} or {@link URL}
+ * look up the cache before decoding.
+ * Entries are keyed by the source, i.e. the canonical file path incl. its modification time and length
+ * or the URL's external form, the {@link GLProfile}, internal format, pixel format, mipmap flag and file suffix.
+ * Streams are not cached, since they have no identity.
+ * </p>
+ * <p>
+ * The cache owns the decoded {@link TextureData} and hands out shallow copies sharing its pixel data
+ * via {@link java.nio.Buffer#duplicate() duplicated} buffers, hence their position and limit are independent.
+ * The pixel data must not be modified.
+ * Entries are reference counted: an evicted or invalidated entry is {@link TextureData#flush() flushed}
+ * once all its handed out copies have been flushed, hence callers shall flush them when done.
+ * Flushing a returned instance does not affect the cache.
+ * Only plain {@link TextureData} instances are cached, i.e. not subclasses like the
+ * lazily converting <code>AWTTextureData</code>.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public class TextureDataCache {
+    private static final boolean DEBUG = Debug.debug("TextureIO");
+
+    private static final class Key {
+        final Object source;
+        final GLProfile glp;
+        final int internalFormat;
+        final int pixelFormat;
+        final boolean mipmap;
+        final String fileSuffix;
+        final int hash;
+
+        Key(final Object source, final GLProfile glp, final int internalFormat, final int pixelFormat,
+            final boolean mipmap, final String fileSuffix) {
+            this.source = source;
+            this.glp = glp;
+            this.internalFormat = internalFormat;
+            this.pixelFormat = pixelFormat;
+            this.mipmap = mipmap;
+            this.fileSuffix = fileSuffix;
+            int h = source.hashCode();
+            h = 31 * h + glp.hashCode();
+            h = 31 * h + internalFormat;
+            h = 31 * h + pixelFormat;
+            h = 31 * h + ( mipmap ? 1 : 0 );
+            h = 31 * h + ( null != fileSuffix ? fileSuffix.hashCode() : 0 );
+            hash = h;
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals(final Object o) {
+            if( this == o ) { return true; }
+            if( !( o instanceof Key ) ) { return false; }
+            final Key k = (Key) o;
+            return hash == k.hash && source.equals(k.source) && glp.equals(k.glp) &&
+                   internalFormat == k.internalFormat && pixelFormat == k.pixelFormat && mipmap == k.mipmap &&
+                   ( null != fileSuffix ? fileSuffix.equals(k.fileSuffix) : null == k.fileSuffix );
+        }
+    }
+
+    /** File identity, changing if the file is modified. */
+    private static final class FileSource {
+        final String path;
+        final long lastModified;
+        final long length;
+
+        FileSource(final File file) {
+            String p;
+            try {
+                p = file.getCanonicalPath();
+            } catch (final IOException e) {
+                p = file.getAbsolutePath();
+            }
+            path = p;
+            lastModified = file.lastModified();
+            length = file.length();
+        }
+
+        @Override
+        public int hashCode() { return path.hashCode(); }
+
+        @Override
+        public boolean equals(final Object o) {
+            if( !( o instanceof FileSource ) ) { return false; }
+            final FileSource f = (FileSource) o;
+            return path.equals(f.path) && lastModified == f.lastModified && length == f.length;
+        }
+    }
+
+    /** Cached data and the number of handed out copies not yet flushed. */
+    private final class Entry {
+        final TextureData data;
+        int refCount = 0;
+        boolean removed = false;
+
+        Entry(final TextureData data) { this.data = data; }
+
+        /** Returns a copy, flushing the data on its last flush after removal. */
+        TextureData newCopy() {
+            refCount++;
+            return new TextureData(data, new TextureData.Flusher() {
+                @Override
+                public void flush() {
+                    release(Entry.this);
+                } });
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> map = new LinkedHashMap<Key, Entry>(16, 0.75f, true /* accessOrder */);
+    private long bytes = 0;
+    private long hitCount = 0, missCount = 0, evictionCount = 0;
+
+    /**
+     * @param maxBytes the byte budget, see {@link TextureData#getEstimatedMemorySize()}
+     */
+    public TextureDataCache(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /** Returns the byte budget. */
+    public final long getMaxBytes() { return maxBytes; }
+
+    /** Returns the cached bytes. */
+    public synchronized long getBytes() { return bytes; }
+
+    /** Returns the number of cached entries. */
+    public synchronized int getEntryCount() { return map.size(); }
+
+    /** Returns the number of cache hits. */
+    public synchronized long getHitCount() { return hitCount; }
+
+    /** Returns the number of cache misses. */
+    public synchronized long getMissCount() { return missCount; }
+
+    /** Returns the number of evicted entries, excluding {@link #invalidate(File) invalidated} ones. */
+    public synchronized long getEvictionCount() { return evictionCount; }
+
+    /** Clears the hit, miss and eviction statistics. */
+    public synchronized void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    /* pp */ static Object getSource(final File file) {
+        return new FileSource(file);
+    }
+
+    /* pp */ static Object getSource(final URL url) {
+        return url.toExternalForm();
+    }
+
+    /**
+     * Returns a copy of the cached {@link TextureData} or <code>null</code> if not cached.
+     * @param source the source identity, see {@link #getSource(File)} and {@link #getSource(URL)}
+     */
+    /* pp */ synchronized TextureData get(final Object source, final GLProfile glp, final int internalFormat, final int pixelFormat,
+                                          final boolean mipmap, final String fileSuffix) {
+        final Entry e = map.get(new Key(source, glp, internalFormat, pixelFormat, mipmap, fileSuffix));
+        if( null != e ) {
+            hitCount++;
+            return e.newCopy();
+        }
+        missCount++;
+        return null;
+    }
+
+    /**
+     * Caches the decoded {@link TextureData} if applicable, evicting least recently used entries to stay within the budget.
+     * @return the {@link TextureData} to be handed out, i.e. a copy if cached, otherwise the given instance
+     */
+    /* pp */ synchronized TextureData put(final Object source, final GLProfile glp, final int internalFormat, final int pixelFormat,
+                                          final boolean mipmap, final String fileSuffix, final TextureData data) {
+        final long size = data.getEstimatedMemorySize();
+        if( TextureData.class != data.getClass() || size > maxBytes ) {
+            return data;
+        }
+        final Entry entry = new Entry(data);
+        final Entry old = map.put(new Key(source, glp, internalFormat, pixelFormat, mipmap, fileSuffix), entry);
+        bytes += size;
+        if( null != old ) {
+            removed(old);
+        }
+        final Iterator<Map.Entry<Key, Entry>> it = map.entrySet().iterator();
+        while( bytes > maxBytes && it.hasNext() ) {
+            final Entry lru = it.next().getValue();
+            if( lru == entry ) {
+                break;
+            }
+            it.remove();
+            removed(lru);
+            evictionCount++;
+        }
+        return entry.newCopy();
+    }
+
+    /** Removes the entry from the budget, its data is flushed once no copy is in use anymore. */
+    private void removed(final Entry e) {
+        bytes -= e.data.getEstimatedMemorySize();
+        e.removed = true;
+        if( 0 == e.refCount ) {
+            e.data.flush();
+        }
+    }
+
+    private synchronized void release(final Entry e) {
+        if( 0 == --e.refCount && e.removed ) {
+            e.data.flush();
+        }
+    }
+
+    /** Removes all entries of the given file. */
+    public void invalidate(final File file) {
+        String path;
+        try {
+            path = file.getCanonicalPath();
+        } catch (final IOException e) {
+            path = file.getAbsolutePath();
+        }
+        invalidateImpl(path);
+    }
+
+    /** Removes all entries of the given URL. */
+    public void invalidate(final URL url) {
+        invalidateImpl(getSource(url));
+    }
+
+    private synchronized void invalidateImpl(final Object sourceOrPath) {
+        int n = 0;
+        for(final Iterator<Map.Entry<Key, Entry>> it = map.entrySet().iterator(); it.hasNext(); ) {
+            final Map.Entry<Key, Entry> e = it.next();
+            final Object source = e.getKey().source;
+            if( source.equals(sourceOrPath) || ( source instanceof FileSource && ((FileSource)source).path.equals(sourceOrPath) ) ) {
+                it.remove();
+                removed(e.getValue());
+                n++;
+            }
+        }
+        if( DEBUG ) {
+            System.err.println("TextureDataCache: Invalidated "+n+" entries of "+sourceOrPath);
+        }
+    }
+
+    /** Removes all entries. */
+    public synchronized void clear() {
+        for(final Entry e : map.values()) {
+            removed(e);
+        }
+        map.clear();
+        bytes = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TextureDataCache[entries "+map.size()+", "+bytes+"/"+maxBytes+" bytes, hits "+hitCount+
+               ", misses "+missCount+", evictions "+evictionCount+"]";
+    }
+}
@@ -691,6 +691,21 @@ public class TextureIO {
         throw new IOException("No suitable texture writer found for "+file.getAbsolutePath());
     }
 
+    /**
+     * Writes the given TextureData to the passed file, see {@link #write(TextureData, File)}.
+     * <p>
+     * PNG files are written using the given {@link PNGPixelRect.WriteCompression},
+     * allowing parallel compression e.g. for frame captures.
+     * </p>
+     * @param pngCompression PNG compression setting, maybe <code>null</code> for the default single threaded compression
+     */
+    public static void write(final TextureData data, final File file, final PNGPixelRect.WriteCompression pngCompression) throws IOException, GLException {
+        if( null != pngCompression && new PNGTextureWriter(pngCompression).write(file, data) ) {
+            return;
+        }
+        write(data, file);
+    }
+
     //----------------------------------------------------------------------
     // SPI support
     //
@@ -761,10 +776,25 @@ public class TextureIO {
         return texRectEnabled;
     }
 
+    /**
+     * Sets the {@link TextureDataCache} used by all methods reading a {@link File} or {@link URL},
+     * or <code>null</code> to disable caching, the default.
+     */
+    public static void setTextureDataCache(final TextureDataCache cache) {
+        textureDataCache = cache;
+    }
+
+    /** Returns the {@link TextureDataCache}, maybe <code>null</code>, see {@link #setTextureDataCache(TextureDataCache)}. */
+    public static TextureDataCache getTextureDataCache() {
+        return textureDataCache;
+    }
+
     //----------------------------------------------------------------------
     // Internals only below this point
     //
 
+    private static volatile TextureDataCache textureDataCache = null;
+
     private static List<TextureProvider> textureProviders = new ArrayList<TextureProvider>();
     private static Map<ImageType,TextureProvider> imageType2TextureProvider = new HashMap<ImageType,TextureProvider>();
     private static List<TextureWriter>   textureWriters   = new ArrayList<TextureWriter>();
@@ -883,8 +913,44 @@ public class TextureIO {
         if (file == null) {
             throw new IOException("File was null");
         }
+        final TextureDataCache cache = textureDataCache;
+        if( null != cache ) {
+            final Object source = TextureDataCache.getSource(file);
+            final TextureData cached = cache.get(source, glp, internalFormat, pixelFormat, mipmap, fileSuffix);
+            if( null != cached ) {
+                return cached;
+            }
+            return cache.put(source, glp, internalFormat, pixelFormat, mipmap, fileSuffix,
+                             readTextureDataImpl(glp, file, internalFormat, pixelFormat, mipmap, fileSuffix));
+        }
+        return readTextureDataImpl(glp, file, internalFormat, pixelFormat, mipmap, fileSuffix);
+    }
+    private static TextureData readTextureDataImpl(final GLProfile glp, final File file,
+                                                   final int internalFormat,
+                                                   final int pixelFormat,
+                                                   final boolean mipmap,
+                                                   final String fileSuffix) throws IOException {
         final InputStream stream = new BufferedInputStream(new FileInputStream(file));
         try {
+            // DDS files are memory mapped and handed out w/o heap copies
+            ImageType imageType = null;
+            try {
+                imageType = new ImageType(stream);
+            } catch (final IOException ioe) {
+                // e.g. file shorter than the magic, fall back to the file suffix below
+                if(DEBUG) {
+                    System.err.println("Caught "+ioe.getMessage());
+                }
+            }
+            if( null != imageType && imageType.isDefined() ) {
+                final TextureProvider mappedProvider = imageType2TextureProvider.get(imageType);
+                if( mappedProvider instanceof DDSTextureProvider ) {
+                    stream.close();
+                    final TextureData data = ((DDSTextureProvider)mappedProvider).newTextureData(glp, file, internalFormat, pixelFormat, mipmap);
+                    data.srcImageType = imageType;
+                    return data;
+                }
+            }
             return newTextureDataImpl( glp, stream, internalFormat, pixelFormat, mipmap,
                                        (fileSuffix != null) ? fileSuffix : IOUtil.getFileSuffix(file) );
         } catch(final IOException ioe) {
@@ -901,6 +967,23 @@ public class TextureIO {
         if (url == null) {
             throw new IOException("URL was null");
         }
+        final TextureDataCache cache = textureDataCache;
+        if( null != cache ) {
+            final Object source = TextureDataCache.getSource(url);
+            final TextureData cached = cache.get(source, glp, internalFormat, pixelFormat, mipmap, fileSuffix);
+            if( null != cached ) {
+                return cached;
+            }
+            return cache.put(source, glp, internalFormat, pixelFormat, mipmap, fileSuffix,
+                             readTextureDataImpl(glp, url, internalFormat, pixelFormat, mipmap, fileSuffix));
+        }
+        return readTextureDataImpl(glp, url, internalFormat, pixelFormat, mipmap, fileSuffix);
+    }
+    private static TextureData readTextureDataImpl(final GLProfile glp, final URL url,
+                                                   final int internalFormat,
+                                                   final int pixelFormat,
+                                                   final boolean mipmap,
+                                                   final String fileSuffix) throws IOException {
         final InputStream stream = new BufferedInputStream(url.openStream());
         try {
             return newTextureDataImpl(glp, stream, internalFormat, pixelFormat, mipmap, fileSuffix);
@@ -937,6 +1020,17 @@ public class TextureIO {
             return null;
         }
 
+        /**
+         * Reads the memory mapped file via {@link DDSImage#read(File)},
+         * the {@link TextureData}'s mipmap buffers are slices of the mapped region.
+         */
+        TextureData newTextureData(final GLProfile glp, final File file,
+                                   final int internalFormat,
+                                   final int pixelFormat,
+                                   final boolean mipmap) throws IOException {
+            return newTextureData(glp, DDSImage.read(file), internalFormat, pixelFormat, mipmap);
+        }
+
         private TextureData newTextureData(final GLProfile glp, final DDSImage image,
                                            int internalFormat,
                                            int pixelFormat,
@@ -1351,6 +1445,11 @@ public class TextureIO {
     // PNG texture writer
 
     static class PNGTextureWriter implements TextureWriter {
+        private final PNGPixelRect.WriteCompression compression;
+
+        PNGTextureWriter() { this(null); }
+        PNGTextureWriter(final PNGPixelRect.WriteCompression compression) { this.compression = compression; }
+
         @Override
         public boolean write(final File file, final TextureData data) throws IOException {
             if (ImageType.T_PNG.equals(IOUtil.getFileSuffix(file))) {
@@ -1377,7 +1476,7 @@ public class TextureIO {
                                                                     0 /* stride */, !data.getMustFlipVertically() /* isGLOriented */, buf /* pixels */,
                                                                     -1f, -1f);
                         final OutputStream outs = new BufferedOutputStream(IOUtil.getFileOutputStream(file, true /* allowOverwrite */));
-                        image.write(outs, true /* close */);
+                        image.write(outs, true /* close */, compression);
                         return true;
                     } else if( buf0 instanceof IntBuffer ) {
                         final IntBuffer buf = (IntBuffer) buf0;
@@ -1385,7 +1484,7 @@ public class TextureIO {
                         final OutputStream outs = new BufferedOutputStream(IOUtil.getFileOutputStream(file, true /* allowOverwrite */));
                         PNGPixelRect.write(pixFmt, size,
                                            0 /* stride */, !data.getMustFlipVertically() /* isGLOriented */, buf /* pixels */,
-                                           -1f, -1f, outs, true /* closeOutstream */);
+                                           -1f, -1f, outs, true /* closeOutstream */, compression);
                         return true;
                     } else {
                         throw new IOException("PNG writer doesn't support pixel storage buffer of type "+buf0.getClass().getName());
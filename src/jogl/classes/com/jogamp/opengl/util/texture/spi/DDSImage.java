@@ -169,6 +169,11 @@ public class DDSImage {
 
     /** Reads a DirectDraw surface from the specified file, returning
         the resulting DDSImage.
+        <p>
+        The file is memory mapped, the mipmap and cubemap side data returned by
+        {@link #getMipMap(int, int)} are slices of the mapped region, i.e. no heap copies are made.
+        The file is kept open until {@link #close()}.
+        </p>
 
         @param file File object
         @return DDS image object
@@ -402,11 +407,11 @@ public class DDSImage {
         for (int i = 0; i < map; i++) {
             seek += mipMapSizeInBytes(i);
         }
-        buf.limit(seek + mipMapSizeInBytes(map));
-        buf.position(seek);
-        final ByteBuffer next = buf.slice();
-        buf.position(0);
-        buf.limit(buf.capacity());
+        // slice of the (mapped) buffer, i.e. w/o copy
+        final ByteBuffer view = buf.duplicate();
+        view.limit(seek + mipMapSizeInBytes(map));
+        view.position(seek);
+        final ByteBuffer next = view.slice();
         return new ImageInfo(next, mipMapWidth(map), mipMapHeight(map), isCompressed(), getCompressionFormat());
     }
 
@@ -696,7 +701,7 @@ public class DDSImage {
         fis = new FileInputStream(file);
         chan = fis.getChannel();
         final ByteBuffer buf = chan.map(FileChannel.MapMode.READ_ONLY,
-                                  0, (int) file.length());
+                                  0, chan.size());
         readFromBuffer(buf);
     }
 
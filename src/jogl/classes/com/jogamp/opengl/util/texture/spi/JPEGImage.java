@@ -52,15 +52,33 @@ public class JPEGImage {
      * @throws IOException
      */
     public static JPEGImage read(final InputStream in, final ColorSpace cs) throws IOException {
-        return new JPEGImage(in, cs);
+        return new JPEGImage(in, cs, new JPEGDecoder());
     }
 
     /** Reads a JPEG image from the specified InputStream, using the {@link ColorSpace#RGB}. */
     public static JPEGImage read(final InputStream in) throws IOException {
-        return new JPEGImage(in, ColorSpace.RGB);
+        return new JPEGImage(in, ColorSpace.RGB, new JPEGDecoder());
     }
 
-    private static class JPEGColorSink implements JPEGDecoder.ColorSink  {
+    /**
+     * Reads a JPEG image from the specified InputStream, using the given color space for storage
+     * and the given {@link JPEGDecoder}.
+     * <p>
+     * Reusing one decoder instance for many images avoids allocation of its scratch memory,
+     * see {@link JPEGDecoder#releaseScratch()}.
+     * </p>
+     *
+     * @param in
+     * @param cs Storage color space, either {@link ColorSpace#RGB} or {@link ColorSpace#YCbCr}. {@link ColorSpace#YCCK} and {@link ColorSpace#CMYK} will throw an exception!
+     * @param decoder the decoder to be used
+     * @return
+     * @throws IOException
+     */
+    public static JPEGImage read(final InputStream in, final ColorSpace cs, final JPEGDecoder decoder) throws IOException {
+        return new JPEGImage(in, cs, decoder);
+    }
+
+    private static class JPEGColorSink implements JPEGDecoder.ColorSink, JPEGDecoder.ColorLineSink  {
         int width=0, height=0;
         int sourceComponents=0;
         ColorSpace sourceCS = ColorSpace.YCbCr;
@@ -90,6 +108,19 @@ public class JPEGImage {
             return storageCS;
         }
 
+        @Override
+        public final ByteBuffer getBuffer() {
+            return data;
+        }
+
+        @Override
+        public final int getLineOffset(final int y) {
+            return ( height - y - 1 ) * width * storageComponents;
+        }
+
+        @Override
+        public final void storeLines(final int y, final int count) { }
+
         @Override
         public final void storeRGB(final int x, final int y, final byte r, final byte g, final byte b) {
             int i = ( ( height - y - 1 ) * width + x ) * storageComponents;
@@ -118,13 +149,12 @@ public class JPEGImage {
         }
     };
 
-    private JPEGImage(final InputStream in, final ColorSpace cs) throws IOException {
+    private JPEGImage(final InputStream in, final ColorSpace cs, final JPEGDecoder decoder) throws IOException {
         pixelStorage = new JPEGColorSink(cs);
-        final JPEGDecoder decoder = new JPEGDecoder();
         decoder.parse(in);
         pixelWidth = decoder.getWidth();
         pixelHeight = decoder.getHeight();
-        decoder.getPixel(pixelStorage, pixelWidth, pixelHeight);
+        decoder.getPixels(pixelStorage, pixelWidth, pixelHeight);
         data = pixelStorage.data;
         final boolean hasAlpha = false;
 
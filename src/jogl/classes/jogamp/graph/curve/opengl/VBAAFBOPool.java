@@ -0,0 +1,330 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.curve.opengl;
+
+import java.util.ArrayList;
+
+import com.jogamp.common.util.PropertyAccess;
+import com.jogamp.opengl.FBObject;
+import com.jogamp.opengl.FBObject.Attachment;
+import com.jogamp.opengl.FBObject.TextureAttachment;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLContext;
+
+import jogamp.opengl.Debug;
+
+/**
+ * Per {@link GLContext} pool of {@link FBObject}s used by {@link VBORegion2PVBAAES2}'s pass-1,
+ * shared across all VBAA regions of the context.
+ * <p>
+ * A region {@link #acquire(GL2ES2, Object, int, int, boolean) borrows} an {@link Entry} for pass-1,
+ * renders pass-2 from its texture and {@link #release(Entry) returns} it afterwards.
+ * Entries are keyed by their {@link #getSizeClass(int, int) size class} and depth-buffer requirement,
+ * hence regions of similar size share the same framebuffers and no FBO resize is ever performed.
+ * </p>
+ * <p>
+ * A released entry keeps its content and its last owner until it is handed to another region,
+ * allowing its last owner to {@link #reacquire(Object, int, int, boolean) reacquire} it w/o re-rendering pass-1.
+ * </p>
+ * <p>
+ * Idle entries are destroyed in least recently used order while the estimated GPU memory held
+ * exceeds the {@link #getCapacity() capacity}. Entries in use are never destroyed,
+ * i.e. the capacity may be exceeded temporarily.
+ * </p>
+ * <p>
+ * The pool is disabled by default, see {@link #isEnabled()}.
+ * Instances are bound to one GL context and are not thread safe.
+ * </p>
+ */
+public final class VBAAFBOPool {
+    private static final boolean DEBUG;
+
+    /** Size class granularity in pixels, {@value}. */
+    public static final int SIZE_CLASS_STEP = 64;
+
+    /**
+     * Default enabled state, property <code>jogl.graph.curve.vbaa.pool</code>, defaults to <code>false</code>.
+     */
+    public static final boolean DEFAULT_ENABLED;
+
+    /**
+     * Default capacity in bytes, property <code>jogl.graph.curve.vbaa.pool.capacity</code> in MiB, defaults to 64 MiB.
+     */
+    public static final long DEFAULT_CAPACITY;
+
+    static {
+        Debug.initSingleton();
+        DEBUG = Debug.debug("graph.curve.vbaa.pool");
+        DEFAULT_ENABLED = PropertyAccess.getBooleanProperty("jogl.graph.curve.vbaa.pool", true, false);
+        DEFAULT_CAPACITY = Math.max(0, PropertyAccess.getIntProperty("jogl.graph.curve.vbaa.pool.capacity", true, 64)) * 1024L * 1024L;
+    }
+
+    /** Name of the {@link #getShared(GL) shared} instance {@link GLContext#attachObject(String, Object) attached} to the context. */
+    private static final String SHARED_KEY = VBAAFBOPool.class.getName();
+
+    /** A pooled {@link FBObject} w/ its color {@link TextureAttachment}. */
+    public static final class Entry {
+        public final FBObject fbo;
+        public final TextureAttachment texA;
+        public final int width;
+        public final int height;
+        public final boolean depth;
+        /** Estimated GPU memory in bytes. */
+        public final long byteCount;
+        private Object owner;
+        private boolean inUse;
+
+        private Entry(final FBObject fbo, final TextureAttachment texA, final int width, final int height, final boolean depth) {
+            this.fbo = fbo;
+            this.texA = texA;
+            this.width = width;
+            this.height = height;
+            this.depth = depth;
+            this.byteCount = (long)width * (long)height * ( depth ? 8 : 4 );
+        }
+        private boolean matches(final int width, final int height, final boolean depth) {
+            return this.width == width && this.height == height && this.depth == depth;
+        }
+        /** Returns true if this entry is borrowed. */
+        public boolean isInUse() { return inUse; }
+
+        @Override
+        public String toString() {
+            return "Entry["+width+"x"+height+", depth "+depth+", "+byteCount+" bytes, inUse "+inUse+"]";
+        }
+    }
+
+    /** All entries, idle entries in least recently released order. */
+    private final ArrayList<Entry> entries = new ArrayList<Entry>();
+    private boolean enabled = DEFAULT_ENABLED;
+    private long capacity = DEFAULT_CAPACITY;
+    private long bytesHeld = 0;
+    private long hitCount, reuseCount, allocCount, evictCount;
+
+    /**
+     * Returns the shared instance {@link GLContext#attachObject(String, Object) attached}
+     * to the current context, creating it if not existing.
+     */
+    public static VBAAFBOPool getShared(final GL gl) {
+        final GLContext ctx = gl.getContext();
+        VBAAFBOPool pool = (VBAAFBOPool) ctx.getAttachedObject(SHARED_KEY);
+        if( null == pool ) {
+            pool = new VBAAFBOPool();
+            ctx.attachObject(SHARED_KEY, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the size class for the given size in pixels,
+     * i.e. the size rounded up to a multiple of {@link #SIZE_CLASS_STEP} but not exceeding <code>maxSize</code>.
+     */
+    public static int getSizeClass(final int size, final int maxSize) {
+        final int sz = ( ( size + SIZE_CLASS_STEP - 1 ) / SIZE_CLASS_STEP ) * SIZE_CLASS_STEP;
+        return 0 < maxSize && sz > maxSize ? Math.max(size, maxSize) : sz;
+    }
+
+    public VBAAFBOPool() { }
+
+    /** Returns true if regions shall borrow their pass-1 framebuffer from this pool, see {@link #DEFAULT_ENABLED}. */
+    public boolean isEnabled() { return enabled; }
+
+    /** Enables or disables pooling. Disabling does not destroy idle entries, see {@link #destroy(GL)}. */
+    public void setEnabled(final boolean v) { enabled = v; }
+
+    /** Returns the GPU memory capacity in bytes for idle entries, see {@link #DEFAULT_CAPACITY}. */
+    public long getCapacity() { return capacity; }
+
+    /** Sets the GPU memory capacity in bytes, which is enforced on the next {@link #acquire(GL2ES2, Object, int, int, boolean) acquire} or {@link #trim(GL)}. */
+    public void setCapacity(final long bytes) { capacity = Math.max(0, bytes); }
+
+    /**
+     * Borrows an entry of the given size class and depth-buffer requirement.
+     * <p>
+     * An idle entry last owned by <code>owner</code> is preferred, then the least recently released idle entry.
+     * If none is available, a new entry is created and idle entries are evicted while exceeding the {@link #getCapacity() capacity}.
+     * </p>
+     * <p>
+     * The content of the returned entry is undefined.
+     * </p>
+     * @param gl current GL
+     * @param owner the borrowing region
+     * @param width size class width, see {@link #getSizeClass(int, int)}
+     * @param height size class height, see {@link #getSizeClass(int, int)}
+     * @param depth true if a depth renderbuffer is required
+     */
+    public Entry acquire(final GL2ES2 gl, final Object owner, final int width, final int height, final boolean depth) {
+        Entry e = find(owner, width, height, depth);
+        if( null == e ) {
+            e = find(null, width, height, depth);
+        }
+        if( null != e ) {
+            entries.remove(e);
+            hitCount++;
+        } else {
+            final FBObject fbo = new FBObject();
+            fbo.init(gl, width, height, 0);
+            // Shall not use bilinear (GL_LINEAR), due to own VBAA, see VBORegion2PVBAAES2
+            final TextureAttachment texA = fbo.attachTexture2D(gl, 0, true, GL.GL_NEAREST, GL.GL_NEAREST, GL.GL_CLAMP_TO_EDGE, GL.GL_CLAMP_TO_EDGE);
+            if( depth ) {
+                fbo.attachRenderbuffer(gl, Attachment.Type.DEPTH, FBObject.DEFAULT_BITS);
+            }
+            e = new Entry(fbo, texA, width, height, depth);
+            bytesHeld += e.byteCount;
+            allocCount++;
+            trim(gl);
+        }
+        e.owner = owner;
+        e.inUse = true;
+        entries.add(e);
+        if( DEBUG ) {
+            System.err.println("VBAAFBOPool.acquire: "+e+", "+this);
+        }
+        return e;
+    }
+
+    /**
+     * Borrows the idle entry last owned by <code>owner</code> w/ matching size class and depth-buffer requirement,
+     * whose content is still valid, i.e. it has not been handed to another region since its {@link #release(Entry) release}.
+     * @return the entry or null if not available
+     */
+    public Entry reacquire(final Object owner, final int width, final int height, final boolean depth) {
+        final Entry e = find(owner, width, height, depth);
+        if( null != e ) {
+            entries.remove(e);
+            entries.add(e);
+            e.inUse = true;
+            reuseCount++;
+        }
+        return e;
+    }
+
+    /** Returns a borrowed entry to the pool, keeping its content and owner. */
+    public void release(final Entry e) {
+        if( !e.inUse ) {
+            throw new IllegalStateException("Entry not in use: "+e);
+        }
+        e.inUse = false;
+        entries.remove(e);
+        entries.add(e);
+    }
+
+    /** Drops all references to <code>owner</code>, e.g. if the region got destroyed. */
+    public void forget(final Object owner) {
+        for(int i=entries.size()-1; i>=0; --i) {
+            final Entry e = entries.get(i);
+            if( owner == e.owner ) {
+                e.owner = null;
+            }
+        }
+    }
+
+    /** Destroys idle entries in least recently released order while exceeding the {@link #getCapacity() capacity}. */
+    public void trim(final GL gl) {
+        for(int i=0; i<entries.size() && bytesHeld > capacity; ) {
+            final Entry e = entries.get(i);
+            if( e.inUse ) {
+                ++i;
+            } else {
+                entries.remove(i);
+                destroyEntry(gl, e);
+                evictCount++;
+            }
+        }
+    }
+
+    /**
+     * Destroys all idle entries and detaches this instance from the context if {@link #getShared(GL) shared}
+     * and no entry is in use.
+     */
+    public void destroy(final GL gl) {
+        for(int i=entries.size()-1; i>=0; --i) {
+            final Entry e = entries.get(i);
+            if( !e.inUse ) {
+                entries.remove(i);
+                destroyEntry(gl, e);
+            }
+        }
+        final GLContext ctx = gl.getContext();
+        if( entries.isEmpty() && this == ctx.getAttachedObject(SHARED_KEY) ) {
+            ctx.detachObject(SHARED_KEY);
+        }
+    }
+
+    /** Returns the number of {@link #acquire(GL2ES2, Object, int, int, boolean) acquisitions} served by an idle entry. */
+    public long getHitCount() { return hitCount; }
+
+    /** Returns the number of successful {@link #reacquire(Object, int, int, boolean) reacquisitions}, i.e. pass-1 renderings saved. */
+    public long getReuseCount() { return reuseCount; }
+
+    /** Returns the number of created entries. */
+    public long getAllocationCount() { return allocCount; }
+
+    /** Returns the number of entries destroyed due to the {@link #getCapacity() capacity}. */
+    public long getEvictionCount() { return evictCount; }
+
+    /** Returns the number of entries held, idle or in use. */
+    public int getEntryCount() { return entries.size(); }
+
+    /** Returns the estimated GPU memory held by all entries in bytes. */
+    public long getBytesHeld() { return bytesHeld; }
+
+    /** Resets the statistics counter. */
+    public void resetStats() {
+        hitCount = 0;
+        reuseCount = 0;
+        allocCount = 0;
+        evictCount = 0;
+    }
+
+    private Entry find(final Object owner, final int width, final int height, final boolean depth) {
+        for(int i=0; i<entries.size(); ++i) {
+            final Entry e = entries.get(i);
+            if( !e.inUse && e.matches(width, height, depth) && ( null == owner || owner == e.owner ) ) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private void destroyEntry(final GL gl, final Entry e) {
+        e.fbo.destroy(gl);
+        e.owner = null;
+        bytesHeld -= e.byteCount;
+        if( DEBUG ) {
+            System.err.println("VBAAFBOPool.destroy: "+e+", "+this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VBAAFBOPool[enabled "+enabled+", entries "+entries.size()+", bytes "+bytesHeld+"/"+capacity+
+               ", hits "+hitCount+", reuse "+reuseCount+", allocs "+allocCount+", evicted "+evictCount+"]";
+    }
+}
@@ -0,0 +1,376 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.curve.opengl;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+
+import jogamp.graph.curve.opengl.shader.AttributeNames;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.OutlineShapeMesh;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.curve.opengl.RenderState;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.geom.plane.AffineTransform;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.util.GLArrayDataServer;
+import com.jogamp.opengl.util.glsl.ShaderProgram;
+
+/**
+ * Single pass instanced rendering of strings via cached {@link OutlineShapeMesh}es.
+ * <p>
+ * Each distinct glyph {@link OutlineShape#getMesh() mesh} is appended only once
+ * to vertex, curve parameter and index buffers shared by all strings.
+ * A string is drawn w/ one {@link GL2ES3#glDrawElementsInstanced(int, int, int, long, int) instanced draw call}
+ * per distinct glyph, passing the glyph offsets and the optional color as per instance attributes.
+ * </p>
+ * <p>
+ * Requires {@link #isSupported(GL2ES2, int)}.
+ * </p>
+ */
+public final class VBOGlyphInstancesES3 {
+    private static final boolean DEBUG_INSTANCE = Region.DEBUG_INSTANCE;
+    private static final boolean throwOnError = false; // FIXME
+
+    /** Index range of one appended mesh and its instances of the current string */
+    private static final class MeshRange {
+        final int indexStart;
+        final int indexCount;
+        int instanceStart;
+        int instanceCount;
+        int instanceFill;
+
+        MeshRange(final int indexStart, final int indexCount) {
+            this.indexStart = indexStart;
+            this.indexCount = indexCount;
+        }
+    }
+
+    private final int renderModes;
+    private final RenderState.ProgramLocal rsLocal;
+    private final IdentityHashMap<OutlineShapeMesh, MeshRange> meshRanges = new IdentityHashMap<OutlineShapeMesh, MeshRange>();
+    private final ArrayList<MeshRange> visitRanges = new ArrayList<MeshRange>();
+    private final ArrayList<MeshRange> drawRanges = new ArrayList<MeshRange>();
+    private float[] visitOffsets = new float[2*64];
+    private final float[] tmpCoord = new float[3];
+    private final float[] tmpTexCoord = new float[3];
+
+    private int vertexCount = 0;
+    private GLArrayDataServer gca_VerticesAttr;
+    private GLArrayDataServer gca_CurveParamsAttr;
+    private GLArrayDataServer indicesBuffer;
+    private GLArrayDataServer gca_InstanceOffsetAttr;
+    private GLArrayDataServer gca_ColorsAttr;
+    private ShaderProgram spPass1 = null;
+
+    /**
+     * Returns true if the given single pass renderModes w/o color texture
+     * can be drawn via instancing w/ the given GL profile, i.e. {@link GL2ES3}
+     * w/ {@link GL2ES3#glDrawElementsInstanced(int, int, int, long, int)}
+     * and {@link GL2ES3#glVertexAttribDivisor(int, int)} available.
+     */
+    public static boolean isSupported(final GL2ES2 gl, final int renderModes) {
+        return !Region.isTwoPass(renderModes) && !Region.hasColorTexture(renderModes) &&
+               gl.isGL2ES3() &&
+               gl.isFunctionAvailable("glDrawElementsInstanced") &&
+               gl.isFunctionAvailable("glVertexAttribDivisor");
+    }
+
+    /**
+     * @param renderModes single pass render modes w/o color texture, see {@link #isSupported(GL2ES2, int)}
+     * @param initialVerticesCount initial capacity of the shared mesh vertices
+     * @param initialIndicesCount initial capacity of the shared mesh indices
+     * @throws IllegalArgumentException if renderModes are two pass or use a color texture
+     */
+    public VBOGlyphInstancesES3(final int renderModes, final int initialVerticesCount, final int initialIndicesCount) {
+        if( Region.isTwoPass(renderModes) || Region.hasColorTexture(renderModes) ) {
+            throw new IllegalArgumentException("Instancing requires single pass w/o color texture, renderModes "+Region.getRenderModeString(renderModes));
+        }
+        this.renderModes = renderModes;
+        rsLocal = new RenderState.ProgramLocal();
+
+        indicesBuffer = GLArrayDataServer.createData(3, GL.GL_UNSIGNED_INT, initialIndicesCount, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
+        gca_VerticesAttr = GLArrayDataServer.createGLSL(AttributeNames.VERTEX_ATTR_NAME, 3, GL.GL_FLOAT,
+                false, initialVerticesCount, GL.GL_STATIC_DRAW);
+        gca_CurveParamsAttr = GLArrayDataServer.createGLSL(AttributeNames.CURVEPARAMS_ATTR_NAME, 3, GL.GL_FLOAT,
+                false, initialVerticesCount, GL.GL_STATIC_DRAW);
+        gca_InstanceOffsetAttr = GLArrayDataServer.createGLSL(AttributeNames.INSTANCE_OFFSET_ATTR_NAME, 3, GL.GL_FLOAT,
+                false, 64, GL2ES2.GL_DYNAMIC_DRAW);
+        if( Region.hasColorChannel(renderModes) ) {
+            gca_ColorsAttr = GLArrayDataServer.createGLSL(AttributeNames.COLOR_ATTR_NAME, 4, GL.GL_FLOAT,
+                    false, 64, GL2ES2.GL_DYNAMIC_DRAW);
+        } else {
+            gca_ColorsAttr = null;
+        }
+    }
+
+    public final int getRenderModes() { return renderModes; }
+
+    /** Returns the number of distinct meshes uploaded so far. */
+    public final int getMeshCount() { return meshRanges.size(); }
+
+    /** Returns the number of instanced draw calls issued by the last {@link #drawString(GL2ES2, RegionRenderer, Font, CharSequence, float[], AffineTransform, AffineTransform) drawString(..)}. */
+    public final int getLastDrawCallCount() { return drawRanges.size(); }
+
+    /**
+     * Returns the {@link MeshRange} of the given mesh, appending the mesh to the unsealed shared buffers if not yet known.
+     */
+    private MeshRange getMeshRange(final GL2ES2 gl, final OutlineShapeMesh mesh) {
+        MeshRange range = meshRanges.get(mesh);
+        if( null != range ) {
+            return range;
+        }
+        final int meshVertexCount = mesh.getVertexCount();
+        final int meshIndexCount = mesh.getIndexCount();
+        if( gca_VerticesAttr.sealed() ) {
+            gca_VerticesAttr.seal(gl, false);
+            gca_CurveParamsAttr.seal(gl, false);
+            indicesBuffer.seal(gl, false);
+        }
+        gca_VerticesAttr.growIfNeeded(meshVertexCount * gca_VerticesAttr.getCompsPerElem());
+        gca_CurveParamsAttr.growIfNeeded(meshVertexCount * gca_CurveParamsAttr.getCompsPerElem());
+        indicesBuffer.growIfNeeded(meshIndexCount);
+        final FloatBuffer vertices = (FloatBuffer)gca_VerticesAttr.getBuffer();
+        final FloatBuffer curveParams = (FloatBuffer)gca_CurveParamsAttr.getBuffer();
+        final IntBuffer indices = (IntBuffer)indicesBuffer.getBuffer();
+        for(int i=0; i<meshVertexCount; i++) {
+            vertices.put(mesh.getCoord(i, tmpCoord), 0, 3);
+            curveParams.put(mesh.getTexCoord(i, tmpTexCoord), 0, 3);
+        }
+        range = new MeshRange(indices.position(), meshIndexCount);
+        for(int i=0; i<meshIndexCount; i++) {
+            indices.put(vertexCount + mesh.getIndex(i));
+        }
+        vertexCount += meshVertexCount;
+        meshRanges.put(mesh, range);
+        if(DEBUG_INSTANCE) {
+            System.err.println("VBOGlyphInstancesES3 add "+mesh+" -> indices ["+range.indexStart+" + "+range.indexCount+"]");
+        }
+        return range;
+    }
+
+    private void useShaderProgram(final GL2ES2 gl, final RegionRenderer renderer) {
+        final RenderState rs = renderer.getRenderState();
+        renderer.useShaderProgram(gl, renderModes, true, 0, 0, null, true);
+        final ShaderProgram sp = rs.getShaderProgram();
+        final boolean updateLocLocal = !sp.equals(spPass1);
+        spPass1 = sp;
+        if( updateLocLocal ) {
+            rs.updateAttributeLoc(gl, true, gca_VerticesAttr, throwOnError);
+            rs.updateAttributeLoc(gl, true, gca_CurveParamsAttr, throwOnError);
+            rs.updateAttributeLoc(gl, true, gca_InstanceOffsetAttr, throwOnError);
+            if( null != gca_ColorsAttr ) {
+                rs.updateAttributeLoc(gl, true, gca_ColorsAttr, throwOnError);
+            }
+        }
+        rsLocal.update(gl, rs, updateLocLocal, renderModes, true, throwOnError);
+    }
+
+    /**
+     * Render the string in 3D space w.r.t. the font in font em-size [0..1] by instancing its glyph meshes.
+     * <p>
+     * Origin of rendered text is 0/0 at bottom left.
+     * </p>
+     * @param gl the current GL state
+     * @param renderer the initialized {@link RegionRenderer}
+     * @param font {@link Font} to be used
+     * @param str text to be rendered
+     * @param rgbaColor if {@link Region#hasColorChannel(int)} RGBA color must be passed, otherwise value is ignored.
+     * @param temp1 temporary AffineTransform storage, mandatory
+     * @param temp2 temporary AffineTransform storage, mandatory
+     * @return the bounding box of the given string by taking each glyph's font em-sized [0..1] OutlineShape into account.
+     */
+    public AABBox drawString(final GL2ES2 gl, final RegionRenderer renderer, final Font font, final CharSequence str,
+                             final float[] rgbaColor, final AffineTransform temp1, final AffineTransform temp2) {
+        if( null != gca_ColorsAttr && null == rgbaColor ) {
+            throw new IllegalArgumentException("Null color given for COLOR_CHANNEL rendering mode");
+        }
+        visitRanges.clear();
+        for(int i=0; i<drawRanges.size(); i++) {
+            drawRanges.get(i).instanceCount = 0;
+        }
+        drawRanges.clear();
+        final OutlineShape.Visitor visitor = new OutlineShape.Visitor() {
+            @Override
+            public final void visit(final OutlineShape shape, final AffineTransform t) {
+                final OutlineShapeMesh mesh = shape.getMesh();
+                if( 0 < mesh.getIndexCount() ) {
+                    // no user transform given, i.e. t is the glyph's translation only
+                    final int i = visitRanges.size();
+                    if( visitOffsets.length < 2*(i+1) ) {
+                        final float[] tmp = new float[2*visitOffsets.length];
+                        System.arraycopy(visitOffsets, 0, tmp, 0, visitOffsets.length);
+                        visitOffsets = tmp;
+                    }
+                    visitOffsets[2*i  ] = t.getTranslateX();
+                    visitOffsets[2*i+1] = t.getTranslateY();
+                    visitRanges.add(getMeshRange(gl, mesh));
+                }
+            } };
+        final AABBox res = font.processString(visitor, null, str, temp1, temp2);
+        final int instanceCount = visitRanges.size();
+        if( 0 == instanceCount ) {
+            return res;
+        }
+
+        // group instances per mesh, one draw call each
+        for(int i=0; i<instanceCount; i++) {
+            final MeshRange range = visitRanges.get(i);
+            if( 0 == range.instanceCount ) {
+                drawRanges.add(range);
+            }
+            range.instanceCount++;
+        }
+        for(int i=0, start=0; i<drawRanges.size(); i++) {
+            final MeshRange range = drawRanges.get(i);
+            range.instanceStart = start;
+            range.instanceFill = 0;
+            start += range.instanceCount;
+        }
+        gca_InstanceOffsetAttr.clear(gl);
+        gca_InstanceOffsetAttr.growIfNeeded(instanceCount * gca_InstanceOffsetAttr.getCompsPerElem());
+        final FloatBuffer offsets = (FloatBuffer)gca_InstanceOffsetAttr.getBuffer();
+        for(int i=0; i<instanceCount; i++) {
+            final MeshRange range = visitRanges.get(i);
+            final int idx = 3 * ( range.instanceStart + range.instanceFill++ );
+            offsets.put(idx  , visitOffsets[2*i  ]);
+            offsets.put(idx+1, visitOffsets[2*i+1]);
+            offsets.put(idx+2, 0f);
+        }
+        offsets.position(3 * instanceCount);
+        gca_InstanceOffsetAttr.seal(gl, true);
+        gca_InstanceOffsetAttr.enableBuffer(gl, false);
+        if( null != gca_ColorsAttr ) {
+            gca_ColorsAttr.clear(gl);
+            gca_ColorsAttr.growIfNeeded(instanceCount * gca_ColorsAttr.getCompsPerElem());
+            final FloatBuffer colors = (FloatBuffer)gca_ColorsAttr.getBuffer();
+            for(int i=0; i<instanceCount; i++) {
+                colors.put(rgbaColor, 0, 4);
+            }
+            gca_ColorsAttr.seal(gl, true);
+            gca_ColorsAttr.enableBuffer(gl, false);
+        }
+        if( !gca_VerticesAttr.sealed() ) {
+            gca_VerticesAttr.seal(gl, true);
+            gca_VerticesAttr.enableBuffer(gl, false);
+            gca_CurveParamsAttr.seal(gl, true);
+            gca_CurveParamsAttr.enableBuffer(gl, false);
+            indicesBuffer.seal(gl, true);
+            indicesBuffer.enableBuffer(gl, false);
+        }
+
+        drawImpl(gl, renderer);
+        return res;
+    }
+
+    private void drawImpl(final GL2ES2 gl, final RegionRenderer renderer) {
+        final GL2ES3 gl3 = gl.getGL2ES3();
+        useShaderProgram(gl, renderer);
+
+        gca_VerticesAttr.enableBuffer(gl, true);
+        gca_CurveParamsAttr.enableBuffer(gl, true);
+        gca_InstanceOffsetAttr.enableBuffer(gl, true);
+        gl3.glVertexAttribDivisor(gca_InstanceOffsetAttr.getLocation(), 1);
+        if( null != gca_ColorsAttr ) {
+            gca_ColorsAttr.enableBuffer(gl, true);
+            gl3.glVertexAttribDivisor(gca_ColorsAttr.getLocation(), 1);
+        }
+        indicesBuffer.bindBuffer(gl, true); // keeps VBO binding
+
+        if( renderer.getRenderState().isHintMaskSet(RenderState.BITHINT_BLENDING_ENABLED) ) {
+            gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+        }
+        for(int i=0; i<drawRanges.size(); i++) {
+            final MeshRange range = drawRanges.get(i);
+            pointToInstance(gl, gca_InstanceOffsetAttr, range.instanceStart);
+            if( null != gca_ColorsAttr ) {
+                pointToInstance(gl, gca_ColorsAttr, range.instanceStart);
+            }
+            gl3.glDrawElementsInstanced(GL.GL_TRIANGLES, range.indexCount, GL.GL_UNSIGNED_INT,
+                                        (long)range.indexStart * Buffers.SIZEOF_INT, range.instanceCount);
+        }
+
+        indicesBuffer.bindBuffer(gl, false);
+        if( null != gca_ColorsAttr ) {
+            gl3.glVertexAttribDivisor(gca_ColorsAttr.getLocation(), 0);
+            gca_ColorsAttr.enableBuffer(gl, false);
+        }
+        gl3.glVertexAttribDivisor(gca_InstanceOffsetAttr.getLocation(), 0);
+        gca_InstanceOffsetAttr.enableBuffer(gl, false);
+        gca_CurveParamsAttr.enableBuffer(gl, false);
+        gca_VerticesAttr.enableBuffer(gl, false);
+    }
+
+    /** Lets the given enabled per instance attribute start at the given instance. */
+    private static void pointToInstance(final GL2ES2 gl, final GLArrayDataServer attr, final int firstInstance) {
+        attr.bindBuffer(gl, true);
+        gl.glVertexAttribPointer(attr.getLocation(), attr.getCompsPerElem(), attr.getCompType(), attr.getNormalized(),
+                                 attr.getStride(), (long)firstInstance * attr.getStride());
+        attr.bindBuffer(gl, false);
+    }
+
+    public void destroy(final GL2ES2 gl) {
+        if(DEBUG_INSTANCE) {
+            System.err.println("VBOGlyphInstancesES3 Destroy: meshes "+meshRanges.size()+", vertices "+vertexCount);
+        }
+        if(null != gca_VerticesAttr) {
+            gca_VerticesAttr.destroy(gl);
+            gca_VerticesAttr = null;
+        }
+        if(null != gca_CurveParamsAttr) {
+            gca_CurveParamsAttr.destroy(gl);
+            gca_CurveParamsAttr = null;
+        }
+        if(null != indicesBuffer) {
+            indicesBuffer.destroy(gl);
+            indicesBuffer = null;
+        }
+        if(null != gca_InstanceOffsetAttr) {
+            gca_InstanceOffsetAttr.destroy(gl);
+            gca_InstanceOffsetAttr = null;
+        }
+        if(null != gca_ColorsAttr) {
+            gca_ColorsAttr.destroy(gl);
+            gca_ColorsAttr = null;
+        }
+        meshRanges.clear();
+        visitRanges.clear();
+        drawRanges.clear();
+        vertexCount = 0;
+        spPass1 = null;
+    }
+}
@@ -272,18 +272,30 @@ public final class VBORegion2PMSAAES2  extends GLRegion {
     }
 
     @Override
-    protected void updateImpl(final GL2ES2 gl) {
-        // seal buffers
-        indicesBuffer.seal(gl, true);
-        indicesBuffer.enableBuffer(gl, false);
-        gca_CurveParamsAttr.seal(gl, true);
-        gca_CurveParamsAttr.enableBuffer(gl, false);
-        gca_VerticesAttr.seal(gl, true);
-        gca_VerticesAttr.enableBuffer(gl, false);
+    protected final void putVertex(final int vertexIdx, final float[] coords, final float[] texParams, final float[] rgba) {
+        putVertex(gca_VerticesAttr, gca_CurveParamsAttr, gca_ColorsAttr, vertexIdx, coords, texParams, rgba);
+    }
+
+    @Override
+    protected final void putIndices(final int indexPos, final int idx1, final int idx2, final int idx3) {
+        putIndices(indicesBuffer, indexPos, idx1, idx2, idx3);
+    }
+
+    @Override
+    protected void updateRangeImpl(final GL2ES2 gl, final ShapeRange range) {
+        updateSubData(gl, gca_VerticesAttr, range.vertexStart * 3, range.vertexCapacity * 3);
+        updateSubData(gl, gca_CurveParamsAttr, range.vertexStart * 3, range.vertexCapacity * 3);
         if( null != gca_ColorsAttr ) {
-            gca_ColorsAttr.seal(gl, true);
-            gca_ColorsAttr.enableBuffer(gl, false);
+            updateSubData(gl, gca_ColorsAttr, range.vertexStart * 4, range.vertexCapacity * 4);
         }
+        updateSubData(gl, indicesBuffer, range.indexStart, range.indexCapacity);
+        // the range may have grown the bounding box
+        updateBoxDependents(gl);
+        fboDirty = true;
+    }
+
+    /** Updates the state derived from the bounding {@link #box}, i.e. the color texture bounds and the FBO quad's z. */
+    private void updateBoxDependents(final GL2ES2 gl) {
         if( null != gcu_ColorTexUnit && colorTexSeq.isTextureAvailable() ) {
             final TextureSequence.TextureFrame frame = colorTexSeq.getLastTexture();
             final Texture tex = frame.getTexture();
@@ -309,6 +321,22 @@ public final class VBORegion2PMSAAES2  extends GLRegion {
             fb.put( 8, box.getMinZ());
             fb.put(11, box.getMinZ());
         }
+    }
+
+    @Override
+    protected void updateImpl(final GL2ES2 gl) {
+        // seal buffers
+        indicesBuffer.seal(gl, true);
+        indicesBuffer.enableBuffer(gl, false);
+        gca_CurveParamsAttr.seal(gl, true);
+        gca_CurveParamsAttr.enableBuffer(gl, false);
+        gca_VerticesAttr.seal(gl, true);
+        gca_VerticesAttr.enableBuffer(gl, false);
+        if( null != gca_ColorsAttr ) {
+            gca_ColorsAttr.seal(gl, true);
+            gca_ColorsAttr.enableBuffer(gl, false);
+        }
+        updateBoxDependents(gl);
         // Pending gca_FboVerticesAttr-seal and fboPMVMatrix-setup, follow fboDirty
 
         // push data 2 GPU ..
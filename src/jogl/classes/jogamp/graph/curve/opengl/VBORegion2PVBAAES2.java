@@ -79,6 +79,10 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
      *   - FBO texture rendered > than desired size
      *   - FBO resize itself should be fast enough ?!
      * </p>
+     * <p>
+     * Not used if the shared {@link VBAAFBOPool} is {@link VBAAFBOPool#isEnabled() enabled},
+     * which borrows FBOs of fixed size classes instead.
+     * </p>
      */
     private static final int RESIZE_BOUNDARY;
 
@@ -121,8 +125,15 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
 
     private int fboWidth = 0;
     private int fboHeight = 0;
+    private int fboTargetWidth = 0;
+    private int fboTargetHeight = 0;
     private boolean fboDirty = true;
 
+    /** Last used {@link VBAAFBOPool}, if any. */
+    private VBAAFBOPool fboPool = null;
+    /** Borrowed {@link VBAAFBOPool.Entry} backing {@link #fbo} while drawing, if pooled. */
+    private VBAAFBOPool.Entry fboPoolEntry = null;
+
     final int[] maxTexSize = new int[] { -1 } ;
 
     /**
@@ -387,18 +398,30 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
     }
 
     @Override
-    protected void updateImpl(final GL2ES2 gl) {
-        // seal buffers
-        indicesBuffer.seal(gl, true);
-        indicesBuffer.enableBuffer(gl, false);
-        gca_CurveParamsAttr.seal(gl, true);
-        gca_CurveParamsAttr.enableBuffer(gl, false);
-        gca_VerticesAttr.seal(gl, true);
-        gca_VerticesAttr.enableBuffer(gl, false);
+    protected final void putVertex(final int vertexIdx, final float[] coords, final float[] texParams, final float[] rgba) {
+        putVertex(gca_VerticesAttr, gca_CurveParamsAttr, gca_ColorsAttr, vertexIdx, coords, texParams, rgba);
+    }
+
+    @Override
+    protected final void putIndices(final int indexPos, final int idx1, final int idx2, final int idx3) {
+        putIndices(indicesBuffer, indexPos, idx1, idx2, idx3);
+    }
+
+    @Override
+    protected void updateRangeImpl(final GL2ES2 gl, final ShapeRange range) {
+        updateSubData(gl, gca_VerticesAttr, range.vertexStart * 3, range.vertexCapacity * 3);
+        updateSubData(gl, gca_CurveParamsAttr, range.vertexStart * 3, range.vertexCapacity * 3);
         if( null != gca_ColorsAttr ) {
-            gca_ColorsAttr.seal(gl, true);
-            gca_ColorsAttr.enableBuffer(gl, false);
+            updateSubData(gl, gca_ColorsAttr, range.vertexStart * 4, range.vertexCapacity * 4);
         }
+        updateSubData(gl, indicesBuffer, range.indexStart, range.indexCapacity);
+        // the range may have grown the bounding box
+        updateBoxDependents(gl);
+        fboDirty = true;
+    }
+
+    /** Updates the state derived from the bounding {@link #box}, i.e. the color texture bounds and the FBO quad's z. */
+    private void updateBoxDependents(final GL2ES2 gl) {
         if( null != gcu_ColorTexUnit && colorTexSeq.isTextureAvailable() ) {
             final TextureSequence.TextureFrame frame = colorTexSeq.getLastTexture();
             final Texture tex = frame.getTexture();
@@ -424,6 +447,22 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
             fb.put( 8, box.getMinZ());
             fb.put(11, box.getMinZ());
         }
+    }
+
+    @Override
+    protected void updateImpl(final GL2ES2 gl) {
+        // seal buffers
+        indicesBuffer.seal(gl, true);
+        indicesBuffer.enableBuffer(gl, false);
+        gca_CurveParamsAttr.seal(gl, true);
+        gca_CurveParamsAttr.enableBuffer(gl, false);
+        gca_VerticesAttr.seal(gl, true);
+        gca_VerticesAttr.enableBuffer(gl, false);
+        if( null != gca_ColorsAttr ) {
+            gca_ColorsAttr.seal(gl, true);
+            gca_ColorsAttr.enableBuffer(gl, false);
+        }
+        updateBoxDependents(gl);
         // Pending gca_FboVerticesAttr-seal and fboPMVMatrix-setup, follow fboDirty
 
         // push data 2 GPU ..
@@ -465,6 +504,20 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
                 gl.glGetIntegerv(GL.GL_MAX_TEXTURE_SIZE, maxTexSize, 0);
             }
             final RenderState rs = renderer.getRenderState();
+            final boolean depth = !rs.isHintMaskSet(RenderState.BITHINT_BLENDING_ENABLED);
+            final VBAAFBOPool pool = VBAAFBOPool.getShared(gl);
+            final boolean pooled = pool.isEnabled();
+            if( pooled ) {
+                releasePooledFBO(); // stale, if any
+                if( null != fbo ) {
+                    // switched to pooled mode, drop own FBO
+                    fbo.destroy(gl);
+                    fbo = null;
+                    texA = null;
+                    fboDirty = true;
+                }
+                fboPool = pool;
+            }
             final float winWidth, winHeight;
 
             final float ratioObjWinWidth, ratioObjWinHeight;
@@ -532,9 +585,18 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
                 // Nothing ..
                 return;
             }
-            final int deltaFboWidth = Math.abs(targetFboWidth-fboWidth);
-            final int deltaFboHeight = Math.abs(targetFboHeight-fboHeight);
+            final int deltaFboWidth = Math.abs(targetFboWidth-( pooled ? fboTargetWidth : fboWidth ));
+            final int deltaFboHeight = Math.abs(targetFboHeight-( pooled ? fboTargetHeight : fboHeight ));
             final boolean hasDelta = 0!=deltaFboWidth || 0!=deltaFboHeight;
+            if( pooled && !hasDelta && !fboDirty ) {
+                // Reuse pass-1 content if our last borrowed FBO has not been handed to another region
+                final VBAAFBOPool.Entry e = pool.reacquire(this, fboWidth, fboHeight, depth);
+                if( null != e ) {
+                    fboPoolEntry = e;
+                    fbo = e.fbo;
+                    texA = e.texA;
+                }
+            }
             if( DEBUG_FBO_2 ) {
                 System.err.printf("XXX.maxDelta: hasDelta %b: %d / %d,  %.3f, %.3f%n",
                         hasDelta, deltaFboWidth, deltaFboHeight, (float)deltaFboWidth/fboWidth, (float)deltaFboHeight/fboHeight);
@@ -561,13 +623,19 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
                     }
                     if( sampleCount[0] <= 0 ) {
                         // Last way out!
+                        releasePooledFBO();
                         renderRegion(gl);
                         return;
                     }
                 }
 
                 final int newFboWidth, newFboHeight, resizeCase;
-                if( 0 >= RESIZE_BOUNDARY ) {
+                if( pooled ) {
+                    // Pooled FBO of size class, never resized
+                    newFboWidth = VBAAFBOPool.getSizeClass(targetFboWidth, maxTexSize[0]);
+                    newFboHeight = VBAAFBOPool.getSizeClass(targetFboHeight, maxTexSize[0]);
+                    resizeCase = 5;
+                } else if( 0 >= RESIZE_BOUNDARY ) {
                     // Resize w/o optimization
                     newFboWidth = targetFboWidth;
                     newFboHeight = targetFboHeight;
@@ -624,13 +692,24 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
                 gca_FboVerticesAttr.seal(true);
                 FloatUtil.makeOrtho(pmvMatrix02, 0, true, minX, maxX, minY, maxY, -1, 1);
                 useShaderProgram(gl, renderer, getRenderModes(), true, getQuality(), sampleCount[0]);
-                renderRegion2FBO(gl, rs, targetFboWidth, targetFboHeight, newFboWidth, newFboHeight, vpWidth, vpHeight, sampleCount[0]);
+                renderRegion2FBO(gl, rs, pooled ? pool : null, targetFboWidth, targetFboHeight, newFboWidth, newFboHeight, vpWidth, vpHeight, sampleCount[0]);
             } else if( isStateDirty() ) {
                 useShaderProgram(gl, renderer, getRenderModes(), true, getQuality(), sampleCount[0]);
-                renderRegion2FBO(gl, rs, targetFboWidth, targetFboHeight, fboWidth, fboHeight, vpWidth, vpHeight, sampleCount[0]);
+                renderRegion2FBO(gl, rs, pooled ? pool : null, targetFboWidth, targetFboHeight, fboWidth, fboHeight, vpWidth, vpHeight, sampleCount[0]);
             }
             useShaderProgram(gl, renderer, getRenderModes(), false, getQuality(), sampleCount[0]);
             renderFBO(gl, rs, targetFboWidth, targetFboHeight, vpWidth, vpHeight, sampleCount[0]);
+            releasePooledFBO();
+        }
+    }
+
+    /** Returns the borrowed {@link VBAAFBOPool.Entry} after pass-2, if pooled. */
+    private void releasePooledFBO() {
+        if( null != fboPoolEntry ) {
+            fboPool.release(fboPoolEntry);
+            fboPoolEntry = null;
+            fbo = null;
+            texA = null;
         }
     }
 
@@ -662,7 +741,7 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
         // setback: gl.glActiveTexture(currentActiveTextureEngine[0]);
     }
 
-    private void renderRegion2FBO(final GL2ES2 gl, final RenderState rs,
+    private void renderRegion2FBO(final GL2ES2 gl, final RenderState rs, final VBAAFBOPool pool,
                                   final int targetFboWidth, final int targetFboHeight, final int newFboWidth, final int newFboHeight,
                                   final int vpWidth, final int vpHeight, final int sampleCount) {
         if( 0 >= targetFboWidth || 0 >= targetFboHeight ) {
@@ -671,7 +750,29 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
 
         final boolean blendingEnabled = rs.isHintMaskSet(RenderState.BITHINT_BLENDING_ENABLED);
 
-        if(null == fbo) {
+        if( null != pool ) {
+            if( null != fboPoolEntry && !( fboPoolEntry.width == newFboWidth && fboPoolEntry.height == newFboHeight &&
+                                           fboPoolEntry.depth == !blendingEnabled ) ) {
+                releasePooledFBO();
+            }
+            if( null == fboPoolEntry ) {
+                // no depth-buffer w/ blending
+                fboPoolEntry = pool.acquire(gl, this, newFboWidth, newFboHeight, !blendingEnabled);
+                fbo = fboPoolEntry.fbo;
+                texA = fboPoolEntry.texA;
+            }
+            fboWidth  = newFboWidth;
+            fboHeight  = newFboHeight;
+            final FloatBuffer fboTexSize = (FloatBuffer) gcu_FboTexSize.getBuffer();
+            {
+                fboTexSize.put(0, fboWidth);
+                fboTexSize.put(1, fboHeight);
+            }
+            fbo.bind(gl);
+            if( DEBUG_FBO_1 ) {
+                System.err.printf("XXX.poolFBO: %dx%d, target %dx%d%n%s%n", fboWidth, fboHeight, targetFboWidth, targetFboHeight, pool);
+            }
+        } else if(null == fbo) {
             fboWidth  = newFboWidth;
             fboHeight  = newFboHeight;
             final FloatBuffer fboTexSize = (FloatBuffer) gcu_FboTexSize.getBuffer();
@@ -726,6 +827,8 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
         renderRegion(gl);
 
         fbo.unbind(gl);
+        fboTargetWidth = targetFboWidth;
+        fboTargetHeight = targetFboHeight;
         fboDirty = false;
     }
 
@@ -767,11 +870,17 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
             System.err.println("VBORegion2PES2 Destroy: " + this);
             // Thread.dumpStack();
         }
-        if(null != fbo) {
+        if( null != fboPoolEntry ) {
+            releasePooledFBO();
+        } else if(null != fbo) {
             fbo.destroy(gl);
             fbo = null;
             texA = null;
         }
+        if( null != fboPool ) {
+            fboPool.forget(this);
+            fboPool = null;
+        }
         if(null != gca_VerticesAttr) {
             gca_VerticesAttr.destroy(gl);
             gca_VerticesAttr = null;
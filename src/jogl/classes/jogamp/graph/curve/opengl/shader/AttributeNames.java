@@ -43,6 +43,11 @@ public class AttributeNames {
      */
     public static final String COLOR_ATTR_NAME = "gca_Colors";
 
+    /**
+     * The per instance offset added to each vertex in an instanced draw call
+     */
+    public static final String INSTANCE_OFFSET_ATTR_NAME = "gca_InstanceOffset";
+
     public static final String FBO_VERTEX_ATTR_NAME = "gca_FboVertices";
 
     public static final String FBO_TEXCOORDS_ATTR_NAME = "gca_FboTexCoords";
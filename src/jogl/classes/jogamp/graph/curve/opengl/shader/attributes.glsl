@@ -25,6 +25,10 @@ attribute vec2    gca_FboTexCoords;
     attribute vec4    gca_Colors;
 #endif
 
+#ifdef USE_INSTANCED_OFFSET
+    attribute vec3    gca_InstanceOffset;
+#endif
+
 //attribute vec3    gca_Normals;
 
 #endif // attributes_glsl
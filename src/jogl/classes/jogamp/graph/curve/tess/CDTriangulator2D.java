@@ -55,6 +55,7 @@ public class CDTriangulator2D implements Triangulator {
 
     private final ArrayList<Loop> loops = new ArrayList<Loop>();
 
+    private final boolean useGrid;
     private int addedVerticeCount;
     private int maxTriID;
 
@@ -62,6 +63,16 @@ public class CDTriangulator2D implements Triangulator {
     /** Constructor for a new Delaunay triangulator
      */
     public CDTriangulator2D() {
+        this(false);
+    }
+
+    /**
+     * Constructor for a new Delaunay triangulator
+     * @param useGrid if true, large loops use a uniform grid spatial index for the Delaunay in-circle test,
+     *                otherwise all loop vertices are tested per ear.
+     */
+    public CDTriangulator2D(final boolean useGrid) {
+        this.useGrid = useGrid;
         reset();
     }
 
@@ -88,7 +99,7 @@ public class CDTriangulator2D implements Triangulator {
             final GraphOutline outline = new GraphOutline(polyline); // , winding);
             final GraphOutline innerPoly = extractBoundaryTriangles(sink, outline, false, sharpness);
             // vertices.addAll(polyline.getVertices());
-            loop = new Loop(innerPoly, winding);
+            loop = new Loop(innerPoly, winding, useGrid);
             loops.add(loop);
         } else {
             // final Winding winding = Winding.CW; // -> HEdge.HOLE
@@ -0,0 +1,173 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.curve.tess;
+
+import java.util.Arrays;
+
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.math.VectorUtil;
+import com.jogamp.opengl.math.geom.AABBox;
+
+/**
+ * Uniform grid spatial index over the {@link GraphVertex} occurrences of a {@link Loop},
+ * used to restrict the Delaunay in-circle test of an ear to the vertices near its circumcircle.
+ * <p>
+ * A {@link GraphVertex} may occur multiple times in a loop, e.g. at a hole's bridge,
+ * hence each occurrence is stored and removed separately.
+ * </p>
+ */
+class GraphVertexGrid {
+    /** Average number of vertices per cell */
+    private static final int VERTICES_PER_CELL = 2;
+
+    private final float minX, minY;
+    private final float invCellW, invCellH;
+    private final int cols, rows;
+    private final GraphVertex[][] cells;
+    private final int[] counts;
+
+    /**
+     * @param box bounding box of all vertices to be added
+     * @param vertexCount expected number of vertex occurrences
+     */
+    GraphVertexGrid(final AABBox box, final int vertexCount) {
+        final int dim = Math.max(1, (int)Math.ceil(Math.sqrt( (double)vertexCount / VERTICES_PER_CELL )));
+        final float w = box.getWidth();
+        final float h = box.getHeight();
+        cols = w > 0 ? dim : 1;
+        rows = h > 0 ? dim : 1;
+        minX = box.getMinX();
+        minY = box.getMinY();
+        invCellW = w > 0 ? cols / w : 0f;
+        invCellH = h > 0 ? rows / h : 0f;
+        cells = new GraphVertex[cols*rows][];
+        counts = new int[cols*rows];
+    }
+
+    private int col(final float x) {
+        return Math.max(0, Math.min(cols-1, (int)( ( x - minX ) * invCellW )));
+    }
+    private int row(final float y) {
+        return Math.max(0, Math.min(rows-1, (int)( ( y - minY ) * invCellH )));
+    }
+
+    void add(final GraphVertex v) {
+        final int idx = row(v.getY()) * cols + col(v.getX());
+        GraphVertex[] cell = cells[idx];
+        if( null == cell ) {
+            cell = new GraphVertex[4];
+            cells[idx] = cell;
+        } else if( cell.length == counts[idx] ) {
+            cell = Arrays.copyOf(cell, 2*cell.length);
+            cells[idx] = cell;
+        }
+        cell[counts[idx]++] = v;
+    }
+
+    /** Removes one occurrence of the given vertex, returns true if found. */
+    boolean remove(final GraphVertex v) {
+        final int idx = row(v.getY()) * cols + col(v.getX());
+        final GraphVertex[] cell = cells[idx];
+        final int count = counts[idx];
+        for(int i=0; i<count; i++) {
+            if( cell[i] == v ) {
+                cell[i] = cell[count-1];
+                cell[count-1] = null;
+                counts[idx] = count-1;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns true if at least one occurrence of the given vertex is stored. */
+    boolean contains(final GraphVertex v) {
+        final int idx = row(v.getY()) * cols + col(v.getX());
+        final GraphVertex[] cell = cells[idx];
+        final int count = counts[idx];
+        for(int i=0; i<count; i++) {
+            if( cell[i] == v ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first found stored vertex, except <code>a</code>, <code>b</code> and <code>c</code>,
+     * inside the circumcircle of the CCW triangle <code>a</code>, <code>b</code>, <code>c</code>
+     * as determined by {@link VectorUtil#isInCircleVec2(com.jogamp.opengl.math.Vert2fImmutable, com.jogamp.opengl.math.Vert2fImmutable, com.jogamp.opengl.math.Vert2fImmutable, com.jogamp.opengl.math.Vert2fImmutable)}.
+     * <p>
+     * Only cells overlapping the circumcircle's bounding box, padded against rounding errors, are tested.
+     * All cells are tested for a degenerated triangle.
+     * </p>
+     * @return the witness vertex or null if none is inside
+     */
+    GraphVertex findInCircle(final GraphVertex a, final GraphVertex b, final Vertex c) {
+        final float[] A = a.getCoord();
+        final float[] B = b.getCoord();
+        final float[] C = c.getCoord();
+        final double bx = B[0] - A[0], by = B[1] - A[1];
+        final double cx = C[0] - A[0], cy = C[1] - A[1];
+        final double d = 2.0 * ( bx * cy - by * cx );
+        final double b2 = bx * bx + by * by;
+        final double c2 = cx * cx + cy * cy;
+        final double ux = ( cy * b2 - by * c2 ) / d;
+        final double uy = ( bx * c2 - cx * b2 ) / d;
+        final double r = Math.sqrt( ux * ux + uy * uy );
+        final int c0, c1, r0, r1;
+        if( r < Float.MAX_VALUE ) {
+            final double pad = r * 0.01 + 1e-5 * ( Math.abs(A[0]) + Math.abs(A[1]) + 1.0 );
+            final double ox = A[0] + ux, oy = A[1] + uy;
+            c0 = col((float)( ox - r - pad )); c1 = col((float)( ox + r + pad ));
+            r0 = row((float)( oy - r - pad )); r1 = row((float)( oy + r + pad ));
+        } else {
+            // degenerated triangle, test all
+            c0 = 0; c1 = cols-1;
+            r0 = 0; r1 = rows-1;
+        }
+        final Vertex aP = a.getPoint(), bP = b.getPoint();
+        for(int y=r0; y<=r1; y++) {
+            for(int x=c0; x<=c1; x++) {
+                final int idx = y * cols + x;
+                final GraphVertex[] cell = cells[idx];
+                final int count = counts[idx];
+                for(int i=0; i<count; i++) {
+                    final GraphVertex v = cell[i];
+                    if( v == a || v == b || v.getPoint() == c ) {
+                        continue;
+                    }
+                    if( VectorUtil.isInCircleVec2(aP, bP, c, v.getPoint()) ) {
+                        return v;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
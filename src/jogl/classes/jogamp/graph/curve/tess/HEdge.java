@@ -43,6 +43,14 @@ public class HEdge {
     private int type = BOUNDARY;
     private Triangle triangle = null;
 
+    /**
+     * Delaunay ear test cache of {@link Loop} w/ {@link GraphVertexGrid}:
+     * Vertex <code>earWitness</code> was found inside the circumcircle of the ear
+     * starting at this edge and continuing w/ <code>earNext</code> and <code>earCand</code>.
+     * Since vertices only leave the loop, the ear stays invalid while the witness remains.
+     */
+    GraphVertex earNext = null, earCand = null, earWitness = null;
+
     public HEdge(final GraphVertex vert, final int type) {
         this.vert = vert;
         this.type = type;
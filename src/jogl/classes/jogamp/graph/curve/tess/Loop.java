@@ -38,12 +38,28 @@ import com.jogamp.opengl.math.Vert2fImmutable;
 import com.jogamp.opengl.math.geom.AABBox;
 
 public class Loop {
+    /** Minimum loop size to use the {@link GraphVertexGrid} */
+    static final int GRID_MIN_LOOP_SIZE = 64;
+
     private HEdge root = null;
     private final AABBox box = new AABBox();
     private GraphOutline initialOutline = null;
+    private final boolean useGrid;
+    private GraphVertexGrid grid = null;
+    private boolean gridValidated = false;
 
     public Loop(final GraphOutline polyline, final Winding winding){
+        this(polyline, winding, false);
+    }
+
+    /**
+     * @param polyline the boundary
+     * @param winding requested winding
+     * @param useGrid if true, the Delaunay test uses a {@link GraphVertexGrid} for loops of at least {@link #GRID_MIN_LOOP_SIZE} vertices
+     */
+    public Loop(final GraphOutline polyline, final Winding winding, final boolean useGrid){
         initialOutline = polyline;
+        this.useGrid = useGrid;
         this.root = initFromPolyline(initialOutline, winding);
     }
 
@@ -85,9 +101,35 @@ public class Loop {
 
         final Triangle t = createTriangle(v1.getPoint(), v2.getPoint(), v3.getPoint(), root);
         this.root = next2;
+        if( null != grid ) {
+            grid.remove(v2); // v2 left the loop
+        }
         return t;
     }
 
+    /** Builds the {@link GraphVertexGrid} once per loop setup if enabled and the loop is large enough. */
+    private void validateGrid() {
+        if( gridValidated ) {
+            return;
+        }
+        gridValidated = true;
+        final int size = computeLoopSize();
+        if( size >= GRID_MIN_LOOP_SIZE ) {
+            final AABBox loopBox = new AABBox();
+            HEdge e = root;
+            do {
+                loopBox.resize(e.getGraphPoint().getX(), e.getGraphPoint().getY(), 0f);
+                e = e.getNext();
+            } while(e != root);
+            grid = new GraphVertexGrid(loopBox, size);
+            e = root;
+            do {
+                grid.add(e.getGraphPoint());
+                e = e.getNext();
+            } while(e != root);
+        }
+    }
+
     public boolean isSimplex(){
         return (root.getNext().getNext().getNext() == root);
     }
@@ -183,6 +225,8 @@ public class Loop {
         //        GraphOutline outline = new GraphOutline(polyline);
         /**needed to generate vertex references.*/
         initFromPolyline(polyline, Winding.CW); // -> HEdge.HOLE
+        grid = null; // rebuilt w/ merged hole
+        gridValidated = false;
 
         final GraphVertex v3 = locateClosestVertex(polyline);
         final HEdge v3Edge = v3.findBoundEdge();
@@ -261,7 +305,24 @@ public class Loop {
         final HEdge candEdge = edge;
         boolean inValid = false;
 
-        if(delaunay){
+        if( delaunay && useGrid ) {
+            validateGrid();
+        }
+        if( delaunay && null != grid ) {
+            // same exclusions as below: root, next and cand
+            final GraphVertex rootGV = root.getGraphPoint();
+            final GraphVertex nextGV = next.getGraphPoint();
+            final GraphVertex candGV = candEdge.getGraphPoint();
+            if( null != root.earWitness && root.earNext == nextGV && root.earCand == candGV && grid.contains(root.earWitness) ) {
+                inValid = true; // same ear, witness still in loop
+            } else {
+                final GraphVertex witness = grid.findInCircle(rootGV, nextGV, candGV.getPoint());
+                root.earNext = nextGV;
+                root.earCand = candGV;
+                root.earWitness = witness;
+                inValid = null != witness;
+            }
+        } else if(delaunay){
             final Vertex cand = candEdge.getGraphPoint().getPoint();
             HEdge e = candEdge.getNext();
             while (e != candEdge){
@@ -39,6 +39,14 @@ public interface FontConstructor {
      */
     Font create(final File file) throws IOException;
 
+    /**
+     * @param file The font file
+     * @param lazy if true, the file may be memory mapped and glyphs parsed on demand,
+     *        reducing startup time and heap usage of large fonts, e.g. CJK.
+     *        Otherwise same as {@link #create(File)}.
+     */
+    Font create(final File file, boolean lazy) throws IOException;
+
     /**
      * @param istream The font input stream
      * @param streamLen the length of the font segment in the stream
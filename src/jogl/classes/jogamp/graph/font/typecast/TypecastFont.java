@@ -27,6 +27,9 @@
  */
 package jogamp.graph.font.typecast;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import jogamp.graph.font.typecast.ot.OTFontCollection;
 import jogamp.graph.font.typecast.ot.TTFont;
 import jogamp.graph.font.typecast.ot.table.CmapFormat;
@@ -42,7 +45,6 @@ import jogamp.graph.font.typecast.ot.table.KernTable;
 import jogamp.graph.font.typecast.ot.table.KerningPair;
 import jogamp.graph.font.typecast.ot.table.PostTable;
 
-import com.jogamp.common.util.IntObjectHashMap;
 import com.jogamp.graph.curve.OutlineShape;
 import com.jogamp.graph.font.Font;
 import com.jogamp.graph.font.FontFactory;
@@ -59,13 +61,23 @@ class TypecastFont implements Font {
     /* pp */ final TTFont font;
     private final CmapFormat cmapFormat;
     private final int cmapentries;
-    private final IntObjectHashMap idToGlyph;
+    private final LinkedHashMap<Integer, TypecastGlyph> idToGlyph;
     private final TypecastHMetrics metrics;
-    // FIXME: Add cache size to limit memory usage ??
+
+    /** Default maximum number of cached glyphs, {@value}. */
+    public static final int DEFAULT_GLYPH_CACHE_LIMIT = 2048;
 
     private static final boolean forceAscii = false; // FIXME ??? (ASCII/Macintosh cmap format)
 
     public TypecastFont(final OTFontCollection fontset) {
+        this(fontset, DEFAULT_GLYPH_CACHE_LIMIT);
+    }
+
+    /**
+     * @param fontset the font collection, using its first font
+     * @param glyphCacheLimit maximum number of cached glyphs, least recently used glyphs are dropped and recreated on demand
+     */
+    public TypecastFont(final OTFontCollection fontset, final int glyphCacheLimit) {
         // this.fontset = fontset;
         this.font = fontset.getFont(0);
 
@@ -106,7 +118,16 @@ class TypecastFont implements Font {
             }
             cmapentries = _cmapentries;
         }
-        idToGlyph = new IntObjectHashMap(cmapentries + cmapentries/4);
+        {
+            final int cacheLimit = Math.max(1, glyphCacheLimit);
+            idToGlyph = new LinkedHashMap<Integer, TypecastGlyph>(Math.min(cacheLimit, cmapentries) + 16, 0.75f, true /* accessOrder */) {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Integer, TypecastGlyph> eldest) {
+                    return size() > cacheLimit;
+                }
+            };
+        }
         metrics = new TypecastHMetrics(this);
 
         if(DEBUG) {
@@ -192,8 +213,8 @@ class TypecastFont implements Font {
     }
 
     @Override
-    public Glyph getGlyph(final int glyph_id) {
-        TypecastGlyph result = (TypecastGlyph) idToGlyph.get(glyph_id);
+    public synchronized Glyph getGlyph(final int glyph_id) { // synchronized: access ordered cache
+        TypecastGlyph result = idToGlyph.get(glyph_id);
         if (null == result) {
             final jogamp.graph.font.typecast.ot.Glyph glyph = font.getGlyph(glyph_id);
             final PostTable post = font.getPostTable();
@@ -232,7 +253,7 @@ class TypecastFont implements Font {
                 glyph.clearPointData();
             }
 
-            idToGlyph.put(glyph_id, result);
+            idToGlyph.put(glyph_id, result); // may drop the least recently used glyph
         }
         return result;
     }
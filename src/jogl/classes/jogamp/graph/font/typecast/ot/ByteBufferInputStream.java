@@ -0,0 +1,97 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast.ot;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link InputStream} reading the remaining bytes of a {@link ByteBuffer},
+ * e.g. a memory mapped font file, w/ {@link #markSupported() mark} support.
+ * <p>
+ * Only the buffer's position is advanced. Not thread safe,
+ * use a {@link ByteBuffer#duplicate() duplicate} per thread.
+ * </p>
+ */
+public final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer bb;
+    private int mark;
+
+    public ByteBufferInputStream(final ByteBuffer bb) {
+        this.bb = bb;
+        this.mark = bb.position();
+    }
+
+    @Override
+    public int read() {
+        return bb.hasRemaining() ? bb.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+        if( 0 == len ) {
+            return 0;
+        }
+        if( !bb.hasRemaining() ) {
+            return -1;
+        }
+        final int n = Math.min(len, bb.remaining());
+        bb.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if( 0 >= n ) {
+            return 0;
+        }
+        final int s = (int) Math.min(n, bb.remaining());
+        bb.position(bb.position() + s);
+        return s;
+    }
+
+    @Override
+    public int available() {
+        return bb.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(final int readlimit) {
+        mark = bb.position();
+    }
+
+    @Override
+    public synchronized void reset() {
+        bb.position(mark);
+    }
+}
@@ -20,6 +20,7 @@ package jogamp.graph.font.typecast.ot;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import jogamp.graph.font.typecast.ot.table.CmapTable;
 import jogamp.graph.font.typecast.ot.table.GsubTable;
@@ -168,6 +169,28 @@ public abstract class OTFont {
         return entry.getLength();
     }
 
+    /**
+     * Returns a slice of the given table within the whole font data set, or null if the table doesn't exist.
+     * @param tableDirectory
+     * @param data the whole font data set, e.g. memory mapped, as read via the stream
+     * @param tablesOrigin
+     * @param tag
+     */
+    static ByteBuffer sliceTable(
+            final TableDirectory tableDirectory,
+            final ByteBuffer data,
+            final int tablesOrigin,
+            final int tag) {
+        final TableDirectory.Entry entry = tableDirectory.getEntryByTag(tag);
+        if (entry == null) {
+            return null;
+        }
+        final ByteBuffer bb = data.duplicate();
+        bb.position(tablesOrigin + entry.getOffset());
+        bb.limit(tablesOrigin + entry.getOffset() + entry.getLength());
+        return bb.slice();
+    }
+
     public String getName(final int nameIndex) {
         return _name.getRecordsRecordString(nameIndex);
     }
@@ -24,6 +24,9 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import jogamp.graph.font.typecast.ot.mac.ResourceHeader;
 import jogamp.graph.font.typecast.ot.mac.ResourceMap;
 import jogamp.graph.font.typecast.ot.mac.ResourceReference;
@@ -70,6 +73,19 @@ public class OTFontCollection {
         read(file);
     }
 
+    /**
+     * @param file The OpenType font file
+     * @param mapped if true, the file is memory mapped and glyph descriptions are parsed on demand,
+     *        otherwise all tables are read upfront as w/ {@link #OTFontCollection(File)}.
+     */
+    public OTFontCollection(final File file, final boolean mapped) throws IOException {
+        if( mapped ) {
+            readMapped(file);
+        } else {
+            read(file);
+        }
+    }
+
     /**
      * @param istream The OpenType font input stream
      * @param streamLen the length of the OpenType font segment in the stream
@@ -102,12 +118,41 @@ public class OTFontCollection {
         final int streamLen = (int) file.length();
         final BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file), streamLen);
         try {
-            readImpl(bis, streamLen);
+            readImpl(bis, streamLen, null);
         } finally {
             bis.close();
         }
     }
 
+    /**
+     * @param file The OpenType font file to be memory mapped
+     */
+    protected void readMapped(File file) throws IOException {
+        _pathName = file.getPath();
+        _fileName = file.getName();
+
+        if (!file.exists()) {
+            throw new IOException("File <"+file.getName()+"> doesn't exist.");
+        }
+        if (file.length() == 0) {
+            file = new File(file, "..namedfork/rsrc");
+            if (!file.exists()) {
+                throw new IOException("File <"+file.getName()+"> doesn't exist.");
+            }
+            _resourceFork = true;
+        }
+
+        final ByteBuffer data;
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel fc = raf.getChannel();
+            data = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size()); // mapping stays valid after close
+        } finally {
+            raf.close();
+        }
+        readImpl(new ByteBufferInputStream(data.duplicate()), data.limit(), data);
+    }
+
     /**
      * @param is The OpenType font stream
      * @param streamLen the length of the OpenType font segment in the stream
@@ -121,13 +166,14 @@ public class OTFontCollection {
         } else {
             bis = new BufferedInputStream(is, streamLen);
         }
-        readImpl(bis, streamLen);
+        readImpl(bis, streamLen, null);
     }
 
     /**
      * @param is The OpenType font stream, must {@link InputStream#markSupported() support mark}!
+     * @param data optional whole font data set as read via <code>bis</code> for on demand glyph parsing, may be null
      */
-    private void readImpl(final InputStream bis, final int streamLen) throws IOException {
+    private void readImpl(final InputStream bis, final int streamLen, final ByteBuffer data) throws IOException {
         if( !bis.markSupported() ) {
             throw new IllegalArgumentException("stream of type "+bis.getClass().getName()+" doesn't support mark");
         }
@@ -166,7 +212,7 @@ public class OTFontCollection {
                 final ResourceReference resourceReference = resourceType.getReference(i);
                 final int offset = resourceHeader.getDataOffset() +
                                    resourceReference.getDataOffset() + 4;
-                _fonts[i] = new TTFont(dis, offset, offset);
+                _fonts[i] = new TTFont(dis, offset, offset, data);
             }
 
         } else if (TTCHeader.isTTC(dis)) {
@@ -176,13 +222,13 @@ public class OTFontCollection {
             _ttcHeader = new TTCHeader(dis);
             _fonts = new TTFont[_ttcHeader.getDirectoryCount()];
             for (int i = 0; i < _ttcHeader.getDirectoryCount(); i++) {
-                _fonts[i] = new TTFont(dis, _ttcHeader.getTableDirectory(i), 0);
+                _fonts[i] = new TTFont(dis, _ttcHeader.getTableDirectory(i), 0, data);
             }
         } else {
 
             // This is a standalone font file
             _fonts = new TTFont[1];
-            _fonts[0] = new TTFont(dis, 0, 0);
+            _fonts[0] = new TTFont(dis, 0, 0, data);
 
             // TODO T2Fonts
         }
@@ -24,6 +24,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import jogamp.graph.font.typecast.ot.table.GaspTable;
 import jogamp.graph.font.typecast.ot.table.GlyfDescript;
@@ -101,7 +102,20 @@ public class TTFont extends OTFont {
      * @throws IOException
      */
     public TTFont(final DataInputStream dis, final int directoryOffset, final int tablesOrigin) throws IOException {
-        this(dis, readTableDir(dis, directoryOffset), tablesOrigin);
+        this(dis, readTableDir(dis, directoryOffset), tablesOrigin, null);
+    }
+
+    /**
+     * Constructor
+     * @param dis input stream marked at start with read-ahead set to known stream length
+     * @param directoryOffset
+     * @param tablesOrigin
+     * @param data optional whole font data set as read via <code>dis</code>, e.g. memory mapped.
+     *        If not null, the glyph descriptions are parsed on demand from this data, see {@link GlyfTable#isLazy()}.
+     * @throws IOException
+     */
+    public TTFont(final DataInputStream dis, final int directoryOffset, final int tablesOrigin, final ByteBuffer data) throws IOException {
+        this(dis, readTableDir(dis, directoryOffset), tablesOrigin, data);
     }
 
     /**
@@ -112,6 +126,18 @@ public class TTFont extends OTFont {
      * @throws IOException
      */
     TTFont(final DataInputStream dis, final TableDirectory tableDirectory, final int tablesOrigin) throws IOException {
+        this(dis, tableDirectory, tablesOrigin, null);
+    }
+
+    /**
+     *
+     * @param dis input stream marked at start with read-ahead set to known stream length
+     * @param tableDirectory
+     * @param tablesOrigin
+     * @param data optional whole font data set as read via <code>dis</code> for on demand glyph parsing, may be null
+     * @throws IOException
+     */
+    TTFont(final DataInputStream dis, final TableDirectory tableDirectory, final int tablesOrigin, final ByteBuffer data) throws IOException {
         super(dis, tableDirectory, tablesOrigin);
 
         // 'loca' is required by 'glyf'
@@ -120,8 +146,13 @@ public class TTFont extends OTFont {
 
         // If this is a TrueType outline, then we'll have at least the
         // 'glyf' table (along with the 'loca' table)
-        length = seekTable(tableDirectory, dis, tablesOrigin, Table.glyf);
-        _glyf = new GlyfTable(dis, length, this.getMaxpTable(), loca);
+        final ByteBuffer glyfData = null != data ? sliceTable(tableDirectory, data, tablesOrigin, Table.glyf) : null;
+        if( null != glyfData ) {
+            _glyf = new GlyfTable(glyfData, this.getMaxpTable(), loca);
+        } else {
+            length = seekTable(tableDirectory, dis, tablesOrigin, Table.glyf);
+            _glyf = new GlyfTable(dis, length, this.getMaxpTable(), loca);
+        }
 
         length = seekTable(tableDirectory, dis, tablesOrigin, Table.gasp);
         if (length > 0) {
@@ -54,20 +54,38 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jogamp.graph.font.typecast.ot.ByteBufferInputStream;
 
 /**
  * @author <a href="mailto:david.schweinsberg@gmail.com">David Schweinsberg</a>
  */
 public class GlyfTable implements Table {
 
+    /** Maximum number of glyph descriptions cached in {@link #GlyfTable(ByteBuffer, MaxpTable, LocaTable) lazy mode}, {@value}. */
+    public static final int LAZY_CACHE_LIMIT = 256;
+
     private final GlyfDescript[] _descript;
 
+    /** Lazy mode: the mapped table, parsed on demand */
+    private final ByteBuffer _buffer;
+    private final LocaTable _loca;
+    private final int _numGlyphs;
+    private final LinkedHashMap<Integer, GlyfDescript> _cache;
+
     public GlyfTable(
             DataInput di,
             int length,
             MaxpTable maxp,
             LocaTable loca) throws IOException {
         _descript = new GlyfDescript[maxp.getNumGlyphs()];
+        _buffer = null;
+        _loca = null;
+        _numGlyphs = maxp.getNumGlyphs();
+        _cache = null;
         
         // Buffer the whole table so we can randomly access it
         byte[] buf = new byte[length];
@@ -105,7 +123,39 @@ public class GlyfTable implements Table {
         }
     }
 
+    /**
+     * Lazy mode, parsing each glyph description on demand from the given table data,
+     * caching the {@link #LAZY_CACHE_LIMIT} most recently used descriptions.
+     * @param buffer the whole table, e.g. a slice of a memory mapped font file, position and limit are not modified
+     * @param maxp the maxp table
+     * @param loca the loca table
+     */
+    public GlyfTable(
+            final ByteBuffer buffer,
+            final MaxpTable maxp,
+            final LocaTable loca) {
+        _descript = null;
+        _buffer = buffer;
+        _loca = loca;
+        _numGlyphs = maxp.getNumGlyphs();
+        _cache = new LinkedHashMap<Integer, GlyfDescript>(LAZY_CACHE_LIMIT + LAZY_CACHE_LIMIT/2, 0.75f, true /* accessOrder */) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, GlyfDescript> eldest) {
+                return size() > LAZY_CACHE_LIMIT;
+            }
+        };
+    }
+
+    /** Returns true if glyph descriptions are parsed on demand. */
+    public boolean isLazy() {
+        return null != _buffer;
+    }
+
     public GlyfDescript getDescription(int i) {
+        if( null != _buffer ) {
+            return getDescriptionLazy(i);
+        }
         if (i < _descript.length) {
             return _descript[i];
         } else {
@@ -113,4 +163,35 @@ public class GlyfTable implements Table {
         }
     }
 
+    private synchronized GlyfDescript getDescriptionLazy(final int i) {
+        if( 0 > i || i >= _numGlyphs ) {
+            return null;
+        }
+        final Integer key = Integer.valueOf(i);
+        GlyfDescript d = _cache.get(key);
+        if( null == d ) {
+            final int off = _loca.getOffset(i);
+            final int len = _loca.getOffset(i + 1) - off;
+            if( 0 >= len || off + len > _buffer.limit() ) {
+                return null;
+            }
+            final ByteBuffer bb = _buffer.duplicate();
+            bb.position(off);
+            bb.limit(off + len);
+            try {
+                final DataInputStream dis = new DataInputStream(new ByteBufferInputStream(bb));
+                final short numberOfContours = dis.readShort();
+                if (numberOfContours >= 0) {
+                    d = new GlyfSimpleDescript(this, i, numberOfContours, dis);
+                } else {
+                    d = new GlyfCompositeDescript(this, i, dis);
+                }
+            } catch (final IOException ioe) {
+                throw new RuntimeException("Glyph "+i+": "+ioe.getMessage(), ioe);
+            }
+            _cache.put(key, d);
+        }
+        return d;
+    }
+
 }
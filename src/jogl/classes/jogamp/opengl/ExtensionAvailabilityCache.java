@@ -40,8 +40,13 @@
 
 package jogamp.opengl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.StringTokenizer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES3;
@@ -50,87 +55,133 @@ import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.VersionNumber;
 
 /**
- * A utility object intended to be used by implementations to act as a cache
+ * An immutable utility object intended to be used by implementations to act as a cache
  * of which OpenGL extensions are currently available on both the host machine
  * and display.
+ * <p>
+ * Extension names are interned process wide to small integer ids, see {@link #getExtensionId(String)},
+ * and availability is stored in a {@link BitSet}, allowing O(1) lookups via {@link #isExtensionAvailable(int)}.
+ * </p>
+ * <p>
+ * Instances are created via {@link #create(GLContextImpl)} and shared
+ * by all context types resulting in the same set of available extensions.
+ * </p>
  */
 final class ExtensionAvailabilityCache {
   protected static final boolean DEBUG = GLContextImpl.DEBUG;
 
-  ExtensionAvailabilityCache() {
-      flush();
-  }
-
   /**
-   * Flush the cache.
+   * Returns the process wide unique id of the given extension name, interning the name if not yet known.
+   * <p>
+   * Ids are assigned in ascending order starting w/ zero and remain valid for the lifetime of the process.
+   * </p>
    */
-  final void flush()
-  {
-    initialized = false;
-    glExtensions = null;
-    glExtensionCount = 0;
-    glXExtensions = null;
-    glXExtensionCount = 0;
-    availableExtensionCache.clear();
+  static final int getExtensionId(final String glExtensionName) {
+      synchronized( extensionIds ) {
+          return getExtensionIdImpl(glExtensionName);
+      }
+  }
+
+  /** Returns the id of the given extension name or -1 if not yet interned, w/o interning it. Lock free. */
+  private static final int peekExtensionId(final String glExtensionName) {
+      final Integer id = extensionIds.get(glExtensionName);
+      return null != id ? id.intValue() : -1;
+  }
+
+  private static final int getExtensionIdImpl(final String glExtensionName) {
+      final Integer id = extensionIds.get(glExtensionName);
+      if( null != id ) {
+          return id.intValue();
+      }
+      final int newId = extensionNames.size();
+      extensionNames.add(glExtensionName);
+      extensionIds.put(glExtensionName, Integer.valueOf(newId));
+      return newId;
   }
 
   /**
-   * Flush and rebuild the cache.
+   * Returns a fully initialized instance for the given current context,
+   * either an already existing one w/ the same set of available extensions or a new one.
    */
-  final void reset(final GLContextImpl context) {
-    flush();
-    initAvailableExtensions(context);
+  static final ExtensionAvailabilityCache create(final GLContextImpl context) {
+      final ExtensionAvailabilityCache eCache = new ExtensionAvailabilityCache(context);
+      synchronized( sharedCaches ) {
+          final ExtensionAvailabilityCache shared = sharedCaches.get(eCache.available);
+          if( null != shared && shared.equalsContent(eCache) ) {
+              if (DEBUG) {
+                  System.err.println(getThreadName() + ":ExtensionAvailabilityCache: Sharing "+"0x"+Integer.toHexString(shared.hashCode())+
+                                     " - entries: "+shared.getTotalExtensionCount());
+              }
+              return shared;
+          }
+          if( null == shared ) {
+              sharedCaches.put(eCache.available, eCache);
+          }
+      }
+      return eCache;
+  }
+
+  /** Clears the pool of shared instances, interned extension ids remain valid. */
+  static final void shutdown() {
+      synchronized( sharedCaches ) {
+          sharedCaches.clear();
+      }
   }
 
   final boolean isInitialized() {
-    return initialized;
+    return true;
   }
 
   final int getTotalExtensionCount() {
-    validateInitialization();
-    return availableExtensionCache.size();
+    return available.cardinality();
   }
 
   final boolean isExtensionAvailable(final String glExtensionName) {
-    validateInitialization();
-    return null != availableExtensionCache.get(glExtensionName);
+    final int id = peekExtensionId(glExtensionName);
+    return 0 <= id && available.get(id);
+  }
+
+  /**
+   * Returns true if the extension of the given id, see {@link #getExtensionId(String)}, is available.
+   * <p>
+   * This lookup is O(1) and lock free, hence suitable for hot paths.
+   * </p>
+   */
+  final boolean isExtensionAvailable(final int glExtensionId) {
+    return 0 <= glExtensionId && available.get(glExtensionId);
   }
 
   final int getPlatformExtensionCount() {
-    validateInitialization();
-    return glXExtensionCount;
+    return glXExtensionIds.length;
   }
 
   final String getPlatformExtensionsString() {
-    validateInitialization();
-    return glXExtensions;
+    String s = glXExtensions;
+    if( null == s ) {
+        s = toExtensionString(glXExtensionIds);
+        glXExtensions = s;
+    }
+    return s;
   }
 
   final int getGLExtensionCount() {
-    validateInitialization();
-    return glExtensionCount;
+    return glExtensionIds.length;
   }
 
   final String getGLExtensionsString() {
-    validateInitialization();
     if(DEBUG) {
         System.err.println("ExtensionAvailabilityCache: getGLExtensions() called");
     }
-    return glExtensions;
+    String s = glExtensions;
+    if( null == s ) {
+        s = toExtensionString(glExtensionIds);
+        glExtensions = s;
+    }
+    return s;
   }
 
-  private final void validateInitialization() {
-      if (!isInitialized()) {
-          throw new InternalError("ExtensionAvailabilityCache not initialized!");
-      }
-  }
-  private final void initAvailableExtensions(final GLContextImpl context) {
+  private ExtensionAvailabilityCache(final GLContextImpl context) {
       final GL gl = context.getGL();
-      // if hash is empty (meaning it was flushed), pre-cache it with the list
-      // of extensions that are in the GL_EXTENSIONS string
-      if (isInitialized()) {
-          throw new InternalError("ExtensionAvailabilityCache already initialized!");
-      }
       if (DEBUG) {
           System.err.println(getThreadName() + ":ExtensionAvailabilityCache: Pre-caching init "+gl+", OpenGL "+context.getGLVersion());
       }
@@ -154,6 +205,9 @@ final class ExtensionAvailabilityCache {
                   ", use "+ ( useGetStringi ? "glGetStringi" : "glGetString" ) );
       }
 
+      final BitSet bits = new BitSet(512);
+      int[] glIds = null;
+      String glString = null;
       if(useGetStringi) {
           final int count;
           {
@@ -161,73 +215,48 @@ final class ExtensionAvailabilityCache {
               context.glGetIntegervInt(GL2ES3.GL_NUM_EXTENSIONS, val, 0);
               count = val[0];
           }
-          final StringBuilder sb = new StringBuilder();
+          final int[] ids = new int[count];
+          int n = 0;
           try {
               for (int i = 0; i < count; i++) {
                   final String ext = context.glGetStringiInt(GL.GL_EXTENSIONS, i);
-                  if( null == availableExtensionCache.put(ext, ext) ) {
-                      // new one
-                      if( 0 < i ) {
-                          sb.append(" ");
+                  if( null != ext && 0 < ext.length() ) {
+                      final int id = getExtensionId(ext);
+                      if( !bits.get(id) ) {
+                          // new one
+                          bits.set(id);
+                          ids[n++] = id;
                       }
-                      sb.append(ext);
                   }
               }
           } catch (final UnsatisfiedLinkError ule) {
               ExceptionUtils.dumpThrowable("glGetStringi native access", ule);
           }
-          if(0==count || sb.length()==0) {
+          if( 0 == n ) {
               // fall back ..
               useGetStringi=false;
           } else {
-              glExtensions = sb.toString();
-              glExtensionCount = count;
+              glIds = n < count ? Arrays.copyOf(ids, n) : ids;
           }
       }
       if(!useGetStringi) {
-          glExtensions = context.glGetStringInt(GL.GL_EXTENSIONS);
-          if(null != glExtensions) {
-              final StringTokenizer tok = new StringTokenizer(glExtensions);
-              int count = 0;
-              while (tok.hasMoreTokens()) {
-                  final String ext = tok.nextToken().trim();
-                  if( null == availableExtensionCache.put(ext, ext) ) {
-                      count++;
-                  }
-              }
-              glExtensionCount = count;
-          }
+          glString = context.glGetStringInt(GL.GL_EXTENSIONS);
+          glIds = parseExtensions(glString, bits);
       }
+      glExtensionIds = glIds;
+      glExtensions = glString;
       if (DEBUG) {
-          System.err.println(getThreadName() + ":ExtensionAvailabilityCache: GL_EXTENSIONS: "+glExtensionCount+
+          System.err.println(getThreadName() + ":ExtensionAvailabilityCache: GL_EXTENSIONS: "+glExtensionIds.length+
                                                ", used "+ ( useGetStringi ? "glGetStringi" : "glGetString" ) );
       }
 
-      // Platform Extensions
-      {
-          // unify platform extension .. might have duplicates
-          final StringBuilder sb = new StringBuilder();
-          final StringTokenizer tok = new StringTokenizer(context.getPlatformExtensionsStringImpl().toString());
-          int count = 0;
-          while (tok.hasMoreTokens()) {
-              final String ext = tok.nextToken().trim();
-              if( null == availableExtensionCache.put(ext, ext) ) {
-                  // new one
-                  if( 0 < count ) {
-                      sb.append(" ");
-                  }
-                  sb.append(ext);
-                  count++;
-              }
-          }
-          glXExtensions = sb.toString();
-          glXExtensionCount = count;
-      }
+      // Platform Extensions, unified .. might have duplicates
+      glXExtensionIds = parseExtensions(context.getPlatformExtensionsStringImpl(), bits);
+      glXExtensions = null;
 
       if (DEBUG) {
-          System.err.println(getThreadName() + ":ExtensionAvailabilityCache: GLX_EXTENSIONS: "+glXExtensionCount);
+          System.err.println(getThreadName() + ":ExtensionAvailabilityCache: GLX_EXTENSIONS: "+glXExtensionIds.length);
           System.err.println(getThreadName() + ":ExtensionAvailabilityCache: GL vendor: " + context.glGetStringInt(GL.GL_VENDOR));
-          System.err.println(getThreadName() + ":ExtensionAvailabilityCache: ALL EXTENSIONS: "+availableExtensionCache.size());
       }
 
       final int ctxOptions = context.getCtxOptions();
@@ -236,29 +265,113 @@ final class ExtensionAvailabilityCache {
       final int minor[] = new int[] { version.getMinor() };
       do{
           final String GL_XX_VERSION = ( context.isGLES() ? "GL_ES_VERSION_" : "GL_VERSION_" ) + major[0] + "_" + minor[0];
-          availableExtensionCache.put(GL_XX_VERSION, GL_XX_VERSION);
+          bits.set(getExtensionId(GL_XX_VERSION));
           if (DEBUG) {
               System.err.println(getThreadName() + ":ExtensionAvailabilityCache: Added "+GL_XX_VERSION+" to known extensions");
           }
       } while( GLContext.decrementGLVersion(ctxOptions, major, minor) );
 
-      // put a dummy var in here so that the cache is no longer empty even if
-      // no extensions are in the GL_EXTENSIONS string
-      availableExtensionCache.put("<INTERNAL_DUMMY_PLACEHOLDER>", "<INTERNAL_DUMMY_PLACEHOLDER>");
+      // Platform independent aliases, e.g. "GL_ARB_pbuffer" -> "GLX_SGIX_pbuffer",
+      // allowing the id based lookup to bypass GLContextImpl.mapToRealGLExtensionName(..)
+      final Map<String, String> aliases = context.getExtensionNameMap();
+      if( null != aliases ) {
+          final Iterator<Map.Entry<String, String>> iter = aliases.entrySet().iterator();
+          while( iter.hasNext() ) {
+              final Map.Entry<String, String> e = iter.next();
+              final int realId = peekExtensionId(e.getValue());
+              if( 0 <= realId && bits.get(realId) ) {
+                  bits.set(getExtensionId(e.getKey()));
+              }
+          }
+      }
+      available = bits;
+
+      if (DEBUG) {
+          System.err.println(getThreadName() + ":ExtensionAvailabilityCache: ALL EXTENSIONS: "+available.cardinality());
+      }
+  }
+
+  /**
+   * Parses the space separated extension names of the given sequence,
+   * marking them available in the given {@link BitSet}.
+   * @return the ids of the newly available extensions in order of appearance
+   */
+  private static final int[] parseExtensions(final CharSequence extensions, final BitSet bits) {
+      if( null == extensions ) {
+          return new int[0];
+      }
+      final int len = extensions.length();
+      int[] ids = new int[128];
+      int n = 0;
+      synchronized( extensionIds ) {
+          int i = 0;
+          while( i < len ) {
+              while( i < len && Character.isWhitespace(extensions.charAt(i)) ) {
+                  i++;
+              }
+              final int start = i;
+              while( i < len && !Character.isWhitespace(extensions.charAt(i)) ) {
+                  i++;
+              }
+              if( start < i ) {
+                  final int id = getExtensionIdImpl(extensions.subSequence(start, i).toString());
+                  if( !bits.get(id) ) {
+                      // new one
+                      bits.set(id);
+                      if( n == ids.length ) {
+                          ids = Arrays.copyOf(ids, 2 * n);
+                      }
+                      ids[n++] = id;
+                  }
+              }
+          }
+      }
+      return Arrays.copyOf(ids, n);
+  }
+
+  private static final String toExtensionString(final int[] ids) {
+      final StringBuilder sb = new StringBuilder(ids.length * 24);
+      synchronized( extensionIds ) {
+          for(int i=0; i<ids.length; i++) {
+              if( 0 < i ) {
+                  sb.append(' ');
+              }
+              sb.append(extensionNames.get(ids[i]));
+          }
+      }
+      return sb.toString();
+  }
 
-      initialized = true;
+  private final boolean equalsContent(final ExtensionAvailabilityCache o) {
+      return available.equals(o.available) &&
+             Arrays.equals(glExtensionIds, o.glExtensionIds) &&
+             Arrays.equals(glXExtensionIds, o.glXExtensionIds);
   }
 
   //----------------------------------------------------------------------
   // Internals only below this point
   //
 
-  private boolean initialized = false;
-  private String glExtensions = null;
-  private int glExtensionCount = 0;
-  private String glXExtensions = null;
-  private int glXExtensionCount = 0;
-  private final HashMap<String, String> availableExtensionCache = new HashMap<String, String>(100);
+  /** Availability per extension id, not modified after construction. */
+  private final BitSet available;
+  private final int[] glExtensionIds;
+  private final int[] glXExtensionIds;
+  /** Lazily composed from {@link #glExtensionIds} if queried via glGetStringi. */
+  private volatile String glExtensions;
+  /** Lazily composed from {@link #glXExtensionIds}. */
+  private volatile String glXExtensions;
+
+  /**
+   * Process wide interned extension names and their ids.
+   * <p>
+   * Interning is synchronized on {@link #extensionIds}, while {@link #peekExtensionId(String)} reads lock free.
+   * </p>
+   */
+  private static final ConcurrentHashMap<String, Integer> extensionIds = new ConcurrentHashMap<String, Integer>(1024);
+  private static final ArrayList<String> extensionNames = new ArrayList<String>(1024);
+
+  /** Shared instances by their available extensions. */
+  private static final HashMap<BitSet, ExtensionAvailabilityCache> sharedCaches = new HashMap<BitSet, ExtensionAvailabilityCache>();
 
   static String getThreadName() { return Thread.currentThread().getName(); }
 
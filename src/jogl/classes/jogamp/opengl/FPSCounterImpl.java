@@ -28,6 +28,7 @@
 package jogamp.opengl;
 
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import com.jogamp.common.os.Clock;
@@ -52,6 +53,13 @@ public class FPSCounterImpl implements FPSCounter {
     // counter in fps
     private float fpsLast, fpsTotal;
 
+    // frame duration histogram
+    private final int[] frameHistogram = new int[(int)(FRAME_HISTOGRAM_MAX_NS / FRAME_HISTOGRAM_RESOLUTION_NS)];
+    private boolean frameHistogramEnabled;
+    private int frameHistogramCount;
+    private long frameLastTickNS;
+    private int missedDeadlines;
+
     /** Creates a disabled instance */
     public FPSCounterImpl() {
         setUpdateFPSFrames(0, null);
@@ -65,8 +73,20 @@ public class FPSCounterImpl implements FPSCounter {
      */
     public final synchronized void tickFPS() {
         fpsTotalFrames++;
-        if(fpsUpdateFramesInterval>0 && fpsTotalFrames%fpsUpdateFramesInterval == 0) {
-            final long now = Clock.currentNanos();
+        final boolean fpsUpdate = fpsUpdateFramesInterval>0 && fpsTotalFrames%fpsUpdateFramesInterval == 0;
+        if( !frameHistogramEnabled && !fpsUpdate ) {
+            return;
+        }
+        final long now = Clock.currentNanos();
+        if( frameHistogramEnabled ) {
+            if( 0 != frameLastTickNS ) {
+                final int idx = (int) Math.min( ( now - frameLastTickNS ) / FRAME_HISTOGRAM_RESOLUTION_NS, frameHistogram.length - 1 );
+                frameHistogram[Math.max(idx, 0)]++;
+                frameHistogramCount++;
+            }
+            frameLastTickNS = now;
+        }
+        if( fpsUpdate ) {
             fpsLastPeriodMS = TimeUnit.NANOSECONDS.toMillis(now - fpsLastUpdateTimeNS);
             fpsLastPeriodMS = Math.max(fpsLastPeriodMS, 1); // div 0
             fpsLast = ( fpsUpdateFramesInterval * 1000f ) / ( fpsLastPeriodMS ) ;
@@ -83,6 +103,16 @@ public class FPSCounterImpl implements FPSCounter {
         }
     }
 
+    /**
+     * Adds the given number of missed frame deadlines.
+     * <p>
+     * Shall be called by a deadline driven frame pacer, see {@link #getMissedFrameDeadlines()}.
+     * </p>
+     */
+    public final synchronized void tickMissedDeadlines(final int count) {
+        missedDeadlines += count;
+    }
+
     public StringBuilder toString(StringBuilder sb) {
         if(null==sb) {
             sb = new StringBuilder();
@@ -116,6 +146,14 @@ public class FPSCounterImpl implements FPSCounter {
         fpsTotalFrames = 0;
         fpsLast = 0f; fpsTotal = 0f;
         fpsLastPeriodMS = 0; fpsTotalDurationMS=0;
+        resetFrameHistogram();
+        missedDeadlines = 0;
+    }
+
+    private final void resetFrameHistogram() {
+        Arrays.fill(frameHistogram, 0);
+        frameHistogramCount = 0;
+        frameLastTickNS = 0;
     }
 
     @Override
@@ -157,4 +195,39 @@ public class FPSCounterImpl implements FPSCounter {
     public final synchronized float getTotalFPS() {
         return fpsTotal;
     }
+
+    @Override
+    public final synchronized long getFrameDurationPercentile(final int percentile) {
+        if( 0 == frameHistogramCount ) {
+            return 0;
+        }
+        final int p = Math.max(1, Math.min(100, percentile));
+        final long threshold = ( (long)frameHistogramCount * p + 99 ) / 100; // ceil
+        long sum = 0;
+        for(int i=0; i<frameHistogram.length; i++) {
+            sum += frameHistogram[i];
+            if( sum >= threshold ) {
+                return ( i + 1 ) * FRAME_HISTOGRAM_RESOLUTION_NS; // upper bound of bucket
+            }
+        }
+        return FRAME_HISTOGRAM_MAX_NS;
+    }
+
+    @Override
+    public final synchronized int getMissedFrameDeadlines() {
+        return missedDeadlines;
+    }
+
+    @Override
+    public final synchronized void setFrameDurationHistogram(final boolean enable) {
+        if( frameHistogramEnabled != enable ) {
+            frameHistogramEnabled = enable;
+            resetFrameHistogram();
+        }
+    }
+
+    @Override
+    public final synchronized boolean isFrameDurationHistogramEnabled() {
+        return frameHistogramEnabled;
+    }
 }
@@ -53,6 +53,7 @@ import com.jogamp.opengl.GLSharedContextSetter;
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.RunnableTask;
 import com.jogamp.common.util.locks.RecursiveLock;
+import com.jogamp.opengl.util.GLEventListenerProfiler;
 import com.jogamp.opengl.GLAutoDrawableDelegate;
 import com.jogamp.opengl.GLEventListenerState;
 import com.jogamp.opengl.GLStateKeeper;
@@ -652,6 +653,32 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
         helper.flushGLRunnables();
     }
 
+    /**
+     * Returns the {@link GLRunnableQueue} holding all pending {@link GLRunnable}s
+     * to adjust its {@link GLRunnableQueue.Policy} and to query its metrics.
+     * FIXME: Promote to GLAutoDrawable!
+     */
+    public final GLRunnableQueue getGLRunnableQueue() {
+        return helper.getGLRunnableQueue();
+    }
+
+    /**
+     * Sets the {@link GLEventListenerProfiler} recording the CPU and GPU time
+     * of each {@link GLEventListener} callback, maybe <code>null</code> to disable profiling.
+     * FIXME: Promote to GLAutoDrawable!
+     */
+    public final void setGLEventListenerProfiler(final GLEventListenerProfiler profiler) {
+        helper.setGLEventListenerProfiler(profiler);
+    }
+
+    /**
+     * Returns the {@link GLEventListenerProfiler}, maybe <code>null</code>.
+     * FIXME: Promote to GLAutoDrawable!
+     */
+    public final GLEventListenerProfiler getGLEventListenerProfiler() {
+        return helper.getGLEventListenerProfiler();
+    }
+
     @Override
     public final void setAutoSwapBufferMode(final boolean enable) {
         helper.setAutoSwapBufferMode(enable);
@@ -739,6 +766,26 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
         return fpsCounter.getTotalFPS();
     }
 
+    @Override
+    public final long getFrameDurationPercentile(final int percentile) {
+        return fpsCounter.getFrameDurationPercentile(percentile);
+    }
+
+    @Override
+    public final int getMissedFrameDeadlines() {
+        return fpsCounter.getMissedFrameDeadlines();
+    }
+
+    @Override
+    public final void setFrameDurationHistogram(final boolean enable) {
+        fpsCounter.setFrameDurationHistogram(enable);
+    }
+
+    @Override
+    public final boolean isFrameDurationHistogramEnabled() {
+        return fpsCounter.isFrameDurationHistogramEnabled();
+    }
+
     //
     // GLDrawable delegation
     //
@@ -125,6 +125,13 @@ public abstract class GLContextImpl extends GLContext {
   // OpenGL functions.
   private ProcAddressTable glProcAddressTable;
 
+  /** Recording {@link GLVersionProbeCache.Entry} while {@link #mapGLVersions(AbstractGraphicsDevice) mapping}, if cache is enabled. */
+  private GLVersionProbeCache.Entry probeCacheRecord;
+  /** Applied {@link GLVersionProbeCache.Entry} pending validation by the first real context, see {@link #mapGLVersionsCached(AbstractGraphicsDevice)}. */
+  private GLVersionProbeCache.Entry probeCacheApplied;
+  /** True if a {@link GLVersionProbeCache.Entry} has been rejected by this instance, enforcing full probing. */
+  private boolean probeCacheRejected;
+
   private String glVendor;
   private String glRenderer;
   private String glRendererLowerCase;
@@ -171,6 +178,16 @@ public abstract class GLContextImpl extends GLContext {
   protected static final HashMap<String, ProcAddressTable> mappedGLProcAddress;
   protected static final HashMap<String, ProcAddressTable> mappedGLXProcAddress;
 
+  /**
+   * If property <code>jogl.gl.lazyProcAddress</code> is defined,
+   * entries of new GL {@link ProcAddressTable}s are resolved on first use,
+   * see {@link LazyProcAddressResolver}.
+   * <p>
+   * Not supported on 32-bit platforms, where the non volatile address fields may not be accessed atomically.
+   * </p>
+   */
+  protected static final boolean LAZY_PROCADDRESS = !Platform.is32Bit() && Debug.isPropertyDefined("jogl.gl.lazyProcAddress", true);
+
   static {
       mappedContextTypeObjectLock = new Object();
       mappedExtensionAvailabilityCache = new HashMap<String, ExtensionAvailabilityCache>();
@@ -182,6 +199,7 @@ public abstract class GLContextImpl extends GLContext {
       mappedExtensionAvailabilityCache.clear();
       mappedGLProcAddress.clear();
       mappedGLXProcAddress.clear();
+      ExtensionAvailabilityCache.shutdown();
   }
 
   public GLContextImpl(final GLDrawableImpl drawable, final GLContext shareWith) {
@@ -508,6 +526,7 @@ public abstract class GLContextImpl extends GLContext {
                   } catch (final Throwable t) {
                       associateDrawableException = t;
                   }
+                  disposeAttachedObjects(gl);
                   if ( 0 != defaultVAO ) {
                       final int[] tmp = new int[] { defaultVAO };
                       final GL2ES3 gl2es3 = gl.getRootGL().getGL2ES3();
@@ -990,7 +1009,7 @@ public abstract class GLContextImpl extends GLContext {
                GLContext.getAvailableGLVersionsSet(device));
     }
     if ( !GLContext.getAvailableGLVersionsSet(device) ) {
-        if( !mapGLVersions(device) ) {
+        if( !mapGLVersionsCached(device) && !mapGLVersions(device) ) {
             // none of the ARB context creation calls was successful, bail out
             return 0;
         }
@@ -1006,8 +1025,8 @@ public abstract class GLContextImpl extends GLContext {
     final int _minor[] = { 0 };
     final int _ctp[] = { 0 };
     long _ctx = 0;
-    if( GLContext.getAvailableGLVersion(device, reqMajorCTP[0], reqMajorCTP[1],
-                                        _major, _minor, _ctp)) {
+    final boolean mapped = GLContext.getAvailableGLVersion(device, reqMajorCTP[0], reqMajorCTP[1], _major, _minor, _ctp);
+    if( mapped ) {
         _ctp[0] |= additionalCtxCreationFlags;
         if(DEBUG) {
             System.err.println(getThreadName() + ": createContextARB-MapGLVersions Mapped "+GLContext.getGLVersion(_major[0], _minor[0], _ctp[0], null));
@@ -1019,6 +1038,25 @@ public abstract class GLContextImpl extends GLContext {
             }
         }
     }
+    if( null != probeCacheApplied ) {
+        // Validate cached mapping w/ 1st real context, fall back to full probing on mismatch
+        final GLVersionProbeCache.Entry cached = probeCacheApplied;
+        probeCacheApplied = null;
+        if( mapped && ( 0 == _ctx || !cached.validate(reqMajorCTP[0], reqMajorCTP[1], glVendor, glRenderer, glVersion) ) ) {
+            if(DEBUG) {
+                System.err.println(getThreadName() + ": createContextARB-MapGLVersions CACHE MISMATCH on "+device+": "+cached+
+                                   ", has [vendor "+glVendor+", renderer "+glRenderer+", version "+glVersion+"], ctx "+toHexString(_ctx));
+            }
+            if( 0 != _ctx ) {
+                destroyContextARBImpl(_ctx);
+                resetStates(false);
+            }
+            GLVersionProbeCache.remove(device);
+            unmapAvailableGLVersions(device);
+            probeCacheRejected = true;
+            return createContextARB(share, direct);
+        }
+    }
     return _ctx;
   }
 
@@ -1202,6 +1240,9 @@ public abstract class GLContextImpl extends GLContext {
             System.err.println(getThreadName() + ": createContextARB-MapGLVersions START (GLDesktop "+hasOpenGLDesktopSupport+", GLES "+hasOpenGLESSupport+", minorVersion "+hasMinorVersionSupport+") on "+device);
         }
         final long t0 = ( DEBUG ) ? Clock.currentNanos() : 0;
+        if( GLVersionProbeCache.isEnabled() && null == mapGLVersionListener ) {
+            probeCacheRecord = new GLVersionProbeCache.Entry(GLVersionProbeCache.getFingerprint(device, drawable.getFactoryImpl(), hasMinorVersionSupport));
+        }
         boolean success = false;
         // Following GLProfile.GL_PROFILE_LIST_ALL order of profile detection { GL4bc, GL3bc, GL2, GL4, GL3, GL2GL3, GLES2, GL2ES2, GLES1, GL2ES1 }
         boolean hasGL4bc = false;
@@ -1349,7 +1390,26 @@ public abstract class GLContextImpl extends GLContext {
         if(success) {
             // only claim GL versions set [and hence detected] if ARB context creation was successful
             GLContext.setAvailableGLVersionsSet(device, true);
+            if( null != probeCacheRecord ) {
+                final GLVersionProbeCache.Entry e = probeCacheRecord;
+                for(int major=1; major<=4; major++) {
+                    for(int i=0; i<mapProfiles.length; i++) {
+                        final Integer valI = GLContext.getAvailableGLVersion(device, major, mapProfiles[i]);
+                        if( null != valI ) {
+                            e.addVersion(major, mapProfiles[i], valI.intValue());
+                        }
+                    }
+                }
+                final GLRendererQuirks sq = GLRendererQuirks.getStickyDeviceQuirks(device);
+                for(int i=0; i<GLRendererQuirks.getCount(); i++) {
+                    if( sq.exist(i) ) {
+                        e.addStickyQuirk(i);
+                    }
+                }
+                GLVersionProbeCache.store(device, e);
+            }
         }
+        probeCacheRecord = null;
         if(DEBUG) {
             final long t1 = Clock.currentNanos();
             System.err.println(getThreadName() + ": createContextARB-MapGLVersions END (success "+success+") on "+device+", profileAliasing: "+PROFILE_ALIASING+", total "+(t1-t0)/1e6 +"ms");
@@ -1361,6 +1421,62 @@ public abstract class GLContextImpl extends GLContext {
     }
   }
 
+  private static final int[] mapProfiles = { CTX_PROFILE_ES, CTX_PROFILE_CORE, CTX_PROFILE_COMPAT };
+
+  /**
+   * Maps the available GL versions of the given device from the {@link GLVersionProbeCache}, if enabled
+   * and no {@link MappedGLVersionListener} is set, i.e. the latter requires the probing contexts' quirks.
+   * <p>
+   * The cached entry is validated by {@link #createContextARB(long, boolean)}'s first real context.
+   * </p>
+   * @return true if mapped from cache, otherwise false
+   */
+  private final boolean mapGLVersionsCached(final AbstractGraphicsDevice device) {
+    if( !GLVersionProbeCache.isEnabled() || null != mapGLVersionListener || probeCacheRejected ) {
+        return false;
+    }
+    synchronized (GLContext.deviceVersionAvailable) {
+        final long t0 = ( DEBUG ) ? Clock.currentNanos() : 0;
+        final boolean hasMinorVersionSupport = drawable.getFactoryImpl().hasMajorMinorCreateContextARB();
+        final GLVersionProbeCache.Entry e = GLVersionProbeCache.load(device,
+                GLVersionProbeCache.getFingerprint(device, drawable.getFactoryImpl(), hasMinorVersionSupport));
+        if( null == e ) {
+            return false;
+        }
+        for(int i=0; i<GLRendererQuirks.getCount(); i++) {
+            if( e.hasStickyQuirk(i) ) {
+                GLRendererQuirks.addStickyDeviceQuirk(device, i);
+            }
+        }
+        final GLRendererQuirks sq = GLRendererQuirks.getStickyDeviceQuirks(device);
+        final int[] ctp = { 0 };
+        for(final int[] v : e.getVersions()) {
+            final VersionNumber version = decomposeBits(v[2], ctp);
+            mapAvailableGLVersion(device, v[0], v[1], version, ctp[0], sq);
+        }
+        GLContext.setAvailableGLVersionsSet(device, true);
+        probeCacheApplied = e;
+        if(DEBUG) {
+            final long t1 = Clock.currentNanos();
+            System.err.println(getThreadName() + ": createContextARB-MapGLVersions CACHED on "+device+": "+e+", total "+(t1-t0)/1e6 +"ms");
+            System.err.println(GLContext.dumpAvailableGLVersions(null).toString());
+        }
+        return true;
+    }
+  }
+
+  /** Removes all mapped GL versions of the given device and marks them not set. */
+  private static void unmapAvailableGLVersions(final AbstractGraphicsDevice device) {
+    synchronized(deviceVersionAvailable) {
+        for(int major=1; major<=4; major++) {
+            for(int i=0; i<mapProfiles.length; i++) {
+                deviceVersionAvailable.remove(getDeviceVersionAvailableKey(device, major, mapProfiles[i]));
+            }
+        }
+        GLContext.setAvailableGLVersionsSet(device, false);
+    }
+  }
+
   /**
    * Note: Since context creation is temporary, caller need to issue {@link #resetStates(boolean)}, if creation was successful, i.e. returns true.
    * This method does not reset the states, allowing the caller to utilize the state variables.
@@ -1446,6 +1562,9 @@ public abstract class GLContextImpl extends GLContext {
         // ctxMajorVersion, ctxMinorVersion, ctxOptions is being set by
         //   createContextARBVersions(..) -> setGLFunctionAvailbility(..) -> setContextVersion(..)
         final MappedGLVersion me = mapAvailableGLVersion(device, reqMajor, reqProfile, ctxVersion, ctxOptions, glRendererQuirks);
+        if( null != probeCacheRecord ) {
+            probeCacheRecord.addProbe(reqMajor, reqProfile, glVendor, glRenderer, glVersion);
+        }
         destroyContextARBImpl(_context);
         if (DEBUG) {
           System.err.println(getThreadName() + ": createContextARB-MapGLVersions HAVE "+me.toString(new StringBuilder(), minMajor, minMinor, maxMajor, maxMinor).toString());
@@ -2127,7 +2246,14 @@ public abstract class GLContextImpl extends GLContext {
         } else {
             glProcAddressTable = (ProcAddressTable) createInstance(adevice, hasMajor, hasMinor, hasCtxProfileBits, false,
                                                                    new Object[] { new GLProcAddressResolver() } );
-            resetProcAddressTable(glProcAddressTable, dynamicLookup);
+            if( LAZY_PROCADDRESS ) {
+                final LazyProcAddressResolver lazy = LazyProcAddressResolver.attach(glProcAddressTable, dynamicLookup, new GLProcAddressResolver());
+                if(DEBUG) {
+                    System.err.println(getThreadName() + ": GLContext GL ProcAddressTable lazy: "+lazy);
+                }
+            } else {
+                resetProcAddressTable(glProcAddressTable, dynamicLookup);
+            }
 
             synchronized(mappedContextTypeObjectLock) {
                 mappedGLProcAddress.put(contextFQN, glProcAddressTable);
@@ -2170,9 +2296,8 @@ public abstract class GLContextImpl extends GLContext {
                                    toHexString(eCache.hashCode()) + " - entries: "+eCache.getTotalExtensionCount());
             }
         } else {
-            extensionAvailability = new ExtensionAvailabilityCache();
             setContextVersion(hasMajor, hasMinor, hasCtxProfileBits, vendorVersion, false); // pre-set of GL version, required for extension cache usage
-            extensionAvailability.reset(this);
+            extensionAvailability = ExtensionAvailabilityCache.create(this);
             synchronized(mappedContextTypeObjectLock) {
                 mappedExtensionAvailabilityCache.put(contextFQN, extensionAvailability);
                 if(DEBUG) {
@@ -2718,6 +2843,17 @@ public abstract class GLContextImpl extends GLContext {
       return false;
   }
 
+  @Override
+  public final boolean isExtensionAvailable(final int glExtensionId) {
+      final ExtensionAvailabilityCache eCache = extensionAvailability;
+      return null != eCache && eCache.isExtensionAvailable(glExtensionId);
+  }
+
+  /** See {@link GLContext#getExtensionId(String)}. */
+  public static final int getExtensionIdImpl(final String glExtensionName) {
+      return ExtensionAvailabilityCache.getExtensionId(glExtensionName);
+  }
+
   @Override
   public final int getPlatformExtensionCount() {
       return null != extensionAvailability ? extensionAvailability.getPlatformExtensionCount() : 0;
@@ -59,6 +59,7 @@ import com.jogamp.opengl.GLEventListener;
 import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLFBODrawable;
 import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.util.GLEventListenerProfiler;
 
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.InterruptedRuntimeException;
@@ -82,13 +83,13 @@ public class GLDrawableHelper {
   private final ArrayList<GLEventListener> listeners = new ArrayList<GLEventListener>();
   private final HashSet<GLEventListener> listenersToBeInit = new HashSet<GLEventListener>();
   private final Object glRunnablesLock = new Object();
-  private ArrayList<GLRunnableTask> glRunnables = new ArrayList<GLRunnableTask>();
-  private volatile int glRunnableCount = 0;
+  private final GLRunnableQueue glRunnables = new GLRunnableQueue();
   private boolean autoSwapBufferMode;
   private volatile Thread exclusiveContextThread;
   /** -1 release, 0 nop, 1 claim */
   private volatile int exclusiveContextSwitch;
-  private GLAnimatorControl animatorCtrl;
+  private volatile GLAnimatorControl animatorCtrl;
+  private volatile GLEventListenerProfiler profiler;
   private static Runnable nop = new Runnable() { @Override public void run() {} };
 
   private GLContext sharedContext;
@@ -107,11 +108,9 @@ public class GLDrawableHelper {
     autoSwapBufferMode = true;
     exclusiveContextThread = null;
     exclusiveContextSwitch = 0;
-    synchronized(glRunnablesLock) {
-        glRunnableCount = 0;
-        glRunnables.clear();
-    }
+    glRunnables.flush();
     animatorCtrl = null;
+    profiler = null;
     sharedContext = null;
     sharedAutoDrawable = null;
   }
@@ -521,6 +520,10 @@ public class GLDrawableHelper {
   public final int disposeAllGLEventListener(final GLAutoDrawable autoDrawable, final boolean remove) throws GLException {
     Throwable firstCaught = null;
     int disposeCount = 0;
+    final GLEventListenerProfiler p = profiler;
+    if( null != p ) {
+        p.disposeGL(autoDrawable);
+    }
     synchronized(listenersLock) {
         if( remove ) {
             for (int count = listeners.size(); 0 < count && 0 < listeners.size(); count--) {
@@ -641,9 +644,64 @@ public class GLDrawableHelper {
   }
 
   private final void init(final GLEventListener l, final GLAutoDrawable drawable, final boolean sendReshape) {
-      l.init(drawable);
+      initListener(l, drawable);
       if(sendReshape) {
-          l.reshape(drawable, 0, 0, drawable.getSurfaceWidth(), drawable.getSurfaceHeight());
+          reshapeListener(l, drawable, 0, 0, drawable.getSurfaceWidth(), drawable.getSurfaceHeight());
+      }
+  }
+
+  /**
+   * Sets the {@link GLEventListenerProfiler} recording the CPU and GPU time
+   * of each {@link GLEventListener} callback, maybe <code>null</code> to disable profiling.
+   */
+  public final void setGLEventListenerProfiler(final GLEventListenerProfiler profiler) {
+      this.profiler = profiler;
+  }
+
+  /** Returns the {@link GLEventListenerProfiler}, maybe <code>null</code>. */
+  public final GLEventListenerProfiler getGLEventListenerProfiler() {
+      return profiler;
+  }
+
+  private final void initListener(final GLEventListener l, final GLAutoDrawable drawable) {
+      final GLEventListenerProfiler p = profiler;
+      if( null == p ) {
+          l.init(drawable);
+      } else {
+          final GLEventListenerProfiler.Stats s = p.begin(drawable, l, GLEventListenerProfiler.Method.INIT);
+          try {
+              l.init(drawable);
+          } finally {
+              p.end(drawable, s);
+          }
+      }
+  }
+
+  private final void displayListener(final GLEventListener l, final GLAutoDrawable drawable) {
+      final GLEventListenerProfiler p = profiler;
+      if( null == p ) {
+          l.display(drawable);
+      } else {
+          final GLEventListenerProfiler.Stats s = p.begin(drawable, l, GLEventListenerProfiler.Method.DISPLAY);
+          try {
+              l.display(drawable);
+          } finally {
+              p.end(drawable, s);
+          }
+      }
+  }
+
+  private final void reshapeListener(final GLEventListener l, final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) {
+      final GLEventListenerProfiler p = profiler;
+      if( null == p ) {
+          l.reshape(drawable, x, y, width, height);
+      } else {
+          final GLEventListenerProfiler.Stats s = p.begin(drawable, l, GLEventListenerProfiler.Method.RESHAPE);
+          try {
+              l.reshape(drawable, x, y, width, height);
+          } finally {
+              p.end(drawable, s);
+          }
       }
   }
 
@@ -673,10 +731,14 @@ public class GLDrawableHelper {
   public final void display(final GLAutoDrawable drawable) {
     displayImpl(drawable);
     // runForAllGLEventListener(drawable, displayAction);
-    if( glRunnableCount > 0 && !execGLRunnables(drawable) ) { // glRunnableCount volatile OK; execGL.. only executed if size > 0
+    if( !glRunnables.isEmpty() && !glRunnables.drain(drawable) ) {
         displayImpl(drawable);
         // runForAllGLEventListener(drawable, displayAction);
     }
+    final GLEventListenerProfiler p = profiler;
+    if( null != p ) {
+        p.endFrame(drawable);
+    }
   }
   private final void displayImpl(final GLAutoDrawable drawable) {
       synchronized(listenersLock) {
@@ -689,7 +751,7 @@ public class GLDrawableHelper {
             if( listenersToBeInit.remove(listener) ) {
                 init( listener, drawable, true /* sendReshape */ );
             }
-            listener.display(drawable);
+            displayListener(listener, drawable);
           }
       }
   }
@@ -746,39 +808,23 @@ public class GLDrawableHelper {
             // GLEventListener may need to be init,
             // in case this one is added after the realization of the GLAutoDrawable
             if( listenersToBeInit.remove(l) ) {
-                l.init(drawable);
+                initListener(l, drawable);
             }
-            l.reshape(drawable, x, y, width, height);
+            reshapeListener(l, drawable, x, y, width, height);
         }
     }
   }
 
-  private final boolean execGLRunnables(final GLAutoDrawable drawable) { // glRunnables.size()>0
-    // swap one-shot list asap
-    final ArrayList<GLRunnableTask> _glRunnables;
-    synchronized(glRunnablesLock) {
-        if( glRunnables.size() > 0 ) {
-            glRunnableCount = 0;
-            _glRunnables = glRunnables;
-            glRunnables = new ArrayList<GLRunnableTask>();
-        } else {
-            return true;
-        }
-    }
-    boolean res = true;
-    for (int i=0; i < _glRunnables.size(); i++) {
-        res = _glRunnables.get(i).run(drawable) && res;
-    }
-    return res;
+  public final void flushGLRunnables() {
+    glRunnables.flush();
   }
 
-  public final void flushGLRunnables() {
-    synchronized(glRunnablesLock) {
-        glRunnableCount = 0;
-        while( glRunnables.size() > 0 ) {
-            glRunnables.remove(0).flush();
-        }
-    }
+  /**
+   * Returns the {@link GLRunnableQueue} holding all pending {@link GLRunnable}s,
+   * allowing to adjust its {@link GLRunnableQueue.Policy} and to query its metrics.
+   */
+  public final GLRunnableQueue getGLRunnableQueue() {
+    return glRunnables;
   }
 
   public final void setAnimator(final GLAnimatorControl animator) throws GLException {
@@ -871,59 +917,28 @@ public class GLDrawableHelper {
    * @return <code>true</code> if the {@link GLRunnable} has been processed or queued, otherwise <code>false</code>.
    * @throws IllegalStateException in case the drawable is locked by this thread, no animator is running on another thread and <code>wait</code> is <code>true</code>.
    */
-  public final boolean invoke(final GLAutoDrawable drawable, boolean wait, final GLRunnable glRunnable) throws IllegalStateException {
+  public final boolean invoke(final GLAutoDrawable drawable, final boolean wait, final GLRunnable glRunnable) throws IllegalStateException {
     if( null == glRunnable || null == drawable ||
         wait && ( !drawable.isRealized() || null==drawable.getContext() ) ) {
         return false;
     }
-
-    final GLRunnableTask rTask;
-    final Object rTaskLock = new Object();
-    synchronized(rTaskLock) {
-        boolean deferredHere;
-        synchronized(glRunnablesLock) {
-            final boolean isGLThread = drawable.isThreadGLCapable();
-            deferredHere = isAnimatorAnimatingOnOtherThread();
-            if( deferredHere ) {
-                if( wait && isLockedByThisThread(drawable) ) {
-                    if( isGLThread ) {
-                        // Run immediately, don't defer since locked by this thread, but isGLThread
-                        deferredHere = false;
-                        wait = false;
-                    } else {
-                        // Locked by this thread, but _not_ isGLThread -> ERROR
-                        throw new IllegalStateException("Deferred, wait, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
-                    }
-                }
-            } else {
-                if( !isGLThread && isLockedByThisThread(drawable) ) {
-                    // Will be deferred on GL thread by display() (blocking), but locked by this thread -> ERROR
-                    throw new IllegalStateException("Not deferred, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
-                }
-                wait = false; // don't wait if exec immediately
-            }
-            rTask = new GLRunnableTask(glRunnable,
-                                       wait ? rTaskLock : null,
-                                       wait  /* catch Exceptions if waiting for result */);
-            glRunnableCount++;
-            glRunnables.add(rTask);
+    final int mode = getInvokeMode(drawable, wait);
+    if( INVOKE_DEFER_WAIT != mode ) {
+        // no wait, no task allocation
+        if( !glRunnables.enqueue(glRunnable) ) {
+            return false;
         }
-        if( !deferredHere ) {
+        if( INVOKE_DISPLAY == mode ) {
             drawable.display();
-        } else if( wait ) {
-            try {
-                while( rTask.isInQueue() ) {
-                    rTaskLock.wait(); // free lock, allow execution of rTask
-                }
-            } catch (final InterruptedException ie) {
-                throw new InterruptedRuntimeException(ie);
-            }
-            final Throwable throwable = rTask.getThrowable();
-            if(null!=throwable) {
-                throw new RuntimeException(throwable);
-            }
         }
+        return true;
     }
+    final Object rTaskLock = new Object();
+    final GLRunnableTask rTask = new GLRunnableTask(glRunnable, rTaskLock, true /* catch Exceptions if waiting for result */);
+    if( !glRunnables.enqueue(rTask) ) {
+        return false;
+    }
+    waitForTask(drawable, rTask, rTaskLock);
     return true;
   }
 
@@ -936,75 +951,100 @@ public class GLDrawableHelper {
    * @return
    * @throws IllegalStateException
    */
-  public final boolean invoke(final GLAutoDrawable drawable, boolean wait, final List<GLRunnable> newGLRunnables) throws IllegalStateException {
+  public final boolean invoke(final GLAutoDrawable drawable, final boolean wait, final List<GLRunnable> newGLRunnables) throws IllegalStateException {
     if( null == newGLRunnables || newGLRunnables.size() == 0 || null == drawable ||
         wait && ( !drawable.isRealized() || null==drawable.getContext() ) ) {
         return false;
     }
-
     final int count = newGLRunnables.size();
-    final GLRunnableTask rTask;
+    final int mode = getInvokeMode(drawable, wait);
+    boolean res = true;
+    for(int i=0; i<count-1; i++) {
+        res = glRunnables.enqueue( newGLRunnables.get(i) ) && res;
+    }
+    if( INVOKE_DEFER_WAIT != mode ) {
+        res = glRunnables.enqueue( newGLRunnables.get(count-1) ) && res;
+        if( INVOKE_DISPLAY == mode ) {
+            drawable.display();
+        }
+        return res;
+    }
     final Object rTaskLock = new Object();
-    synchronized(rTaskLock) {
-        boolean deferredHere;
-        synchronized(glRunnablesLock) {
-            final boolean isGLThread = drawable.isThreadGLCapable();
-            deferredHere = isAnimatorAnimatingOnOtherThread();
-            if( deferredHere ) {
-                if( wait && isLockedByThisThread(drawable) ) {
-                    if( isGLThread ) {
-                        // Run immediately, don't defer since locked by this thread, but isGLThread
-                        deferredHere = false;
-                        wait = false;
-                    } else {
-                        // Locked by this thread, but _not_ isGLThread -> ERROR
-                        throw new IllegalStateException("Deferred, wait, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
-                    }
-                }
+    final GLRunnableTask rTask = new GLRunnableTask(newGLRunnables.get(count-1), rTaskLock, true /* catch Exceptions if waiting for result */);
+    if( !glRunnables.enqueue(rTask) ) {
+        return false;
+    }
+    waitForTask(drawable, rTask, rTaskLock);
+    return res;
+  }
+
+  /** {@link #invoke(GLAutoDrawable, boolean, GLRunnable) invoke} mode: Enqueue and issue {@link GLAutoDrawable#display()} on current thread. */
+  private static final int INVOKE_DISPLAY = 0;
+  /** {@link #invoke(GLAutoDrawable, boolean, GLRunnable) invoke} mode: Enqueue for the animator thread, don't wait. */
+  private static final int INVOKE_DEFER = 1;
+  /** {@link #invoke(GLAutoDrawable, boolean, GLRunnable) invoke} mode: Enqueue for the animator thread and wait until executed. */
+  private static final int INVOKE_DEFER_WAIT = 2;
+
+  /** Returns the {@link #invoke(GLAutoDrawable, boolean, GLRunnable) invoke} mode, see table there. */
+  private final int getInvokeMode(final GLAutoDrawable drawable, final boolean wait) throws IllegalStateException {
+    final boolean isGLThread = drawable.isThreadGLCapable();
+    if( isAnimatorAnimatingOnOtherThread() ) {
+        if( wait && isLockedByThisThread(drawable) ) {
+            if( isGLThread ) {
+                // Run immediately, don't defer since locked by this thread, but isGLThread
+                return INVOKE_DISPLAY;
             } else {
-                if( !isGLThread && isLockedByThisThread(drawable) ) {
-                    // Will be deferred on GL thread by display() (blocking), but locked by this thread -> ERROR
-                    throw new IllegalStateException("Not deferred, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
-                }
-                wait = false; // don't wait if exec immediately
+                // Locked by this thread, but _not_ isGLThread -> ERROR
+                throw new IllegalStateException("Deferred, wait, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
             }
-            for(int i=0; i<count-1; i++) {
-                glRunnableCount++;
-                glRunnables.add( new GLRunnableTask(newGLRunnables.get(i), null, false) );
-            }
-            rTask = new GLRunnableTask(newGLRunnables.get(count-1),
-                                       wait ? rTaskLock : null,
-                                       wait  /* catch Exceptions if waiting for result */);
-            glRunnableCount++;
-            glRunnables.add(rTask);
         }
-        if( !deferredHere ) {
-            drawable.display();
-        } else if( wait ) {
-            try {
-                while( rTask.isInQueue() ) {
-                    rTaskLock.wait(); // free lock, allow execution of rTask
-                }
-            } catch (final InterruptedException ie) {
-                throw new InterruptedRuntimeException(ie);
-            }
-            final Throwable throwable = rTask.getThrowable();
-            if(null!=throwable) {
-                throw new RuntimeException(throwable);
+        return wait ? INVOKE_DEFER_WAIT : INVOKE_DEFER;
+    } else {
+        if( !isGLThread && isLockedByThisThread(drawable) ) {
+            // Will be deferred on GL thread by display() (blocking), but locked by this thread -> ERROR
+            throw new IllegalStateException("Not deferred, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
+        }
+        return INVOKE_DISPLAY; // don't wait if exec immediately
+    }
+  }
+
+  /**
+   * Blocks until the given enqueued <code>rTask</code> has been executed or flushed.
+   * <p>
+   * The {@link #INVOKE_DEFER_WAIT} decision and enqueueing are not atomic,
+   * i.e. the animator may have stopped or paused meanwhile and might have flushed the queue before <code>rTask</code> was enqueued.
+   * Hence if the animator is no more animating on another thread, {@link GLAutoDrawable#display()} is issued
+   * on the current thread as in {@link #INVOKE_DISPLAY} mode, executing <code>rTask</code> if still pending.
+   * If <code>rTask</code> is still pending thereafter, e.g. the drawable is no more realized, it is flushed.
+   * </p>
+   */
+  private final void waitForTask(final GLAutoDrawable drawable, final GLRunnableTask rTask, final Object rTaskLock) {
+    if( rTask.isInQueue() && !isAnimatorAnimatingOnOtherThread() ) {
+        drawable.display();
+        if( rTask.isInQueue() && !isAnimatorAnimatingOnOtherThread() ) {
+            rTask.flush();
+        }
+    }
+    synchronized(rTaskLock) {
+        try {
+            while( rTask.isInQueue() ) {
+                rTaskLock.wait(); // free lock, allow execution of rTask
             }
+        } catch (final InterruptedException ie) {
+            throw new InterruptedRuntimeException(ie);
         }
     }
-    return true;
+    final Throwable throwable = rTask.getThrowable();
+    if(null!=throwable) {
+        throw new RuntimeException(throwable);
+    }
   }
 
   public final void enqueue(final GLRunnable glRunnable) {
     if( null == glRunnable) {
         return;
     }
-    synchronized(glRunnablesLock) {
-        glRunnableCount++;
-        glRunnables.add( new GLRunnableTask(glRunnable, null, false) );
-    }
+    glRunnables.enqueue(glRunnable);
   }
 
   public final void setAutoSwapBufferMode(final boolean enable) {
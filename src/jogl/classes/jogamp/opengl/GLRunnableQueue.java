@@ -0,0 +1,424 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import com.jogamp.common.os.Clock;
+import com.jogamp.common.util.PropertyAccess;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLRunnable;
+
+/**
+ * Bounded multiple producer single consumer queue of {@link GLRunnable}s,
+ * executed by {@link GLDrawableHelper} within <code>display()</code>.
+ * <p>
+ * Producers enqueue w/o locking and allocation into a ring of slots,
+ * which are reused after being drained by the consumer.
+ * The ring is allocated once with the first enqueued task, hence an unused queue is cheap.
+ * Only the consumer position is advanced atomically as well,
+ * allowing {@link #flush()} from a foreign thread while draining.
+ * Each {@link #drain(GLAutoDrawable)} executes a batch of all tasks enqueued before it started.
+ * </p>
+ * <p>
+ * If the ring is full, the {@link Policy} of this queue applies.
+ * </p>
+ * <p>
+ * Default capacity and policy are set via properties <code>jogl.glrunnable.queue.capacity</code>, default 1024,
+ * and <code>jogl.glrunnable.queue.policy</code>, i.e. <code>overflow</code> (default), <code>block</code> or <code>drop</code>.
+ * </p>
+ */
+public class GLRunnableQueue {
+    /** Producer behavior if the ring is full. */
+    public static enum Policy {
+        /** Spills into an unbounded locked overflow list, preserving order and never rejecting tasks. */
+        OVERFLOW,
+        /** Blocks the producer until space becomes available or the {@link GLRunnableQueue#setBlockTimeout(long) timeout} is reached, then overflows. */
+        BLOCK,
+        /** Rejects the task. */
+        DROP
+    }
+
+    public static final int DEFAULT_CAPACITY;
+    public static final Policy DEFAULT_POLICY;
+    /** Default producer timeout of {@link Policy#BLOCK} in nanoseconds, i.e. 100 ms. */
+    public static final long DEFAULT_BLOCK_TIMEOUT_NS = 100000000L;
+
+    static {
+        Debug.initSingleton();
+        final int capacity = PropertyAccess.getIntProperty("jogl.glrunnable.queue.capacity", true, 1024);
+        DEFAULT_CAPACITY = Math.max(2, capacity);
+        final String policy = PropertyAccess.getProperty("jogl.glrunnable.queue.policy", true);
+        Policy p = Policy.OVERFLOW;
+        if( null != policy ) {
+            try {
+                p = Policy.valueOf(policy.trim().toUpperCase());
+            } catch (final IllegalArgumentException iae) {
+                System.err.println("GLRunnableQueue: Unknown policy '"+policy+"', using "+p);
+            }
+        }
+        DEFAULT_POLICY = p;
+    }
+
+    /** Ring slots w/ their sequence numbers, see {@link GLRunnableQueue#offer(GLRunnable, long)} and {@link GLRunnableQueue#poll(long, boolean)}. */
+    private static final class Ring {
+        final int mask;
+        final AtomicLongArray sequences;
+        final GLRunnable[] slots;
+        final long[] enqueueTimes;
+
+        Ring(final int capacity) {
+            mask = capacity - 1;
+            sequences = new AtomicLongArray(capacity);
+            for(int i=0; i<capacity; i++) {
+                sequences.set(i, i);
+            }
+            slots = new GLRunnable[capacity];
+            enqueueTimes = new long[capacity];
+        }
+    }
+
+    private final int capacity;
+    /** Lazily allocated ring, see {@link #getRing()}. */
+    private volatile Ring ring;
+    private final AtomicLong tail = new AtomicLong(0);
+    private final AtomicLong head = new AtomicLong(0);
+
+    private final ArrayList<GLRunnable> overflow = new ArrayList<GLRunnable>();
+    private final ArrayList<Long> overflowTimes = new ArrayList<Long>();
+    private volatile boolean overflowActive = false;
+
+    private volatile Policy policy;
+    private volatile long blockTimeoutNS = DEFAULT_BLOCK_TIMEOUT_NS;
+
+    // metrics
+    private final AtomicLong enqueuedCount = new AtomicLong(0);
+    private final AtomicLong overflowCount = new AtomicLong(0);
+    private final AtomicLong droppedCount = new AtomicLong(0);
+    private final AtomicLong blockedCount = new AtomicLong(0);
+    private volatile long executedCount = 0;
+    private volatile long waitLatencySumNS = 0;
+    private volatile long waitLatencyMaxNS = 0;
+    private volatile int maxDepth = 0;
+
+    /** Creates a queue w/ {@link #DEFAULT_CAPACITY} and {@link #DEFAULT_POLICY}. */
+    public GLRunnableQueue() {
+        this(DEFAULT_CAPACITY, DEFAULT_POLICY);
+    }
+
+    /**
+     * Creates a queue.
+     * @param capacity ring capacity, rounded up to the next power of two
+     * @param policy producer behavior if the ring is full
+     */
+    public GLRunnableQueue(final int capacity, final Policy policy) {
+        int cap = 2;
+        while( cap < capacity ) {
+            cap <<= 1;
+        }
+        this.capacity = cap;
+        this.policy = null != policy ? policy : Policy.OVERFLOW;
+    }
+
+    /** Returns the ring capacity. */
+    public final int getCapacity() { return capacity; }
+
+    /** Returns the ring, allocating it on first use. */
+    private final Ring getRing() {
+        Ring r = ring;
+        if( null == r ) {
+            synchronized( this ) {
+                r = ring;
+                if( null == r ) {
+                    r = new Ring(capacity);
+                    ring = r;
+                }
+            }
+        }
+        return r;
+    }
+
+    /** Sets the producer behavior if the ring is full. */
+    public final void setPolicy(final Policy policy) { this.policy = null != policy ? policy : Policy.OVERFLOW; }
+    /** Returns the producer behavior if the ring is full. */
+    public final Policy getPolicy() { return policy; }
+
+    /** Sets the maximum time a producer blocks w/ {@link Policy#BLOCK} before overflowing, in nanoseconds. */
+    public final void setBlockTimeout(final long ns) { blockTimeoutNS = Math.max(0, ns); }
+    /** Returns the maximum time a producer blocks w/ {@link Policy#BLOCK}, in nanoseconds. */
+    public final long getBlockTimeout() { return blockTimeoutNS; }
+
+    /** Returns true if no task is pending. */
+    public final boolean isEmpty() {
+        return tail.get() == head.get() && !overflowActive;
+    }
+
+    /** Returns the approximate number of pending tasks. */
+    public final int size() {
+        int s = (int) ( tail.get() - head.get() );
+        if( overflowActive ) {
+            synchronized( overflow ) {
+                s += overflow.size();
+            }
+        }
+        return Math.max(0, s);
+    }
+
+    /**
+     * Enqueues the given task according to the {@link #getPolicy() policy}.
+     * @return true if enqueued, false if rejected via {@link Policy#DROP}
+     */
+    public final boolean enqueue(final GLRunnable r) {
+        final long now = Clock.currentNanos();
+        if( !overflowActive ) {
+            if( offer(r, now) ) {
+                enqueued();
+                return true;
+            }
+            final Policy p = policy;
+            if( Policy.DROP == p ) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+            if( Policy.BLOCK == p ) {
+                blockedCount.incrementAndGet();
+                final long t0 = now;
+                long backoff = 1000L; // 1 us
+                while( !overflowActive && Clock.currentNanos() - t0 < blockTimeoutNS ) {
+                    LockSupport.parkNanos(backoff);
+                    if( offer(r, Clock.currentNanos()) ) {
+                        enqueued();
+                        return true;
+                    }
+                    backoff = Math.min(backoff * 2, 1000000L); // max 1 ms
+                }
+            }
+        } else if( Policy.DROP == policy ) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        synchronized( overflow ) {
+            overflow.add(r);
+            overflowTimes.add(Long.valueOf(now));
+            overflowActive = true;
+        }
+        overflowCount.incrementAndGet();
+        enqueued();
+        return true;
+    }
+
+    private final void enqueued() {
+        enqueuedCount.incrementAndGet();
+        final int depth = size();
+        if( depth > maxDepth ) {
+            maxDepth = depth; // racy, approximate
+        }
+    }
+
+    /** Lock free ring insertion, returns false if full. */
+    private final boolean offer(final GLRunnable r, final long now) {
+        final Ring ring = getRing();
+        final int mask = ring.mask;
+        final AtomicLongArray sequences = ring.sequences;
+        long pos = tail.get();
+        int idx;
+        while( true ) {
+            idx = (int) ( pos & mask );
+            final long dif = sequences.get(idx) - pos;
+            if( 0 == dif ) {
+                if( tail.compareAndSet(pos, pos + 1) ) {
+                    break;
+                }
+                pos = tail.get();
+            } else if( 0 > dif ) {
+                return false; // full
+            } else {
+                pos = tail.get();
+            }
+        }
+        ring.slots[idx] = r;
+        ring.enqueueTimes[idx] = now;
+        sequences.set(idx, pos + 1); // publish
+        return true;
+    }
+
+    /**
+     * Executes all tasks enqueued before this call on the current GL thread.
+     * <p>
+     * Shall only be called by one consumer at a time, i.e. the GL thread within <code>display()</code>.
+     * </p>
+     * @return false if one {@link GLRunnable#run(GLAutoDrawable)} returned false, requesting a repaint, otherwise true
+     */
+    public final boolean drain(final GLAutoDrawable drawable) {
+        boolean res = true;
+        final long end = tail.get();
+        GLRunnable r;
+        while( null != ( r = poll(end, true) ) ) {
+            res = execute(r, drawable) && res;
+        }
+        if( overflowActive && head.get() == tail.get() ) {
+            // ring drained, overflow was enqueued after ring content
+            final GLRunnable[] rs;
+            final long[] ts;
+            synchronized( overflow ) {
+                rs = overflow.toArray(new GLRunnable[overflow.size()]);
+                ts = new long[rs.length];
+                for(int i=0; i<ts.length; i++) {
+                    ts[i] = overflowTimes.get(i).longValue();
+                }
+                overflow.clear();
+                overflowTimes.clear();
+                overflowActive = false;
+            }
+            final long now = Clock.currentNanos();
+            for(int i=0; i<rs.length; i++) {
+                updateLatency(now - ts[i]);
+                res = execute(rs[i], drawable) && res;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Lock free ring removal of the next published task before position <code>end</code>,
+     * returns null if none is available.
+     */
+    private final GLRunnable poll(final long end, final boolean updateStats) {
+        final Ring ring = this.ring;
+        if( null == ring ) {
+            return null; // nothing ever enqueued
+        }
+        final int mask = ring.mask;
+        final AtomicLongArray sequences = ring.sequences;
+        long pos = head.get();
+        while( pos < end ) {
+            final int idx = (int) ( pos & mask );
+            final long dif = sequences.get(idx) - ( pos + 1 );
+            if( 0 == dif ) {
+                if( head.compareAndSet(pos, pos + 1) ) {
+                    final GLRunnable r = ring.slots[idx];
+                    final long t = ring.enqueueTimes[idx];
+                    ring.slots[idx] = null;
+                    sequences.set(idx, pos + mask + 1); // release slot
+                    if( updateStats ) {
+                        updateLatency(Clock.currentNanos() - t);
+                    }
+                    return r;
+                }
+            } else if( 0 > dif ) {
+                return null; // not yet published, next batch
+            }
+            pos = head.get();
+        }
+        return null;
+    }
+
+    private final void updateLatency(final long latency) {
+        executedCount++; // single consumer
+        waitLatencySumNS += latency;
+        if( latency > waitLatencyMaxNS ) {
+            waitLatencyMaxNS = latency;
+        }
+    }
+
+    private final boolean execute(final GLRunnable r, final GLAutoDrawable drawable) {
+        if( r instanceof GLRunnableTask ) {
+            return r.run(drawable);
+        }
+        try {
+            return r.run(drawable);
+        } catch (final Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    /**
+     * Removes all pending tasks w/o executing them,
+     * {@link GLRunnableTask#flush() flushing} waiting {@link GLRunnableTask}s.
+     */
+    public final void flush() {
+        final long end = tail.get();
+        GLRunnable r;
+        while( null != ( r = poll(end, false) ) ) {
+            if( r instanceof GLRunnableTask ) {
+                ((GLRunnableTask)r).flush();
+            }
+        }
+        synchronized( overflow ) {
+            for(int i=0; i<overflow.size(); i++) {
+                final GLRunnable o = overflow.get(i);
+                if( o instanceof GLRunnableTask ) {
+                    ((GLRunnableTask)o).flush();
+                }
+            }
+            overflow.clear();
+            overflowTimes.clear();
+            overflowActive = false;
+        }
+    }
+
+    /** Returns the total number of enqueued tasks. */
+    public final long getEnqueuedCount() { return enqueuedCount.get(); }
+    /** Returns the total number of executed tasks. */
+    public final long getExecutedCount() { return executedCount; }
+    /** Returns the number of tasks spilled into the overflow list. */
+    public final long getOverflowCount() { return overflowCount.get(); }
+    /** Returns the number of tasks rejected via {@link Policy#DROP}. */
+    public final long getDroppedCount() { return droppedCount.get(); }
+    /** Returns the number of producers blocked via {@link Policy#BLOCK}. */
+    public final long getBlockedCount() { return blockedCount.get(); }
+    /** Returns the maximum observed queue depth. */
+    public final int getMaxDepth() { return maxDepth; }
+    /** Returns the average time in nanoseconds between enqueueing and execution of a task. */
+    public final long getAvgWaitLatency() { final long c = executedCount; return 0 < c ? waitLatencySumNS / c : 0; }
+    /** Returns the maximum time in nanoseconds between enqueueing and execution of a task. */
+    public final long getMaxWaitLatency() { return waitLatencyMaxNS; }
+
+    /** Resets all metrics. */
+    public final void resetStats() {
+        enqueuedCount.set(0);
+        overflowCount.set(0);
+        droppedCount.set(0);
+        blockedCount.set(0);
+        executedCount = 0;
+        waitLatencySumNS = 0;
+        waitLatencyMaxNS = 0;
+        maxDepth = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "GLRunnableQueue[capacity "+getCapacity()+", policy "+policy+", size "+size()+", maxDepth "+maxDepth+
+               ", enqueued "+getEnqueuedCount()+", executed "+executedCount+", overflow "+getOverflowCount()+
+               ", dropped "+getDroppedCount()+", blocked "+getBlockedCount()+
+               ", latency[avg "+getAvgWaitLatency()/1000+" us, max "+waitLatencyMaxNS/1000+" us]]";
+    }
+}
@@ -0,0 +1,340 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+
+import com.jogamp.common.util.PropertyAccess;
+import com.jogamp.nativewindow.AbstractGraphicsDevice;
+import com.jogamp.opengl.GLRendererQuirks;
+
+/**
+ * Opt-in persistent cache of the GL versions probed per {@link AbstractGraphicsDevice}
+ * via {@link GLContextImpl}'s <code>ARB_create_context</code> version mapping,
+ * sparing the creation of one temporary context per profile on each JVM start.
+ * <p>
+ * An {@link Entry} stores the mapped GL versions, the sticky device {@link com.jogamp.opengl.GLRendererQuirks}
+ * and the GL vendor, renderer and version strings of the probing contexts.
+ * It is keyed by the device's unique ID and only used if its {@link #getFingerprint(AbstractGraphicsDevice, GLDrawableFactoryImpl, boolean) fingerprint}
+ * matches, which covers the JOGL version, OS, factory, native library and driver related environment.
+ * The GL strings of the first real context are {@link Entry#validate(int, int, String, String, String) validated} against the entry,
+ * causing the entry to be removed and full probing on mismatch.
+ * </p>
+ * <p>
+ * Enabled via property <code>jogl.glprofile.cache</code>, stored in directory <code>jogl.glprofile.cache.dir</code>,
+ * which defaults to <code>${user.home}/.jogamp/jogl/glprofile</code>.
+ * </p>
+ */
+public class GLVersionProbeCache {
+    private static final boolean DEBUG;
+    private static final String FORMAT_VERSION = "1";
+
+    private static volatile boolean enabled;
+    private static final File cacheDir;
+
+    static {
+        Debug.initSingleton();
+        DEBUG = Debug.debug("GLVersionProbeCache");
+        if( GLRendererQuirks.getCount() > Long.SIZE ) {
+            // sticky quirks are stored as a long bitmask
+            System.err.println("GLVersionProbeCache: Disabled, "+GLRendererQuirks.getCount()+" quirks exceed "+Long.SIZE+" bits");
+            enabled = false;
+        } else {
+            enabled = PropertyAccess.isPropertyDefined("jogl.glprofile.cache", true);
+        }
+        String dir = PropertyAccess.getProperty("jogl.glprofile.cache.dir", true);
+        if( null == dir ) {
+            String home = null;
+            try {
+                home = System.getProperty("user.home");
+            } catch (final SecurityException se) { }
+            if( null != home ) {
+                dir = home + File.separator + ".jogamp" + File.separator + "jogl" + File.separator + "glprofile";
+            }
+        }
+        cacheDir = null != dir ? new File(dir) : null;
+    }
+
+    /** Cached GL version probing results of one device. */
+    public static class Entry {
+        private final String fingerprint;
+        private final ArrayList<int[]> versions = new ArrayList<int[]>();
+        private final HashMap<String, String> glVersions = new HashMap<String, String>();
+        private String glVendor = "";
+        private String glRenderer = "";
+        private long stickyQuirks = 0;
+
+        public Entry(final String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        /** Adds a mapped GL version, i.e. the composed version and profile bits for the requested major version and profile. */
+        public void addVersion(final int reqMajor, final int reqProfile, final int bits) {
+            versions.add(new int[] { reqMajor, reqProfile, bits });
+        }
+        /** Returns the mapped GL versions, each as <code>{ reqMajor, reqProfile, bits }</code>. */
+        public List<int[]> getVersions() { return versions; }
+
+        /** Records the GL strings of the probing context for the requested major version and profile. */
+        public void addProbe(final int reqMajor, final int reqProfile, final String vendor, final String renderer, final String version) {
+            glVendor = null != vendor ? vendor : "";
+            glRenderer = null != renderer ? renderer : "";
+            glVersions.put(reqMajor+"."+reqProfile, null != version ? version : "");
+        }
+
+        /**
+         * Adds the given sticky device quirk.
+         * @throws IllegalArgumentException if the quirk exceeds the bitmask, i.e. is not within [0..{@link Long#SIZE}[
+         */
+        public void addStickyQuirk(final int quirk) throws IllegalArgumentException {
+            if( !( 0 <= quirk && quirk < Long.SIZE ) ) {
+                throw new IllegalArgumentException("Quirk must be in range [0.."+Long.SIZE+"[, but quirk: "+quirk);
+            }
+            stickyQuirks |= 1L << quirk;
+        }
+        /** Returns true if the given sticky device quirk has been added. */
+        public boolean hasStickyQuirk(final int quirk) {
+            return 0 <= quirk && quirk < Long.SIZE && 0 != ( stickyQuirks & ( 1L << quirk ) );
+        }
+
+        /**
+         * Returns true if the given GL strings of a real context created w/ the requested major version and profile
+         * match this entry's vendor and renderer, as well as the probed version string if existing.
+         */
+        public boolean validate(final int reqMajor, final int reqProfile, final String vendor, final String renderer, final String version) {
+            if( !glVendor.equals(vendor) || !glRenderer.equals(renderer) ) {
+                return false;
+            }
+            final String probedVersion = glVersions.get(reqMajor+"."+reqProfile);
+            return null == probedVersion || probedVersion.equals(version);
+        }
+
+        @Override
+        public String toString() {
+            return "GLVersionProbeCache.Entry[vendor "+glVendor+", renderer "+glRenderer+", versions "+versions.size()+
+                   ", probes "+glVersions+", quirks 0x"+Long.toHexString(stickyQuirks)+"]";
+        }
+    }
+
+    /** Returns true if the cache is enabled, see property <code>jogl.glprofile.cache</code>. */
+    public static boolean isEnabled() { return enabled && null != cacheDir; }
+
+    /** Enables or disables the cache, taking effect for devices not yet mapped. */
+    public static void setEnabled(final boolean v) { enabled = v; }
+
+    /** Returns the cache directory or null if not available. */
+    public static File getCacheDir() { return cacheDir; }
+
+    /**
+     * Returns the cheap fingerprint of the given device, i.e. w/o any context.
+     * @param device the device
+     * @param factory the device's factory
+     * @param hasMinorVersionSupport whether <code>ARB_create_context</code> supports minor versions
+     */
+    public static String getFingerprint(final AbstractGraphicsDevice device, final GLDrawableFactoryImpl factory, final boolean hasMinorVersionSupport) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT_VERSION);
+        sb.append(';').append(Package.getPackage("com.jogamp.opengl").getImplementationVersion());
+        sb.append(';').append(getSystemProperty("os.name")).append(' ').append(getSystemProperty("os.version")).append(' ').append(getSystemProperty("os.arch"));
+        sb.append(';').append(device.getUniqueID()).append(';').append(factory.getClass().getName());
+        sb.append(';').append(factory.hasOpenGLDesktopSupport()).append(',').append(factory.hasOpenGLESSupport()).append(',').append(hasMinorVersionSupport);
+        sb.append(';').append(com.jogamp.opengl.GLProfile.disableOpenGLDesktop).append(',').append(com.jogamp.opengl.GLProfile.disableOpenGLCore)
+          .append(',').append(com.jogamp.opengl.GLProfile.disableOpenGLES);
+        final GLDynamicLookupHelper dl = factory.getGLDynamicLookupHelper(0, 0);
+        if( null != dl ) {
+            sb.append(';').append(dl.getGLBundleInfo().getToolLibNames());
+        }
+        sb.append(';').append(PropertyAccess.getProperty("jogl.quirks.force", true)).append(',').append(PropertyAccess.getProperty("jogl.quirks.ignore", true));
+        final String[] envKeys = { "LD_LIBRARY_PATH", "LIBGL_ALWAYS_SOFTWARE", "LIBGL_DRIVERS_PATH", "MESA_GL_VERSION_OVERRIDE",
+                                   "__GLX_VENDOR_LIBRARY_NAME", "__NV_PRIME_RENDER_OFFLOAD", "DRI_PRIME" };
+        for(int i=0; i<envKeys.length; i++) {
+            sb.append(';').append(getEnv(envKeys[i]));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the cached entry of the given device if existing and matching the given fingerprint, otherwise null.
+     */
+    public static Entry load(final AbstractGraphicsDevice device, final String fingerprint) {
+        if( !isEnabled() ) {
+            return null;
+        }
+        final File file = getFile(device);
+        try {
+            if( !file.isFile() ) {
+                return null;
+            }
+            final Properties props = new Properties();
+            final FileInputStream in = new FileInputStream(file);
+            try {
+                props.load(in);
+            } finally {
+                in.close();
+            }
+            if( !fingerprint.equals(props.getProperty("fingerprint")) ) {
+                if( DEBUG ) {
+                    System.err.println("GLVersionProbeCache.load: Fingerprint mismatch "+device.getUniqueID()+": "+fingerprint+" != "+props.getProperty("fingerprint"));
+                }
+                return null;
+            }
+            final Entry e = new Entry(fingerprint);
+            e.glVendor = props.getProperty("gl.vendor", "");
+            e.glRenderer = props.getProperty("gl.renderer", "");
+            e.stickyQuirks = Long.parseLong(props.getProperty("quirks.sticky", "0"));
+            for(final String key : props.stringPropertyNames()) {
+                if( key.startsWith("map.") ) {
+                    final String[] s = key.substring(4).split("\\.");
+                    e.addVersion(Integer.parseInt(s[0]), Integer.parseInt(s[1]), Integer.parseInt(props.getProperty(key)));
+                } else if( key.startsWith("gl.version.") ) {
+                    e.glVersions.put(key.substring(11), props.getProperty(key));
+                }
+            }
+            if( 0 == e.versions.size() ) {
+                return null;
+            }
+            if( DEBUG ) {
+                System.err.println("GLVersionProbeCache.load: "+device.getUniqueID()+": "+e);
+            }
+            return e;
+        } catch (final IOException ioe) {
+            if( DEBUG ) {
+                ioe.printStackTrace();
+            }
+        } catch (final RuntimeException re) { // SecurityException, NumberFormatException, ..
+            if( DEBUG ) {
+                re.printStackTrace();
+            }
+        }
+        return null;
+    }
+
+    /** Stores the given entry of the given device, returns true if successful. */
+    public static boolean store(final AbstractGraphicsDevice device, final Entry e) {
+        if( !isEnabled() ) {
+            return false;
+        }
+        final Properties props = new Properties();
+        props.setProperty("fingerprint", e.fingerprint);
+        props.setProperty("gl.vendor", e.glVendor);
+        props.setProperty("gl.renderer", e.glRenderer);
+        props.setProperty("quirks.sticky", String.valueOf(e.stickyQuirks));
+        for(int i=0; i<e.versions.size(); i++) {
+            final int[] v = e.versions.get(i);
+            props.setProperty("map."+v[0]+"."+v[1], String.valueOf(v[2]));
+        }
+        for(final String key : e.glVersions.keySet()) {
+            props.setProperty("gl.version."+key, e.glVersions.get(key));
+        }
+        final File file = getFile(device);
+        try {
+            if( !cacheDir.isDirectory() && !cacheDir.mkdirs() ) {
+                return false;
+            }
+            // write to temp file and rename, concurrent JVMs shall never read a partial entry
+            final File tmp = new File(cacheDir, file.getName()+"."+System.nanoTime()+".tmp");
+            final FileOutputStream out = new FileOutputStream(tmp);
+            try {
+                props.store(out, "JOGL GL version probing cache");
+            } finally {
+                out.close();
+            }
+            if( !tmp.renameTo(file) ) {
+                file.delete();
+                if( !tmp.renameTo(file) ) {
+                    tmp.delete();
+                    return false;
+                }
+            }
+            if( DEBUG ) {
+                System.err.println("GLVersionProbeCache.store: "+device.getUniqueID()+": "+e+" -> "+file);
+            }
+            return true;
+        } catch (final IOException ioe) {
+            if( DEBUG ) {
+                ioe.printStackTrace();
+            }
+        } catch (final SecurityException se) {
+            if( DEBUG ) {
+                se.printStackTrace();
+            }
+        }
+        return false;
+    }
+
+    /** Removes the cached entry of the given device. */
+    public static void remove(final AbstractGraphicsDevice device) {
+        if( null == cacheDir ) {
+            return;
+        }
+        try {
+            final File file = getFile(device);
+            if( file.delete() && DEBUG ) {
+                System.err.println("GLVersionProbeCache.remove: "+device.getUniqueID()+" -> "+file);
+            }
+        } catch (final SecurityException se) {
+            if( DEBUG ) {
+                se.printStackTrace();
+            }
+        }
+    }
+
+    private static File getFile(final AbstractGraphicsDevice device) {
+        final String id = device.getUniqueID();
+        final StringBuilder sb = new StringBuilder(id.length()+11);
+        for(int i=0; i<id.length(); i++) {
+            final char c = id.charAt(i);
+            sb.append( Character.isLetterOrDigit(c) || '.' == c || '-' == c ? c : '_' );
+        }
+        sb.append(".properties");
+        return new File(cacheDir, sb.toString());
+    }
+
+    private static String getSystemProperty(final String key) {
+        try {
+            return System.getProperty(key);
+        } catch (final SecurityException se) {
+            return null;
+        }
+    }
+
+    private static String getEnv(final String key) {
+        try {
+            return System.getenv(key);
+        } catch (final SecurityException se) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.PrivilegedAction;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.jogamp.common.os.DynamicLookupHelper;
+import com.jogamp.common.util.SecurityUtil;
+import com.jogamp.gluegen.runtime.FunctionAddressResolver;
+import com.jogamp.gluegen.runtime.ProcAddressTable;
+
+/**
+ * Lazy function address resolution of a {@link ProcAddressTable},
+ * resolving each entry on first use instead of eagerly {@link ProcAddressTable#reset(DynamicLookupHelper) resetting} all entries.
+ * <p>
+ * A table is put in lazy mode via {@link #attach(ProcAddressTable, DynamicLookupHelper, FunctionAddressResolver)}.
+ * The generated call sites, <code>isFunctionAvailable(..)</code> and <code>getAddressFor(..)</code> of tables emitted
+ * by {@link com.jogamp.gluegen.opengl.GLEmitter} call {@link #resolve(ProcAddressTable, String)}
+ * if an entry's address is still zero, which stores the resolved address in the table.
+ * </p>
+ * <p>
+ * Unavailable functions are remembered and not looked up again.
+ * Resolution is synchronized per table, since tables are shared across contexts of the same type.
+ * </p>
+ * <p>
+ * The address fields are not <code>volatile</code> to spare eagerly resolved tables a volatile read per GL call.
+ * Hence a call site may read a stale zero address of an entry resolved by another thread,
+ * which is resolved again via {@link #resolve(String)} reading the field under this instance's lock.
+ * A resolved non-zero address is written only once, relying on the atomic access of <code>long</code> fields
+ * on 64-bit platforms, hence lazy mode is not used on 32-bit platforms.
+ * </p>
+ */
+public final class LazyProcAddressResolver {
+    private static final boolean DEBUG = Debug.debug("LazyProcAddressResolver");
+
+    /** Address field name prefix of generated {@link ProcAddressTable}s. */
+    public static final String PROCADDRESS_VAR_PREFIX = "_addressof_";
+
+    /** Lazy tables, weakly referenced. */
+    private static final WeakHashMap<ProcAddressTable, LazyProcAddressResolver> lazyTables = new WeakHashMap<ProcAddressTable, LazyProcAddressResolver>();
+
+    /** Address fields per table class, keyed by function name. */
+    private static final HashMap<Class<?>, Map<String, Field>> fieldsPerClass = new HashMap<Class<?>, Map<String, Field>>();
+
+    private final ProcAddressTable table;
+    private final DynamicLookupHelper lookup;
+    private final FunctionAddressResolver resolver;
+    private final Map<String, Field> fields;
+    private final HashSet<String> unavailable = new HashSet<String>();
+    private int resolvedCount = 0;
+
+    private LazyProcAddressResolver(final ProcAddressTable table, final DynamicLookupHelper lookup, final FunctionAddressResolver resolver) {
+        this.table = table;
+        this.lookup = lookup;
+        this.resolver = resolver;
+        this.fields = getFields(table.getClass());
+    }
+
+    /**
+     * Puts the given table in lazy mode, i.e. its entries will be resolved on first use.
+     * <p>
+     * The table shall be newly created, i.e. all entries are zero.
+     * </p>
+     * @param table the table
+     * @param lookup the lookup helper used for resolution
+     * @param resolver the function address resolver, e.g. handling vendor name permutations
+     * @return the new {@link LazyProcAddressResolver} instance of the table
+     */
+    public static LazyProcAddressResolver attach(final ProcAddressTable table, final DynamicLookupHelper lookup, final FunctionAddressResolver resolver) {
+        final LazyProcAddressResolver r = new LazyProcAddressResolver(table, lookup, resolver);
+        synchronized( lazyTables ) {
+            lazyTables.put(table, r);
+        }
+        return r;
+    }
+
+    /** Returns the {@link LazyProcAddressResolver} of the given table or null if the table is not in lazy mode. */
+    public static LazyProcAddressResolver get(final ProcAddressTable table) {
+        synchronized( lazyTables ) {
+            return lazyTables.get(table);
+        }
+    }
+
+    /**
+     * Resolves the given function of the given table if in lazy mode, storing the address in the table.
+     * @param table the table
+     * @param functionName the function name w/o {@link #PROCADDRESS_VAR_PREFIX}
+     * @return the resolved address or zero if the table is not in lazy mode or the function is not available
+     */
+    public static long resolve(final ProcAddressTable table, final String functionName) {
+        final LazyProcAddressResolver r = get(table);
+        return null != r ? r.resolve(functionName) : 0;
+    }
+
+    /**
+     * Resolves the given function, storing the address in the table.
+     * @param functionName the function name w/o {@link #PROCADDRESS_VAR_PREFIX}
+     * @return the resolved address or zero if the function is not available
+     */
+    public synchronized long resolve(final String functionName) {
+        final Field field = fields.get(functionName);
+        if( null == field || unavailable.contains(functionName) ) {
+            return 0;
+        }
+        try {
+            final long addr0 = field.getLong(table);
+            if( 0 != addr0 ) {
+                return addr0;
+            }
+            final long addr = SecurityUtil.doPrivileged(new PrivilegedAction<Long>() {
+                @Override
+                public Long run() {
+                    lookup.claimAllLinkPermission();
+                    try {
+                        return Long.valueOf( resolver.resolve(functionName, lookup) );
+                    } finally {
+                        lookup.releaseAllLinkPermission();
+                    }
+                } } ).longValue();
+            if( 0 != addr ) {
+                field.setLong(table, addr);
+                resolvedCount++;
+            } else {
+                unavailable.add(functionName);
+            }
+            if( DEBUG ) {
+                System.err.println("LazyProcAddressResolver: "+functionName+" -> 0x"+Long.toHexString(addr)+", "+this);
+            }
+            return addr;
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException("Address field access failed for \""+functionName+"\" of "+table.getClass().getName(), e);
+        }
+    }
+
+    /** Returns the table. */
+    public ProcAddressTable getTable() { return table; }
+
+    /** Returns the number of resolved entries. */
+    public synchronized int getResolvedCount() { return resolvedCount; }
+
+    /** Returns the number of entries queried but not available. */
+    public synchronized int getUnavailableCount() { return unavailable.size(); }
+
+    /** Returns the total number of entries of the table. */
+    public int getSymbolCount() { return fields.size(); }
+
+    @Override
+    public String toString() {
+        return "LazyProcAddressResolver["+table.getClass().getSimpleName()+", resolved "+getResolvedCount()+", unavailable "+
+               getUnavailableCount()+" of "+getSymbolCount()+"]";
+    }
+
+    private static Map<String, Field> getFields(final Class<?> clazz) {
+        synchronized( fieldsPerClass ) {
+            Map<String, Field> fields = fieldsPerClass.get(clazz);
+            if( null == fields ) {
+                final Map<String, Field> res = new HashMap<String, Field>();
+                SecurityUtil.doPrivileged(new PrivilegedAction<Object>() {
+                    @Override
+                    public Object run() {
+                        final Field[] fs = clazz.getDeclaredFields();
+                        for(int i=0; i<fs.length; i++) {
+                            final Field f = fs[i];
+                            final String name = f.getName();
+                            if( name.startsWith(PROCADDRESS_VAR_PREFIX) && long.class == f.getType() && !Modifier.isStatic(f.getModifiers()) ) {
+                                f.setAccessible(true);
+                                res.put(name.substring(PROCADDRESS_VAR_PREFIX.length()), f);
+                            }
+                        }
+                        return null;
+                    } } );
+                fields = res;
+                fieldsPerClass.put(clazz, fields);
+            }
+            return fields;
+        }
+    }
+}
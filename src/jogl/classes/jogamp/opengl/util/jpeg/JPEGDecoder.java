@@ -56,10 +56,18 @@
 
 package jogamp.opengl.util.jpeg;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jogamp.opengl.Debug;
 
@@ -105,6 +113,48 @@ public class JPEGDecoder {
         public void storeYCbCr(int x, int y, byte Y, byte Cb, byte Cr);
     }
 
+    /**
+     * Bulk variant of {@link ColorSink}, receiving whole converted scanlines
+     * of {@link TextureData.ColorSpace#RGB} or {@link TextureData.ColorSpace#YCbCr} triplets
+     * into a user provided {@link ByteBuffer}, see {@link JPEGDecoder#getPixels(ColorLineSink, int, int)}.
+     * <p>
+     * Scanlines are delivered in bands of one MCU row, i.e. <code>8 * maxV</code> lines,
+     * using a single bulk transfer per scanline.
+     * </p>
+     */
+    public static interface ColorLineSink {
+        /**
+         * @param width
+         * @param height
+         * @param sourceCS the color-space of the decoded JPEG
+         * @param sourceComponents number of components used for the given source color-space
+         * @return Either {@link TextureData.ColorSpace#RGB} or {@link TextureData.ColorSpace#YCbCr}. {@link TextureData.ColorSpace#YCCK} and {@link TextureData.ColorSpace#CMYK} will throw an exception!
+         * @throws RuntimeException
+         */
+        public TextureData.ColorSpace allocate(int width, int height, TextureData.ColorSpace sourceCS, int sourceComponents) throws RuntimeException;
+        /**
+         * Returns the destination buffer, valid after {@link #allocate(int, int, ColorSpace, int) allocation}.
+         * <p>
+         * Its position is preserved, scanlines are written at {@link #getLineOffset(int)}.
+         * </p>
+         */
+        public ByteBuffer getBuffer();
+        /**
+         * Returns the absolute byte offset of scanline <code>y</code> within {@link #getBuffer()},
+         * allowing custom strides and vertical flipping.
+         * Each scanline consists of <code>width * 3</code> bytes.
+         * <p>
+         * May be called concurrently if {@link JPEGDecoder#setParallel(java.util.concurrent.Executor, int) parallel decoding} is enabled.
+         * </p>
+         */
+        public int getLineOffset(int y);
+        /**
+         * Notifies that the scanlines <code>[y .. y+count-1]</code> have been stored,
+         * always called in ascending order on the decoding thread.
+         */
+        public void storeLines(int y, int count);
+    }
+
     public static class JFIF {
         final VersionNumber version;
         final int densityUnits;
@@ -381,9 +431,10 @@ public class JPEGDecoder {
         int blocksPerColumnForMcu;
         int blocksPerLine;
         int blocksPerLineForMcu;
-        /** [blocksPerColumnForMcu][blocksPerLineForMcu][64]; */
-        int[][][] blocks;
-        int pred;
+        /** [blocksPerColumnForMcu * blocksPerLineForMcu * 64], see {@link #getBlockOffset(int, int)}. */
+        int[] blocks;
+        /** index within the current scan, see {@link Decoder#preds} */
+        int scanIdx;
         BinObj huffmanTableAC;
         BinObj huffmanTableDC;
 
@@ -393,18 +444,20 @@ public class JPEGDecoder {
             this.qttIdx = qttIdx;
         }
 
-        public final void allocateBlocks(final int blocksPerColumn, final int blocksPerColumnForMcu, final int blocksPerLine, final int blocksPerLineForMcu) {
+        public final void allocateBlocks(final int blocksPerColumn, final int blocksPerColumnForMcu, final int blocksPerLine, final int blocksPerLineForMcu,
+                                         final Scratch scratch, final int compIdx) {
             this.blocksPerColumn = blocksPerColumn;
             this.blocksPerColumnForMcu = blocksPerColumnForMcu;
             this.blocksPerLine = blocksPerLine;
             this.blocksPerLineForMcu = blocksPerLineForMcu;
-            this.blocks = new int[blocksPerColumnForMcu][blocksPerLineForMcu][64];
+            this.blocks = scratch.getBlocks(compIdx, blocksPerColumnForMcu * blocksPerLineForMcu * 64);
         }
-        public final int[] getBlock(final int row, final int col) {
+        /** Returns the offset of the 64 coefficients of the given block within {@link #blocks}. */
+        public final int getBlockOffset(final int row, final int col) {
             if( row >= blocksPerColumnForMcu || col >= blocksPerLineForMcu ) {
                 throw new CodecException("Out of bounds given ["+row+"]["+col+"] - "+this);
             }
-            return blocks[row][col];
+            return ( row * blocksPerLineForMcu + col ) << 6;
         }
 
         @Override
@@ -413,27 +466,143 @@ public class JPEGDecoder {
         }
     }
 
-    /** The decoded components */
+    /** The decoded components, stored as one contiguous plane of <code>lineCount * stride</code> samples. */
     static class ComponentOut {
-        private final ArrayList<byte[]> lines;
+        final byte[] plane;
+        final int stride;
+        final int lineCount;
         final float scaleX;
         final float scaleY;
 
-        ComponentOut(final ArrayList<byte[]> lines, final float scaleX, final float scaleY) {
-            this.lines = lines;
+        ComponentOut(final byte[] plane, final int stride, final int lineCount, final float scaleX, final float scaleY) {
+            this.plane = plane;
+            this.stride = stride;
+            this.lineCount = lineCount;
             this.scaleX = scaleX;
             this.scaleY = scaleY;
         }
 
-        /** Safely returning a line, if index exceeds number of lines, last line is returned. */
-        public final byte[] getLine(final int i) {
-            final int sz = lines.size();
-            return lines.get( i < sz ? i : sz - 1);
+        /** Safely returning a line's offset within {@link #plane}, if index exceeds number of lines, last line is used. */
+        public final int getLineOffset(final int i) {
+            return ( i < lineCount ? i : lineCount - 1 ) * stride;
         }
 
         @Override
         public final String toString() {
-            return "CompOut[lines "+lines.size()+", scale "+scaleX+"x"+scaleY+"]";
+            return "CompOut[lines "+lineCount+", stride "+stride+", scale "+scaleX+"x"+scaleY+"]";
+        }
+    }
+
+    /**
+     * Reusable scratch memory for coefficient blocks, decoded planes and converted scanlines,
+     * allowing one decoder instance to decode many images without allocation.
+     * <p>
+     * Storage only grows, use {@link JPEGDecoder#releaseScratch()} to drop it.
+     * </p>
+     */
+    static class Scratch {
+        private int[][] blocks = new int[0][];
+        private byte[][] planes = new byte[0][];
+        private int[][] columns = new int[0][];
+        private byte[][] lines = new byte[0][];
+        private int[][] idcts = new int[0][];
+        private Decoder[] decoders = new Decoder[0];
+        /** entropy coded scan data of {@link JPEGDecoder#decodeScanParallel(Frame, ArrayList, int, int)} */
+        byte[] scan = new byte[0];
+        /** restart interval offsets within {@link #scan} */
+        int[] segments = new int[0];
+
+        /** Returns the IDCT working set for the given worker. */
+        final int[] getIDCT(final int worker) {
+            if( worker >= idcts.length ) {
+                idcts = Arrays.copyOf(idcts, worker+1);
+            }
+            int[] r = idcts[worker];
+            if( null == r ) {
+                r = new int[64];
+                idcts[worker] = r;
+            }
+            return r;
+        }
+        /** Returns a restart interval decoder for the given worker. */
+        final Decoder getDecoder(final JPEGDecoder parent, final int worker) {
+            if( worker >= decoders.length ) {
+                decoders = Arrays.copyOf(decoders, worker+1);
+            }
+            Decoder d = decoders[worker];
+            if( null == d ) {
+                d = parent.new Decoder(new Bitstream<InputStream>(new Bitstream.ByteInputStream(null), false /* outputMode */));
+                decoders[worker] = d;
+            }
+            return d;
+        }
+
+        /** Returns zeroed coefficient storage of at least <code>size</code> elements for the given component. */
+        final int[] getBlocks(final int compIdx, final int size) {
+            if( compIdx >= blocks.length ) {
+                blocks = Arrays.copyOf(blocks, compIdx+1);
+            }
+            int[] b = blocks[compIdx];
+            if( null == b || b.length < size ) {
+                b = new int[size];
+                blocks[compIdx] = b;
+            } else {
+                Arrays.fill(b, 0, size, 0);
+            }
+            return b;
+        }
+        /** Returns sample storage of at least <code>size</code> bytes for the given component, content is undefined. */
+        final byte[] getPlane(final int compIdx, final int size) {
+            if( compIdx >= planes.length ) {
+                planes = Arrays.copyOf(planes, compIdx+1);
+            }
+            byte[] p = planes[compIdx];
+            if( null == p || p.length < size ) {
+                p = new byte[size];
+                planes[compIdx] = p;
+            }
+            return p;
+        }
+        /** Returns a column index map of at least <code>size</code> elements for the given component, content is undefined. */
+        final int[] getColumns(final int compIdx, final int size) {
+            if( compIdx >= columns.length ) {
+                columns = Arrays.copyOf(columns, compIdx+1);
+            }
+            int[] c = columns[compIdx];
+            if( null == c || c.length < size ) {
+                c = new int[size];
+                columns[compIdx] = c;
+            }
+            return c;
+        }
+        /** Returns a scanline buffer of at least <code>size</code> bytes for the given worker, content is undefined. */
+        final byte[] getLine(final int worker, final int size) {
+            if( worker >= lines.length ) {
+                lines = Arrays.copyOf(lines, worker+1);
+            }
+            byte[] l = lines[worker];
+            if( null == l || l.length < size ) {
+                l = new byte[size];
+                lines[worker] = l;
+            }
+            return l;
+        }
+        /** Returns the number of bytes held. */
+        final long getByteSize() {
+            long sz = scan.length + 4L * segments.length + 256L * idcts.length;
+            for(int i=0; i<lines.length; i++) {
+                if( null != lines[i] ) { sz += lines[i].length; }
+            }
+            for(int i=0; i<blocks.length; i++) {
+                if( null != blocks[i] ) { sz += 4L * blocks[i].length; }
+            }
+            for(int i=0; i<planes.length; i++) {
+                if( null != planes[i] ) { sz += planes[i].length; }
+            }
+            for(int i=0; i<columns.length; i++) {
+                if( null != columns[i] ) { sz += 4L * columns[i].length; }
+            }
+            return sz;
         }
     }
 
@@ -454,6 +623,11 @@ public class JPEGDecoder {
     private EXIF exif = null;
     private Adobe adobe = null;
     private ComponentOut[] components = null;
+    /** Scanlines per MCU row, i.e. <code>8 * maxV</code> */
+    private int mcuLines = 0;
+    private Scratch scratch = new Scratch();
+    private Executor executor = null;
+    private int parallelism = 1;
 
     public final JFIF getJFIFHeader() { return jfif; }
     public final EXIF getEXIFHeader() { return exif; }
@@ -461,6 +635,44 @@ public class JPEGDecoder {
     public final int getWidth() { return width; }
     public final int getHeight() { return height; }
 
+    /**
+     * Enables parallel decoding, disabled by default.
+     * <p>
+     * If enabled, the inverse DCT of all components and the color conversion of {@link #getPixels(ColorLineSink, int, int)}
+     * are split across block rows and MCU rows respectively.
+     * Baseline scans using restart intervals are entropy decoded in parallel as well,
+     * each restart interval being an independent segment.
+     * </p>
+     * <p>
+     * The calling thread participates in decoding and at most <code>parallelism - 1</code> tasks
+     * are passed to the given executor. The decoded result is identical to the single threaded path.
+     * </p>
+     * @param executor the {@link Executor} running the decoding tasks, or <code>null</code> to disable parallel decoding
+     * @param parallelism the maximum number of concurrent decoding threads including the calling thread,
+     *                    a value &le; 1 disables parallel decoding
+     */
+    public synchronized void setParallel(final Executor executor, final int parallelism) {
+        this.executor = executor;
+        this.parallelism = null != executor ? Math.max(1, parallelism) : 1;
+    }
+    /** Returns true if parallel decoding is enabled, see {@link #setParallel(Executor, int)}. */
+    public synchronized boolean isParallel() { return null != executor && 1 < parallelism; }
+
+    /** Returns the number of bytes held by the reusable scratch memory, see {@link #releaseScratch()}. */
+    public synchronized long getScratchByteSize() { return scratch.getByteSize(); }
+
+    /**
+     * Releases the reusable scratch memory, which is retained across {@link #parse(InputStream)} calls
+     * to decode many images without allocation.
+     * <p>
+     * Also {@link #clear(InputStream) clears} the decoded image.
+     * </p>
+     */
+    public synchronized void releaseScratch() {
+        clear(null);
+        scratch = new Scratch();
+    }
+
     private final void setStream(final InputStream is) {
         try {
             bstream.setStream(is, false /* outputMode */);
@@ -513,6 +725,7 @@ public class JPEGDecoder {
         exif = null;
         adobe = null;
         components = null;
+        mcuLines = 0;
     }
     public synchronized JPEGDecoder parse(final InputStream inputStream) throws IOException {
         clear(inputStream);
@@ -681,6 +894,7 @@ public class JPEGDecoder {
                     final int tableSpec = readUInt8(); count++;
                     component.huffmanTableDC = huffmanTablesDC[tableSpec >> 4];
                     component.huffmanTableAC = huffmanTablesAC[tableSpec & 15];
+                    component.scanIdx = i;
                     components.add(component);
                 }
                 final int spectralStart = readUInt8(); count++;
@@ -689,7 +903,7 @@ public class JPEGDecoder {
                 if(count!=sosLen){
                     throw new CodecException("ERROR: scan header format error [count!=Length]");
                 }
-                fileMarker = decoder.decodeScan(frame, components, resetInterval,
+                fileMarker = decodeScan(frame, components, resetInterval,
                                                 spectralStart, spectralEnd,
                                                 successiveApproximation >> 4, successiveApproximation & 15);
                 if(DEBUG) { System.err.println("JPG.parse.SOS.decode result "+toHexString(fileMarker)); }
@@ -721,19 +935,211 @@ public class JPEGDecoder {
         frame.validateComponents();
 
         final int compCount = frame.getCompCount();
+        this.mcuLines = frame.maxV << 3;
         this.components = new ComponentOut[compCount];
+        final int[] blockRowStart = new int[compCount+1];
         for (int i = 0; i < compCount; i++) {
             final ComponentIn component = frame.getCompByIndex(i);
             // System.err.println("JPG.parse.buildComponentData["+i+"]: "+component); // JAU
             // System.err.println("JPG.parse.buildComponentData["+i+"]: "+frame); // JAU
-            this.components[i] = new ComponentOut( output.buildComponentData(frame, component),
-                                                   (float)component.h / (float)frame.maxH,
-                                                   (float)component.v / (float)frame.maxV );
+            this.components[i] = output.allocateComponentData(frame, component, scratch, i);
+            blockRowStart[i+1] = blockRowStart[i] + component.blocksPerColumn;
+        }
+        for(int w=0; w<parallelism; w++) {
+            scratch.getIDCT(w);
+        }
+        {
+            final Frame fFrame = frame;
+            final ComponentOut[] outs = this.components;
+            runParallel(blockRowStart[compCount], new IndexedTask() {
+                @Override
+                public void run(final int worker, final int idx) {
+                    int i = 0;
+                    while( idx >= blockRowStart[i+1] ) {
+                        i++;
+                    }
+                    output.buildComponentData(fFrame, fFrame.getCompByIndex(i), outs[i], idx - blockRowStart[i], scratch.getIDCT(worker));
+                } } );
         }
         if(DEBUG) { System.err.println("JPG.parse.X: End of processing input "+this); }
         return this;
     }
 
+    /** A task of {@link JPEGDecoder#runParallel(int, IndexedTask)}. */
+    static interface IndexedTask {
+        /**
+         * @param worker the worker index in the range [0..parallelism-1], 0 denotes the calling thread
+         * @param idx the task index
+         */
+        void run(int worker, int idx) throws IOException;
+    }
+
+    /**
+     * Runs the tasks <code>[0..count-1]</code> using the calling thread and up to <code>parallelism - 1</code>
+     * tasks on the {@link #executor}, returning after all tasks have been completed.
+     * <p>
+     * Each worker pulls the next pending task index, hence tasks not yet started by a queued worker
+     * are completed by the calling thread and we never wait on a worker which hasn't started.
+     * </p>
+     */
+    private void runParallel(final int count, final IndexedTask task) throws IOException {
+        final int workers = null != executor ? Math.min(parallelism, count) : 1;
+        if( 1 >= workers ) {
+            for(int i=0; i<count; i++) {
+                task.run(0, i);
+            }
+            return;
+        }
+        final AtomicInteger next = new AtomicInteger(0);
+        final CountDownLatch done = new CountDownLatch(count);
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>(null);
+        for(int w=1; w<workers; w++) {
+            final int worker = w;
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        drainTasks(worker, count, task, next, done, error);
+                    } } );
+            } catch (final RejectedExecutionException ree) {
+                break; // remaining tasks will be run by the calling thread
+            }
+        }
+        drainTasks(0, count, task, next, done, error);
+        try {
+            done.await();
+        } catch (final InterruptedException ie) {
+            final InterruptedIOException iioe = new InterruptedIOException("Interrupted while decoding");
+            iioe.initCause(ie);
+            throw iioe;
+        }
+        final Throwable t = error.get();
+        if( null != t ) {
+            if( t instanceof IOException ) {
+                throw (IOException)t;
+            } else if( t instanceof RuntimeException ) {
+                throw (RuntimeException)t;
+            } else if( t instanceof Error ) {
+                throw (Error)t;
+            }
+            throw new CodecException("Decoding task failed: "+t.getMessage());
+        }
+    }
+    private static void drainTasks(final int worker, final int count, final IndexedTask task,
+                                   final AtomicInteger next, final CountDownLatch done, final AtomicReference<Throwable> error) {
+        int idx;
+        while( ( idx = next.getAndIncrement() ) < count ) {
+            try {
+                if( null == error.get() ) {
+                    task.run(worker, idx);
+                }
+            } catch (final Throwable t) {
+                error.compareAndSet(null, t);
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    private int decodeScan(final Frame frame, final ArrayList<ComponentIn> components, final int resetInterval,
+                           final int spectralStart, final int spectralEnd, final int successivePrev, final int successive) throws IOException {
+        if( null != executor && 1 < parallelism && !frame.progressive && 0 < resetInterval ) {
+            return decodeScanParallel(frame, components, resetInterval, getMcuExpected(frame, components));
+        }
+        return decoder.decodeScan(frame, components, resetInterval, spectralStart, spectralEnd, successivePrev, successive);
+    }
+
+    private static int getMcuExpected(final Frame frame, final ArrayList<ComponentIn> components) {
+        if (components.size() == 1) {
+            final ComponentIn c = components.get(0);
+            return c.blocksPerLine * c.blocksPerColumn;
+        } else {
+            return frame.mcusPerLine * frame.mcusPerColumn;
+        }
+    }
+
+    /**
+     * Decodes a baseline scan using restart intervals in parallel.
+     * <p>
+     * The entropy coded data is read up to the first non RSTx marker and split at its RSTx markers.
+     * Each resulting segment starts with reset DC predictions and hence can be decoded independently.
+     * Stuffed <code>0xFF00</code> bytes are kept and handled by {@link Decoder#readBit()}.
+     * </p>
+     * @return the terminating marker
+     */
+    private int decodeScanParallel(final Frame frame, final ArrayList<ComponentIn> components, final int resetInterval, final int mcuExpected) throws IOException {
+        bstream.skip( bstream.getBitCount() ); // align to next byte
+        byte[] scan = scratch.scan;
+        int[] segments = scratch.segments;
+        if( 0 == segments.length ) {
+            segments = new int[16];
+        }
+        int len = 0;
+        int segmentCount = 1;
+        segments[0] = 0;
+        int marker = M_EOI; // EOS
+        while( true ) {
+            final int b = readUInt8();
+            if( 0 > b ) {
+                break;
+            }
+            if( 0xFF == b ) {
+                int b2 = readUInt8();
+                while( 0xFF == b2 ) { // fill bytes
+                    b2 = readUInt8();
+                }
+                if( 0 > b2 ) {
+                    break;
+                } else if( 0 == b2 ) {
+                    // stuffed 0xFF
+                    if( len + 2 > scan.length ) {
+                        scan = Arrays.copyOf(scan, Math.max(len + 2, scan.length * 2));
+                    }
+                    scan[len++] = (byte)0xFF;
+                    scan[len++] = (byte)0x00;
+                } else if( 0xD0 <= b2 && b2 <= 0xD7 ) {
+                    // RSTx
+                    if( segmentCount == segments.length ) {
+                        segments = Arrays.copyOf(segments, segments.length * 2);
+                    }
+                    segments[segmentCount++] = len;
+                } else {
+                    marker = 0xFF00 | b2;
+                    break;
+                }
+            } else {
+                if( len + 1 > scan.length ) {
+                    scan = Arrays.copyOf(scan, Math.max(1024, scan.length * 2));
+                }
+                scan[len++] = (byte)b;
+            }
+        }
+        scratch.scan = scan;
+        scratch.segments = segments;
+        if(DEBUG) {
+            System.err.println("JPEG.decodeScanParallel: resetInterval "+resetInterval+", mcuExpected "+mcuExpected+", segments "+segmentCount+", bytes "+len+", marker "+toHexString(marker));
+        }
+        for(int w=0; w<parallelism; w++) {
+            scratch.getDecoder(this, w);
+        }
+        final byte[] fScan = scan;
+        final int[] fSegments = segments;
+        final int fLen = len;
+        final int fSegmentCount = segmentCount;
+        runParallel(segmentCount, new IndexedTask() {
+            @Override
+            public void run(final int worker, final int idx) throws IOException {
+                final int mcuStart = idx * resetInterval;
+                if( mcuStart < mcuExpected ) {
+                    final int start = fSegments[idx];
+                    final int end = idx + 1 < fSegmentCount ? fSegments[idx+1] : fLen;
+                    scratch.getDecoder(JPEGDecoder.this, worker).decodeInterval(frame, components, new ByteArrayInputStream(fScan, start, end - start),
+                                                                               mcuStart, Math.min(resetInterval, mcuExpected - mcuStart));
+                }
+            } } );
+        return marker;
+    }
+
     private void prepareComponents(final Frame frame) {
         int maxH = 0, maxV = 0;
         // for (componentId in frame.components) {
@@ -752,7 +1158,7 @@ public class JPEGDecoder {
             final int blocksPerColumn = (int) Math.ceil(Math.ceil(frame.scanLines  / 8f) * component.v / maxV);
             final int blocksPerLineForMcu = mcusPerLine * component.h;
             final int blocksPerColumnForMcu = mcusPerColumn * component.v;
-            component.allocateBlocks(blocksPerColumn, blocksPerColumnForMcu, blocksPerLine, blocksPerLineForMcu);
+            component.allocateBlocks(blocksPerColumn, blocksPerColumnForMcu, blocksPerLine, blocksPerLineForMcu, scratch, i);
         }
         frame.maxH = maxH;
         frame.maxV = maxV;
@@ -828,38 +1234,25 @@ public class JPEGDecoder {
 
     private final Output output = new Output();
     static class Output {
-        private int blocksPerLine;
-        private int blocksPerColumn;
-        private int samplesPerLine;
-
-        private ArrayList<byte[]> buildComponentData(final Frame frame, final ComponentIn component) {
-            final ArrayList<byte[]> lines = new ArrayList<byte[]>();
-            blocksPerLine = component.blocksPerLine;
-            blocksPerColumn = component.blocksPerColumn;
-            samplesPerLine = blocksPerLine << 3;
-            final int[] R = new int[64];
-            final byte[] r = new byte[64];
-
-            for (int blockRow = 0; blockRow < blocksPerColumn; blockRow++) {
-                final int scanLine = blockRow << 3;
-                // System.err.println("JPG.buildComponentData: row "+blockRow+"/"+blocksPerColumn+" -> scanLine "+scanLine); // JAU
-                for (int i = 0; i < 8; i++) {
-                    lines.add(new byte[samplesPerLine]);
-                }
-                for (int blockCol = 0; blockCol < blocksPerLine; blockCol++) {
-                    // System.err.println("JPG.buildComponentData: col "+blockCol+"/"+blocksPerLine+", comp.qttIdx "+component.qttIdx+", qtt "+frame.qtt[component.qttIdx]); // JAU
-                    quantizeAndInverse(component.getBlock(blockRow, blockCol), r, R, frame.qtt[component.qttIdx]);
-
-                    final int sample = blockCol << 3;
-                    int offset = 0;
-                    for (int j = 0; j < 8; j++) {
-                        final byte[] line = lines.get(scanLine + j);
-                        for (int i = 0; i < 8; i++)
-                            line[sample + i] = r[offset++];
-                    }
-                }
+        private ComponentOut allocateComponentData(final Frame frame, final ComponentIn component, final Scratch scratch, final int compIdx) {
+            final int samplesPerLine = component.blocksPerLine << 3;
+            final int lineCount = component.blocksPerColumn << 3;
+            final byte[] plane = scratch.getPlane(compIdx, lineCount * samplesPerLine);
+            return new ComponentOut(plane, samplesPerLine, lineCount,
+                                    (float)component.h / (float)frame.maxH,
+                                    (float)component.v / (float)frame.maxV);
+        }
+
+        /** Dequantizes and inverse transforms one row of blocks into the given {@link ComponentOut}. */
+        private void buildComponentData(final Frame frame, final ComponentIn component, final ComponentOut out, final int blockRow, final int[] idct) {
+            final int blocksPerLine = component.blocksPerLine;
+            final int samplesPerLine = out.stride;
+            final int[] qt = frame.qtt[component.qttIdx];
+            final int scanLineOffset = ( blockRow << 3 ) * samplesPerLine;
+            for (int blockCol = 0; blockCol < blocksPerLine; blockCol++) {
+                quantizeAndInverse(component.blocks, component.getBlockOffset(blockRow, blockCol),
+                                   out.plane, scanLineOffset + ( blockCol << 3 ), samplesPerLine, idct, qt);
             }
-            return lines;
         }
 
         // A port of poppler's IDCT method which in turn is taken from:
@@ -867,14 +1260,18 @@ public class JPEGDecoder {
         //   "Practical Fast 1-D DCT Algorithms with 11 Multiplications",
         //   IEEE Intl. Conf. on Acoustics, Speech & Signal Processing, 1989,
         //   988-991.
-        private void quantizeAndInverse(final int[] zz, final byte[] dataOut, final int[] dataIn, final int[] qt) {
+        //
+        // The 8x8 result is written directly into the component plane 'dataOut'
+        // starting at 'outOffset' using 'outStride' bytes per scanline.
+        private void quantizeAndInverse(final int[] zz, final int zzOffset, final byte[] dataOut, final int outOffset, final int outStride,
+                                        final int[] dataIn, final int[] qt) {
             int v0, v1, v2, v3, v4, v5, v6, v7, t;
             final int[] p = dataIn;
             int i;
 
             // dequant
             for (i = 0; i < 64; i++) {
-                p[i] = zz[i] * qt[i];
+                p[i] = zz[zzOffset + i] * qt[i];
             }
 
             // inverse DCT on rows
@@ -1016,18 +1413,25 @@ public class JPEGDecoder {
             }
 
             // convert to 8-bit integers
-            for (i = 0; i < 64; ++i) {
-                final int sample = 128 + ((p[i] + 8) >> 4);
-                dataOut[i] = (byte) ( sample < 0 ? 0 : sample > 0xFF ? 0xFF : sample );
+            for (int j = 0; j < 8; ++j) {
+                final int row = j << 3;
+                final int out = outOffset + j * outStride;
+                for (i = 0; i < 8; ++i) {
+                    final int sample = 128 + ((p[row + i] + 8) >> 4);
+                    dataOut[out + i] = (byte) ( sample < 0 ? 0 : sample > 0xFF ? 0xFF : sample );
+                }
             }
         }
     }
 
     static interface DecoderFunction {
-        void decode(ComponentIn component, int[] zz) throws IOException;
+        void decode(ComponentIn component, int[] zz, int zzOff) throws IOException;
     }
 
     class Decoder {
+        private final Bitstream<InputStream> bstream;
+        /** DC predictions indexed by {@link ComponentIn#scanIdx} */
+        private int[] preds = new int[4];
         // private int precision;
         // private int samplesPerLine;
         // private int scanLines;
@@ -1039,6 +1443,67 @@ public class JPEGDecoder {
         private int eobrun;
         private int successiveACState, successiveACNextValue;
 
+        Decoder(final Bitstream<InputStream> bstream) {
+            this.bstream = bstream;
+        }
+
+        private void resetState(final int componentsLength) {
+            if( preds.length < componentsLength ) {
+                preds = new int[componentsLength];
+            } else {
+                Arrays.fill(preds, 0, componentsLength, 0);
+            }
+            eobrun = 0;
+        }
+
+        /** Decodes <code>count</code> MCUs starting w/ <code>mcu</code>, returns the next MCU index. */
+        private int decodeMcus(final ArrayList<ComponentIn> components, final DecoderFunction decodeFn, int mcu, final int count) throws IOException {
+            final int componentsLength = components.size();
+            if (componentsLength == 1) {
+                final ComponentIn component = components.get(0);
+                for (int n = 0; n < count; n++) {
+                    decodeBlock(component, decodeFn, mcu);
+                    mcu++;
+                }
+            } else {
+                for (int n = 0; n < count; n++) {
+                    for (int i = 0; i < componentsLength; i++) {
+                        final ComponentIn component = components.get(i);
+                        final int h = component.h;
+                        final int v = component.v;
+                        for (int j = 0; j < v; j++) {
+                            for (int k = 0; k < h; k++) {
+                                decodeMcu(component, decodeFn, mcu, j, k);
+                            }
+                        }
+                    }
+                    mcu++;
+                }
+            }
+            return mcu;
+        }
+
+        /**
+         * Decodes one baseline restart interval of <code>count</code> MCUs starting w/ <code>mcu</code>
+         * from the given entropy coded segment, see {@link JPEGDecoder#decodeScanParallel(Frame, ArrayList, int, int)}.
+         * @throws CodecException on corrupt data, failing the whole decoding
+         */
+        private void decodeInterval(final Frame frame, final ArrayList<ComponentIn> components, final InputStream segment,
+                                    final int mcu, final int count) throws IOException {
+            this.mcusPerLine = frame.mcusPerLine;
+            this.progressive = false;
+            bstream.setStream(segment, false /* outputMode */);
+            resetState(components.size());
+            try {
+                decodeMcus(components, decodeBaseline, mcu, count);
+            } catch (final CodecException codecException) {
+                if(DEBUG) { System.err.println("JPEG.decodeInterval: Codec exception @ mcu "+mcu+": "+codecException.getMessage()); }
+                throw codecException;
+            } finally {
+                bstream.setStream(null, false /* outputMode */);
+            }
+        }
+
         private int decodeScan(final Frame frame, final ArrayList<ComponentIn> components, int resetInterval,
                 final int spectralStart, final int spectralEnd, final int successivePrev, final int successive) throws IOException {
             // this.precision = frame.precision;
@@ -1067,13 +1532,7 @@ public class JPEGDecoder {
             }
 
             int mcu = 0;
-            int mcuExpected;
-            if (componentsLength == 1) {
-                final ComponentIn c = components.get(0);
-                mcuExpected = c.blocksPerLine * c.blocksPerColumn;
-            } else {
-                mcuExpected = mcusPerLine * frame.mcusPerColumn;
-            }
+            final int mcuExpected = getMcuExpected(frame, components);
             if (0 == resetInterval) {
                 resetInterval = mcuExpected;
             }
@@ -1083,33 +1542,10 @@ public class JPEGDecoder {
             int marker = 0;
             while ( /* untilMarker || */ mcu < mcuExpected) {
                 // reset interval stuff
-                for (int i = 0; i < componentsLength; i++) {
-                    components.get(i).pred = 0;
-                }
-                eobrun = 0;
+                resetState(componentsLength);
 
                 try {
-                    if (componentsLength == 1) {
-                        final ComponentIn component = components.get(0);
-                        for (int n = 0; n < resetInterval; n++) {
-                            decodeBlock(component, decodeFn, mcu);
-                            mcu++;
-                        }
-                    } else {
-                        for (int n = 0; n < resetInterval; n++) {
-                            for (int i = 0; i < componentsLength; i++) {
-                                final ComponentIn component = components.get(i);
-                                final int h = component.h;
-                                final int v = component.v;
-                                for (int j = 0; j < v; j++) {
-                                    for (int k = 0; k < h; k++) {
-                                        decodeMcu(component, decodeFn, mcu, j, k);
-                                    }
-                                }
-                            }
-                            mcu++;
-                        }
-                    }
+                    mcu = decodeMcus(components, decodeFn, mcu, resetInterval);
                 } catch (final MarkerException markerException) {
                     if(DEBUG) { System.err.println("JPEG.decodeScan: Marker exception: "+markerException.getMessage()); markerException.printStackTrace(); }
                     return markerException.getMarker();
@@ -1198,10 +1634,10 @@ public class JPEGDecoder {
 
         class BaselineDecoder implements DecoderFunction {
             @Override
-            public void decode(final ComponentIn component, final int[] zz) throws IOException {
+            public void decode(final ComponentIn component, final int[] zz, final int zzOff) throws IOException {
                 final int t = decodeHuffman(component.huffmanTableDC);
                 final int diff = ( t == 0 ) ? 0 : receiveAndExtend(t);
-                zz[0] = ( component.pred += diff );
+                zz[zzOff] = ( preds[component.scanIdx] += diff );
                 int k = 1;
                 while (k < 64) {
                     final int rs = decodeHuffman(component.huffmanTableAC);
@@ -1215,29 +1651,29 @@ public class JPEGDecoder {
                     }
                     k += r;
                     final int z = dctZigZag[k];
-                    zz[z] = receiveAndExtend(s);
+                    zz[zzOff + z] = receiveAndExtend(s);
                     k++;
                 }
             }
         }
         class DCFirstDecoder implements DecoderFunction {
             @Override
-            public void decode(final ComponentIn component, final int[] zz) throws IOException {
+            public void decode(final ComponentIn component, final int[] zz, final int zzOff) throws IOException {
                 final int t = decodeHuffman(component.huffmanTableDC);
                 final int diff = ( t == 0 ) ? 0 : (receiveAndExtend(t) << successive);
-                zz[0] = ( component.pred += diff );
+                zz[zzOff] = ( preds[component.scanIdx] += diff );
             }
         }
         class DCSuccessiveDecoder implements DecoderFunction {
             @Override
-            public void decode(final ComponentIn component, final int[] zz) throws IOException {
-                zz[0] |= readBit() << successive;
+            public void decode(final ComponentIn component, final int[] zz, final int zzOff) throws IOException {
+                zz[zzOff] |= readBit() << successive;
             }
         }
 
         class ACFirstDecoder implements DecoderFunction {
             @Override
-            public void decode(final ComponentIn component, final int[] zz) throws IOException {
+            public void decode(final ComponentIn component, final int[] zz, final int zzOff) throws IOException {
                 if (eobrun > 0) {
                     eobrun--;
                     return;
@@ -1257,19 +1693,19 @@ public class JPEGDecoder {
                     }
                     k += r;
                     final int z = dctZigZag[k];
-                    zz[z] = receiveAndExtend(s) * (1 << successive);
+                    zz[zzOff + z] = receiveAndExtend(s) * (1 << successive);
                     k++;
                 }
             }
         }
         class ACSuccessiveDecoder implements DecoderFunction {
             @Override
-            public void decode(final ComponentIn component, final int[] zz) throws IOException {
+            public void decode(final ComponentIn component, final int[] zz, final int zzOff) throws IOException {
                 int k = spectralStart;
                 final int e = spectralEnd;
                 int r = 0;
                 while (k <= e) {
-                    final int z = dctZigZag[k];
+                    final int z = zzOff + dctZigZag[k];
                     switch (successiveACState) {
                     case 0: // initial state
                         final int rs = decodeHuffman(component.huffmanTableAC);
@@ -1332,16 +1768,16 @@ public class JPEGDecoder {
             final int mcuCol = mcu % mcusPerLine;
             final int blockRow = mcuRow * component.v + row;
             final int blockCol = mcuCol * component.h + col;
-            decoder.decode(component, component.getBlock(blockRow, blockCol));
+            decoder.decode(component, component.blocks, component.getBlockOffset(blockRow, blockCol));
         }
         void decodeBlock(final ComponentIn component, final DecoderFunction decoder, final int mcu) throws IOException {
             final int blockRow = (mcu / component.blocksPerLine) | 0;
             final int blockCol = mcu % component.blocksPerLine;
-            decoder.decode(component, component.getBlock(blockRow, blockCol));
+            decoder.decode(component, component.blocks, component.getBlockOffset(blockRow, blockCol));
         }
     }
 
-    private final Decoder decoder = new Decoder();
+    private final Decoder decoder = new Decoder(bstream);
 
     /** wrong color space ..
     private final void storeYCbCr2BGR(final PixelStorage pixelStorage, int x, int y, int Y, final int Cb, final int Cr)
@@ -1377,9 +1813,9 @@ public class JPEGDecoder {
             // Grayscale
             final ComponentOut component1 = this.components[0];
             for (int y = 0; y < height; y++) {
-                final byte[] component1Line = component1.getLine((int)(y * component1.scaleY * scaleY));
+                final int component1Line = component1.getLineOffset((int)(y * component1.scaleY * scaleY));
                 for (int x = 0; x < width; x++) {
-                    final byte Y = component1Line[(int)(x * component1.scaleX * scaleX)];
+                    final byte Y = component1.plane[component1Line + (int)(x * component1.scaleX * scaleX)];
                     if( ColorSpace.YCbCr == storageCS ) {
                         pixelStorage.storeYCbCr(x, y, Y, (byte)0, (byte)0);
                     } else {
@@ -1395,12 +1831,12 @@ public class JPEGDecoder {
             final ComponentOut component2 = this.components[1];
             for (int y = 0; y < height; y++) {
                 final int ys = y * scaleY;
-                final byte[] component1Line = component1.getLine((int)(ys * component1.scaleY));
-                final byte[] component2Line = component1.getLine((int)(ys * component2.scaleY));
+                final int component1Line = component1.getLineOffset((int)(ys * component1.scaleY));
+                final int component2Line = component2.getLineOffset((int)(ys * component2.scaleY));
                 for (int x = 0; x < width; x++) {
                     final int xs = x * scaleX;
-                    final byte Y1 = component1Line[(int)(xs * component1.scaleX)];
-                    final byte Y2 = component2Line[(int)(xs * component2.scaleX)];
+                    final byte Y1 = component1.plane[component1Line + (int)(xs * component1.scaleX)];
+                    final byte Y2 = component2.plane[component2Line + (int)(xs * component2.scaleX)];
                     pixelStorage.store2(x, y, Y1, Y2);
                 }
             }
@@ -1415,23 +1851,23 @@ public class JPEGDecoder {
             final ComponentOut component3 = this.components[2];
             for (int y = 0; y < height; y++) {
                 final int ys = y * scaleY;
-                final byte[] component1Line = component1.getLine((int)(ys * component1.scaleY));
-                final byte[] component2Line = component2.getLine((int)(ys * component2.scaleY));
-                final byte[] component3Line = component3.getLine((int)(ys * component3.scaleY));
+                final int component1Line = component1.getLineOffset((int)(ys * component1.scaleY));
+                final int component2Line = component2.getLineOffset((int)(ys * component2.scaleY));
+                final int component3Line = component3.getLineOffset((int)(ys * component3.scaleY));
                 if( ColorSpace.YCbCr == storageCS ) {
                     for (int x = 0; x < width; x++) {
                         final int xs = x * scaleX;
-                        final byte Y  = component1Line[(int)(xs * component1.scaleX)];
-                        final byte Cb = component2Line[(int)(xs * component2.scaleX)];
-                        final byte Cr = component3Line[(int)(xs * component3.scaleX)];
+                        final byte Y  = component1.plane[component1Line + (int)(xs * component1.scaleX)];
+                        final byte Cb = component2.plane[component2Line + (int)(xs * component2.scaleX)];
+                        final byte Cr = component3.plane[component3Line + (int)(xs * component3.scaleX)];
                         pixelStorage.storeYCbCr(x, y, Y, Cb, Cr);
                     }
                 } else {
                     for (int x = 0; x < width; x++) {
                         final int xs = x * scaleX;
-                        final int Y  = 0x000000FF & component1Line[(int)(xs * component1.scaleX)];
-                        final int Cb = 0x000000FF & component2Line[(int)(xs * component2.scaleX)];
-                        final int Cr = 0x000000FF & component3Line[(int)(xs * component3.scaleX)];
+                        final int Y  = 0x000000FF & component1.plane[component1Line + (int)(xs * component1.scaleX)];
+                        final int Cb = 0x000000FF & component2.plane[component2Line + (int)(xs * component2.scaleX)];
+                        final int Cr = 0x000000FF & component3.plane[component3Line + (int)(xs * component3.scaleX)];
                         // storeYCbCr2BGR(pixelStorage, x, y, Y, Cb, Cr);
                         final byte R = clampTo8bit(Y + 1.402f * (Cr - 128f));
                         final byte G = clampTo8bit(Y - 0.3441363f * (Cb - 128f) - 0.71413636f * (Cr - 128f));
@@ -1452,20 +1888,20 @@ public class JPEGDecoder {
             final ComponentOut component4 = this.components[3];
             for (int y = 0; y < height; y++) {
                 final int ys = y * scaleY;
-                final byte[] component1Line = component1.getLine((int)(ys * component1.scaleY));
-                final byte[] component2Line = component2.getLine((int)(ys * component2.scaleY));
-                final byte[] component3Line = component3.getLine((int)(ys * component3.scaleY));
-                final byte[] component4Line = component4.getLine((int)(ys * component4.scaleY));
+                final int component1Line = component1.getLineOffset((int)(ys * component1.scaleY));
+                final int component2Line = component2.getLineOffset((int)(ys * component2.scaleY));
+                final int component3Line = component3.getLineOffset((int)(ys * component3.scaleY));
+                final int component4Line = component4.getLineOffset((int)(ys * component4.scaleY));
                 if( ColorSpace.YCbCr == storageCS ) {
                     if (ColorSpace.YCCK != sourceCS) {
                         throw new CodecException("Unsupported storage color space "+storageCS+" with source color space "+sourceCS);
                     }
                     for (int x = 0; x < width; x++) {
                         final int xs = x * scaleX;
-                        final byte Y1 = component1Line[(int)(xs * component1.scaleX)];
-                        final byte C1 = component2Line[(int)(xs * component2.scaleX)];
-                        final byte C2 = component3Line[(int)(xs * component3.scaleX)];
-                        // final byte K  = component4Line[(int)(xs * component4.scaleX)];
+                        final byte Y1 = component1.plane[component1Line + (int)(xs * component1.scaleX)];
+                        final byte C1 = component2.plane[component2Line + (int)(xs * component2.scaleX)];
+                        final byte C2 = component3.plane[component3Line + (int)(xs * component3.scaleX)];
+                        // final byte K  = component4.plane[component4Line + (int)(xs * component4.scaleX)];
                         // FIXME: YCCK is not really YCbCr, since K (black) is missing!
                         pixelStorage.storeYCbCr(x, y, Y1, C1, C2);
                     }
@@ -1473,10 +1909,10 @@ public class JPEGDecoder {
                     if (ColorSpace.CMYK == sourceCS) {
                         for (int x = 0; x < width; x++) {
                             final int xs = x * scaleX;
-                            final int cC = 0x000000FF & component1Line[(int)(xs * component1.scaleX)];
-                            final int cM = 0x000000FF & component2Line[(int)(xs * component2.scaleX)];
-                            final int cY = 0x000000FF & component3Line[(int)(xs * component3.scaleX)];
-                            final int cK = 0x000000FF & component4Line[(int)(xs * component4.scaleX)];
+                            final int cC = 0x000000FF & component1.plane[component1Line + (int)(xs * component1.scaleX)];
+                            final int cM = 0x000000FF & component2.plane[component2Line + (int)(xs * component2.scaleX)];
+                            final int cY = 0x000000FF & component3.plane[component3Line + (int)(xs * component3.scaleX)];
+                            final int cK = 0x000000FF & component4.plane[component4Line + (int)(xs * component4.scaleX)];
                             // CMYK -> RGB
                             final byte R = clampTo8bit( ( cC * cK ) / 255f );
                             final byte G = clampTo8bit( ( cM * cK ) / 255f );
@@ -1486,10 +1922,10 @@ public class JPEGDecoder {
                     } else { // ColorModel.YCCK == sourceCM
                         for (int x = 0; x < width; x++) {
                             final int xs = x * scaleX;
-                            final int Y  = 0x000000FF & component1Line[(int)(xs * component1.scaleX)];
-                            final int Cb = 0x000000FF & component2Line[(int)(xs * component2.scaleX)];
-                            final int Cr = 0x000000FF & component3Line[(int)(xs * component3.scaleX)];
-                            final int cK = 0x000000FF & component4Line[(int)(xs * component4.scaleX)];
+                            final int Y  = 0x000000FF & component1.plane[component1Line + (int)(xs * component1.scaleX)];
+                            final int Cb = 0x000000FF & component2.plane[component2Line + (int)(xs * component2.scaleX)];
+                            final int Cr = 0x000000FF & component3.plane[component3Line + (int)(xs * component3.scaleX)];
+                            final int cK = 0x000000FF & component4.plane[component4Line + (int)(xs * component4.scaleX)];
                             // YCCK -> 255f - [ R'G'B' ] -> CMYK
                             final float cC = 255f - ( Y + 1.402f * (Cr - 128f) );
                             final float cM = 255f - ( Y - 0.3441363f * (Cb - 128f) - 0.71413636f * (Cr - 128f) );
@@ -1510,6 +1946,218 @@ public class JPEGDecoder {
         }
     }
 
+    /** YCbCr -> RGB terms indexed by the unsigned chroma sample, matching the arithmetic of {@link #getPixel(ColorSink, int, int)}. */
+    private static final float[] crToR = new float[256];
+    private static final float[] cbToG = new float[256];
+    private static final float[] crToG = new float[256];
+    private static final float[] cbToB = new float[256];
+    static {
+        for(int i=0; i<256; i++) {
+            crToR[i] = 1.402f * (i - 128f);
+            cbToG[i] = 0.3441363f * (i - 128f);
+            crToG[i] = 0.71413636f * (i - 128f);
+            cbToB[i] = 1.772f * (i - 128f);
+        }
+    }
+
+    /**
+     * Bulk variant of {@link #getPixel(ColorSink, int, int)}, converting whole scanlines
+     * and storing them into {@link ColorLineSink#getBuffer()} in bands of one MCU row.
+     * <p>
+     * Conversion happens in reusable scratch memory, hence no allocation is performed
+     * besides {@link ColorLineSink#allocate(int, int, ColorSpace, int)}.
+     * </p>
+     * <p>
+     * Two component images are not supported.
+     * </p>
+     */
+    public synchronized void getPixels(final JPEGDecoder.ColorLineSink sink, final int width, final int height) {
+        final int scaleX = this.width / width, scaleY = this.height / height;
+
+        final int componentCount = this.components.length;
+        final ColorSpace sourceCS = ( null != adobe ) ? adobe.colorSpace : ColorSpace.YCbCr;
+        final ColorSpace storageCS = sink.allocate(width, height, sourceCS, componentCount);
+        if( ColorSpace.RGB != storageCS && ColorSpace.YCbCr != storageCS ) {
+            throw new IllegalArgumentException("Unsupported storage color space: "+storageCS);
+        }
+        switch (componentCount) {
+            case 1:
+                break;
+            case 3:
+                if (ColorSpace.YCbCr != sourceCS) {
+                    throw new CodecException("Unsupported source color space w 3 components: "+sourceCS);
+                }
+                break;
+            case 4:
+                if (ColorSpace.YCCK != sourceCS && ColorSpace.CMYK != sourceCS) {
+                    throw new CodecException("Unsupported source color space w 4 components: "+sourceCS);
+                }
+                if( ColorSpace.YCbCr == storageCS && ColorSpace.YCCK != sourceCS ) {
+                    throw new CodecException("Unsupported storage color space "+storageCS+" with source color space "+sourceCS);
+                }
+                break;
+            default:
+                throw new CodecException("Unsupported color model: Space "+sourceCS+", components "+componentCount);
+        }
+        final boolean toRGB = ColorSpace.RGB == storageCS;
+        final boolean fromCMYK = ColorSpace.CMYK == sourceCS;
+
+        for(int c=0; c<componentCount; c++) {
+            final ComponentOut comp = this.components[c];
+            final int[] cols = scratch.getColumns(c, width);
+            for (int x = 0; x < width; x++) {
+                cols[x] = (int)( ( x * scaleX ) * comp.scaleX );
+            }
+        }
+        final int[][] columns = scratch.columns;
+        final int lineBytes = width * 3;
+        final int bandLines = Math.max(1, mcuLines / scaleY);
+        final int bandCount = ( height + bandLines - 1 ) / bandLines;
+        final ByteBuffer data = sink.getBuffer();
+        final int dataPos = data.position();
+        if( !isParallel() || 1 == bandCount ) {
+            final byte[] line = scratch.getLine(0, lineBytes);
+            try {
+                for (int y0 = 0; y0 < height; y0 += bandLines) {
+                    final int y1 = Math.min(height, y0 + bandLines);
+                    storeBand(sink, data, line, width, y0, y1, scaleY, columns, toRGB, fromCMYK);
+                    sink.storeLines(y0, y1 - y0);
+                }
+            } finally {
+                data.position(dataPos);
+            }
+        } else {
+            // Each worker uses its own scanline buffer and view of the destination buffer,
+            // bands are notified in order after completion.
+            final ByteBuffer[] views = new ByteBuffer[parallelism];
+            for(int w=0; w<parallelism; w++) {
+                scratch.getLine(w, lineBytes);
+                views[w] = data.duplicate();
+            }
+            try {
+                runParallel(bandCount, new IndexedTask() {
+                    @Override
+                    public void run(final int worker, final int idx) {
+                        final int y0 = idx * bandLines;
+                        final int y1 = Math.min(height, y0 + bandLines);
+                        storeBand(sink, views[worker], scratch.getLine(worker, lineBytes), width, y0, y1, scaleY, columns, toRGB, fromCMYK);
+                    } } );
+            } catch (final IOException ioe) {
+                throw new CodecException("Interrupted while converting: "+ioe.getMessage());
+            }
+            for (int y0 = 0; y0 < height; y0 += bandLines) {
+                sink.storeLines(y0, Math.min(height, y0 + bandLines) - y0);
+            }
+        }
+    }
+    private final void storeBand(final ColorLineSink sink, final ByteBuffer data, final byte[] line, final int width,
+                                 final int y0, final int y1, final int scaleY, final int[][] columns, final boolean toRGB, final boolean fromCMYK) {
+        final int lineBytes = width * 3;
+        for (int y = y0; y < y1; y++) {
+            final int ys = y * scaleY;
+            switch (this.components.length) {
+                case 1:
+                    storeLine1(line, width, this.components[0], columns[0], ys, toRGB);
+                    break;
+                case 3:
+                    storeLine3(line, width, columns, ys, toRGB);
+                    break;
+                default:
+                    storeLine4(line, width, columns, ys, toRGB, fromCMYK);
+                    break;
+            }
+            data.position(sink.getLineOffset(y));
+            data.put(line, 0, lineBytes);
+        }
+    }
+    private final void storeLine1(final byte[] line, final int width, final ComponentOut component1, final int[] cols1, final int ys, final boolean toRGB) {
+        final byte[] plane1 = component1.plane;
+        final int line1 = component1.getLineOffset((int)(ys * component1.scaleY));
+        if( !toRGB ) {
+            for (int x = 0, i = 0; x < width; x++) {
+                line[i++] = plane1[line1 + cols1[x]];
+                line[i++] = (byte)0;
+                line[i++] = (byte)0;
+            }
+        } else {
+            for (int x = 0, i = 0; x < width; x++) {
+                final byte Y = plane1[line1 + cols1[x]];
+                line[i++] = Y;
+                line[i++] = Y;
+                line[i++] = Y;
+            }
+        }
+    }
+    private final void storeLine3(final byte[] line, final int width, final int[][] columns, final int ys, final boolean toRGB) {
+        final ComponentOut component1 = this.components[0];
+        final ComponentOut component2 = this.components[1];
+        final ComponentOut component3 = this.components[2];
+        final byte[] plane1 = component1.plane, plane2 = component2.plane, plane3 = component3.plane;
+        final int[] cols1 = columns[0], cols2 = columns[1], cols3 = columns[2];
+        final int line1 = component1.getLineOffset((int)(ys * component1.scaleY));
+        final int line2 = component2.getLineOffset((int)(ys * component2.scaleY));
+        final int line3 = component3.getLineOffset((int)(ys * component3.scaleY));
+        if( !toRGB ) {
+            for (int x = 0, i = 0; x < width; x++) {
+                line[i++] = plane1[line1 + cols1[x]];
+                line[i++] = plane2[line2 + cols2[x]];
+                line[i++] = plane3[line3 + cols3[x]];
+            }
+        } else {
+            for (int x = 0, i = 0; x < width; x++) {
+                final int Y  = 0x000000FF & plane1[line1 + cols1[x]];
+                final int Cb = 0x000000FF & plane2[line2 + cols2[x]];
+                final int Cr = 0x000000FF & plane3[line3 + cols3[x]];
+                line[i++] = clampTo8bit(Y + crToR[Cr]);
+                line[i++] = clampTo8bit(Y - cbToG[Cb] - crToG[Cr]);
+                line[i++] = clampTo8bit(Y + cbToB[Cb]);
+            }
+        }
+    }
+    private final void storeLine4(final byte[] line, final int width, final int[][] columns, final int ys, final boolean toRGB, final boolean fromCMYK) {
+        final ComponentOut component1 = this.components[0];
+        final ComponentOut component2 = this.components[1];
+        final ComponentOut component3 = this.components[2];
+        final ComponentOut component4 = this.components[3];
+        final byte[] plane1 = component1.plane, plane2 = component2.plane, plane3 = component3.plane, plane4 = component4.plane;
+        final int[] cols1 = columns[0], cols2 = columns[1], cols3 = columns[2], cols4 = columns[3];
+        final int line1 = component1.getLineOffset((int)(ys * component1.scaleY));
+        final int line2 = component2.getLineOffset((int)(ys * component2.scaleY));
+        final int line3 = component3.getLineOffset((int)(ys * component3.scaleY));
+        final int line4 = component4.getLineOffset((int)(ys * component4.scaleY));
+        if( !toRGB ) {
+            // FIXME: YCCK is not really YCbCr, since K (black) is missing!
+            for (int x = 0, i = 0; x < width; x++) {
+                line[i++] = plane1[line1 + cols1[x]];
+                line[i++] = plane2[line2 + cols2[x]];
+                line[i++] = plane3[line3 + cols3[x]];
+            }
+        } else if( fromCMYK ) {
+            for (int x = 0, i = 0; x < width; x++) {
+                final int cC = 0x000000FF & plane1[line1 + cols1[x]];
+                final int cM = 0x000000FF & plane2[line2 + cols2[x]];
+                final int cY = 0x000000FF & plane3[line3 + cols3[x]];
+                final int cK = 0x000000FF & plane4[line4 + cols4[x]];
+                line[i++] = clampTo8bit( ( cC * cK ) / 255f );
+                line[i++] = clampTo8bit( ( cM * cK ) / 255f );
+                line[i++] = clampTo8bit( ( cY * cK ) / 255f );
+            }
+        } else { // YCCK
+            for (int x = 0, i = 0; x < width; x++) {
+                final int Y  = 0x000000FF & plane1[line1 + cols1[x]];
+                final int Cb = 0x000000FF & plane2[line2 + cols2[x]];
+                final int Cr = 0x000000FF & plane3[line3 + cols3[x]];
+                final int cK = 0x000000FF & plane4[line4 + cols4[x]];
+                final float cC = 255f - ( Y + crToR[Cr] );
+                final float cM = 255f - ( Y - cbToG[Cb] - crToG[Cr] );
+                final float cY = 255f - ( Y + cbToB[Cb] );
+                line[i++] = clampTo8bit( ( cC * cK ) / 255f );
+                line[i++] = clampTo8bit( ( cM * cK ) / 255f );
+                line[i++] = clampTo8bit( ( cY * cK ) / 255f );
+            }
+        }
+    }
+
     private static byte clampTo8bit(final float a) {
         return (byte) ( a < 0f ? 0 : a > 255f ? 255 : a );
     }
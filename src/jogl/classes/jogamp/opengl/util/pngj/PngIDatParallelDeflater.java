@@ -0,0 +1,360 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util.pngj;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+/**
+ * Parallel IDAT compression, pigz style.
+ * <p>
+ * Rows are collected in stripes of at least {@link #MIN_STRIPE_BYTES} raw bytes.
+ * Each stripe is filtered and deflated independently on the given {@link java.util.concurrent.Executor Executor}
+ * to a raw deflate stream, terminated by a {@link Deflater#SYNC_FLUSH sync flush}
+ * and {@link Deflater#finish() finished} for the last stripe.
+ * The byte aligned stripes are written in order as one zlib stream,
+ * its Adler-32 checksum is combined from the stripe checksums.
+ * </p>
+ * <p>
+ * Each stripe selects its filters with its own {@link FilterWriteStrategy},
+ * using the last row of the previous stripe as its predecessor.
+ * </p>
+ * <p>
+ * At most 2 x parallelism stripes are in flight. Stripes and their
+ * {@link Deflater} are recycled via the {@link PngParallelCompression} pool,
+ * i.e. no allocations per row or stripe after the first few stripes,
+ * nor per image when writing images of the same size.
+ * {@link #close()} returns all stripes to the pool.
+ * </p>
+ */
+class PngIDatParallelDeflater {
+    /** Minimum uncompressed bytes per stripe, i.e. per independent deflate block, {@value}. */
+    static final int MIN_STRIPE_BYTES = 512 * 1024;
+
+    private final ImageInfo imgInfo;
+    private final OutputStream out;
+    private final int compLevel;
+    private final int deflaterStrategy;
+    private final FilterType filterType;
+    private final PngParallelCompression compression;
+    private final int maxPending;
+    private final int stripeRows;
+    private final byte[] lastRow;
+    private final ArrayDeque<Stripe> pending = new ArrayDeque<Stripe>();
+    private final ArrayDeque<Stripe> pool = new ArrayDeque<Stripe>();
+    private Stripe current = null;
+    private int rowCount = 0;
+    private long adler = 1;
+
+    /**
+     * Creates the instance and writes the zlib header.
+     * @param imgInfo image info
+     * @param out the IDAT stream
+     * @param compLevel compression level 0 - 9
+     * @param deflaterStrategy deflate strategy
+     * @param filterType filter type or strategy to choose it, see {@link FilterWriteStrategy}
+     * @param compression executor, parallelism and stripe pool
+     */
+    PngIDatParallelDeflater(final ImageInfo imgInfo, final OutputStream out,
+                            final int compLevel, final int deflaterStrategy, final FilterType filterType,
+                            final PngParallelCompression compression) {
+        this.imgInfo = imgInfo;
+        this.out = out;
+        this.compLevel = compLevel;
+        this.deflaterStrategy = deflaterStrategy;
+        this.filterType = filterType;
+        this.compression = compression;
+        this.maxPending = 2 * compression.getParallelism();
+        this.stripeRows = Math.max(1, ( MIN_STRIPE_BYTES + imgInfo.bytesPerRow ) / ( imgInfo.bytesPerRow + 1 ));
+        this.lastRow = new byte[imgInfo.bytesPerRow + 1]; // all zero for first row
+        writeHeader();
+    }
+
+    private void writeHeader() {
+        // RFC 1950: CMF deflate w/ 32k window, FLEVEL as zlib sets it
+        final int cmf = 0x78;
+        final int flevel;
+        if( deflaterStrategy == Deflater.HUFFMAN_ONLY || compLevel < 2 ) {
+            flevel = 0;
+        } else if( compLevel < 6 ) {
+            flevel = 1;
+        } else if( compLevel == 6 ) {
+            flevel = 2;
+        } else {
+            flevel = 3;
+        }
+        int flg = flevel << 6;
+        flg += 31 - ( ( cmf << 8 ) + flg ) % 31;
+        write(new byte[] { (byte) cmf, (byte) flg }, 2);
+    }
+
+    /**
+     * Queues the unfiltered row, passed w/ filter byte at element 0 as used by {@link PngWriter}.
+     * Rows must be passed in order.
+     */
+    void addRow(final byte[] rowb) {
+        if( null == current ) {
+            current = obtainStripe();
+            current.firstRow = rowCount;
+            current.count = 0;
+            System.arraycopy(lastRow, 1, current.prev, 1, imgInfo.bytesPerRow);
+        }
+        System.arraycopy(rowb, 1, current.rows[current.count++], 1, imgInfo.bytesPerRow);
+        rowCount++;
+        if( current.count == stripeRows || rowCount == imgInfo.rows ) {
+            System.arraycopy(rowb, 1, lastRow, 1, imgInfo.bytesPerRow);
+            current.last = rowCount == imgInfo.rows;
+            submit(current);
+            current = null;
+        }
+    }
+
+    /**
+     * Writes all pending stripes and the Adler-32 trailer.
+     * All rows must have been {@link #addRow(byte[]) added}.
+     */
+    void finish() {
+        if( rowCount != imgInfo.rows || null != current ) {
+            throw new PngjOutputException("all rows have not been written");
+        }
+        while( !pending.isEmpty() ) {
+            writeOut(pending.poll());
+        }
+        final byte[] trailer = new byte[4];
+        PngHelperInternal.writeInt4tobytes((int) adler, trailer, 0);
+        write(trailer, 4);
+    }
+
+    /**
+     * Returns all stripes to the {@link PngParallelCompression} pool,
+     * waiting for the still running ones. Pending stripes are dropped, i.e. aborting the image if not {@link #finish() finished}.
+     */
+    void close() {
+        boolean interrupted = false;
+        while( !pending.isEmpty() ) {
+            final Stripe stripe = pending.poll();
+            if( !stripe.task.cancel(false) ) {
+                // running or done, the stripe is in use until completion
+                while( true ) {
+                    try {
+                        stripe.task.get();
+                        break;
+                    } catch (final InterruptedException ie) {
+                        interrupted = true;
+                    } catch (final ExecutionException ee) {
+                        break;
+                    } catch (final CancellationException ce) {
+                        break;
+                    }
+                }
+            }
+            stripe.task = null;
+            pool.add(stripe);
+        }
+        if( null != current ) {
+            pool.add(current);
+            current = null;
+        }
+        while( !pool.isEmpty() ) {
+            compression.recycle(pool.poll());
+        }
+        if( interrupted ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Stripe obtainStripe() {
+        Stripe s = pool.poll();
+        if( null == s ) {
+            s = compression.obtain();
+            if( null == s ) {
+                s = new Stripe();
+            }
+        }
+        s.setup(this);
+        return s;
+    }
+
+    private void submit(final Stripe stripe) {
+        stripe.task = new FutureTask<Object>(stripe, null);
+        try {
+            compression.getExecutor().execute(stripe.task);
+        } catch (final RejectedExecutionException ree) {
+            stripe.task.run(); // compress on caller thread
+        }
+        pending.add(stripe);
+        // write finished stripes in order, block if too many are in flight
+        while( !pending.isEmpty() && ( pending.size() > maxPending || pending.peek().task.isDone() ) ) {
+            writeOut(pending.poll());
+        }
+    }
+
+    private void writeOut(final Stripe stripe) {
+        try {
+            stripe.task.get();
+        } catch (final InterruptedException ie) {
+            pending.addFirst(stripe); // still in use, see close()
+            Thread.currentThread().interrupt();
+            throw new PngjOutputException("Interrupted while compressing", ie);
+        } catch (final ExecutionException ee) {
+            stripe.task = null;
+            pool.add(stripe);
+            throw new PngjOutputException(ee.getCause());
+        }
+        stripe.task = null;
+        pool.add(stripe);
+        write(stripe.compressed, stripe.compressedLen);
+        adler = adler32Combine(adler, stripe.adler, (long) stripe.count * ( imgInfo.bytesPerRow + 1 ));
+    }
+
+    private void write(final byte[] b, final int len) {
+        try {
+            out.write(b, 0, len);
+        } catch (final IOException e) {
+            throw new PngjOutputException(e);
+        }
+    }
+
+    /** Returns the Adler-32 checksum of two concatenated sequences, the second of <code>len2</code> bytes, see zlib's adler32_combine. */
+    static long adler32Combine(final long adler1, final long adler2, final long len2) {
+        final int BASE = 65521;
+        final long rem = len2 % BASE;
+        long sum1 = adler1 & 0xffff;
+        long sum2 = ( rem * sum1 ) % BASE;
+        sum1 += ( adler2 & 0xffff ) + BASE - 1;
+        sum2 += ( ( adler1 >>> 16 ) & 0xffff ) + ( ( adler2 >>> 16 ) & 0xffff ) + BASE - rem;
+        if( sum1 >= BASE ) { sum1 -= BASE; }
+        if( sum1 >= BASE ) { sum1 -= BASE; }
+        if( sum2 >= ( BASE << 1 ) ) { sum2 -= ( BASE << 1 ); }
+        if( sum2 >= BASE ) { sum2 -= BASE; }
+        return sum1 | ( sum2 << 16 );
+    }
+
+    /**
+     * Rows of one stripe and their compression state, recycled across images via {@link PngParallelCompression}.
+     */
+    static final class Stripe implements Runnable {
+        final int[] histox = new int[256];
+        final Adler32 checksum = new Adler32();
+        Deflater deflater = null;
+        ImageInfo imgInfo;
+        FilterType filterType;
+        byte[][] rows;
+        byte[] prev;
+        byte[] filtered;
+        FutureTask<Object> task;
+        byte[] compressed;
+        int compressedLen;
+        int firstRow, count;
+        boolean last;
+        long adler;
+        private int compLevel, deflaterStrategy;
+
+        /** Binds this stripe to the given image, reusing its buffers if sufficient. */
+        void setup(final PngIDatParallelDeflater owner) {
+            final int rowLen = owner.imgInfo.bytesPerRow + 1;
+            imgInfo = owner.imgInfo;
+            filterType = owner.filterType;
+            if( null == rows || rows.length < owner.stripeRows || rows[0].length != rowLen ) {
+                rows = new byte[owner.stripeRows][rowLen];
+                prev = new byte[rowLen];
+                filtered = new byte[rowLen];
+            }
+            if( null == compressed ) {
+                compressed = new byte[owner.stripeRows * rowLen / 2 + 1024];
+            }
+            if( null == deflater || compLevel != owner.compLevel || deflaterStrategy != owner.deflaterStrategy ) {
+                if( null != deflater ) {
+                    deflater.end();
+                }
+                compLevel = owner.compLevel;
+                deflaterStrategy = owner.deflaterStrategy;
+                deflater = new Deflater(compLevel, true /* nowrap */);
+                deflater.setStrategy(deflaterStrategy);
+            }
+        }
+
+        /** Releases the native {@link Deflater}, this stripe is unusable afterwards. */
+        void dispose() {
+            if( null != deflater ) {
+                deflater.end();
+                deflater = null;
+            }
+            rows = null;
+            prev = null;
+            filtered = null;
+            compressed = null;
+        }
+
+        @Override
+        public void run() {
+            final int rowLen = imgInfo.bytesPerRow + 1;
+            final FilterWriteStrategy filterStrat = new FilterWriteStrategy(imgInfo, filterType);
+            deflater.reset();
+            checksum.reset();
+            compressedLen = 0;
+            for(int i = 0; i < count; i++) {
+                PngWriter.filterRow(imgInfo, filterStrat, firstRow + i, rows[i], 0 == i ? prev : rows[i-1], filtered, histox);
+                checksum.update(filtered, 0, rowLen);
+                deflater.setInput(filtered, 0, rowLen);
+                while( !deflater.needsInput() ) {
+                    deflate(Deflater.NO_FLUSH);
+                }
+            }
+            if( last ) {
+                deflater.finish();
+                while( !deflater.finished() ) {
+                    deflate(Deflater.NO_FLUSH);
+                }
+            } else {
+                // byte aligned, non final block end, complete if output space was left
+                while( deflate(Deflater.SYNC_FLUSH) ) { }
+            }
+            adler = checksum.getValue();
+        }
+
+        /** Returns true if the output buffer was filled completely, i.e. more output may be pending. */
+        private boolean deflate(final int flush) {
+            if( compressedLen == compressed.length ) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            final int space = compressed.length - compressedLen;
+            final int n = deflater.deflate(compressed, compressedLen, space, flush);
+            compressedLen += n;
+            return n == space;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util.pngj;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * Parallel IDAT compression setting of one or more {@link PngWriter},
+ * see {@link PngWriter#setParallelCompression(PngParallelCompression)}.
+ * <p>
+ * Holds the {@link Executor}, the parallelism and a pool of recycled stripes,
+ * i.e. their row buffers and native {@link java.util.zip.Deflater}.
+ * Subsequent images, e.g. recorded frames, reuse the stripes of the previous ones.
+ * </p>
+ * <p>
+ * This class is thread safe, the pool may be shared by concurrent writers.
+ * {@link #dispose()} releases the pooled native resources.
+ * </p>
+ */
+public class PngParallelCompression {
+    private final Executor executor;
+    private final int parallelism;
+    private final int maxPooled;
+    private final ArrayDeque<PngIDatParallelDeflater.Stripe> pool = new ArrayDeque<PngIDatParallelDeflater.Stripe>();
+    private boolean disposed = false;
+
+    /**
+     * @param executor executor running the compression tasks. If the executor rejects a task, it is run by the writing thread.
+     * @param parallelism number of stripes compressed concurrently, 1 for single threaded compression
+     */
+    public PngParallelCompression(final Executor executor, final int parallelism) {
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxPooled = 2 * this.parallelism + 2; // in flight plus the one being filled
+    }
+
+    public final Executor getExecutor() { return executor; }
+
+    public final int getParallelism() { return parallelism; }
+
+    /** Returns true if compression is performed in parallel, i.e. an {@link Executor} is given and parallelism > 1. */
+    public final boolean isParallel() { return null != executor && parallelism > 1; }
+
+    /** Returns the number of pooled stripes. */
+    public final synchronized int getPooledCount() { return pool.size(); }
+
+    /**
+     * Releases all pooled stripes and their native resources.
+     * <p>
+     * Stripes returned afterwards by a still running writer are released right away.
+     * </p>
+     */
+    public final void dispose() {
+        synchronized( this ) {
+            disposed = true;
+        }
+        releaseAll();
+    }
+
+    /** Releases the pooled stripes and their native resources, while keeping this instance usable. */
+    public final void releaseAll() {
+        final PngIDatParallelDeflater.Stripe[] stripes;
+        synchronized( this ) {
+            stripes = pool.toArray(new PngIDatParallelDeflater.Stripe[pool.size()]);
+            pool.clear();
+        }
+        for(int i=0; i<stripes.length; i++) {
+            stripes[i].dispose();
+        }
+    }
+
+    /** Returns a pooled stripe or null, if none is available. */
+    final PngIDatParallelDeflater.Stripe obtain() {
+        synchronized( this ) {
+            return pool.poll();
+        }
+    }
+
+    /** Returns an idle stripe to the pool, or releases it if the pool is full or disposed. */
+    final void recycle(final PngIDatParallelDeflater.Stripe stripe) {
+        synchronized( this ) {
+            if( !disposed && pool.size() < maxPooled ) {
+                pool.add(stripe);
+                return;
+            }
+        }
+        stripe.dispose();
+    }
+
+    @Override
+    public String toString() {
+        return "PngParallelCompression[parallelism "+parallelism+", executor "+executor+", pooled "+getPooledCount()+"]";
+    }
+}
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util.pngj;
+
+import java.nio.ByteBuffer;
+
+import jogamp.opengl.util.pngj.chunks.PngChunkPLTE;
+import jogamp.opengl.util.pngj.chunks.PngChunkTRNS;
+
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.nativewindow.util.PixelFormatUtil;
+
+/**
+ * Streaming decoder writing the rows of a {@link PngReader}
+ * directly into a {@link ByteBuffer} of the desired {@link PixelFormat}.
+ * <p>
+ * Non interlaced rows are converted straight from the reader's unfiltered row buffer,
+ * see {@link PngReader#readRowRawBuffer(int)}, bypassing {@link ImageLine}.
+ * Palette and tRNS expansion, packed bit depths 1, 2 and 4 as well as
+ * the 16 to 8 bit reduction (MSB) are handled while converting.
+ * </p>
+ * <p>
+ * Each row is transferred into the destination using one bulk put,
+ * either from the row buffer if source and destination layout are equal,
+ * or from a reusable scanline. No objects are allocated per row,
+ * hence an instance may be reused for multiple images.
+ * </p>
+ */
+public class PngPixelDecoder {
+    /** Palette lookup as RGBA bytes, 256 entries. */
+    private final byte[] palette = new byte[256*4];
+    private byte[] scanline = new byte[0];
+    private byte[] rowBuffer = new byte[0];
+
+    /**
+     * Returns the 8 bit per component source {@link PixelFormat} of the image,
+     * i.e. {@link PixelFormat#LUMINANCE} for grayscale w/ or w/o alpha,
+     * {@link PixelFormat#RGBA8888} for RGBA or indexed images with tRNS chunk,
+     * otherwise {@link PixelFormat#RGB888}.
+     * @param imgInfo the image info
+     * @param trns the tRNS chunk, only used for indexed images, may be <code>null</code>
+     */
+    public static PixelFormat getSourcePixelFormat(final ImageInfo imgInfo, final PngChunkTRNS trns) {
+        if( imgInfo.indexed ) {
+            return null != trns ? PixelFormat.RGBA8888 : PixelFormat.RGB888;
+        } else if( imgInfo.greyscale ) {
+            return PixelFormat.LUMINANCE;
+        } else {
+            return imgInfo.alpha ? PixelFormat.RGBA8888 : PixelFormat.RGB888;
+        }
+    }
+
+    /**
+     * Reads all rows of the given {@link PngReader} and stores them converted to <code>destFmt</code>.
+     * <p>
+     * The <code>dest</code> buffer's position is left untouched, its content is written relative to it.
+     * The reader is {@link PngReader#end() ended} afterwards.
+     * </p>
+     * <p>
+     * Grayscale sources are expanded to RGB and alpha is set to <code>0xff</code> for sources w/o alpha.
+     * Supported destination formats are {@link PixelFormat#LUMINANCE} and all 8 bit per component
+     * RGB and RGBA formats.
+     * </p>
+     * @param reader the reader, no row shall be read yet
+     * @param destFmt the destination {@link PixelFormat}
+     * @param dest the destination buffer
+     * @param destStrideInBytes destination stride, must be greater or equal to width * bytes-per-pixel
+     * @param vertFlip if true, the first row is stored last, i.e. OpenGL orientation
+     * @throws PngjException on decoding errors
+     * @throws IndexOutOfBoundsException if the destination buffer is too small
+     */
+    public void decode(final PngReader reader, final PixelFormat destFmt,
+                       final ByteBuffer dest, final int destStrideInBytes, final boolean vertFlip) {
+        final ImageInfo imgInfo = reader.imgInfo;
+        final int width = imgInfo.cols;
+        final int height = imgInfo.rows;
+        final int lineBytes = destFmt.comp.bytesPerPixel() * width;
+        if( destStrideInBytes < lineBytes ) {
+            throw new IllegalArgumentException("Invalid stride "+destStrideInBytes+", must be greater or equal "+lineBytes);
+        }
+        final int destPos = dest.position();
+        {
+            final int reqBytes = destStrideInBytes * ( height - 1 ) + lineBytes;
+            if( dest.limit() - destPos < reqBytes ) {
+                throw new IndexOutOfBoundsException("Dest buffer has insufficient bytes left, needs "+reqBytes+": "+dest);
+            }
+        }
+        final PngChunkTRNS trns = reader.getMetadata().getTRNS();
+        if( imgInfo.indexed ) {
+            setupPalette(reader.getMetadata().getPLTE(), trns);
+        }
+        final PixelFormat srcFmt = getSourcePixelFormat(imgInfo, trns);
+        final boolean interlaced = reader.isInterlaced();
+        // interlaced rows are fetched via readRowByte(..), which already reduces 16 bit to its MSB
+        final int bitDepth = interlaced && 16 == imgInfo.bitDepth ? 8 : imgInfo.bitDepth;
+        final boolean sameLayout = srcFmt == destFmt && 8 == bitDepth && !imgInfo.indexed &&
+                                   !( imgInfo.greyscale && imgInfo.alpha );
+        if( !sameLayout && scanline.length < lineBytes ) {
+            scanline = new byte[lineBytes];
+        }
+        if( interlaced && rowBuffer.length < imgInfo.samplesPerRowPacked ) {
+            rowBuffer = new byte[imgInfo.samplesPerRowPacked];
+        }
+        try {
+            for (int row = 0; row < height; row++) {
+                final byte[] src;
+                final int srcOff;
+                if( interlaced ) {
+                    src = reader.readRowByte(rowBuffer, row);
+                    srcOff = 0;
+                } else {
+                    src = reader.readRowRawBuffer(row);
+                    srcOff = 1;
+                }
+                dest.position( destPos + ( vertFlip ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes ) );
+                if( sameLayout ) {
+                    dest.put(src, srcOff, lineBytes);
+                } else {
+                    convertRow(imgInfo, bitDepth, src, srcOff, destFmt);
+                    dest.put(scanline, 0, lineBytes);
+                }
+            }
+        } finally {
+            dest.position(destPos);
+        }
+        reader.end();
+    }
+
+    private void setupPalette(final PngChunkPLTE plte, final PngChunkTRNS trns) {
+        if( null == plte ) {
+            throw new PngjInputException("Missing PLTE chunk in indexed image");
+        }
+        final int n = plte.getNentries();
+        final int[] alpha = null != trns ? trns.getPalletteAlpha() : null;
+        final int nAlpha = null != alpha ? alpha.length : 0;
+        for(int i=0, j=0; i < 256; i++) {
+            final int rgb = i < n ? plte.getEntry(i) : 0;
+            palette[j++] = (byte) ( rgb >>> 16 );
+            palette[j++] = (byte) ( rgb >>>  8 );
+            palette[j++] = (byte) ( rgb        );
+            palette[j++] = (byte) ( i < nAlpha ? alpha[i] : 0xff );
+        }
+    }
+
+    private void convertRow(final ImageInfo imgInfo, final int bitDepth, final byte[] src, int s, final PixelFormat destFmt) {
+        final byte[] d = scanline;
+        final int width = imgInfo.cols;
+        int dOff = 0;
+        if( imgInfo.indexed ) {
+            for(int x=0; x<width; x++) {
+                final int p = 4 * getSample(src, s, x, bitDepth);
+                dOff = putRGBA(destFmt, d, dOff, palette[p], palette[p+1], palette[p+2], palette[p+3]);
+            }
+        } else if( imgInfo.greyscale ) {
+            if( 8 > bitDepth ) {
+                final int scale = 255 / ( ( 1 << bitDepth ) - 1 ); // 1 -> 255, 2 -> 85, 4 -> 17
+                for(int x=0; x<width; x++) {
+                    dOff = putLum(destFmt, d, dOff, (byte) ( getSample(src, s, x, bitDepth) * scale ), (byte)0xff);
+                }
+            } else {
+                final int step = 16 == bitDepth ? 2 : 1;
+                if( imgInfo.alpha ) {
+                    for(int x=0; x<width; x++, s+=2*step) {
+                        dOff = putLum(destFmt, d, dOff, src[s], src[s+step]);
+                    }
+                } else {
+                    for(int x=0; x<width; x++, s+=step) {
+                        dOff = putLum(destFmt, d, dOff, src[s], (byte)0xff);
+                    }
+                }
+            }
+        } else {
+            final int step = 16 == bitDepth ? 2 : 1;
+            if( imgInfo.alpha ) {
+                for(int x=0; x<width; x++, s+=4*step) {
+                    dOff = putRGBA(destFmt, d, dOff, src[s], src[s+step], src[s+2*step], src[s+3*step]);
+                }
+            } else {
+                for(int x=0; x<width; x++, s+=3*step) {
+                    dOff = putRGBA(destFmt, d, dOff, src[s], src[s+step], src[s+2*step], (byte)0xff);
+                }
+            }
+        }
+    }
+
+    /** Returns the unsigned 1, 2, 4 or 8 bit sample of column <code>x</code>, packed MSB first. */
+    private static int getSample(final byte[] src, final int s, final int x, final int bitDepth) {
+        if( 8 == bitDepth ) {
+            return src[s + x] & 0xff;
+        }
+        final int bitPos = x * bitDepth;
+        final int shift = 8 - bitDepth - ( bitPos & 7 );
+        return ( src[s + ( bitPos >>> 3 )] >>> shift ) & ( ( 1 << bitDepth ) - 1 );
+    }
+
+    private static int putLum(final PixelFormat destFmt, final byte[] d, int dOff, final byte lum, final byte alpha) {
+        switch(destFmt) {
+            case LUMINANCE:
+                d[dOff++] = lum;
+                break;
+            case BGR888:
+            case RGB888:
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                break;
+            case ABGR8888:
+            case ARGB8888:
+                d[dOff++] = alpha; // A
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                break;
+            case BGRA8888:
+            case RGBA8888:
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = alpha; // A
+                break;
+            default:
+                throw new PngjUnsupportedException("Unhandled format "+destFmt);
+        }
+        return dOff;
+    }
+
+    private static int putRGBA(final PixelFormat destFmt, final byte[] d, int dOff, final byte r, final byte g, final byte b, final byte a) {
+        switch(destFmt) {
+            case RGB888:
+                d[dOff++] = r;
+                d[dOff++] = g;
+                d[dOff++] = b;
+                break;
+            case RGBA8888:
+                d[dOff++] = r;
+                d[dOff++] = g;
+                d[dOff++] = b;
+                d[dOff++] = a;
+                break;
+            default: {
+                final int p = PixelFormatUtil.convertToInt32(destFmt, r, g, b, a);
+                final int dbpp = destFmt.comp.bytesPerPixel();
+                d[dOff++] = (byte) ( p );                // 1
+                if( 1 < dbpp ) {
+                    d[dOff++] = (byte) ( p >>>  8 );     // 2
+                    d[dOff++] = (byte) ( p >>> 16 );     // 3
+                    if( 4 == dbpp ) {
+                        d[dOff++] = (byte) ( p >>> 24 ); // 4
+                    }
+                }
+            }
+        }
+        return dOff;
+    }
+}
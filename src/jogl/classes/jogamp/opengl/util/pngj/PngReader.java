@@ -591,6 +591,33 @@ public class PngReader {
 		return buffer;
 	}
 
+	/**
+	 * Reads the row and returns the internal unfiltered row buffer, without
+	 * copying or decoding the samples.
+	 * <p>
+	 * The samples start at offset 1 (offset 0 holds the filter type) and span
+	 * {@link ImageInfo#bytesPerRow} bytes, packed if the bitdepth is less than
+	 * 8 and as big endian byte pairs if the bitdepth is 16.
+	 * <p>
+	 * The returned array is owned by this reader and only valid until the next
+	 * row is read. Only available for non interlaced images.
+	 *
+	 * @param nrow
+	 *            Row number (0 is top). Most be strictly greater than the last
+	 *            read row.
+	 *
+	 * @return The internal row buffer
+	 */
+	public final byte[] readRowRawBuffer(final int nrow) {
+		if (interlaced)
+			throw new PngjInputException("readRowRawBuffer() not supported for interlaced images");
+		if (nrow <= rowNum)
+			throw new PngjInputException("rows must be read in increasing order: " + nrow);
+		while (rowNum < nrow)
+			readRowRaw(rowNum + 1); // read rows, perhaps skipping if necessary
+		return rowb;
+	}
+
 	/**
 	 * @param nrow
 	 * @deprecated Now {@link #readRow(int)} implements the same funcion. This
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 
@@ -70,6 +71,11 @@ public class PngWriter {
 
 	private final OutputStream os;
 
+	private Deflater datDeflater = null;
+	private PngParallelCompression parallelCompression = null;
+	private boolean parallelCompressionOwned = false;
+	private PngIDatParallelDeflater datParallelDeflater = null;
+
 	protected byte[] rowb = null; // element 0 is filter type!
 	protected byte[] rowbfilter = null; // current line with filter
 
@@ -111,14 +117,20 @@ public class PngWriter {
 
 	private void init() {
 		datStream = new PngIDatChunkOutputStream(this.os, idatMaxSize);
-		final Deflater def = new Deflater(compLevel);
-		def.setStrategy(deflaterStrategy);
-		datStreamDeflated = new DeflaterOutputStream(datStream, def);
+		if (!isParallelCompression()) {
+			datDeflater = new Deflater(compLevel);
+			datDeflater.setStrategy(deflaterStrategy);
+			datStreamDeflated = new DeflaterOutputStream(datStream, datDeflater);
+		}
 		writeSignatureAndIHDR();
 		writeFirstChunks();
+		if (isParallelCompression())
+			datParallelDeflater = new PngIDatParallelDeflater(imgInfo, datStream, compLevel, deflaterStrategy,
+					filterStrat.configuredType, parallelCompression);
 	}
 
-	private void reportResultsForFilter(final int rown, final FilterType type, final boolean tentative) {
+	private static void reportResultsForFilter(final ImageInfo imgInfo, final FilterWriteStrategy filterStrat,
+			final int rown, final FilterType type, final boolean tentative, final byte[] rowbfilter, final int[] histox) {
 		Arrays.fill(histox, 0);
 		int s = 0, v;
 		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
@@ -254,42 +266,55 @@ public class PngWriter {
 	}
 
 	private void filterRow(final int rown) {
+		filterRow(imgInfo, filterStrat, rown, rowb, rowbprev, rowbfilter, histox);
+	}
+
+	/**
+	 * Filters one row, selecting the filter type via the given strategy.
+	 * <p>
+	 * All rows have the filter type at element 0, <tt>rowbprev</tt> must be
+	 * initialized to 0 for the first row. Stateless besides the passed
+	 * strategy and buffers, hence usable from multiple threads with disjunct
+	 * arguments.
+	 */
+	static void filterRow(final ImageInfo imgInfo, final FilterWriteStrategy filterStrat, final int rown,
+			final byte[] rowb, final byte[] rowbprev, final byte[] rowbfilter, final int[] histox) {
 		// warning: filters operation rely on: "previos row" (rowbprev) is
 		// initialized to 0 the first time
 		if (filterStrat.shouldTestAll(rown)) {
-			filterRowNone();
-			reportResultsForFilter(rown, FilterType.FILTER_NONE, true);
-			filterRowSub();
-			reportResultsForFilter(rown, FilterType.FILTER_SUB, true);
-			filterRowUp();
-			reportResultsForFilter(rown, FilterType.FILTER_UP, true);
-			filterRowAverage();
-			reportResultsForFilter(rown, FilterType.FILTER_AVERAGE, true);
-			filterRowPaeth();
-			reportResultsForFilter(rown, FilterType.FILTER_PAETH, true);
+			filterRowNone(imgInfo, rowb, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rown, FilterType.FILTER_NONE, true, rowbfilter, histox);
+			filterRowSub(imgInfo, rowb, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rown, FilterType.FILTER_SUB, true, rowbfilter, histox);
+			filterRowUp(imgInfo, rowb, rowbprev, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rown, FilterType.FILTER_UP, true, rowbfilter, histox);
+			filterRowAverage(imgInfo, rowb, rowbprev, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rown, FilterType.FILTER_AVERAGE, true, rowbfilter, histox);
+			filterRowPaeth(imgInfo, rowb, rowbprev, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rown, FilterType.FILTER_PAETH, true, rowbfilter, histox);
 		}
 		final FilterType filterType = filterStrat.gimmeFilterType(rown, true);
 		rowbfilter[0] = (byte) filterType.val;
 		switch (filterType) {
 		case FILTER_NONE:
-			filterRowNone();
+			filterRowNone(imgInfo, rowb, rowbfilter);
 			break;
 		case FILTER_SUB:
-			filterRowSub();
+			filterRowSub(imgInfo, rowb, rowbfilter);
 			break;
 		case FILTER_UP:
-			filterRowUp();
+			filterRowUp(imgInfo, rowb, rowbprev, rowbfilter);
 			break;
 		case FILTER_AVERAGE:
-			filterRowAverage();
+			filterRowAverage(imgInfo, rowb, rowbprev, rowbfilter);
 			break;
 		case FILTER_PAETH:
-			filterRowPaeth();
+			filterRowPaeth(imgInfo, rowb, rowbprev, rowbfilter);
 			break;
 		default:
 			throw new PngjUnsupportedException("Filter type " + filterType + " not implemented");
 		}
-		reportResultsForFilter(rown, filterType, false);
+		reportResultsForFilter(imgInfo, filterStrat, rown, filterType, false, rowbfilter, histox);
 	}
 
 	private void prepareEncodeRow(final int rown) {
@@ -305,6 +330,10 @@ public class PngWriter {
 	}
 
 	private void filterAndSend(final int rown) {
+		if (datParallelDeflater != null) {
+			datParallelDeflater.addRow(rowb); // filtered and compressed in stripes
+			return;
+		}
 		filterRow(rown);
 		try {
 			datStreamDeflated.write(rowbfilter, 0, imgInfo.bytesPerRow + 1);
@@ -314,6 +343,10 @@ public class PngWriter {
 	}
 
 	protected void filterRowAverage() {
+		filterRowAverage(imgInfo, rowb, rowbprev, rowbfilter);
+	}
+
+	private static void filterRowAverage(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbprev, final byte[] rowbfilter) {
 		int i, j, imax;
 		imax = imgInfo.bytesPerRow;
 		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++) {
@@ -322,12 +355,20 @@ public class PngWriter {
 	}
 
 	protected void filterRowNone() {
+		filterRowNone(imgInfo, rowb, rowbfilter);
+	}
+
+	private static void filterRowNone(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbfilter) {
 		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
 			rowbfilter[i] = rowb[i];
 		}
 	}
 
 	protected void filterRowPaeth() {
+		filterRowPaeth(imgInfo, rowb, rowbprev, rowbfilter);
+	}
+
+	private static void filterRowPaeth(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbprev, final byte[] rowbfilter) {
 		int i, j, imax;
 		imax = imgInfo.bytesPerRow;
 		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++) {
@@ -339,6 +380,10 @@ public class PngWriter {
 	}
 
 	protected void filterRowSub() {
+		filterRowSub(imgInfo, rowb, rowbfilter);
+	}
+
+	private static void filterRowSub(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbfilter) {
 		int i, j;
 		for (i = 1; i <= imgInfo.bytesPixel; i++)
 			rowbfilter[i] = rowb[i];
@@ -349,6 +394,10 @@ public class PngWriter {
 	}
 
 	protected void filterRowUp() {
+		filterRowUp(imgInfo, rowb, rowbprev, rowbfilter);
+	}
+
+	private static void filterRowUp(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbprev, final byte[] rowbfilter) {
 		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
 			// rowbfilter[i] = (byte) (rowb[i] - rowbprev[i]); !!!
 			rowbfilter[i] = (byte) PngHelperInternal.filterRowUp(rowb[i], rowbprev[i]);
@@ -474,7 +523,10 @@ public class PngWriter {
 		if (rowNum != imgInfo.rows - 1)
 			throw new PngjOutputException("all rows have not been written");
 		try {
-			datStreamDeflated.finish();
+			if (datParallelDeflater != null)
+				datParallelDeflater.finish();
+			else
+				datStreamDeflated.finish();
 			datStream.flush();
 			writeLastChunks();
 			writeEndChunk();
@@ -482,6 +534,33 @@ public class PngWriter {
 				os.close();
 		} catch (final IOException e) {
 			throw new PngjOutputException(e);
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Releases the native compression resources, i.e. the deflaters, and
+	 * returns the stripes of parallel compression to their pool.
+	 * <p>
+	 * Called by {@link #end()}. Must be called to abort writing, i.e. if
+	 * {@link #end()} will not be called due to an exception. The image is
+	 * incomplete and the stream is not closed in this case. It is safe to
+	 * call this method multiple times.
+	 */
+	public void close() {
+		if (datParallelDeflater != null) {
+			datParallelDeflater.close();
+			datParallelDeflater = null;
+		}
+		if (datDeflater != null) {
+			datDeflater.end();
+			datDeflater = null;
+		}
+		if (parallelCompressionOwned) {
+			parallelCompression.dispose();
+			parallelCompression = null;
+			parallelCompressionOwned = false;
 		}
 	}
 
@@ -522,6 +601,77 @@ public class PngWriter {
 		this.compLevel = compLevel;
 	}
 
+	/**
+	 * Enables parallel compression of the IDAT stream, pigz style.
+	 * <p>
+	 * Rows are filtered and deflated in independent stripes of about 512k
+	 * bytes on the given executor, the stripes are joined with sync flushes
+	 * into one zlib stream. The result is a regular PNG, slightly larger than
+	 * the single threaded one. Each stripe selects its filter anew if an
+	 * adaptive filter strategy is used.
+	 * <p>
+	 * This must be called just after constructor, before starting writing.
+	 * <p>
+	 * See also setSpeedPreset()
+	 *
+	 * @param executor
+	 *            executor running the compression tasks, null for single
+	 *            threaded compression (default). If the executor rejects a
+	 *            task, it is run by the writing thread.
+	 * @param parallelism
+	 *            number of stripes compressed concurrently, 1 for single
+	 *            threaded compression (default)
+	 * @see #setParallelCompression(PngParallelCompression)
+	 */
+	public void setParallelCompression(final Executor executor, final int parallelism) {
+		setParallelCompression(new PngParallelCompression(executor, parallelism));
+		parallelCompressionOwned = true;
+	}
+
+	/**
+	 * Enables parallel compression of the IDAT stream, see
+	 * {@link #setParallelCompression(Executor, int)}.
+	 * <p>
+	 * The given setting may be shared by multiple writers, which reuse the
+	 * stripes and deflaters pooled by it. The caller is responsible to
+	 * {@link PngParallelCompression#dispose() dispose} it.
+	 * <p>
+	 * This must be called just after constructor, before starting writing.
+	 *
+	 * @param compression
+	 *            the parallel compression setting, null for single threaded
+	 *            compression (default)
+	 */
+	public void setParallelCompression(final PngParallelCompression compression) {
+		if (parallelCompressionOwned)
+			parallelCompression.dispose();
+		this.parallelCompression = compression;
+		this.parallelCompressionOwned = false;
+	}
+
+	/**
+	 * Returns true if parallel compression is enabled, see
+	 * {@link #setParallelCompression(PngParallelCompression)}
+	 */
+	public boolean isParallelCompression() {
+		return parallelCompression != null && parallelCompression.isParallel();
+	}
+
+	/**
+	 * Speed over size: compression level 1, default deflater strategy and the
+	 * cheap SUB filter, which suits photographic and rendered content well.
+	 * <p>
+	 * Meant for high frequency captures, e.g. recording frames, in
+	 * combination with {@link #setParallelCompression(Executor, int)}.
+	 * <p>
+	 * This must be called just after constructor, before starting writing.
+	 */
+	public void setSpeedPreset() {
+		setCompLevel(1);
+		setDeflaterStrategy(Deflater.DEFAULT_STRATEGY);
+		setFilterType(FilterType.FILTER_SUB);
+	}
+
 	/**
 	 * Sets internal prediction filter type, or strategy to choose it.
 	 * <p>
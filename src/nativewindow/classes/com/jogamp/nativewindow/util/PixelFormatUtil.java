@@ -29,7 +29,13 @@ package com.jogamp.nativewindow.util;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.common.util.Bitstream;
@@ -448,7 +454,10 @@ public class PixelFormatUtil {
             System.err.println("XXX: DST fmt "+dst_fmt+", "+dst_comp+", stride "+dst_lineStride+", isGLOrient "+dst_glOriented);
         }
 
-        if( fast_copy ) {
+        if( isByteFormat(src_fmt) && isByteFormat(dst_fmt) ) {
+            // Byte addressable row kernels, incl. plain copy
+            convertBytes(width, height, src_bb, src_fmt, src_lineStride, dst_bb, dst_fmt, dst_lineStride, vert_flip);
+        } else if( fast_copy ) {
             // Fast copy
             for(int y=0; y<height; y++) {
                 int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride : y * src_lineStride;
@@ -508,6 +517,293 @@ public class PixelFormatUtil {
         }
     }
 
+    /** Minimum number of pixels for {@link #setParallel(Executor, int) parallel} conversion, {@value}. */
+    public static final int PARALLEL_MIN_PIXELS = 512 * 512;
+
+    private static Executor parallelExecutor = null;
+    private static int parallelism = 1;
+
+    /**
+     * Enables row parallel conversion of rectangles with at least {@link #PARALLEL_MIN_PIXELS} pixels
+     * for {@link #isByteFormat(PixelFormat) byte addressable formats}, disabled by default.
+     * <p>
+     * The calling thread converts one band of rows itself
+     * and runs not yet started bands before waiting for them.
+     * </p>
+     * @param executor the {@link Executor} running the row bands, or <code>null</code> to disable parallel conversion
+     * @param parallelism the number of row bands incl. the calling thread, a value &le; 1 disables parallel conversion
+     */
+    public static synchronized void setParallel(final Executor executor, final int parallelism) {
+        PixelFormatUtil.parallelExecutor = executor;
+        PixelFormatUtil.parallelism = null != executor ? Math.max(1, parallelism) : 1;
+    }
+
+    /**
+     * Returns true if the given {@link PixelFormat} uses 8 bit per component w/o padding,
+     * i.e. {@link PixelFormat#LUMINANCE}, {@link PixelFormat#RGB888}, {@link PixelFormat#BGR888},
+     * {@link PixelFormat#RGBA8888}, {@link PixelFormat#ABGR8888}, {@link PixelFormat#ARGB8888} or {@link PixelFormat#BGRA8888}.
+     * <p>
+     * Conversion between these formats uses dedicated row kernels
+     * instead of the generic {@link #convert(ComponentMap, PixelFormat.Composition, Bitstream, PixelFormat.Composition, Bitstream) per component conversion},
+     * producing identical results.
+     * </p>
+     */
+    public static boolean isByteFormat(final PixelFormat fmt) {
+        switch(fmt) {
+            case LUMINANCE:
+            case RGB888:
+            case BGR888:
+            case RGBA8888:
+            case ABGR8888:
+            case ARGB8888:
+            case BGRA8888:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void convertBytes(final int width, final int height,
+                                     final ByteBuffer src_bb, final PixelFormat src_fmt, final int src_lineStride,
+                                     final ByteBuffer dst_bb, final PixelFormat dst_fmt, final int dst_lineStride,
+                                     final boolean vert_flip) {
+        final ByteRowConverter conv = new ByteRowConverter(src_fmt.comp, dst_fmt.comp);
+        final Executor executor;
+        final int bands;
+        synchronized( PixelFormatUtil.class ) {
+            executor = parallelExecutor;
+            bands = null != executor && (long)width * height >= PARALLEL_MIN_PIXELS ? Math.min(parallelism, height) : 1;
+        }
+        if( 1 >= bands ) {
+            conv.convertRows(0, height, width, height, src_bb, src_lineStride, dst_bb, dst_lineStride, vert_flip);
+            return;
+        }
+        final int bandRows = ( height + bands - 1 ) / bands;
+        final ArrayList<FutureTask<Object>> tasks = new ArrayList<FutureTask<Object>>(bands - 1);
+        for(int y0 = bandRows; y0 < height; y0 += bandRows) {
+            final int y1 = Math.min(height, y0 + bandRows);
+            final int _y0 = y0;
+            final FutureTask<Object> task = new FutureTask<Object>(new Runnable() {
+                @Override
+                public void run() {
+                    conv.convertRows(_y0, y1, width, height, src_bb, src_lineStride, dst_bb, dst_lineStride, vert_flip);
+                } }, null);
+            tasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (final RejectedExecutionException ree) {
+                // run below by caller
+            }
+        }
+        conv.convertRows(0, Math.min(height, bandRows), width, height, src_bb, src_lineStride, dst_bb, dst_lineStride, vert_flip);
+        for(int i=0; i<tasks.size(); i++) {
+            final FutureTask<Object> task = tasks.get(i);
+            task.run(); // no-op if already started
+            try {
+                task.get();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ie);
+            } catch (final ExecutionException ee) {
+                throw new RuntimeException(ee.getCause());
+            }
+        }
+    }
+
+    /**
+     * Row kernels for {@link #isByteFormat(PixelFormat) byte addressable formats},
+     * producing the same result as the generic per component conversion:
+     * <ul>
+     *   <li>Equal compositions: bulk copy</li>
+     *   <li>4 to 4 components: permutation of the pixel's 32 bit word</li>
+     *   <li>1 or 3 to 4 components: 32 bit word composed of the source bytes and default values</li>
+     *   <li>RGB[A] to Y: average of the normalized RGB components</li>
+     *   <li>Otherwise: byte map</li>
+     * </ul>
+     * Missing components use the destination's default value.
+     * Immutable, hence thread safe.
+     */
+    private static final class ByteRowConverter {
+        private static final int COPY = 0, WORD_PERMUTE = 1, BYTES_TO_WORD = 2, TO_LUMINANCE = 3, BYTE_MAP = 4;
+        private static final boolean nativeLE = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+        final int srcBpp, dstBpp;
+        final int kernel;
+        /** Source byte index per destination byte, -1 for default value */
+        final int[] dst2src;
+        /** Default value per destination byte */
+        final byte[] dstDefault;
+        /** Word shifts of the source byte and destination byte per destination byte, native order */
+        final int[] srcShift, dstShift;
+        /** Source byte mask per destination byte, 0 for default value */
+        final int[] srcMask;
+        /** Default values as a 32 bit word, native order */
+        final int dstDefaultWord;
+        /** Source index of R, G and B for {@link #TO_LUMINANCE} */
+        final int srcR, srcG, srcB;
+
+        ByteRowConverter(final PixelFormat.Composition src, final PixelFormat.Composition dst) {
+            srcBpp = src.bytesPerPixel();
+            dstBpp = dst.bytesPerPixel();
+            final ComponentMap cmap = new ComponentMap(src, dst);
+            srcR = cmap.srcRGBA[0];
+            srcG = cmap.srcRGBA[1];
+            srcB = cmap.srcRGBA[2];
+            dst2src = cmap.dst2src;
+            dstDefault = new byte[dstBpp];
+            for(int i=0; i<dstBpp; i++) {
+                dstDefault[i] = (byte) dst.defaultValue(i, false);
+            }
+            srcShift = new int[dstBpp];
+            dstShift = new int[dstBpp];
+            srcMask = new int[dstBpp];
+            int defWord = 0;
+            for(int i=0; i<dstBpp; i++) {
+                final int sIdx = Math.max(0, dst2src[i]);
+                srcShift[i] = nativeLE ? 8 * sIdx : 24 - 8 * sIdx;
+                dstShift[i] = nativeLE ? 8 * i : 24 - 8 * i;
+                srcMask[i] = 0 <= dst2src[i] ? 0xff : 0;
+                if( 0 > dst2src[i] ) {
+                    defWord |= ( dstDefault[i] & 0xff ) << dstShift[i];
+                }
+            }
+            dstDefaultWord = defWord;
+            if( src.equals(dst) ) {
+                kernel = COPY;
+            } else if( 1 == dstBpp && PixelFormat.CType.Y == dst.componentOrder()[0] && cmap.hasSrcRGB ) {
+                kernel = TO_LUMINANCE;
+            } else if( 4 == srcBpp && 4 == dstBpp ) {
+                kernel = WORD_PERMUTE; // all 32 bit byte formats have all RGBA components
+            } else if( 4 == dstBpp ) {
+                kernel = BYTES_TO_WORD;
+            } else {
+                kernel = BYTE_MAP;
+            }
+        }
+
+        /**
+         * Converts destination rows [y0..y1).
+         */
+        void convertRows(final int y0, final int y1, final int width, final int height,
+                         final ByteBuffer src_bb, final int src_lineStride,
+                         final ByteBuffer dst_bb, final int dst_lineStride,
+                         final boolean vert_flip) {
+            final ByteBuffer src = src_bb.duplicate();
+            final ByteBuffer dst = dst_bb.duplicate();
+            final int srcRowBytes = width * srcBpp;
+            final int dstRowBytes = width * dstBpp;
+            final byte[] srcRow, dstRow;
+            final int[] srcWords, dstWords;
+            if( WORD_PERMUTE == kernel ) {
+                srcRow = null; dstRow = null;
+                srcWords = new int[width];
+                dstWords = new int[width];
+            } else if( BYTES_TO_WORD == kernel ) {
+                srcRow = new byte[srcRowBytes]; dstRow = null;
+                srcWords = null;
+                dstWords = new int[width];
+            } else if( COPY == kernel ) {
+                srcRow = null; dstRow = null;
+                srcWords = null; dstWords = null;
+            } else {
+                srcRow = new byte[srcRowBytes];
+                dstRow = new byte[dstRowBytes];
+                srcWords = null; dstWords = null;
+            }
+            for(int y=y0; y<y1; y++) {
+                final int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride : y * src_lineStride;
+                final int dst_off = y * dst_lineStride;
+                src.limit(src_off + srcRowBytes);
+                src.position(src_off);
+                dst.limit(dst_off + dstRowBytes);
+                dst.position(dst_off);
+                switch( kernel ) {
+                    case COPY:
+                        dst.put(src);
+                        break;
+                    case WORD_PERMUTE:
+                        src.slice().order(ByteOrder.nativeOrder()).asIntBuffer().get(srcWords);
+                        permuteWords(srcWords, dstWords, width);
+                        dst.slice().order(ByteOrder.nativeOrder()).asIntBuffer().put(dstWords);
+                        break;
+                    case BYTES_TO_WORD:
+                        src.get(srcRow);
+                        composeWords(srcRow, dstWords, width);
+                        dst.slice().order(ByteOrder.nativeOrder()).asIntBuffer().put(dstWords);
+                        break;
+                    case TO_LUMINANCE:
+                        src.get(srcRow);
+                        toLuminance(srcRow, dstRow, width);
+                        dst.put(dstRow);
+                        break;
+                    default:
+                        src.get(srcRow);
+                        mapBytes(srcRow, dstRow, width);
+                        dst.put(dstRow);
+                        break;
+                }
+            }
+        }
+
+        private void permuteWords(final int[] s, final int[] d, final int width) {
+            final int ss0 = srcShift[0], ss1 = srcShift[1], ss2 = srcShift[2], ss3 = srcShift[3];
+            final int ds0 = dstShift[0], ds1 = dstShift[1], ds2 = dstShift[2], ds3 = dstShift[3];
+            for(int x=0; x<width; x++) {
+                final int v = s[x];
+                d[x] = ( ( v >>> ss0 ) & 0xff ) << ds0 |
+                       ( ( v >>> ss1 ) & 0xff ) << ds1 |
+                       ( ( v >>> ss2 ) & 0xff ) << ds2 |
+                       ( ( v >>> ss3 ) & 0xff ) << ds3 ;
+            }
+        }
+
+        private void composeWords(final byte[] s, final int[] d, final int width) {
+            final int bpp = srcBpp;
+            final int def = dstDefaultWord;
+            final int i0 = Math.max(0, dst2src[0]), i1 = Math.max(0, dst2src[1]), i2 = Math.max(0, dst2src[2]), i3 = Math.max(0, dst2src[3]);
+            final int m0 = srcMask[0], m1 = srcMask[1], m2 = srcMask[2], m3 = srcMask[3];
+            final int ds0 = dstShift[0], ds1 = dstShift[1], ds2 = dstShift[2], ds3 = dstShift[3];
+            for(int x=0, i=0; x<width; x++, i+=bpp) {
+                d[x] = def |
+                       ( s[i+i0] & m0 ) << ds0 |
+                       ( s[i+i1] & m1 ) << ds1 |
+                       ( s[i+i2] & m2 ) << ds2 |
+                       ( s[i+i3] & m3 ) << ds3 ;
+            }
+        }
+
+        private void toLuminance(final byte[] s, final byte[] d, final int width) {
+            final int bpp = srcBpp;
+            for(int x=0, i=0; x<width; x++, i+=bpp) {
+                // same float arithmetic as the generic RGB[A] -> Y conversion
+                final float rF = ( s[i+srcR] & 0xff ) / 255f;
+                final float gF = ( s[i+srcG] & 0xff ) / 255f;
+                final float bF = ( s[i+srcB] & 0xff ) / 255f;
+                final float lF = ( rF + gF + bF ) * 1f / 3f;
+                d[x] = (byte) (int)( lF * 255 + 0.5f );
+            }
+        }
+
+        private void mapBytes(final byte[] s, final byte[] d, final int width) {
+            final int sBpp = srcBpp, dBpp = dstBpp;
+            final int[] m = dst2src;
+            final byte[] def = dstDefault;
+            for(int c=0; c<dBpp; c++) {
+                final int sIdx = m[c];
+                if( 0 <= sIdx ) {
+                    for(int x=0, i=sIdx, o=c; x<width; x++, i+=sBpp, o+=dBpp) {
+                        d[o] = s[i];
+                    }
+                } else {
+                    final byte v = def[c];
+                    for(int x=0, o=c; x<width; x++, o+=dBpp) {
+                        d[o] = v;
+                    }
+                }
+            }
+        }
+    }
+
     public static void convert(final ComponentMap cmap,
                                final PixelFormat.Composition dstComp,
                                final Bitstream<ByteBuffer> dstBitStream,
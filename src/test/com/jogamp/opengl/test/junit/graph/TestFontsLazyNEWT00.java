@@ -0,0 +1,112 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates that a {@link FontFactory#get(File, boolean) lazy}, memory mapped font
+ * produces the same glyphs as an eagerly loaded font for all glyphs of the Ubuntu font set
+ * and prints the load time of both.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontsLazyNEWT00 extends UITestCase {
+    static final String[] fontFiles = { "Ubuntu-R.ttf", "Ubuntu-BI.ttf", "Ubuntu-L.ttf" };
+
+    static File copyToTempFile(final String name) throws IOException {
+        final InputStream in = FontFactory.class.getClassLoader().getResourceAsStream("jogamp/graph/font/fonts/ubuntu/"+name);
+        Assert.assertNotNull(name, in);
+        final File file = File.createTempFile("jogl.font", ".ttf");
+        file.deleteOnExit();
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            final byte[] buf = new byte[64*1024];
+            int n;
+            while( 0 < ( n = in.read(buf) ) ) {
+                out.write(buf, 0, n);
+            }
+        } finally {
+            out.close();
+            in.close();
+        }
+        return file;
+    }
+
+    void testFontImpl(final File file) throws IOException {
+        final long t0 = System.nanoTime();
+        final Font eager = FontFactory.get(file);
+        final long t1 = System.nanoTime();
+        final Font lazy = FontFactory.get(file, true);
+        final long t2 = System.nanoTime();
+        System.err.printf("%s: glyphs %d, load eager %.3f ms, lazy %.3f ms%n",
+                eager.getFullFamilyName(), eager.getNumGlyphs(), (t1-t0)/1e6, (t2-t1)/1e6);
+        Assert.assertEquals(eager.getFullFamilyName(), lazy.getFullFamilyName());
+        Assert.assertEquals(eager.getNumGlyphs(), lazy.getNumGlyphs());
+
+        // all glyphs twice, exceeding the lazy glyph description cache
+        for(int j=0; j<2; j++) {
+            for(int i=0; i<eager.getNumGlyphs(); i++) {
+                final Font.Glyph e = eager.getGlyph(i);
+                final Font.Glyph l = lazy.getGlyph(i);
+                Assert.assertEquals("glyph "+i, e.getAdvanceFU(), l.getAdvanceFU());
+                Assert.assertEquals("glyph "+i, e.getBBoxFU(), l.getBBoxFU());
+                final OutlineShape es = e.getShape();
+                final OutlineShape ls = l.getShape();
+                Assert.assertEquals("glyph "+i, null == es, null == ls);
+                if( null != es ) {
+                    Assert.assertEquals("glyph "+i, es, ls);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test01UbuntuFonts() throws IOException {
+        for(int i=0; i<fontFiles.length; i++) {
+            testFontImpl(copyToTempFile(fontFiles[i]));
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestFontsLazyNEWT00.class.getName());
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.OutlineShapeMesh;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.geom.plane.AffineTransform;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates that adding glyphs via their cached {@link OutlineShape#getMesh() mesh}
+ * produces the same triangles as {@link Region#addOutlineShape(OutlineShape, AffineTransform, float[])},
+ * w/o GL using a recording {@link Region}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestOutlineShapeMeshNEWT00 extends UITestCase {
+    static final String text = "JogAmp Graph 0123456789 !?\nAaBbCcDdEe FfGgHhIi, ffi & @ %";
+
+    /** Records vertices and indices, expanding each triangle to its 3 vertices w/ coordinates and curve parameter */
+    static class RecordingRegion extends Region {
+        final ArrayList<float[]> vertices = new ArrayList<float[]>();
+        final ArrayList<Integer> indices = new ArrayList<Integer>();
+
+        RecordingRegion() { super(0, true); }
+
+        @Override
+        public void printBufferStats(final PrintStream out) { }
+        @Override
+        public void growBuffer(final int verticesCount, final int indicesCount) { }
+        @Override
+        public void setBufferCapacity(final int verticesCount, final int indicesCount) { }
+        @Override
+        protected void pushVertex(final float[] coords, final float[] texParams, final float[] rgba) {
+            vertices.add(new float[] { coords[0], coords[1], coords[2], texParams[0], texParams[1], texParams[2] });
+        }
+        @Override
+        protected void pushVertices(final float[] coords1, final float[] coords2, final float[] coords3,
+                                    final float[] texParams1, final float[] texParams2, final float[] texParams3, final float[] rgba) {
+            pushVertex(coords1, texParams1, rgba);
+            pushVertex(coords2, texParams2, rgba);
+            pushVertex(coords3, texParams3, rgba);
+        }
+        @Override
+        protected void pushIndex(final int idx) {
+            indices.add(idx);
+        }
+        @Override
+        protected void pushIndices(final int idx1, final int idx2, final int idx3) {
+            indices.add(idx1); indices.add(idx2); indices.add(idx3);
+        }
+
+        @Override
+        protected void putVertex(final int vertexIdx, final float[] coords, final float[] texParams, final float[] rgba) {
+            vertices.set(vertexIdx, new float[] { coords[0], coords[1], coords[2], texParams[0], texParams[1], texParams[2] });
+        }
+        @Override
+        protected void putIndices(final int indexPos, final int idx1, final int idx2, final int idx3) {
+            indices.set(indexPos, idx1); indices.set(indexPos+1, idx2); indices.set(indexPos+2, idx3);
+        }
+
+        float[] getTriangleVertex(final int i) {
+            return vertices.get(indices.get(i));
+        }
+    }
+
+    static void addString(final Region region, final Font font, final AffineTransform transform, final boolean useMesh) {
+        final OutlineShape.Visitor visitor = new OutlineShape.Visitor() {
+            @Override
+            public final void visit(final OutlineShape shape, final AffineTransform t) {
+                if( useMesh ) {
+                    region.addOutlineShapeMesh(shape.getMesh(), t, null);
+                } else {
+                    region.addOutlineShape(shape, t, null);
+                }
+            } };
+        font.processString(visitor, transform, text, new AffineTransform(), new AffineTransform());
+    }
+
+    void testFontImpl(final Font font) {
+        final AffineTransform transform = new AffineTransform();
+        transform.setToTranslation(10f, -3f);
+        transform.scale(2f, 2f, new AffineTransform());
+        final RecordingRegion exp = new RecordingRegion();
+        final RecordingRegion has = new RecordingRegion();
+        addString(exp, font, transform, false);
+        addString(has, font, transform, true);
+        Assert.assertEquals(exp.indices.size(), has.indices.size());
+        for(int i=0; i<exp.indices.size(); i++) {
+            Assert.assertArrayEquals(font.getFullFamilyName()+", index "+i, exp.getTriangleVertex(i), has.getTriangleVertex(i), 0f);
+        }
+        Assert.assertEquals(exp.getBounds(), has.getBounds());
+
+        final int glyphID = font.getGlyphID('g');
+        final OutlineShape shape = font.getGlyph(glyphID).getShape();
+        final OutlineShapeMesh mesh = shape.getMesh();
+        Assert.assertSame(mesh, shape.getMesh());
+        System.err.println(font.getFullFamilyName()+": 'g' "+mesh+", string indices "+has.indices.size()+", vertices "+has.vertices.size()+" / "+exp.vertices.size());
+
+        final int loops = 200;
+        for(int j=0; j<2; j++) {
+            final long t0 = System.nanoTime();
+            for(int i=0; i<loops; i++) {
+                addString(new RecordingRegion(), font, transform, false);
+            }
+            final long t1 = System.nanoTime();
+            for(int i=0; i<loops; i++) {
+                addString(new RecordingRegion(), font, transform, true);
+            }
+            final long t2 = System.nanoTime();
+            System.err.printf("  addOutlineShape %.3f ms, addOutlineShapeMesh %.3f ms per string%n", (t1-t0)/1e6/loops, (t2-t1)/1e6/loops);
+        }
+    }
+
+    @Test
+    public void test01Set01() throws IOException {
+        final Font[] fonts = FontSet01.getSet01();
+        for(int i=0; i<fonts.length; i++) {
+            testFontImpl(fonts[i]);
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestOutlineShapeMeshNEWT00.class.getName());
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.graph.geom.plane.AffineTransform;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates that {@link Region#addOutlineShapes(java.util.List, AffineTransform, float[], java.util.concurrent.Executor, int) parallel}
+ * triangulation produces the same triangles as {@link Region#addOutlineShapes(java.util.List, AffineTransform, float[]) sequential}
+ * triangulation for many shapes, w/o GL using a recording {@link Region}, and prints the timing of both.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestRegionAddParallelNEWT00 extends UITestCase {
+    static final int shapeCount = 2000;
+
+    /** Star w/ a hole, where each shape differs in position, size and vertex count */
+    static OutlineShape createShape(final int i) {
+        final OutlineShape shape = new OutlineShape(SVertex.factory());
+        final int n = 8 + 2 * ( i % 40 );
+        final float cx = ( i % 50 ) * 10f, cy = ( i / 50 ) * 10f;
+        for(int o=0; o<2; o++) {
+            final float scale = 0 == o ? 4f : 1f;
+            shape.addEmptyOutline();
+            for(int j=0; j<n; j++) {
+                final int k = 0 == o ? j : n-1-j; // hole clockwise
+                final double a = 2.0 * Math.PI * k / n;
+                final float r = scale * ( 0 == k % 2 ? 1f : 0.6f );
+                shape.addVertex(cx + r * (float)Math.cos(a), cy + r * (float)Math.sin(a), 0 != k % 3);
+            }
+            shape.closeLastOutline(true);
+        }
+        return shape;
+    }
+
+    static ArrayList<OutlineShape> createShapes() {
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>(shapeCount + 10);
+        for(int i=0; i<shapeCount; i++) {
+            shapes.add(createShape(i));
+        }
+        for(int i=0; i<10; i++) {
+            shapes.add(shapes.get(i*7)); // shared instances
+        }
+        return shapes;
+    }
+
+    static void assertEquals(final TestOutlineShapeMeshNEWT00.RecordingRegion exp, final TestOutlineShapeMeshNEWT00.RecordingRegion has) {
+        Assert.assertEquals(exp.indices.size(), has.indices.size());
+        for(int i=0; i<exp.indices.size(); i++) {
+            Assert.assertArrayEquals("index "+i, exp.getTriangleVertex(i), has.getTriangleVertex(i), 0f);
+        }
+        Assert.assertEquals(exp.getBounds(), has.getBounds());
+    }
+
+    private void testImpl(final ExecutorService executor, final int parallelism) {
+        final AffineTransform transform = new AffineTransform();
+        transform.setToTranslation(10f, -3f);
+
+        final TestOutlineShapeMeshNEWT00.RecordingRegion exp = new TestOutlineShapeMeshNEWT00.RecordingRegion();
+        final TestOutlineShapeMeshNEWT00.RecordingRegion has = new TestOutlineShapeMeshNEWT00.RecordingRegion();
+        final ArrayList<OutlineShape> shapes0 = createShapes();
+        final ArrayList<OutlineShape> shapes1 = createShapes();
+        final long t0 = System.nanoTime();
+        exp.addOutlineShapes(shapes0, transform, null);
+        final long t1 = System.nanoTime();
+        has.addOutlineShapes(shapes1, transform, null, executor, parallelism);
+        final long t2 = System.nanoTime();
+        assertEquals(exp, has);
+        System.err.printf("shapes %d, parallelism %d: triangles %d, sequential %.3f ms, parallel %.3f ms%n",
+                shapes0.size(), parallelism, has.indices.size()/3, (t1-t0)/1e6, (t2-t1)/1e6);
+    }
+
+    @Test
+    public void test01Sequential() {
+        testImpl(null, 1);
+    }
+
+    @Test
+    public void test02Parallel() {
+        final int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+        final ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            testImpl(pool, parallelism);
+            testImpl(pool, parallelism);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestRegionAddParallelNEWT00.class.getName());
+    }
+}
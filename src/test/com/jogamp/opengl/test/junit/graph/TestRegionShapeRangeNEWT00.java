@@ -0,0 +1,128 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.geom.plane.AffineTransform;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates in place {@link Region#updateOutlineShapeRange(int, OutlineShape, AffineTransform, float[]) shape range updates}
+ * against a region built w/ the replaced shapes, w/o GL using a recording {@link Region}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestRegionShapeRangeNEWT00 extends UITestCase {
+    static final int shapeCount = 500;
+
+    /** Returns the non degenerated triangles' vertices in order */
+    static ArrayList<float[]> getTriangles(final TestOutlineShapeMeshNEWT00.RecordingRegion region) {
+        final ArrayList<float[]> res = new ArrayList<float[]>();
+        for(int i=0; i<region.indices.size(); i+=3) {
+            final int i0 = region.indices.get(i), i1 = region.indices.get(i+1), i2 = region.indices.get(i+2);
+            if( i0 != i1 || i1 != i2 ) {
+                res.add(region.vertices.get(i0));
+                res.add(region.vertices.get(i1));
+                res.add(region.vertices.get(i2));
+            }
+        }
+        return res;
+    }
+
+    static void assertEquals(final ArrayList<float[]> exp, final ArrayList<float[]> has) {
+        Assert.assertEquals(exp.size(), has.size());
+        for(int i=0; i<exp.size(); i++) {
+            Assert.assertArrayEquals("vertex "+i, exp.get(i), has.get(i), 0f);
+        }
+    }
+
+    static AffineTransform getTransform(final int i) {
+        final AffineTransform t = new AffineTransform();
+        t.setToTranslation(( i % 25 ) * 20f, ( i / 25 ) * 20f);
+        return t;
+    }
+
+    @Test
+    public void test01UpdateInPlace() {
+        final OutlineShape[] shapes = new OutlineShape[shapeCount];
+        for(int i=0; i<shapeCount; i++) {
+            shapes[i] = TestRegionAddParallelNEWT00.createShape(i);
+        }
+        final TestOutlineShapeMeshNEWT00.RecordingRegion has = new TestOutlineShapeMeshNEWT00.RecordingRegion();
+        for(int i=0; i<shapeCount; i++) {
+            Assert.assertEquals(i, has.addOutlineShapeRange(shapes[i], getTransform(i), null));
+        }
+        Assert.assertEquals(shapeCount, has.getShapeRangeCount());
+        Assert.assertFalse(has.isShapeRangeDirty());
+        final int vertexCount = has.vertices.size();
+        final int indexCount = has.indices.size();
+
+        // replace w/ smaller, equal and slightly larger shapes, each fitting into the range's slack
+        int replaced = 0;
+        for(int i=0; i<shapeCount; i+=7) {
+            final OutlineShape shape = TestRegionAddParallelNEWT00.createShape(i + ( i % 3 ) - 1);
+            if( has.updateOutlineShapeRange(i, shape, getTransform(i), null) ) {
+                shapes[i] = shape;
+                replaced++;
+            }
+        }
+        Assert.assertTrue(0 < replaced);
+        Assert.assertTrue(has.isShapeRangeDirty());
+        Assert.assertEquals(vertexCount, has.vertices.size());
+        Assert.assertEquals(indexCount, has.indices.size());
+
+        // too large
+        final OutlineShape large = TestRegionAddParallelNEWT00.createShape(39);
+        Assert.assertFalse(has.updateOutlineShapeRange(0, large, getTransform(0), null));
+
+        final TestOutlineShapeMeshNEWT00.RecordingRegion exp = new TestOutlineShapeMeshNEWT00.RecordingRegion();
+        for(int i=0; i<shapeCount; i++) {
+            exp.addOutlineShapeRange(shapes[i], getTransform(i), null);
+        }
+        assertEquals(getTriangles(exp), getTriangles(has));
+
+        final TestOutlineShapeMeshNEWT00.RecordingRegion ref = new TestOutlineShapeMeshNEWT00.RecordingRegion();
+        for(int i=0; i<shapeCount; i++) {
+            ref.addOutlineShape(shapes[i], getTransform(i), null);
+        }
+        assertEquals(getTriangles(ref), getTriangles(has));
+        System.err.println("Replaced "+replaced+" of "+shapeCount+" shapes in place, vertices "+vertexCount+", indices "+indexCount+
+                           ", reference vertices "+ref.vertices.size()+", indices "+ref.indices.size());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestRegionShapeRangeNEWT00.class.getName());
+    }
+}
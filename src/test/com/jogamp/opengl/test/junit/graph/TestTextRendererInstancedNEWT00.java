@@ -0,0 +1,278 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+
+import jogamp.graph.curve.opengl.VBOGlyphInstancesES3;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.curve.opengl.RenderState;
+import com.jogamp.graph.curve.opengl.TextRegionUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.graph.geom.plane.AffineTransform;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.GLReadBufferUtil;
+import com.jogamp.opengl.util.PMVMatrix;
+
+/**
+ * Validates instanced string rendering via {@link VBOGlyphInstancesES3}
+ * against rendering the same string as one {@link com.jogamp.graph.curve.opengl.GLRegion},
+ * as well as the {@link TextRegionUtil#drawStringInstanced(GL2ES2, RegionRenderer, Font, CharSequence, float[], int[]) fallback}
+ * for two pass render modes.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextRendererInstancedNEWT00 extends UITestCase {
+    static final int width = 512, height = 256;
+    static final String text1 = "0123456789 9876543210\n12:34:56 00:00:00";
+    static final String text2 = "65:43:21";
+    /** Distinct glyphs w/ an outline in {@link #text1}, i.e. digits and colon */
+    static final int text1GlyphCount = 11;
+
+    static class TextListener implements GLEventListener {
+        final RegionRenderer renderer;
+        final Font font;
+        final int renderModes;
+        final TextRegionUtil textRegionUtil;
+        final int[] sampleCount = new int[] { 4 };
+        final GLReadBufferUtil screenshot = new GLReadBufferUtil(false, false);
+        VBOGlyphInstancesES3 glyphInstances;
+        boolean supported;
+        String text = text1;
+        int mode = 0; // 0: region, 1: instanced, 2: TextRegionUtil instanced
+        AABBox box;
+        byte[] pixels;
+
+        TextListener(final Font font, final int renderModes) {
+            final RenderState rs = RenderState.createRenderState(SVertex.factory());
+            rs.setColorStatic(1f, 1f, 1f, 1f);
+            renderer = RegionRenderer.create(rs, RegionRenderer.defaultBlendEnable, RegionRenderer.defaultBlendDisable);
+            this.font = font;
+            this.renderModes = renderModes;
+            textRegionUtil = new TextRegionUtil(renderModes);
+        }
+
+        @Override
+        public void init(final GLAutoDrawable drawable) {
+            final GL2ES2 gl = drawable.getGL().getGL2ES2();
+            renderer.init(gl);
+            supported = VBOGlyphInstancesES3.isSupported(gl, renderModes);
+            if( supported ) {
+                glyphInstances = new VBOGlyphInstancesES3(renderModes, 64, 64);
+            }
+        }
+
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) {
+            renderer.reshapeOrtho(width, height, 0.1f, 1000f);
+        }
+
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            final GL2ES2 gl = drawable.getGL().getGL2ES2();
+            gl.glClearColor(0f, 0f, 0f, 1f);
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+            final PMVMatrix pmv = renderer.getMatrix();
+            pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+            pmv.glLoadIdentity();
+            pmv.glTranslatef(10f, height/2f, -10f);
+            pmv.glScalef(40f, 40f, 1f);
+            renderer.enable(gl, true);
+            switch( mode ) {
+                case 0:
+                    box = TextRegionUtil.drawString3D(gl, renderModes, renderer, font, text, null, sampleCount);
+                    break;
+                case 1:
+                    box = glyphInstances.drawString(gl, renderer, font, text, null, new AffineTransform(), new AffineTransform());
+                    break;
+                default:
+                    box = textRegionUtil.drawStringInstanced(gl, renderer, font, text, null, sampleCount);
+                    break;
+            }
+            renderer.enable(gl, false);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            Assert.assertTrue(screenshot.readPixels(gl, false));
+            final ByteBuffer bb = (ByteBuffer)screenshot.getPixelBuffer().buffer;
+            pixels = new byte[3*width*height];
+            for(int i=0; i<pixels.length; i++) {
+                pixels[i] = bb.get(i);
+            }
+        }
+
+        @Override
+        public void dispose(final GLAutoDrawable drawable) {
+            final GL2ES2 gl = drawable.getGL().getGL2ES2();
+            if( null != glyphInstances ) {
+                glyphInstances.destroy(gl);
+            }
+            textRegionUtil.clear(gl);
+            screenshot.dispose(gl);
+            renderer.destroy(gl);
+        }
+    }
+
+    /** Returns the number of lit pixels, i.e. w/ any channel above the threshold */
+    static int getLitCount(final byte[] pixels) {
+        int count = 0;
+        for(int i=0; i<pixels.length; i+=3) {
+            if( ( pixels[i] & 0xff ) > 127 || ( pixels[i+1] & 0xff ) > 127 || ( pixels[i+2] & 0xff ) > 127 ) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Returns the number of pixels differing more than the given threshold in any channel */
+    static int getDiffCount(final byte[] a, final byte[] b, final int threshold) {
+        int count = 0;
+        for(int i=0; i<a.length; i+=3) {
+            if( Math.abs( ( a[i] & 0xff ) - ( b[i] & 0xff ) ) > threshold ||
+                Math.abs( ( a[i+1] & 0xff ) - ( b[i+1] & 0xff ) ) > threshold ||
+                Math.abs( ( a[i+2] & 0xff ) - ( b[i+2] & 0xff ) ) > threshold ) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static GLOffscreenAutoDrawable createDrawable(final String profile) {
+        final GLProfile glp = GLProfile.get(profile);
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLOffscreenAutoDrawable glad = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, width, height);
+        Assert.assertNotNull(glad);
+        return glad;
+    }
+
+    @Test
+    public void test01InstancedEqualsRegion() throws IOException {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES3) ) {
+            System.err.println("GL2ES3 n/a");
+            return;
+        }
+        final Font font = FontFactory.get(FontFactory.UBUNTU).getDefault();
+        final GLOffscreenAutoDrawable glad = createDrawable(GLProfile.GL2ES3);
+        final TextListener listener = new TextListener(font, 0);
+        glad.addGLEventListener(listener);
+        try {
+            glad.display();
+            if( !listener.supported ) {
+                System.err.println("Instancing n/a: "+glad.getGL());
+                return;
+            }
+            final byte[] expPixels = listener.pixels;
+            final AABBox expBox = listener.box;
+            final int litCount = getLitCount(expPixels);
+            Assert.assertTrue(0 < litCount);
+
+            listener.mode = 1;
+            glad.display();
+            final VBOGlyphInstancesES3 glyphInstances = listener.glyphInstances;
+            Assert.assertEquals(expBox, listener.box);
+            Assert.assertEquals(text1GlyphCount, glyphInstances.getMeshCount());
+            Assert.assertEquals(text1GlyphCount, glyphInstances.getLastDrawCallCount());
+            final int diffCount = getDiffCount(expPixels, listener.pixels, 32);
+            System.err.println("Instanced: lit "+litCount+", diff "+diffCount+" pixels");
+            // same triangles, translation applied on GPU may only differ at a few edges
+            Assert.assertTrue(diffCount <= litCount / 100);
+
+            // subset of known glyphs, no new meshes
+            listener.text = text2;
+            glad.display();
+            Assert.assertEquals(text1GlyphCount, glyphInstances.getMeshCount());
+            Assert.assertEquals(7, glyphInstances.getLastDrawCallCount());
+            final byte[] pixels2 = listener.pixels;
+            listener.mode = 0;
+            glad.display();
+            Assert.assertTrue(getDiffCount(listener.pixels, pixels2, 32) <= getLitCount(pixels2) / 100);
+
+            // via TextRegionUtil
+            listener.mode = 2;
+            listener.text = text1;
+            glad.display();
+            Assert.assertTrue(listener.textRegionUtil.isInstancingSupported(glad.getGL().getGL2ES2()));
+            Assert.assertEquals(expBox, listener.box);
+            Assert.assertTrue(getDiffCount(expPixels, listener.pixels, 32) <= litCount / 100);
+            Assert.assertEquals(0, listener.textRegionUtil.getCacheSize());
+        } finally {
+            glad.destroy();
+        }
+    }
+
+    @Test
+    public void test02TwoPassFallback() throws IOException {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            System.err.println("GL2ES2 n/a");
+            return;
+        }
+        final Font font = FontFactory.get(FontFactory.UBUNTU).getDefault();
+        final GLOffscreenAutoDrawable glad = createDrawable(GLProfile.GL2ES2);
+        final TextListener listener = new TextListener(font, Region.VBAA_RENDERING_BIT);
+        glad.addGLEventListener(listener);
+        try {
+            listener.mode = 2;
+            glad.display();
+            Assert.assertFalse(listener.supported);
+            Assert.assertFalse(listener.textRegionUtil.isInstancingSupported(glad.getGL().getGL2ES2()));
+            Assert.assertTrue(0 < getLitCount(listener.pixels));
+            // fallback draws a cached region
+            Assert.assertEquals(1, listener.textRegionUtil.getCacheSize());
+        } finally {
+            glad.destroy();
+        }
+        try {
+            new VBOGlyphInstancesES3(Region.VBAA_RENDERING_BIT, 64, 64);
+            Assert.fail("IllegalArgumentException expected for two pass render modes");
+        } catch (final IllegalArgumentException iae) {
+            System.err.println("Expected: "+iae.getMessage());
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestTextRendererInstancedNEWT00.class.getName());
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.tess.Triangulation;
+import com.jogamp.graph.curve.tess.Triangulator;
+import com.jogamp.graph.geom.Outline;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates that {@link Triangulation#create(boolean) spatial index triangulation}
+ * produces the same triangles as the default triangulation for large star shaped outlines w/ a hole,
+ * and prints the timing of both w/ growing vertex count.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTriangulationGridNEWT00 extends UITestCase {
+
+    /** Star w/ alternating radii, many reflex vertices, counter-clockwise for the boundary and clockwise for the hole. */
+    static Outline createStar(final int n, final float r0, final float r1, final boolean clockwise) {
+        final Outline o = new Outline();
+        for(int i=0; i<n; i++) {
+            final int k = clockwise ? n-1-i : i;
+            final double a = 2.0 * Math.PI * k / n;
+            final float r = 0 == k % 2 ? r0 : r1 * (float)( 1.0 + 0.1 * Math.sin(k * 0.37) );
+            o.addVertex(new SVertex((float)( r * Math.cos(a) ), (float)( r * Math.sin(a) ), 0f, true));
+        }
+        o.setClosed(true);
+        return o;
+    }
+
+    static ArrayList<Triangle> triangulate(final Outline[] outlines, final boolean spatialIndex) {
+        final Triangulator triangulator2d = Triangulation.create(spatialIndex);
+        final ArrayList<Triangle> triangles = new ArrayList<Triangle>();
+        for(int i=0; i<outlines.length; i++) {
+            triangulator2d.addCurve(triangles, new Outline(outlines[i]), 2f);
+        }
+        triangulator2d.generate(triangles);
+        triangulator2d.reset();
+        return triangles;
+    }
+
+    static void assertEquals(final ArrayList<Triangle> exp, final ArrayList<Triangle> has) {
+        Assert.assertEquals(exp.size(), has.size());
+        for(int i=0; i<exp.size(); i++) {
+            final Vertex[] e = exp.get(i).getVertices();
+            final Vertex[] h = has.get(i).getVertices();
+            for(int j=0; j<3; j++) {
+                Assert.assertArrayEquals("triangle "+i+", vertex "+j, e[j].getCoord(), h[j].getCoord(), 0f);
+            }
+        }
+    }
+
+    private void testImpl(final int n, final int loops) {
+        final Outline[] outlines = { createStar(n, 100f, 60f, false), createStar(n/2 & ~1, 20f, 10f, true) };
+        ArrayList<Triangle> exp = null, has = null;
+        final long t0 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            exp = triangulate(outlines, false);
+        }
+        final long t1 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            has = triangulate(outlines, true);
+        }
+        final long t2 = System.nanoTime();
+        assertEquals(exp, has);
+        System.err.printf("vertices %5d: triangles %5d, default %9.3f ms, spatial index %9.3f ms%n",
+                n + outlines[1].getVertexCount(), has.size(), (t1-t0)/1e6/loops, (t2-t1)/1e6/loops);
+    }
+
+    @Test
+    public void test01Small() {
+        testImpl(16, 10);
+        testImpl(100, 10);
+        testImpl(250, 4);
+    }
+
+    @Test
+    public void test02Large() {
+        testImpl(500, 2);
+        testImpl(1000, 1);
+        testImpl(2000, 1);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestTriangulationGridNEWT00.class.getName());
+    }
+}
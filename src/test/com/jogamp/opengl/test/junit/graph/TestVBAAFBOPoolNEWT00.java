@@ -0,0 +1,178 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+
+import jogamp.graph.curve.opengl.VBAAFBOPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.curve.opengl.GLRegion;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.curve.opengl.RenderState;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.PMVMatrix;
+
+/**
+ * Validates sharing of {@link VBAAFBOPool} framebuffers across VBAA {@link GLRegion}s,
+ * its reuse of pass-1 content and its capacity.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestVBAAFBOPoolNEWT00 extends UITestCase {
+    static final int regionCount = 50;
+    static final int width = 512, height = 512;
+
+    @Test
+    public void test00SizeClass() {
+        Assert.assertEquals(VBAAFBOPool.SIZE_CLASS_STEP, VBAAFBOPool.getSizeClass(1, 0));
+        Assert.assertEquals(VBAAFBOPool.SIZE_CLASS_STEP, VBAAFBOPool.getSizeClass(VBAAFBOPool.SIZE_CLASS_STEP, 0));
+        Assert.assertEquals(2*VBAAFBOPool.SIZE_CLASS_STEP, VBAAFBOPool.getSizeClass(VBAAFBOPool.SIZE_CLASS_STEP+1, 0));
+        Assert.assertEquals(100, VBAAFBOPool.getSizeClass(90, 100));
+        Assert.assertEquals(110, VBAAFBOPool.getSizeClass(110, 100));
+    }
+
+    static class PoolListener implements GLEventListener {
+        final RegionRenderer renderer;
+        final GLRegion[] regions = new GLRegion[regionCount];
+        final int[] sampleCount = new int[] { 4 };
+        float scale = 1f;
+        boolean reverse = false;
+        VBAAFBOPool pool;
+
+        PoolListener() {
+            final RenderState rs = RenderState.createRenderState(SVertex.factory());
+            renderer = RegionRenderer.create(rs, RegionRenderer.defaultBlendEnable, RegionRenderer.defaultBlendDisable);
+        }
+
+        @Override
+        public void init(final GLAutoDrawable drawable) {
+            final GL2ES2 gl = drawable.getGL().getGL2ES2();
+            renderer.init(gl);
+            pool = VBAAFBOPool.getShared(gl);
+            pool.setEnabled(true);
+            for(int i=0; i<regionCount; i++) {
+                regions[i] = GLRegion.create(gl.getGLProfile(), Region.VBAA_RENDERING_BIT, null);
+                regions[i].addOutlineShape(TestRegionAddParallelNEWT00.createShape(i), null, null);
+            }
+        }
+
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) {
+            renderer.reshapeOrtho(width, height, 0.1f, 1000f);
+        }
+
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            final GL2ES2 gl = drawable.getGL().getGL2ES2();
+            gl.glClearColor(1.0f, 1.0f, 1.0f, 1.0f);
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+            final PMVMatrix pmv = renderer.getMatrix();
+            pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+            pmv.glLoadIdentity();
+            pmv.glTranslatef(10f, 10f, -10f);
+            pmv.glScalef(scale, scale, 1f);
+            renderer.enable(gl, true);
+            for(int i=0; i<regionCount; i++) {
+                regions[reverse ? regionCount-1-i : i].draw(gl, renderer, sampleCount);
+            }
+            renderer.enable(gl, false);
+        }
+
+        @Override
+        public void dispose(final GLAutoDrawable drawable) {
+            final GL2ES2 gl = drawable.getGL().getGL2ES2();
+            for(int i=0; i<regionCount; i++) {
+                regions[i].destroy(gl);
+            }
+            renderer.destroy(gl);
+            pool.destroy(gl);
+        }
+    }
+
+    @Test
+    public void test01SharedFBOs() {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            System.err.println("GL2ES2 n/a");
+            return;
+        }
+        final GLProfile glp = GLProfile.get(GLProfile.GL2ES2);
+        final GLCapabilities caps = new GLCapabilities(glp);
+        caps.setAlphaBits(4);
+        final GLOffscreenAutoDrawable glad = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, width, height);
+        Assert.assertNotNull(glad);
+        final PoolListener listener = new PoolListener();
+        glad.addGLEventListener(listener);
+        try {
+            glad.display();
+            final VBAAFBOPool pool = listener.pool;
+            System.err.println("Frame 1: "+pool);
+            // all regions are of similar size, borrowing and returning one after another
+            Assert.assertTrue(0 < pool.getAllocationCount());
+            Assert.assertTrue(regionCount / 2 > pool.getAllocationCount());
+            Assert.assertEquals(regionCount, pool.getHitCount() + pool.getAllocationCount());
+            Assert.assertTrue(0 < pool.getBytesHeld());
+            final long allocCount = pool.getAllocationCount();
+
+            // unchanged, at least the last drawn region reuses its pass-1 content
+            listener.reverse = true;
+            glad.display();
+            System.err.println("Frame 2: "+pool);
+            Assert.assertEquals(allocCount, pool.getAllocationCount());
+            Assert.assertTrue(0 < pool.getReuseCount());
+
+            // larger size class w/o capacity evicts the idle smaller FBOs
+            pool.setCapacity(0);
+            listener.scale = 4f;
+            glad.display();
+            System.err.println("Frame 3: "+pool);
+            Assert.assertTrue(allocCount < pool.getAllocationCount());
+            Assert.assertTrue(0 < pool.getEvictionCount());
+            Assert.assertTrue(pool.getEntryCount() <= pool.getAllocationCount() - allocCount);
+        } finally {
+            glad.destroy();
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestVBAAFBOPoolNEWT00.class.getName());
+    }
+}
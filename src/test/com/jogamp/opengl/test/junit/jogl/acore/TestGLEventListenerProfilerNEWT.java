@@ -0,0 +1,145 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.GLEventListenerProfiler;
+import com.jogamp.opengl.util.GLEventListenerProfiler.Method;
+import com.jogamp.opengl.util.GLEventListenerProfiler.Stats;
+
+import jogamp.opengl.GLAutoDrawableBase;
+
+/**
+ * Validates the per {@link GLEventListener} timing of {@link GLEventListenerProfiler}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLEventListenerProfilerNEWT extends UITestCase {
+    static final int frameCount = 30;
+    static final long slowDisplayMS = 2;
+
+    static class TimedListener implements GLEventListener {
+        final long sleepMS;
+        TimedListener(final long sleepMS) { this.sleepMS = sleepMS; }
+        @Override
+        public void init(final GLAutoDrawable drawable) { }
+        @Override
+        public void dispose(final GLAutoDrawable drawable) { }
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            final GL gl = drawable.getGL();
+            gl.glClearColor(0f, 0f, 1f, 1f);
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+            if( 0 < sleepMS ) {
+                try {
+                    Thread.sleep(sleepMS);
+                } catch (final InterruptedException e) { }
+            }
+        }
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+    }
+
+    @Test
+    public void test01CPUTiming() {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        final GLEventListenerProfiler profiler = new GLEventListenerProfiler(16);
+        final int[] reports = { 0 };
+        profiler.setReportListener(new GLEventListenerProfiler.ReportListener() {
+            @Override
+            public void statsUpdated(final GLAutoDrawable d, final GLEventListenerProfiler p) {
+                Assert.assertSame(drawable, d);
+                reports[0]++;
+            } }, 10);
+        ((GLAutoDrawableBase)drawable).setGLEventListenerProfiler(profiler);
+        Assert.assertSame(profiler, ((GLAutoDrawableBase)drawable).getGLEventListenerProfiler());
+
+        final TimedListener fast = new TimedListener(0);
+        final TimedListener slow = new TimedListener(slowDisplayMS);
+        drawable.addGLEventListener(fast);
+        drawable.addGLEventListener(slow);
+        try {
+            for(int i=0; i<frameCount; i++) {
+                drawable.display();
+            }
+            profiler.print(System.err);
+
+            Assert.assertEquals(frameCount, profiler.getFrameCount());
+            Assert.assertEquals(frameCount/10, reports[0]);
+
+            final Stats fastInit = profiler.getStats(fast, Method.INIT);
+            final Stats slowInit = profiler.getStats(slow, Method.INIT);
+            Assert.assertNotNull(fastInit);
+            Assert.assertNotNull(slowInit);
+            Assert.assertEquals(1, fastInit.getCPUTime().getTotalCount());
+            Assert.assertEquals(1, slowInit.getCPUTime().getTotalCount());
+            Assert.assertNotNull(profiler.getStats(fast, Method.RESHAPE));
+
+            final Stats fastDisplay = profiler.getStats(fast, Method.DISPLAY);
+            final Stats slowDisplay = profiler.getStats(slow, Method.DISPLAY);
+            Assert.assertSame(fast, fastDisplay.getListener());
+            Assert.assertEquals(Method.DISPLAY, fastDisplay.getMethod());
+            Assert.assertEquals(frameCount, fastDisplay.getCPUTime().getTotalCount());
+            Assert.assertEquals(frameCount, slowDisplay.getCPUTime().getTotalCount());
+            // rolling window
+            Assert.assertEquals(16, slowDisplay.getCPUTime().getCount());
+            Assert.assertTrue(slowDisplay.getCPUTime().getPercentile(50) >= slowDisplayMS * 1000000L);
+            Assert.assertTrue(slowDisplay.getCPUTime().getMean() > fastDisplay.getCPUTime().getMean());
+
+            // GPU results, if available, lag behind
+            Assert.assertTrue(slowDisplay.getGPUTime().getTotalCount() <= frameCount);
+
+            profiler.reset();
+            Assert.assertEquals(0, profiler.getFrameCount());
+            Assert.assertEquals(0, slowDisplay.getCPUTime().getTotalCount());
+            Assert.assertEquals(6, profiler.getAllStats().length); // init, reshape and display of both listeners
+        } finally {
+            drawable.destroy();
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestGLEventListenerProfilerNEWT.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -39,6 +39,7 @@ import com.jogamp.opengl.GLDrawableFactory;
 import com.jogamp.opengl.GLOffscreenAutoDrawable;
 import com.jogamp.opengl.GLProfile;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.FixMethodOrder;
 import org.junit.runners.MethodSorters;
@@ -49,6 +50,7 @@ public class TestGLExtensionQueryOffscreen {
     public static void main(final String[] args) {
         final TestGLExtensionQueryOffscreen instance = new TestGLExtensionQueryOffscreen();
         instance.testJogl2ExtensionCheck();
+        instance.testJogl2ExtensionIdCheck();
     }
 
     @Test
@@ -71,5 +73,36 @@ public class TestGLExtensionQueryOffscreen {
         System.out.println("DefaultContext: "+context);
         System.out.println("DefaultContext: "+setExtensions);
     }
+
+    @Test
+    public void testJogl2ExtensionIdCheck() {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 256, 256);
+        drawable.display(); // trigger context creation ..
+        final GLContext context = drawable.getContext();
+        try {
+            final String[] tabExtensions = ( context.getGLExtensionsString() + " " + context.getPlatformExtensionsString() ).split(" ");
+            int count = 0;
+            for(int i=0; i<tabExtensions.length; i++) {
+                final String ext = tabExtensions[i].trim();
+                if( ext.length() > 0 ) {
+                    final int id = GLContext.getExtensionId(ext);
+                    Assert.assertTrue(0 <= id);
+                    Assert.assertEquals(id, GLContext.getExtensionId(ext));
+                    Assert.assertTrue(ext, context.isExtensionAvailable(ext));
+                    Assert.assertTrue(ext, context.isExtensionAvailable(id));
+                    count++;
+                }
+            }
+            System.out.println("DefaultContext: "+count+" extensions validated by id");
+            final int unknownId = GLContext.getExtensionId("GL_JOGAMP_unknown_extension");
+            Assert.assertFalse(context.isExtensionAvailable(unknownId));
+            Assert.assertFalse(context.isExtensionAvailable("GL_JOGAMP_unknown_extension"));
+            Assert.assertFalse(context.isExtensionAvailable(-1));
+        } finally {
+            drawable.destroy();
+        }
+    }
 }
 
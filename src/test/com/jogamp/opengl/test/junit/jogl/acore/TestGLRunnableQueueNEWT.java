@@ -0,0 +1,196 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import jogamp.opengl.GLAutoDrawableBase;
+import jogamp.opengl.GLRunnableQueue;
+
+/**
+ * Validates ordering, {@link GLRunnableQueue.Policy} and metrics of {@link GLRunnableQueue}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLRunnableQueueNEWT extends UITestCase {
+    static final int producerCount = 4;
+    static final int taskCount = 2000;
+
+    /** Records the execution order per producer. */
+    static class OrderedTask implements GLRunnable {
+        final int[] lastSeq;
+        final int producer;
+        final int seq;
+        OrderedTask(final int[] lastSeq, final int producer, final int seq) {
+            this.lastSeq = lastSeq;
+            this.producer = producer;
+            this.seq = seq;
+        }
+        @Override
+        public boolean run(final GLAutoDrawable drawable) {
+            Assert.assertEquals("Producer "+producer+" out of order", seq-1, lastSeq[producer]);
+            lastSeq[producer] = seq;
+            return true;
+        }
+    }
+
+    @Test
+    public void test01ProducersOrderAndMetrics() throws InterruptedException {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+        try {
+            final GLRunnableQueue queue = ((GLAutoDrawableBase)drawable).getGLRunnableQueue();
+            Assert.assertTrue(queue.isEmpty());
+            queue.resetStats();
+
+            final int[] lastSeq = new int[producerCount];
+            for(int i=0; i<producerCount; i++) {
+                lastSeq[i] = -1;
+            }
+            final Thread[] producers = new Thread[producerCount];
+            for(int i=0; i<producerCount; i++) {
+                final int producer = i;
+                producers[i] = new Thread(getSimpleTestName(".")+"-Producer-"+i) {
+                    @Override
+                    public void run() {
+                        for(int j=0; j<taskCount; j++) {
+                            Assert.assertTrue(queue.enqueue(new OrderedTask(lastSeq, producer, j)));
+                        }
+                    } };
+                producers[i].start();
+            }
+            // consume concurrently while producing
+            boolean producing = true;
+            while( producing ) {
+                drawable.display();
+                producing = false;
+                for(int i=0; i<producerCount; i++) {
+                    producing = producing || producers[i].isAlive();
+                }
+            }
+            for(int i=0; i<producerCount; i++) {
+                producers[i].join();
+            }
+            drawable.display();
+            System.err.println("Queue: "+queue);
+
+            Assert.assertTrue(queue.isEmpty());
+            for(int i=0; i<producerCount; i++) {
+                Assert.assertEquals(taskCount-1, lastSeq[i]);
+            }
+            Assert.assertEquals(producerCount*taskCount, queue.getEnqueuedCount());
+            Assert.assertEquals(producerCount*taskCount, queue.getExecutedCount());
+            Assert.assertEquals(0, queue.getDroppedCount());
+            Assert.assertTrue(queue.getMaxDepth() > 0);
+            Assert.assertTrue(queue.getMaxWaitLatency() >= queue.getAvgWaitLatency());
+        } finally {
+            drawable.destroy();
+        }
+    }
+
+    @Test
+    public void test02OverflowPolicy() {
+        final GLRunnableQueue queue = new GLRunnableQueue(4, GLRunnableQueue.Policy.OVERFLOW);
+        final int[] lastSeq = { -1 };
+        for(int j=0; j<10; j++) {
+            Assert.assertTrue(queue.enqueue(new OrderedTask(lastSeq, 0, j)));
+        }
+        Assert.assertEquals(10, queue.size());
+        Assert.assertEquals(6, queue.getOverflowCount());
+        Assert.assertTrue(queue.drain(null));
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(9, lastSeq[0]);
+        Assert.assertEquals(10, queue.getExecutedCount());
+    }
+
+    @Test
+    public void test03DropPolicy() {
+        final GLRunnableQueue queue = new GLRunnableQueue(4, GLRunnableQueue.Policy.DROP);
+        final int[] lastSeq = { -1 };
+        for(int j=0; j<4; j++) {
+            Assert.assertTrue(queue.enqueue(new OrderedTask(lastSeq, 0, j)));
+        }
+        Assert.assertFalse(queue.enqueue(new OrderedTask(lastSeq, 0, 4)));
+        Assert.assertEquals(1, queue.getDroppedCount());
+        Assert.assertTrue(queue.drain(null));
+        Assert.assertEquals(3, lastSeq[0]);
+        // slots are reused after draining
+        for(int j=4; j<8; j++) {
+            Assert.assertTrue(queue.enqueue(new OrderedTask(lastSeq, 0, j)));
+        }
+        Assert.assertTrue(queue.drain(null));
+        Assert.assertEquals(7, lastSeq[0]);
+        Assert.assertEquals(8, queue.getExecutedCount());
+    }
+
+    @Test
+    public void test04BlockPolicyTimeout() {
+        final GLRunnableQueue queue = new GLRunnableQueue(2, GLRunnableQueue.Policy.BLOCK);
+        queue.setBlockTimeout(10000000L); // 10 ms
+        final int[] lastSeq = { -1 };
+        for(int j=0; j<3; j++) {
+            Assert.assertTrue(queue.enqueue(new OrderedTask(lastSeq, 0, j)));
+        }
+        Assert.assertEquals(1, queue.getBlockedCount());
+        Assert.assertEquals(1, queue.getOverflowCount());
+        Assert.assertTrue(queue.drain(null));
+        Assert.assertEquals(2, lastSeq[0]);
+    }
+
+    @Test
+    public void test05RepaintRequest() {
+        final GLRunnableQueue queue = new GLRunnableQueue(4, GLRunnableQueue.Policy.OVERFLOW);
+        queue.enqueue(new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable drawable) { return false; } });
+        queue.enqueue(new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable drawable) { return true; } });
+        Assert.assertFalse(queue.drain(null));
+        Assert.assertTrue(queue.drain(null));
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestGLRunnableQueueNEWT.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
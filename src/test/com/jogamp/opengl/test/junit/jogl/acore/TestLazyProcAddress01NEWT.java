@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.gluegen.runtime.ProcAddressTable;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import jogamp.opengl.GLContextImpl;
+import jogamp.opengl.LazyProcAddressResolver;
+
+/**
+ * Issues generated GL calls w/ property <code>jogl.gl.lazyProcAddress</code> set,
+ * validating their entries being resolved on first use by the call sites.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestLazyProcAddress01NEWT extends UITestCase {
+    /** Functions not used by JOGL's context setup, hence still unresolved before the first call. */
+    static final String[] functions = { "glClearStencil", "glStencilMask", "glColorMask", "glDepthMask" };
+
+    @BeforeClass
+    public static void setLazyProcAddress() {
+        System.setProperty("jogl.gl.lazyProcAddress", "true");
+    }
+
+    private static long getAddressField(final ProcAddressTable table, final String function) throws Exception {
+        final Field f = table.getClass().getDeclaredField(LazyProcAddressResolver.PROCADDRESS_VAR_PREFIX+function);
+        f.setAccessible(true);
+        return f.getLong(table);
+    }
+
+    @Test
+    public void test01LazyGLCalls() throws Exception {
+        Assume.assumeFalse("Lazy mode not supported on 32-bit", Platform.is32Bit());
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        final long[] before = new long[functions.length];
+        final long[] after = new long[functions.length];
+        final int[] resolvedCount = { 0, 0 };
+        final int[] glError = { GL.GL_NO_ERROR };
+        drawable.addGLEventListener(new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable glad) { }
+            @Override
+            public void dispose(final GLAutoDrawable glad) { }
+            @Override
+            public void display(final GLAutoDrawable glad) {
+                final GLContextImpl context = (GLContextImpl) glad.getContext();
+                final ProcAddressTable table = context.getGLProcAddressTable();
+                final LazyProcAddressResolver lazy = LazyProcAddressResolver.get(table);
+                Assert.assertNotNull("Table not in lazy mode", lazy);
+                System.err.println("Lazy pre: "+lazy);
+                try {
+                    for(int i=0; i<functions.length; i++) {
+                        before[i] = getAddressField(table, functions[i]);
+                    }
+                    resolvedCount[0] = lazy.getResolvedCount();
+                    final GL gl = glad.getGL();
+                    gl.glClearStencil(0);
+                    gl.glStencilMask(0xff);
+                    gl.glColorMask(true, true, true, true);
+                    gl.glDepthMask(true);
+                    glError[0] = gl.glGetError();
+                    resolvedCount[1] = lazy.getResolvedCount();
+                    for(int i=0; i<functions.length; i++) {
+                        after[i] = getAddressField(table, functions[i]);
+                    }
+                } catch (final Exception e) {
+                    throw new RuntimeException(e);
+                }
+                System.err.println("Lazy post: "+lazy);
+            }
+            @Override
+            public void reshape(final GLAutoDrawable glad, final int x, final int y, final int width, final int height) { }
+        });
+        try {
+            drawable.display();
+        } finally {
+            drawable.destroy();
+        }
+        int unresolved = 0;
+        for(int i=0; i<functions.length; i++) {
+            System.err.printf("%s: before 0x%X, after 0x%X%n", functions[i], before[i], after[i]);
+            Assert.assertNotEquals(0, after[i]);
+            if( 0 == before[i] ) {
+                unresolved++;
+            } else {
+                Assert.assertEquals(before[i], after[i]);
+            }
+        }
+        Assert.assertTrue("All functions resolved before first call", 0 < unresolved);
+        Assert.assertEquals(resolvedCount[0] + unresolved, resolvedCount[1]);
+        Assert.assertEquals(GL.GL_NO_ERROR, glError[0]);
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestLazyProcAddress01NEWT.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.ReflectionUtil;
+import com.jogamp.gluegen.runtime.FunctionAddressResolver;
+import com.jogamp.gluegen.runtime.ProcAddressTable;
+import com.jogamp.gluegen.runtime.opengl.GLProcAddressResolver;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import jogamp.opengl.GLContextImpl;
+import jogamp.opengl.GLDynamicLookupHelper;
+import jogamp.opengl.LazyProcAddressResolver;
+
+/**
+ * Validates {@link LazyProcAddressResolver} against the eagerly resolved {@link ProcAddressTable} of a context.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestLazyProcAddressNEWT extends UITestCase {
+    static final String[] functions = { "glGetString", "glGetIntegerv", "glClear", "glClearColor", "glViewport", "glGetError" };
+
+    @Test
+    public void test01LazyVsEager() {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+        final GLContextImpl context = (GLContextImpl) drawable.getContext();
+        context.makeCurrent();
+        try {
+            final ProcAddressTable eager = context.getGLProcAddressTable();
+            final GLDynamicLookupHelper dlh = context.getGLDynamicLookupHelper();
+            final FunctionAddressResolver resolver = new GLProcAddressResolver();
+            final ProcAddressTable table = (ProcAddressTable) ReflectionUtil.createInstance(eager.getClass(),
+                                                    new Class<?>[] { FunctionAddressResolver.class }, resolver);
+            final LazyProcAddressResolver lazy = LazyProcAddressResolver.attach(table, dlh, resolver);
+            System.err.println("Lazy: "+lazy);
+            Assert.assertSame(lazy, LazyProcAddressResolver.get(table));
+            Assert.assertEquals(0, lazy.getResolvedCount());
+            Assert.assertTrue(lazy.getSymbolCount() > functions.length);
+
+            for(int i=0; i<functions.length; i++) {
+                final long addrEager = eager.getAddressFor(functions[i]);
+                final long addrLazy = table.getAddressFor(functions[i]);
+                System.err.printf("%s: eager 0x%X, lazy 0x%X%n", functions[i], addrEager, addrLazy);
+                Assert.assertNotEquals(0, addrLazy);
+                Assert.assertEquals(addrEager, addrLazy);
+                Assert.assertEquals(i+1, lazy.getResolvedCount());
+            }
+            // Already resolved entries are not resolved again
+            for(int i=0; i<functions.length; i++) {
+                Assert.assertTrue(table.isFunctionAvailable(functions[i]));
+            }
+            Assert.assertEquals(functions.length, lazy.getResolvedCount());
+            Assert.assertEquals(0, lazy.getUnavailableCount());
+            System.err.println("Lazy: "+lazy);
+        } finally {
+            context.release();
+            drawable.destroy();
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestLazyProcAddressNEWT.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import com.jogamp.opengl.FPSCounter;
+import com.jogamp.opengl.GLCapabilities;
+
+import com.jogamp.newt.opengl.GLWindow;
+import com.jogamp.opengl.util.FPSAnimator;
+import com.jogamp.opengl.test.junit.util.NewtTestUtil;
+import com.jogamp.opengl.test.junit.util.GLTestUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Compares {@link FPSAnimator}'s {@link java.util.Timer} based scheduling
+ * w/ its {@link FPSAnimator#setHighPrecisionPacing(boolean) high precision pacer},
+ * validating the frame duration histogram of {@link FPSCounter}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFPSAnimatorPacingNEWT extends UITestCase {
+    static final int width = 640;
+    static final int height = 480;
+    static int fps = 60;
+    static long duration = 2000; // ms
+
+    static void dumpStats(final String msg, final FPSAnimator animator) {
+        System.err.printf("%s: frames %d, fps %.1f, frame duration p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, missed deadlines %d, skipped %d%n",
+                msg, animator.getTotalFPSFrames(), animator.getTotalFPS(),
+                animator.getFrameDurationPercentile(50)/1e6, animator.getFrameDurationPercentile(95)/1e6,
+                animator.getFrameDurationPercentile(99)/1e6, animator.getMissedFrameDeadlines(), animator.getSkippedFrames());
+    }
+
+    void testImpl(final boolean highPrecision) throws InterruptedException {
+        final GLCapabilities caps = new GLCapabilities(null);
+        final GearsES2 gears = new GearsES2(0);
+        final GLWindow glWindow = GLWindow.create(caps);
+        glWindow.addGLEventListener(gears);
+        glWindow.setSize(width, height);
+        glWindow.setTitle("FPSAnimator "+fps+" fps, highPrecision "+highPrecision);
+
+        final FPSAnimator animator = new FPSAnimator(glWindow, fps, true);
+        animator.setHighPrecisionPacing(highPrecision);
+        Assert.assertEquals(highPrecision, animator.getHighPrecisionPacing());
+        animator.setUpdateFPSFrames(FPSCounter.DEFAULT_FRAMES_PER_INTERVAL, null);
+        animator.setFrameDurationHistogram(true);
+        Assert.assertEquals(true, animator.isFrameDurationHistogramEnabled());
+        glWindow.setVisible(true);
+        Assert.assertTrue(NewtTestUtil.waitForRealized(glWindow, true, null));
+        Assert.assertTrue(NewtTestUtil.waitForVisible(glWindow, true, null));
+
+        animator.start();
+        Assert.assertTrue(GLTestUtil.waitForContextCreated(glWindow, true, null));
+        Assert.assertTrue("Gears not initialized", gears.waitForInit(true));
+
+        Thread.sleep(duration/2);
+        animator.pause();
+        Assert.assertEquals(true, animator.isPaused());
+        Assert.assertEquals(false, animator.isAnimating());
+        animator.resume();
+        Assert.assertEquals(false, animator.isPaused());
+        Assert.assertEquals(true, animator.isAnimating());
+        Thread.sleep(duration/2);
+
+        dumpStats("highPrecision "+highPrecision, animator);
+        final long p50 = animator.getFrameDurationPercentile(50);
+        final long p95 = animator.getFrameDurationPercentile(95);
+        final long p99 = animator.getFrameDurationPercentile(99);
+        Assert.assertTrue(0 < animator.getTotalFPSFrames());
+        Assert.assertTrue(0 < p50);
+        Assert.assertTrue(p50 <= p95);
+        Assert.assertTrue(p95 <= p99);
+        Assert.assertTrue(p99 <= FPSCounter.FRAME_HISTOGRAM_MAX_NS);
+
+        animator.stop();
+        Assert.assertEquals(false, animator.isStarted());
+        Assert.assertEquals(false, animator.isAnimating());
+
+        animator.resetFPSCounter();
+        Assert.assertEquals(0, animator.getFrameDurationPercentile(50));
+        Assert.assertEquals(0, animator.getMissedFrameDeadlines());
+
+        glWindow.destroy();
+        Assert.assertTrue(NewtTestUtil.waitForRealized(glWindow, false, null));
+    }
+
+    @Test
+    public void test01TimerPacing() throws InterruptedException {
+        testImpl(false);
+    }
+
+    @Test
+    public void test02HighPrecisionPacing() throws InterruptedException {
+        testImpl(true);
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-time")) {
+                i++;
+                try {
+                    duration = Integer.parseInt(args[i]);
+                } catch (final Exception ex) { ex.printStackTrace(); }
+            } else if(args[i].equals("-fps")) {
+                i++;
+                try {
+                    fps = Integer.parseInt(args[i]);
+                } catch (final Exception ex) { ex.printStackTrace(); }
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFPSAnimatorPacingNEWT.class.getName());
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import java.lang.reflect.InvocationTargetException;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLEventListener;
+
+import com.jogamp.newt.opengl.GLWindow;
+import com.jogamp.opengl.util.ParallelAnimator;
+import com.jogamp.opengl.test.junit.util.NewtTestUtil;
+import com.jogamp.opengl.test.junit.util.GLTestUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link ParallelAnimator} lifecycle and per drawable exclusive context threads,
+ * as well as non-blocking lifecycle actions issued on a render thread.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestParallelAnimatorNEWT extends UITestCase {
+    static final int width = 320;
+    static final int height = 240;
+    static long duration = 3*500; // ms
+
+    protected GLWindow createGLWindow(final GLCapabilities caps, final int x, final int y, final GearsES2 gears) throws InterruptedException {
+        final GLWindow glWindow = GLWindow.create(caps);
+        Assert.assertNotNull(glWindow);
+        glWindow.addGLEventListener(gears);
+        glWindow.setPosition(x, y);
+        glWindow.setSize(width, height);
+        glWindow.setTitle("GLWindow: "+x+"/"+y);
+        return glWindow;
+    }
+
+    static void waitForFrames(final ParallelAnimator animator, final int frames) throws InterruptedException {
+        final int f0 = animator.getTotalFPSFrames();
+        for(int wait=0; wait<100 && animator.getTotalFPSFrames() < f0 + frames; wait++) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void test01ParallelAnimator() throws InterruptedException, InvocationTargetException {
+        final GLCapabilities caps = new GLCapabilities(null);
+        final ParallelAnimator animator = new ParallelAnimator();
+        Assert.assertTrue(animator.getLockStepSwap());
+        animator.start();
+        Assert.assertEquals(true, animator.isStarted());
+        Assert.assertEquals(true, animator.isPaused());
+        Assert.assertEquals(false, animator.isAnimating());
+
+        final GLWindow[] windows = new GLWindow[3];
+        final GearsES2[] gears = new GearsES2[windows.length];
+        for(int i=0; i<windows.length; i++) {
+            gears[i] = new GearsES2(1);
+            windows[i] = createGLWindow(caps, i*width, 0, gears[i]);
+            animator.add(windows[i]);
+            windows[i].setVisible(true);
+        }
+        Assert.assertEquals(true, animator.isStarted());
+        Assert.assertEquals(false, animator.isPaused());
+        Assert.assertEquals(true, animator.isAnimating());
+
+        for(int i=0; i<windows.length; i++) {
+            Assert.assertTrue(NewtTestUtil.waitForRealized(windows[i], true, null));
+            Assert.assertTrue(NewtTestUtil.waitForVisible(windows[i], true, null));
+            Assert.assertTrue(GLTestUtil.waitForContextCreated(windows[i], true, null));
+            Assert.assertTrue("Gears"+i+" not initialized", gears[i].waitForInit(true));
+        }
+        waitForFrames(animator, 10);
+        Assert.assertEquals(windows.length, animator.getRenderThreadCount());
+        for(int i=0; i<windows.length; i++) {
+            final Thread ect = windows[i].getExclusiveContextThread();
+            Assert.assertNotNull(ect);
+            Assert.assertNotSame(animator.getThread(), ect);
+            for(int j=0; j<i; j++) {
+                Assert.assertNotSame(windows[j].getExclusiveContextThread(), ect);
+            }
+        }
+        Thread.sleep(duration/3);
+
+        animator.pause();
+        Assert.assertEquals(true, animator.isStarted());
+        Assert.assertEquals(true, animator.isPaused());
+        Assert.assertEquals(false, animator.isAnimating());
+        for(int i=0; i<windows.length; i++) {
+            Assert.assertNull(windows[i].getExclusiveContextThread());
+        }
+        Thread.sleep(duration/3);
+
+        animator.resume();
+        Assert.assertEquals(true, animator.isStarted());
+        Assert.assertEquals(false, animator.isPaused());
+        Assert.assertEquals(true, animator.isAnimating());
+
+        animator.remove(windows[2]);
+        Assert.assertNull(windows[2].getExclusiveContextThread());
+        waitForFrames(animator, 10);
+        Assert.assertEquals(windows.length-1, animator.getRenderThreadCount());
+        System.err.println("ParallelAnimator: "+animator.getTotalFPSFrames()+" frames, "+animator.getTotalFPS()+" fps");
+        Thread.sleep(duration/3);
+
+        animator.stop();
+        Assert.assertEquals(false, animator.isStarted());
+        Assert.assertEquals(false, animator.isPaused());
+        Assert.assertEquals(false, animator.isAnimating());
+        Assert.assertEquals(0, animator.getRenderThreadCount());
+
+        for(int i=0; i<windows.length; i++) {
+            Assert.assertNull(windows[i].getExclusiveContextThread());
+            Assert.assertTrue(windows[i].getAutoSwapBufferMode());
+            windows[i].destroy();
+            Assert.assertTrue(NewtTestUtil.waitForRealized(windows[i], false, null));
+        }
+    }
+
+    /** Issues {@link ParallelAnimator#pause()} or {@link ParallelAnimator#stop()} from within display() once. */
+    static class LifecycleListener implements GLEventListener {
+        final ParallelAnimator animator;
+        final boolean stop;
+        volatile int frames = 0;
+        volatile boolean issued = false;
+        volatile boolean result = false;
+        volatile long durationMS = -1;
+
+        LifecycleListener(final ParallelAnimator animator, final boolean stop) {
+            this.animator = animator;
+            this.stop = stop;
+        }
+        @Override
+        public void init(final GLAutoDrawable drawable) { }
+        @Override
+        public void dispose(final GLAutoDrawable drawable) { }
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            if( 10 == ++frames && !issued ) {
+                issued = true;
+                final long t0 = System.currentTimeMillis();
+                result = stop ? animator.stop() : animator.pause();
+                durationMS = System.currentTimeMillis() - t0;
+            }
+        }
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+    }
+
+    private void testLifecycleFromDisplay(final boolean stop) throws InterruptedException {
+        final GLCapabilities caps = new GLCapabilities(null);
+        final ParallelAnimator animator = new ParallelAnimator();
+        final GearsES2 gears = new GearsES2(1);
+        final GLWindow glWindow = createGLWindow(caps, 0, 0, gears);
+        final LifecycleListener listener = new LifecycleListener(animator, stop);
+        glWindow.addGLEventListener(listener);
+        animator.add(glWindow);
+        glWindow.setVisible(true);
+        animator.start();
+
+        for(int wait=0; wait<100 && ( 0 > listener.durationMS || ( stop ? animator.isStarted() : animator.isAnimating() ) ); wait++) {
+            Thread.sleep(20);
+        }
+        System.err.println((stop?"stop":"pause")+" from display: result "+listener.result+", "+listener.durationMS+" ms");
+        Assert.assertTrue(listener.issued);
+        Assert.assertTrue(listener.result);
+        // not blocking until the lifecycle action timeout
+        Assert.assertTrue("Blocked "+listener.durationMS+" ms", 0 <= listener.durationMS && listener.durationMS < 500);
+        if( stop ) {
+            Assert.assertEquals(false, animator.isStarted());
+        } else {
+            Assert.assertEquals(true, animator.isStarted());
+            Assert.assertEquals(true, animator.isPaused());
+            Assert.assertEquals(false, animator.isAnimating());
+            Assert.assertNull(glWindow.getExclusiveContextThread());
+            animator.resume();
+            Assert.assertEquals(true, animator.isAnimating());
+            waitForFrames(animator, 10);
+            animator.stop();
+            Assert.assertEquals(false, animator.isStarted());
+        }
+        Assert.assertEquals(0, animator.getRenderThreadCount());
+        Assert.assertNull(glWindow.getExclusiveContextThread());
+        glWindow.destroy();
+        Assert.assertTrue(NewtTestUtil.waitForRealized(glWindow, false, null));
+    }
+
+    @Test
+    public void test02PauseFromDisplay() throws InterruptedException {
+        testLifecycleFromDisplay(false);
+    }
+
+    @Test
+    public void test03StopFromDisplay() throws InterruptedException {
+        testLifecycleFromDisplay(true);
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-time")) {
+                i++;
+                try {
+                    duration = Integer.parseInt(args[i]);
+                } catch (final Exception ex) { ex.printStackTrace(); }
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestParallelAnimatorNEWT.class.getName());
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.glsl;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.glsl.ShaderCode;
+import com.jogamp.opengl.util.glsl.ShaderProgram;
+import com.jogamp.opengl.util.glsl.ShaderProgramBinaryCache;
+import com.jogamp.opengl.util.glsl.ShaderUtil;
+
+/**
+ * Validates {@link ShaderProgramBinaryCache} storing, reloading and rejecting linked program binaries.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestShaderProgramBinaryCacheNEWT extends UITestCase {
+    static final String vertexSource =
+            "attribute vec4 mgl_Vertex;\n"+
+            "void main() {\n"+
+            "  gl_Position = mgl_Vertex;\n"+
+            "}\n";
+    static final String fragmentSource =
+            "void main() {\n"+
+            "  gl_FragColor = vec4(0.0, 0.0, 1.0, 1.0);\n"+
+            "}\n";
+
+    static ShaderProgram createProgram(final GL2ES2 gl, final ShaderProgramBinaryCache cache, final String define) {
+        final ShaderCode vp = new ShaderCode(GL2ES2.GL_VERTEX_SHADER, 1, new CharSequence[][] { { vertexSource } });
+        final ShaderCode fp = new ShaderCode(GL2ES2.GL_FRAGMENT_SHADER, 1, new CharSequence[][] { { fragmentSource } });
+        vp.defaultShaderCustomization(gl, true, true);
+        final int pos = fp.defaultShaderCustomization(gl, true, true);
+        if( null != define ) {
+            fp.insertShaderSource(0, pos, define);
+        }
+        final ShaderProgram sp = new ShaderProgram();
+        sp.setBinaryCache(cache);
+        sp.add(vp);
+        sp.add(fp);
+        return sp;
+    }
+
+    @Test
+    public void test01StoreLoadReject() throws IOException {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getGL2ES2());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+
+        final File dir = File.createTempFile("jogl-glsl-cache", "");
+        Assert.assertTrue(dir.delete());
+        final ShaderProgramBinaryCache cache = new ShaderProgramBinaryCache(dir);
+        try {
+            final GL2ES2 gl = context.getGL().getGL2ES2();
+            final boolean supported = ShaderUtil.isProgramBinarySupported(gl);
+            System.err.println("Program binary supported: "+supported);
+
+            // 1st link from source, stored
+            final ShaderProgram sp1 = createProgram(gl, cache, null);
+            Assert.assertTrue(sp1.link(gl, System.err));
+            Assert.assertFalse(sp1.linkedFromBinaryCache());
+            System.err.println("1: "+cache);
+            if( !supported ) {
+                Assert.assertEquals(0, cache.getStoredCount());
+                sp1.destroy(gl);
+                return;
+            }
+            Assert.assertEquals(1, cache.getMissCount());
+            Assert.assertEquals(1, cache.getStoredCount());
+
+            // 2nd link w/ new but equal shader code, loaded from cache
+            final ShaderProgram sp2 = createProgram(gl, cache, null);
+            Assert.assertTrue(sp2.link(gl, System.err));
+            System.err.println("2: "+cache);
+            Assert.assertEquals(1, cache.getHitCount() + cache.getRejectedCount());
+            Assert.assertEquals(1 == cache.getHitCount(), sp2.linkedFromBinaryCache());
+            sp2.useProgram(gl, true);
+            sp2.useProgram(gl, false);
+
+            // different define, different key
+            final ShaderProgram sp3 = createProgram(gl, cache, "#define TEST_DEFINE 1\n");
+            Assert.assertTrue(sp3.link(gl, System.err));
+            Assert.assertFalse(sp3.linkedFromBinaryCache());
+            Assert.assertEquals(2, cache.getMissCount());
+
+            // bound attribute location, different key, validated after loading
+            final int misses = cache.getMissCount();
+            final ShaderProgram sp5 = createProgram(gl, cache, null);
+            sp5.bindAttribLocation(gl, 3, "mgl_Vertex");
+            Assert.assertTrue(sp5.link(gl, System.err));
+            Assert.assertFalse(sp5.linkedFromBinaryCache());
+            Assert.assertEquals(misses+1, cache.getMissCount());
+            Assert.assertEquals(3, gl.glGetAttribLocation(sp5.program(), "mgl_Vertex"));
+            final ShaderProgram sp6 = createProgram(gl, cache, null);
+            sp6.bindAttribLocation(gl, 3, "mgl_Vertex");
+            Assert.assertTrue(sp6.link(gl, System.err));
+            Assert.assertEquals(misses+1, cache.getMissCount());
+            Assert.assertEquals(3, gl.glGetAttribLocation(sp6.program(), "mgl_Vertex"));
+            System.err.println("6: "+cache);
+
+            // corrupted binary is rejected, falls back to source
+            final File[] files = dir.listFiles();
+            Assert.assertNotNull(files);
+            for(int i=0; i<files.length; i++) {
+                final FileOutputStream out = new FileOutputStream(files[i]);
+                try {
+                    out.write(new byte[] { 'J', 'G', 'P', 'B', 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 4, 1, 2, 3, 4 });
+                } finally {
+                    out.close();
+                }
+            }
+            final int rejected = cache.getRejectedCount();
+            final ShaderProgram sp4 = createProgram(gl, cache, null);
+            Assert.assertTrue(sp4.link(gl, System.err));
+            Assert.assertFalse(sp4.linkedFromBinaryCache());
+            Assert.assertEquals(rejected+1, cache.getRejectedCount());
+            System.err.println("4: "+cache);
+
+            sp1.destroy(gl);
+            sp2.destroy(gl);
+            sp3.destroy(gl);
+            sp4.destroy(gl);
+            sp5.destroy(gl);
+            sp6.destroy(gl);
+        } finally {
+            cache.clear();
+            dir.delete();
+            context.release();
+            drawable.destroy();
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestShaderProgramBinaryCacheNEWT.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
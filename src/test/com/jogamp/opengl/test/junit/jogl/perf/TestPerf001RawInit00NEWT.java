@@ -30,6 +30,7 @@ package com.jogamp.opengl.test.junit.jogl.perf;
 import java.lang.reflect.InvocationTargetException;
 
 import com.jogamp.nativewindow.AbstractGraphicsConfiguration;
+import com.jogamp.nativewindow.AbstractGraphicsDevice;
 import com.jogamp.nativewindow.GraphicsConfigurationFactory;
 import com.jogamp.nativewindow.VisualIDHolder;
 import com.jogamp.opengl.GLCapabilities;
@@ -39,6 +40,9 @@ import com.jogamp.opengl.GLDrawable;
 import com.jogamp.opengl.GLDrawableFactory;
 import com.jogamp.opengl.GLProfile;
 
+import jogamp.opengl.GLVersionProbeCache;
+
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
@@ -176,6 +180,42 @@ public class TestPerf001RawInit00NEWT extends UITestCase {
         }
     }
 
+    /**
+     * Measures {@link GLProfile#initSingleton()} w/ full GL version probing
+     * against using the {@link GLVersionProbeCache}.
+     */
+    @Test
+    public void test00InitProbeCache() throws InterruptedException, InvocationTargetException {
+        if( 0 != manualTest && 3 != manualTest ) {
+            return;
+        }
+        if( null == GLVersionProbeCache.getCacheDir() ) {
+            System.err.println("GLVersionProbeCache n/a");
+            return;
+        }
+        final AbstractGraphicsDevice device = GLProfile.getDefaultDevice();
+        final boolean wasEnabled = GLVersionProbeCache.isEnabled();
+        GLVersionProbeCache.setEnabled(true);
+        try {
+            GLProfile.shutdown();
+            GLVersionProbeCache.remove(device);
+            final long t0 = Platform.currentTimeMillis();
+            GLProfile.initSingleton(); // full probing, storing cache entry
+            final long t1 = Platform.currentTimeMillis();
+            final String probed = GLProfile.getDefault().toString();
+            GLProfile.shutdown();
+            final long t2 = Platform.currentTimeMillis();
+            GLProfile.initSingleton(); // cached
+            final long t3 = Platform.currentTimeMillis();
+            final String cached = GLProfile.getDefault().toString();
+            System.err.printf("GLProfile.initSingleton():%n\tprobed\t%6d ms, %s%n\tcached\t%6d ms, %s%n",
+                    t1-t0, probed, t3-t2, cached);
+            Assert.assertEquals(probed, cached);
+        } finally {
+            GLVersionProbeCache.setEnabled(wasEnabled);
+        }
+    }
+
     @Test
     public void test01ChooseOnly() throws InterruptedException, InvocationTargetException {
         if( 0 != manualTest && 1 != manualTest ) {
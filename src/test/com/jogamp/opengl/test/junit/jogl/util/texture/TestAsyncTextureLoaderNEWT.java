@@ -0,0 +1,198 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jogamp.newt.opengl.GLWindow;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.Animator;
+import com.jogamp.opengl.util.texture.AsyncTextureLoader;
+import com.jogamp.opengl.util.texture.Texture;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Loads all test images via {@link AsyncTextureLoader} w/ a small in-flight budget,
+ * validating completion, listener notification and cancellation.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAsyncTextureLoaderNEWT extends UITestCase {
+    ImageTstFiles imageTstFiles;
+
+    @Before
+    public void initTest() throws IOException {
+        imageTstFiles = new ImageTstFiles();
+        imageTstFiles.init();
+    }
+
+    @After
+    public void cleanupTest() {
+        imageTstFiles.clear();
+    }
+
+    private void testImpl(final int threadCount, final long maxInFlightBytes) throws InterruptedException, IOException, ExecutionException, TimeoutException {
+        final GLProfile glp = GLProfile.isAvailable(GLProfile.GL2ES2) ? GLProfile.getGL2ES2() : GLProfile.getDefault();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLWindow glad = GLWindow.create(caps);
+        glad.setTitle("TestAsyncTextureLoaderNEWT");
+        glad.setSize(256, 256);
+        glad.addGLEventListener(new GearsES2(1));
+
+        final Animator animator = new Animator(glad);
+        glad.setVisible(true);
+        animator.start();
+
+        final AtomicInteger loadedCount = new AtomicInteger(0);
+        final AtomicInteger failedCount = new AtomicInteger(0);
+        final AsyncTextureLoader.Listener listener = new AsyncTextureLoader.Listener() {
+            @Override
+            public void textureLoaded(final GLAutoDrawable drawable, final AsyncTextureLoader.Request request, final Texture texture) {
+                Assert.assertSame(glad, drawable);
+                Assert.assertTrue(GLContext.getCurrent() == drawable.getContext());
+                loadedCount.incrementAndGet();
+            }
+            @Override
+            public void textureFailed(final AsyncTextureLoader.Request request, final Throwable cause) {
+                System.err.println("Failed: "+request+": "+cause);
+                failedCount.incrementAndGet();
+            }
+        };
+        final AsyncTextureLoader loader = new AsyncTextureLoader(threadCount, maxInFlightBytes);
+        final List<AsyncTextureLoader.Request> requests = new ArrayList<AsyncTextureLoader.Request>();
+        final List<ImageTstFiles.NamedInputStream> streams = imageTstFiles.allStreams;
+        for(int i=0; i<streams.size(); i++) {
+            requests.add(loader.load(glad, new URL(streams.get(i).fullPath), false /* mipmap */, null, i % 3, listener));
+        }
+        final AsyncTextureLoader.Request cancelled = loader.load(glad, new URL(streams.get(0).fullPath), false, null, -1, listener);
+        final boolean cancelledOK = cancelled.cancel(false);
+
+        final List<Texture> textures = new ArrayList<Texture>();
+        for(int i=0; i<requests.size(); i++) {
+            final AsyncTextureLoader.Request r = requests.get(i);
+            final Texture tex = r.get(10, TimeUnit.SECONDS);
+            Assert.assertNotNull(tex);
+            Assert.assertTrue(r.isDone());
+            textures.add(tex);
+        }
+        if( cancelledOK ) {
+            Assert.assertTrue(cancelled.isCancelled());
+        } else {
+            textures.add(cancelled.get(10, TimeUnit.SECONDS)); // completed before cancellation
+        }
+        loader.shutdown();
+        System.err.println("threads "+threadCount+", budget "+maxInFlightBytes+": loaded "+loadedCount.get()+", failed "+failedCount.get()+
+                           ", cancelled "+cancelledOK+", in-flight "+loader.getInFlightBytes());
+        Assert.assertEquals(requests.size() + ( cancelledOK ? 0 : 1 ), loadedCount.get());
+        Assert.assertEquals(0, failedCount.get());
+        Assert.assertEquals(0, loader.getInFlightBytes());
+        Assert.assertEquals(1, glad.getGLEventListenerCount()); // upload hook detached
+
+        glad.invoke(true, new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable drawable) {
+                for(int i=0; i<textures.size(); i++) {
+                    textures.get(i).destroy(drawable.getGL());
+                }
+                return true;
+            } });
+        animator.stop();
+        glad.destroy();
+    }
+
+    @Test
+    public void test01SingleThread() throws InterruptedException, IOException, ExecutionException, TimeoutException {
+        testImpl(1, 64 * 1024);
+    }
+
+    @Test
+    public void test02MultiThread() throws InterruptedException, IOException, ExecutionException, TimeoutException {
+        testImpl(4, 1024 * 1024);
+    }
+
+    /**
+     * Destroys the drawable w/o any display while requests are decoded,
+     * each request must complete or fail but never stall.
+     */
+    @Test
+    public void test03DestroyBeforeUpload() throws InterruptedException, IOException, TimeoutException {
+        final GLProfile glp = GLProfile.isAvailable(GLProfile.GL2ES2) ? GLProfile.getGL2ES2() : GLProfile.getDefault();
+        final GLWindow glad = GLWindow.create(new GLCapabilities(glp));
+        glad.setTitle("TestAsyncTextureLoaderNEWT");
+        glad.setSize(256, 256);
+        glad.setVisible(true);
+
+        final AsyncTextureLoader loader = new AsyncTextureLoader(2, 64 * 1024 * 1024);
+        final List<AsyncTextureLoader.Request> requests = new ArrayList<AsyncTextureLoader.Request>();
+        final List<ImageTstFiles.NamedInputStream> streams = imageTstFiles.allStreams;
+        for(int i=0; i<streams.size(); i++) {
+            requests.add(loader.load(glad, new URL(streams.get(i).fullPath), false /* mipmap */, null, 0, null));
+        }
+        glad.destroy();
+
+        int loaded = 0, failed = 0;
+        for(int i=0; i<requests.size(); i++) {
+            try {
+                final Texture tex = requests.get(i).get(10, TimeUnit.SECONDS);
+                Assert.assertNotNull(tex);
+                loaded++;
+            } catch (final ExecutionException e) {
+                failed++;
+            } catch (final CancellationException e) {
+                Assert.fail("Not cancelled: "+requests.get(i));
+            }
+        }
+        loader.shutdown();
+        System.err.println("destroyed: loaded "+loaded+", failed "+failed+", in-flight "+loader.getInFlightBytes());
+        Assert.assertEquals(requests.size(), loaded + failed);
+        Assert.assertEquals(0, loader.getInFlightBytes());
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestAsyncTextureLoaderNEWT.class.getName());
+    }
+}
@@ -0,0 +1,253 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.nio.ByteBuffer;
+
+import com.jogamp.newt.opengl.GLWindow;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.util.GLPixelUnpackBufferRing;
+import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureData;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.test.junit.jogl.offscreen.WindowUtilNEWT;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link GLPixelUnpackBufferRing} uploads, w/ and w/o {@link Texture},
+ * across multiple ring revolutions and segment reallocations by reading back the texture if supported.
+ * <p>
+ * Also validates the ring stays unbound if a user pixel unpack buffer is bound,
+ * sub-rectangle updates only stage the rectangle's pixels
+ * and the shared ring is disposed w/ its context.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLPixelUnpackBufferRingNEWT extends UITestCase {
+    static GLProfile glp;
+    static GLCapabilities caps;
+
+    @BeforeClass
+    public static void initClass() {
+        glp = GLProfile.getDefault();
+        Assert.assertNotNull(glp);
+        caps = new GLCapabilities(glp);
+        Assert.assertNotNull(caps);
+    }
+
+    private static ByteBuffer createPixels(final int width, final int height, final int seed) {
+        final ByteBuffer pixels = Buffers.newDirectByteBuffer(width * height * 4);
+        for(int i=0; i<pixels.capacity(); i++) {
+            pixels.put(i, (byte) ( i * 31 + seed * 17 ));
+        }
+        return pixels;
+    }
+
+    /** Reads back the bound texture and compares it w/ the given pixels, if supported. */
+    private static boolean validate(final GL gl, final ByteBuffer exp, final int seed) {
+        if( !gl.isGL2GL3() ) {
+            return false;
+        }
+        final ByteBuffer res = Buffers.newDirectByteBuffer(exp.capacity());
+        gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 1);
+        gl.getGL2GL3().glGetTexImage(GL.GL_TEXTURE_2D, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, res);
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+        Assert.assertEquals("Upload "+seed, exp, res);
+        return true;
+    }
+
+    private void testImpl(final int ringSize) throws InterruptedException {
+        final GLPixelUnpackBufferRing ring = new GLPixelUnpackBufferRing(ringSize);
+        final int uploads = 3 * ringSize + 1;
+        final int[] validated = { 0 };
+        final boolean[] supported = { false };
+
+        final GLCapabilities caps2 = WindowUtilNEWT.fixCaps(caps, false, true, false);
+        final GLWindow glWindow = GLWindow.create(caps2);
+        Assert.assertNotNull(glWindow);
+        glWindow.setSize(64, 64);
+        glWindow.addGLEventListener(new GLEventListener() {
+            public void init(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                supported[0] = ring.isSupported(gl);
+                final int[] tex = { 0 };
+                gl.glGenTextures(1, tex, 0);
+                gl.glBindTexture(GL.GL_TEXTURE_2D, tex[0]);
+                gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, 1);
+                for(int i=0; i<uploads; i++) {
+                    // grows once per revolution, reallocating the segments
+                    final int size = 32 << ( i / ringSize );
+                    final ByteBuffer pixels = createPixels(size, size, i);
+                    gl.glTexImage2D(GL.GL_TEXTURE_2D, 0, GL.GL_RGBA, size, size, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, null);
+                    final long offset = ring.stage(gl, pixels);
+                    Assert.assertEquals(supported[0], 0 <= offset);
+                    Assert.assertEquals(0, pixels.position());
+                    if( 0 <= offset ) {
+                        try {
+                            gl.glTexSubImage2D(GL.GL_TEXTURE_2D, 0, 0, 0, size, size, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, offset);
+                        } finally {
+                            ring.release(gl);
+                        }
+                        Assert.assertEquals(0, gl.getBoundBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER));
+                        Assert.assertEquals(i+1, ring.getUploadCount());
+                    } else {
+                        gl.glTexSubImage2D(GL.GL_TEXTURE_2D, 0, 0, 0, size, size, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, pixels);
+                    }
+                    Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+                    if( validate(gl, pixels, i) ) {
+                        validated[0]++;
+                    }
+                }
+                gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+                gl.glDeleteTextures(1, tex, 0);
+
+                // via Texture
+                final Texture texture = new Texture(GL.GL_TEXTURE_2D);
+                texture.setPixelUnpackBufferRing(ring);
+                for(int i=0; i<ringSize+1; i++) {
+                    final ByteBuffer pixels = createPixels(64, 64, 100+i);
+                    texture.updateImage(gl, new TextureData(glp, GL.GL_RGBA, 64, 64, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE,
+                                                            false, false, false, pixels, null));
+                    texture.bind(gl);
+                    if( validate(gl, pixels, 100+i) ) {
+                        validated[0]++;
+                    }
+                }
+
+                // sub-rectangle: only the rectangle's rows and pixels are staged
+                {
+                    final ByteBuffer base = createPixels(64, 64, 100+ringSize);
+                    final ByteBuffer pixels = createPixels(64, 64, 200);
+                    final int x = 8, y = 4, w = 16, h = 8;
+                    final long uploadBytes = ring.getUploadBytes();
+                    texture.updateSubImage(gl, new TextureData(glp, GL.GL_RGBA, 64, 64, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE,
+                                                               false, false, false, pixels, null), 0, x, y, x, y, w, h);
+                    Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+                    if( supported[0] ) {
+                        Assert.assertEquals(w * h * 4, ring.getUploadBytes() - uploadBytes);
+                    }
+                    for(int j=y; j<y+h; j++) {
+                        for(int k=x*4; k<(x+w)*4; k++) {
+                            base.put(j*64*4+k, pixels.get(j*64*4+k));
+                        }
+                    }
+                    texture.bind(gl);
+                    if( validate(gl, base, 200) ) {
+                        validated[0]++;
+                    }
+                }
+                texture.destroy(gl);
+
+                // user bound pixel unpack buffer: ring not used, user binding retained
+                if( supported[0] ) {
+                    final int[] pbo = { 0 };
+                    gl.glGenBuffers(1, pbo, 0);
+                    gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, pbo[0]);
+                    final long uploadCount = ring.getUploadCount();
+                    Assert.assertEquals(-1, ring.stage(gl, createPixels(4, 4, 0)));
+                    Assert.assertEquals(pbo[0], gl.getBoundBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER));
+                    ring.release(gl); // no-op
+                    Assert.assertEquals(pbo[0], gl.getBoundBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER));
+                    Assert.assertEquals(uploadCount, ring.getUploadCount());
+                    gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+                    gl.glDeleteBuffers(1, pbo, 0);
+                }
+                System.err.println(ring);
+            }
+            public void dispose(final GLAutoDrawable drawable) {
+                ring.dispose(drawable.getGL());
+            }
+            public void display(final GLAutoDrawable drawable) { }
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        glWindow.setVisible(true);
+        glWindow.display();
+        glWindow.destroy();
+        System.err.println("ringSize "+ringSize+", supported "+supported[0]+", validated "+validated[0]);
+    }
+
+    /** The shared ring is attached to the context and disposed w/ it. */
+    @Test
+    public void testRing00_SharedDisposed() throws InterruptedException {
+        final GLCapabilities caps2 = WindowUtilNEWT.fixCaps(caps, false, true, false);
+        final GLWindow glWindow = GLWindow.create(caps2);
+        Assert.assertNotNull(glWindow);
+        glWindow.setSize(64, 64);
+        final GLPixelUnpackBufferRing[] shared = { null };
+        glWindow.addGLEventListener(new GLEventListener() {
+            public void init(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                shared[0] = GLPixelUnpackBufferRing.getShared(gl);
+                Assert.assertSame(shared[0], GLPixelUnpackBufferRing.getShared(gl));
+                final Texture texture = new Texture(GL.GL_TEXTURE_2D);
+                texture.setPixelUnpackBufferRing(shared[0]);
+                texture.updateImage(gl, new TextureData(glp, GL.GL_RGBA, 16, 16, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE,
+                                                        false, false, false, createPixels(16, 16, 0), null));
+                texture.destroy(gl);
+                Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+                Assert.assertEquals(shared[0].isSupported(gl), 0 < shared[0].getSegmentSize());
+            }
+            public void dispose(final GLAutoDrawable drawable) { }
+            public void display(final GLAutoDrawable drawable) { }
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        glWindow.setVisible(true);
+        glWindow.display();
+        Assert.assertNotNull(shared[0]);
+        glWindow.destroy();
+        System.err.println("shared "+shared[0]);
+        Assert.assertEquals(0, shared[0].getSegmentSize()); // GL resources released w/ the context
+    }
+
+    @Test
+    public void testRing01_Size1() throws InterruptedException {
+        testImpl(1);
+    }
+
+    @Test
+    public void testRing02_SizeDefault() throws InterruptedException {
+        testImpl(GLPixelUnpackBufferRing.DEFAULT_RING_SIZE);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLPixelUnpackBufferRingNEWT.class.getName());
+    }
+}
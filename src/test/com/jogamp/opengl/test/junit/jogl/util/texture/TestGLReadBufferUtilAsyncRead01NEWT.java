@@ -0,0 +1,161 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.jogamp.newt.opengl.GLWindow;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.util.GLPixelBuffer;
+import com.jogamp.opengl.util.GLReadBufferUtil;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+import com.jogamp.opengl.test.junit.jogl.offscreen.WindowUtilNEWT;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link GLReadBufferUtil#readPixelsAsync(GL, boolean) asynchronous reads}
+ * against synchronous reads of the same frame, as well as their order and count.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLReadBufferUtilAsyncRead01NEWT extends UITestCase {
+    static final int frameCount = 20;
+    static GLProfile glp;
+    static GLCapabilities caps;
+    static int width, height;
+
+    @BeforeClass
+    public static void initClass() {
+        glp = GLProfile.getDefault();
+        Assert.assertNotNull(glp);
+        caps = new GLCapabilities(glp);
+        Assert.assertNotNull(caps);
+        caps.setAlphaBits(1); // req. alpha channel
+        width  = 256;
+        height = 256;
+    }
+
+    private static ByteBuffer copyPixels(final GLReadBufferUtil readBufferUtil) {
+        final GLPixelBuffer pb = readBufferUtil.getPixelBuffer();
+        final ByteBuffer src = ((ByteBuffer)pb.buffer).duplicate();
+        final ByteBuffer dst = ByteBuffer.allocate(src.remaining());
+        dst.put(src);
+        dst.flip();
+        return dst;
+    }
+
+    private void testImpl(final boolean alpha, final int ringSize) throws InterruptedException {
+        final GLReadBufferUtil syncRead = new GLReadBufferUtil(alpha, false);
+        final GLReadBufferUtil asyncRead = new GLReadBufferUtil(alpha, false);
+        final Map<Long, ByteBuffer> expected = new HashMap<Long, ByteBuffer>();
+        final long[] nextFrame = { 0 };
+        final boolean[] asyncSupported = { false };
+        asyncRead.setAsyncReadListener(new GLReadBufferUtil.AsyncReadListener() {
+            @Override
+            public void frameRead(final GL gl, final GLReadBufferUtil source, final long frameNumber) {
+                Assert.assertSame(asyncRead, source);
+                Assert.assertEquals(nextFrame[0]++, frameNumber);
+                final ByteBuffer exp = expected.remove(Long.valueOf(frameNumber));
+                Assert.assertNotNull(exp);
+                Assert.assertEquals("Frame "+frameNumber, exp, copyPixels(source));
+            }
+        }, ringSize);
+
+        final GLCapabilities caps2 = WindowUtilNEWT.fixCaps(caps, false, true, false);
+        final GLWindow glWindow = GLWindow.create(caps2);
+        Assert.assertNotNull(glWindow);
+        glWindow.setSize(width, height);
+        glWindow.addGLEventListener(new GearsES2(1));
+        glWindow.addGLEventListener(new GLEventListener() {
+            long f = 0;
+            public void init(final GLAutoDrawable drawable) {
+                asyncSupported[0] = asyncRead.isAsyncReadSupported(drawable.getGL());
+            }
+            public void dispose(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                asyncRead.flushAsync(gl);
+                asyncRead.dispose(gl);
+                syncRead.dispose(gl);
+            }
+            public void display(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                Assert.assertTrue(syncRead.readPixels(gl, false));
+                expected.put(Long.valueOf(f++), copyPixels(syncRead));
+                Assert.assertTrue(asyncRead.readPixelsAsync(gl, false));
+                Assert.assertTrue(asyncRead.getAsyncPendingCount() <= ringSize);
+            }
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        glWindow.setVisible(true);
+        for(int i=1; i<frameCount; i++) {
+            glWindow.display();
+        }
+        glWindow.destroy();
+        System.err.println("alpha "+alpha+", ringSize "+ringSize+", async supported "+asyncSupported[0]+", frames "+nextFrame[0]);
+        Assert.assertEquals(0, asyncRead.getAsyncPendingCount());
+        Assert.assertTrue(expected.isEmpty());
+        Assert.assertTrue(frameCount <= nextFrame[0]);
+    }
+
+    @Test
+    public void testAsyncRead01_RGB_Ring1() throws InterruptedException {
+        testImpl(false, 1);
+    }
+
+    @Test
+    public void testAsyncRead02_RGBA_Ring1() throws InterruptedException {
+        testImpl(true, 1);
+    }
+
+    @Test
+    public void testAsyncRead03_RGB_RingDefault() throws InterruptedException {
+        testImpl(false, GLReadBufferUtil.DEFAULT_ASYNC_RING_SIZE);
+    }
+
+    @Test
+    public void testAsyncRead04_RGBA_RingDefault() throws InterruptedException {
+        testImpl(true, GLReadBufferUtil.DEFAULT_ASYNC_RING_SIZE);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLReadBufferUtilAsyncRead01NEWT.class.getName());
+    }
+}
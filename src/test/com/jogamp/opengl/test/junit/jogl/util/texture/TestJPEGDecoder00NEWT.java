@@ -0,0 +1,157 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+
+import jogamp.opengl.util.jpeg.JPEGDecoder;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.TextureData.ColorSpace;
+
+/**
+ * Validates {@link JPEGDecoder#getPixels(JPEGDecoder.ColorLineSink, int, int)}
+ * against the per pixel {@link JPEGDecoder#getPixel(JPEGDecoder.ColorSink, int, int)},
+ * reusing one decoder instance for all images.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestJPEGDecoder00NEWT extends UITestCase {
+
+    static class PixelSink implements JPEGDecoder.ColorSink {
+        final ColorSpace storageCS;
+        int width, height;
+        byte[] data;
+
+        PixelSink(final ColorSpace storageCS) { this.storageCS = storageCS; }
+
+        @Override
+        public ColorSpace allocate(final int width, final int height, final ColorSpace sourceCS, final int sourceComponents) {
+            this.width = width;
+            this.height = height;
+            this.data = new byte[width * height * 3];
+            return storageCS;
+        }
+        @Override
+        public void store2(final int x, final int y, final byte c1, final byte c2) {
+            throw new RuntimeException("not supported");
+        }
+        @Override
+        public void storeRGB(final int x, final int y, final byte r, final byte g, final byte b) {
+            int i = ( y * width + x ) * 3;
+            data[i++] = r; data[i++] = g; data[i++] = b;
+        }
+        @Override
+        public void storeYCbCr(final int x, final int y, final byte Y, final byte Cb, final byte Cr) {
+            int i = ( y * width + x ) * 3;
+            data[i++] = Y; data[i++] = Cb; data[i++] = Cr;
+        }
+    }
+
+    static class LineSink implements JPEGDecoder.ColorLineSink {
+        final ColorSpace storageCS;
+        int width, height, storedLines;
+        ByteBuffer data;
+
+        LineSink(final ColorSpace storageCS) { this.storageCS = storageCS; }
+
+        @Override
+        public ColorSpace allocate(final int width, final int height, final ColorSpace sourceCS, final int sourceComponents) {
+            this.width = width;
+            this.height = height;
+            this.data = Buffers.newDirectByteBuffer(width * height * 3);
+            return storageCS;
+        }
+        @Override
+        public ByteBuffer getBuffer() { return data; }
+        @Override
+        public int getLineOffset(final int y) { return y * width * 3; }
+        @Override
+        public void storeLines(final int y, final int count) {
+            Assert.assertEquals(storedLines, y);
+            storedLines += count;
+        }
+    }
+
+    private void testImpl(final JPEGDecoder decoder, final String fname, final ColorSpace storageCS) throws IOException {
+        final URLConnection urlConn = IOUtil.getResource(fname, this.getClass().getClassLoader(), this.getClass());
+        if( null == urlConn ) {
+            System.err.println("Skipped: "+fname);
+            return;
+        }
+        decoder.parse(new BufferedInputStream(urlConn.getInputStream()));
+        final int width = decoder.getWidth(), height = decoder.getHeight();
+        final PixelSink pixelSink = new PixelSink(storageCS);
+        try {
+            decoder.getPixel(pixelSink, width, height);
+        } catch (final JPEGDecoder.CodecException ce) {
+            System.err.println("Unsupported: "+fname+", "+storageCS+": "+ce.getMessage());
+            return;
+        }
+        final LineSink lineSink = new LineSink(storageCS);
+        decoder.getPixels(lineSink, width, height);
+        System.err.println(fname+", "+storageCS+": "+decoder+", scratch "+decoder.getScratchByteSize()+" bytes");
+
+        Assert.assertEquals(height, lineSink.storedLines);
+        Assert.assertEquals(0, lineSink.data.position());
+        final byte[] lines = new byte[width * height * 3];
+        lineSink.data.get(lines);
+        Assert.assertArrayEquals(pixelSink.data, lines);
+    }
+
+    @Test
+    public void test01LineSinkRGB() throws IOException {
+        final JPEGDecoder decoder = new JPEGDecoder();
+        for(int i=0; i<ImageTstFiles.jpgFileNames.length; i++) {
+            testImpl(decoder, ImageTstFiles.jpgFileNames[i], ColorSpace.RGB);
+        }
+        decoder.releaseScratch();
+    }
+
+    @Test
+    public void test02LineSinkYCbCr() throws IOException {
+        final JPEGDecoder decoder = new JPEGDecoder();
+        for(int i=0; i<ImageTstFiles.jpgFileNames.length; i++) {
+            testImpl(decoder, ImageTstFiles.jpgFileNames[i], ColorSpace.YCbCr);
+        }
+        decoder.releaseScratch();
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestJPEGDecoder00NEWT.class.getName());
+    }
+}
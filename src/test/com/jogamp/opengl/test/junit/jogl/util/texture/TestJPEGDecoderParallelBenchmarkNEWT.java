@@ -0,0 +1,161 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jogamp.opengl.util.jpeg.JPEGDecoder;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.TextureData.ColorSpace;
+
+/**
+ * Benchmarks {@link JPEGDecoder#setParallel(java.util.concurrent.Executor, int) parallel decoding}
+ * against the single threaded path and validates identical results.
+ * <p>
+ * Main function accepts arbitrary JPG file name, loop count and thread count for manual tests.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestJPEGDecoderParallelBenchmarkNEWT extends UITestCase {
+    static int loops = 20;
+    static int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+    static String fname = null;
+
+    static class LineSink implements JPEGDecoder.ColorLineSink {
+        int width;
+        ByteBuffer data;
+
+        @Override
+        public ColorSpace allocate(final int width, final int height, final ColorSpace sourceCS, final int sourceComponents) {
+            this.width = width;
+            this.data = Buffers.newDirectByteBuffer(width * height * 3);
+            return ColorSpace.RGB;
+        }
+        @Override
+        public ByteBuffer getBuffer() { return data; }
+        @Override
+        public int getLineOffset(final int y) { return y * width * 3; }
+        @Override
+        public void storeLines(final int y, final int count) { }
+    }
+
+    private static ByteBuffer decode(final JPEGDecoder decoder, final InputStream in) throws IOException {
+        decoder.parse(in);
+        final LineSink sink = new LineSink();
+        decoder.getPixels(sink, decoder.getWidth(), decoder.getHeight());
+        return sink.data;
+    }
+
+    private InputStream getStream(final String fname) throws IOException {
+        final URLConnection urlConn = IOUtil.getResource(fname, this.getClass().getClassLoader(), this.getClass());
+        return null != urlConn ? new BufferedInputStream(urlConn.getInputStream()) : null;
+    }
+
+    void benchmarkImpl(final String fname, final JPEGDecoder sequential, final JPEGDecoder parallel) throws IOException {
+        {
+            final InputStream s0 = getStream(fname);
+            if( null == s0 ) {
+                System.err.println("Skipped: "+fname);
+                return;
+            }
+            final ByteBuffer r0, r1;
+            try {
+                r0 = decode(sequential, s0);
+                r1 = decode(parallel, getStream(fname));
+            } catch (final JPEGDecoder.CodecException ce) {
+                System.err.println("Unsupported: "+fname+": "+ce.getMessage());
+                return;
+            }
+            Assert.assertEquals(r0, r1);
+        }
+        final long[] dt = new long[2];
+        for(int j=0; j<2; j++) {
+            final JPEGDecoder decoder = 0 == j ? sequential : parallel;
+            final long t0 = System.nanoTime();
+            for(int i = 0; i < loops; i++ ) {
+                final InputStream istream = getStream(fname);
+                decode(decoder, istream);
+                istream.close();
+            }
+            dt[j] = System.nanoTime() - t0;
+        }
+        System.err.printf("%-50s %5dx%5d: sequential %8.3f ms/l, parallel[%d] %8.3f ms/l, speedup %.2f%n",
+                fname, sequential.getWidth(), sequential.getHeight(),
+                dt[0] / 1e6 / loops, threads, dt[1] / 1e6 / loops, (double)dt[0] / (double)dt[1]);
+    }
+
+    @Test
+    public void benchmark() throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads - 1);
+        try {
+            final JPEGDecoder sequential = new JPEGDecoder();
+            final JPEGDecoder parallel = new JPEGDecoder();
+            parallel.setParallel(executor, threads);
+            if( null != fname ) {
+                benchmarkImpl(fname, sequential, parallel);
+            } else {
+                for(int i=0; i<ImageTstFiles.jpgFileNames.length; i++) {
+                    benchmarkImpl(ImageTstFiles.jpgFileNames[i], sequential, parallel);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-file")) {
+                i++;
+                fname = args[i];
+            } else if(args[i].equals("-loops")) {
+                i++;
+                loops = MiscUtils.atoi(args[i], loops);
+            } else if(args[i].equals("-threads")) {
+                i++;
+                threads = Math.max(2, MiscUtils.atoi(args[i], threads));
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestJPEGDecoderParallelBenchmarkNEWT.class.getName());
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.jogamp.nativewindow.util.Dimension;
+import com.jogamp.nativewindow.util.PixelFormat;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.PNGPixelRect;
+
+/**
+ * Validates {@link PNGPixelRect.WriteCompression parallel}
+ * and speed preset PNG compression by writing and reading back a multi stripe image,
+ * reusing the pooled stripes of the {@link PNGPixelRect.WriteCompression} for subsequent images.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPNGPixelRect02NEWT extends UITestCase {
+    static final int width = 1920, height = 1080;
+
+    private static PNGPixelRect createImage(final PixelFormat fmt) {
+        final int bpp = fmt.comp.bytesPerPixel();
+        final ByteBuffer pixels = Buffers.newDirectByteBuffer(width * height * bpp);
+        for(int y=0; y<height; y++) {
+            for(int x=0; x<width; x++) {
+                final int v = ( x / 16 + y / 16 ) % 2 == 0 ? x ^ y : x * y / 7;
+                for(int c=0; c<bpp; c++) {
+                    pixels.put( (byte) ( v + c * 85 ) );
+                }
+            }
+        }
+        pixels.rewind();
+        return new PNGPixelRect(fmt, new Dimension(width, height), 0, true /* isGLOriented */, pixels, 72f, 72f);
+    }
+
+    private static byte[] writeImpl(final PNGPixelRect image, final PNGPixelRect.WriteCompression compression) throws IOException {
+        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        final long t0 = System.nanoTime();
+        image.write(bout, true /* close */, compression);
+        final long t1 = System.nanoTime();
+        System.err.printf("%s, %s: %d bytes, %.3f ms%n",
+                image.getPixelformat(), compression, bout.size(), (t1-t0)/1e6);
+        return bout.toByteArray();
+    }
+
+    private static void testImpl(final PNGPixelRect image, final ExecutorService executor, final int parallelism, final boolean speedOverSize) throws IOException {
+        final PNGPixelRect.WriteCompression compression = new PNGPixelRect.WriteCompression(executor, parallelism, speedOverSize);
+        try {
+            validate(image, writeImpl(image, compression));
+            validate(image, writeImpl(image, compression)); // reusing pooled stripes
+        } finally {
+            compression.dispose();
+        }
+    }
+
+    private static void validate(final PNGPixelRect image, final byte[] png) throws IOException {
+        final PNGPixelRect res = PNGPixelRect.read(new ByteArrayInputStream(png), image.getPixelformat(),
+                                                   true /* directBuffer */, 0 /* destMinStrideInBytes */, true /* destIsGLOriented */);
+        Assert.assertEquals(image.getSize(), res.getSize());
+        Assert.assertEquals(image.getPixelformat(), res.getPixelformat());
+        Assert.assertEquals(image.getPixels(), res.getPixels());
+    }
+
+    private void testImpl(final PixelFormat fmt) throws IOException {
+        final PNGPixelRect image = createImage(fmt);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            validate(image, writeImpl(image, null));
+            testImpl(image, executor, 4, false);
+            testImpl(image, null, 1, true);
+            testImpl(image, executor, 4, true);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWrite01_LUMINANCE() throws IOException {
+        testImpl(PixelFormat.LUMINANCE);
+    }
+
+    @Test
+    public void testWrite02_RGB888() throws IOException {
+        testImpl(PixelFormat.RGB888);
+    }
+
+    @Test
+    public void testWrite03_RGBA8888() throws IOException {
+        testImpl(PixelFormat.RGBA8888);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPNGPixelRect02NEWT.class.getName());
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+
+import com.jogamp.nativewindow.util.PixelFormat;
+
+import jogamp.opengl.util.pngj.ImageInfo;
+import jogamp.opengl.util.pngj.ImageLine;
+import jogamp.opengl.util.pngj.ImageLineHelper;
+import jogamp.opengl.util.pngj.PngReader;
+import jogamp.opengl.util.pngj.PngWriter;
+import jogamp.opengl.util.pngj.chunks.PngChunkPLTE;
+import jogamp.opengl.util.pngj.chunks.PngChunkTRNS;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.PNGPixelRect;
+
+/**
+ * Validates the palette, 16 bit and packed grayscale decoding paths of {@link PNGPixelRect#read(java.io.InputStream, PixelFormat, boolean, int, boolean)}
+ * by round-tripping reference images written via {@link PngWriter}
+ * and by comparing the paletted test files against the {@link ImageLine} based decoding.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPNGPixelRect03NEWT extends UITestCase {
+    static final int width = 37, height = 11; // odd width exercises partial bytes of packed rows
+
+    /** Returns the unpacked sample of the reference image, spread across the whole value range */
+    private static int sample(final int x, final int y, final int c, final int maxValue) {
+        return ( ( x * 7 + y * 13 + c * 29 ) * ( maxValue / 63 + 1 ) ) % ( maxValue + 1 );
+    }
+
+    /**
+     * Writes a reference image w/ one int per sample, see {@link #sample(int, int, int, int)},
+     * reads it back as {@link PixelFormat#RGBA8888} and compares against the expected RGBA values.
+     */
+    private static void testImpl(final ImageInfo imgInfo, final int paletteSize, final int[] paletteAlpha) throws IOException {
+        final int maxValue = imgInfo.indexed ? paletteSize - 1 : ( 1 << imgInfo.bitDepth ) - 1;
+        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        {
+            final PngWriter pngw = new PngWriter(bout, imgInfo);
+            pngw.setUseUnPackedMode(true);
+            if( imgInfo.indexed ) {
+                final PngChunkPLTE plte = pngw.getMetadata().createPLTEChunk();
+                plte.setNentries(paletteSize);
+                for(int i=0; i<paletteSize; i++) {
+                    plte.setEntry(i, i * 3 % 256, 255 - i, i * 5 % 256);
+                }
+                if( null != paletteAlpha ) {
+                    final PngChunkTRNS trns = pngw.getMetadata().createTRNSChunk();
+                    trns.setPalletteAlpha(paletteAlpha);
+                }
+            }
+            final int[] row = new int[imgInfo.samplesPerRow];
+            for(int y=0; y<height; y++) {
+                for(int x=0; x<width; x++) {
+                    for(int c=0; c<imgInfo.channels; c++) {
+                        row[x*imgInfo.channels+c] = sample(x, y, c, maxValue);
+                    }
+                }
+                pngw.writeRowInt(row, y);
+            }
+            pngw.end();
+        }
+        System.err.println(imgInfo+": "+bout.size()+" bytes");
+
+        final PNGPixelRect res = PNGPixelRect.read(new ByteArrayInputStream(bout.toByteArray()), PixelFormat.RGBA8888,
+                                                   false /* directBuffer */, 0 /* destMinStrideInBytes */, false /* destIsGLOriented */);
+        Assert.assertEquals(width, res.getSize().getWidth());
+        Assert.assertEquals(height, res.getSize().getHeight());
+        final ByteBuffer pixels = res.getPixels();
+        final int[] exp = new int[4];
+        for(int y=0; y<height; y++) {
+            for(int x=0; x<width; x++) {
+                if( imgInfo.indexed ) {
+                    final int i = sample(x, y, 0, maxValue);
+                    exp[0] = i * 3 % 256; exp[1] = 255 - i; exp[2] = i * 5 % 256;
+                    exp[3] = null != paletteAlpha && i < paletteAlpha.length ? paletteAlpha[i] : 0xff;
+                } else {
+                    for(int c=0; c<imgInfo.channels; c++) {
+                        final int v = sample(x, y, c, maxValue);
+                        // 16 bit reduced to MSB, packed gray scaled to 8 bit
+                        exp[c] = 16 == imgInfo.bitDepth ? v >>> 8 : v * ( 255 / maxValue );
+                    }
+                    if( imgInfo.greyscale ) {
+                        exp[3] = imgInfo.alpha ? exp[1] : 0xff;
+                        exp[1] = exp[0]; exp[2] = exp[0];
+                    } else if( !imgInfo.alpha ) {
+                        exp[3] = 0xff;
+                    }
+                }
+                final int off = y * res.getStride() + x * 4;
+                for(int c=0; c<4; c++) {
+                    Assert.assertEquals("Pixel "+x+"/"+y+", component "+c+" of "+imgInfo, exp[c], pixels.get(off+c) & 0xff);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test01Palette8() throws IOException {
+        testImpl(new ImageInfo(width, height, 8, false, false, true), 200, null);
+    }
+
+    @Test
+    public void test02Palette8Alpha() throws IOException {
+        testImpl(new ImageInfo(width, height, 8, false, false, true), 200, new int[] { 0, 10, 128, 255, 77 });
+    }
+
+    @Test
+    public void test03Palette4Alpha() throws IOException {
+        testImpl(new ImageInfo(width, height, 4, false, false, true), 16, new int[] { 0, 64, 128 });
+    }
+
+    @Test
+    public void test04Palette1() throws IOException {
+        testImpl(new ImageInfo(width, height, 1, false, false, true), 2, null);
+    }
+
+    @Test
+    public void test11RGB16() throws IOException {
+        testImpl(new ImageInfo(width, height, 16, false), 0, null);
+    }
+
+    @Test
+    public void test12RGBA16() throws IOException {
+        testImpl(new ImageInfo(width, height, 16, true), 0, null);
+    }
+
+    @Test
+    public void test13Gray16() throws IOException {
+        testImpl(new ImageInfo(width, height, 16, false, true, false), 0, null);
+    }
+
+    @Test
+    public void test14GrayAlpha16() throws IOException {
+        testImpl(new ImageInfo(width, height, 16, true, true, false), 0, null);
+    }
+
+    @Test
+    public void test21Gray1() throws IOException {
+        testImpl(new ImageInfo(width, height, 1, false, true, false), 0, null);
+    }
+
+    @Test
+    public void test22Gray2() throws IOException {
+        testImpl(new ImageInfo(width, height, 2, false, true, false), 0, null);
+    }
+
+    @Test
+    public void test23Gray4() throws IOException {
+        testImpl(new ImageInfo(width, height, 4, false, true, false), 0, null);
+    }
+
+    /** Compares the paletted test files against the {@link ImageLine} based decoding. */
+    @Test
+    public void test31PaletteFiles() throws IOException {
+        final String[] basenames = { "test-ntscP_3-01-160x90", "test-ntscP_4-01-160x90" };
+        for(int i=0; i<basenames.length; i++) {
+            final PNGPixelRect res;
+            {
+                final URLConnection urlConn = IOUtil.getResource(basenames[i]+".png", this.getClass().getClassLoader(), this.getClass());
+                Assert.assertNotNull(urlConn);
+                res = PNGPixelRect.read(urlConn.getInputStream(), PixelFormat.RGBA8888, false /* directBuffer */, 0, false /* destIsGLOriented */);
+            }
+            final URLConnection urlConn = IOUtil.getResource(basenames[i]+".png", this.getClass().getClassLoader(), this.getClass());
+            final PngReader pngr = new PngReader(urlConn.getInputStream(), null);
+            final PngChunkPLTE plte = pngr.getMetadata().getPLTE();
+            final PngChunkTRNS trns = pngr.getMetadata().getTRNS();
+            Assert.assertTrue(pngr.imgInfo.indexed);
+            final int channels = null != trns ? 4 : 3;
+            final ByteBuffer pixels = res.getPixels();
+            int[] rgba = null;
+            for(int y=0; y<pngr.imgInfo.rows; y++) {
+                rgba = ImageLineHelper.palette2rgb(pngr.readRow(y), plte, trns, rgba);
+                for(int x=0; x<pngr.imgInfo.cols; x++) {
+                    final int off = y * res.getStride() + x * 4;
+                    for(int c=0; c<4; c++) {
+                        final int exp = c < channels ? rgba[x*channels+c] : 0xff;
+                        Assert.assertEquals(basenames[i]+": pixel "+x+"/"+y+", component "+c, exp, pixels.get(off+c) & 0xff);
+                    }
+                }
+            }
+            pngr.end();
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPNGPixelRect03NEWT.class.getName());
+    }
+}
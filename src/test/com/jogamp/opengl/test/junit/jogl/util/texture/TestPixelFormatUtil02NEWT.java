@@ -0,0 +1,190 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.nativewindow.util.PixelFormatUtil;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.Bitstream;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates PixelFormatUtil's row kernels for all pairs of
+ * {@link PixelFormatUtil#isByteFormat(PixelFormat) byte addressable formats}
+ * against the generic per component conversion, w/ strides, vertical flip
+ * and {@link PixelFormatUtil#setParallel(java.util.concurrent.Executor, int) parallel} conversion.
+ * <p>
+ * Also prints the duration of common conversions of a 1920x1080 image.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPixelFormatUtil02NEWT extends UITestCase {
+    static final PixelFormat[] byteFormats = { PixelFormat.LUMINANCE, PixelFormat.RGB888, PixelFormat.BGR888,
+                                               PixelFormat.RGBA8888, PixelFormat.ABGR8888, PixelFormat.ARGB8888, PixelFormat.BGRA8888 };
+    static final byte padding = (byte) 0x5a;
+
+    private static ByteBuffer createPixels(final int width, final int height, final int bpp, final int lineStride) {
+        final ByteBuffer pixels = Buffers.newDirectByteBuffer(lineStride * height);
+        for(int y=0; y<height; y++) {
+            for(int i=0; i<lineStride; i++) {
+                pixels.put( i < width * bpp ? (byte) ( i * 31 + y * 17 + i * y ) : padding );
+            }
+        }
+        pixels.rewind();
+        return pixels;
+    }
+
+    /** Reference using the generic per pixel conversion */
+    private static void convertGeneric(final int width, final int height,
+                                       final ByteBuffer src_bb, final PixelFormat src_fmt, final int src_lineStride,
+                                       final ByteBuffer dst_bb, final PixelFormat dst_fmt, final int dst_lineStride,
+                                       final boolean vert_flip) throws IOException {
+        final PixelFormatUtil.ComponentMap cmap = new PixelFormatUtil.ComponentMap(src_fmt.comp, dst_fmt.comp);
+        final Bitstream<ByteBuffer> srcBitStream = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(src_bb), false /* outputMode */);
+        srcBitStream.setThrowIOExceptionOnEOF(true);
+        final Bitstream<ByteBuffer> dstBitStream = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(dst_bb), true /* outputMode */);
+        dstBitStream.setThrowIOExceptionOnEOF(true);
+        for(int y=0; y<height; y++) {
+            srcBitStream.position( ( vert_flip ? height - 1 - y : y ) * src_lineStride * 8 );
+            dstBitStream.position( y * dst_lineStride * 8 );
+            for(int x=0; x<width; x++) {
+                PixelFormatUtil.convert(cmap, dst_fmt.comp, dstBitStream, src_fmt.comp, srcBitStream);
+            }
+        }
+    }
+
+    private static void assertPixelsEqual(final String msg, final int width, final int height, final int bpp, final int lineStride,
+                                          final ByteBuffer exp, final ByteBuffer has) {
+        for(int y=0; y<height; y++) {
+            for(int i=0; i<lineStride; i++) {
+                final int off = y * lineStride + i;
+                if( i < width * bpp ) {
+                    Assert.assertEquals(msg+", row "+y+", byte "+i, exp.get(off), has.get(off));
+                } else {
+                    Assert.assertEquals(msg+", padding of row "+y+", byte "+i, padding, has.get(off));
+                }
+            }
+        }
+    }
+
+    private static void testPairsImpl(final int width, final int height, final int strideExtra) throws IOException {
+        for(final PixelFormat srcFmt : byteFormats) {
+            final int srcBpp = srcFmt.comp.bytesPerPixel();
+            final int srcStride = width * srcBpp + strideExtra;
+            final ByteBuffer src = createPixels(width, height, srcBpp, srcStride);
+            for(final PixelFormat dstFmt : byteFormats) {
+                final int dstBpp = dstFmt.comp.bytesPerPixel();
+                final int dstStride = width * dstBpp + strideExtra;
+                for(int flip=0; flip<2; flip++) {
+                    final boolean srcGLOriented = 0 != flip;
+                    final ByteBuffer exp = createPixels(width, height, dstBpp, dstStride);
+                    final ByteBuffer has = createPixels(width, height, dstBpp, dstStride);
+                    convertGeneric(width, height, src, srcFmt, srcStride, exp, dstFmt, dstStride, srcGLOriented);
+                    PixelFormatUtil.convert(width, height, src, srcFmt, srcGLOriented, srcStride,
+                                            has, dstFmt, false /* dst_glOriented */, dstStride);
+                    assertPixelsEqual(srcFmt+" -> "+dstFmt+", "+width+"x"+height+", flip "+srcGLOriented,
+                                      width, height, dstBpp, dstStride, exp, has);
+                    Assert.assertEquals(0, src.position());
+                    Assert.assertEquals(0, has.position());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test01PairsSmall() throws IOException {
+        testPairsImpl(13, 7, 0);
+        testPairsImpl(13, 7, 5);
+    }
+
+    @Test
+    public void test02PairsParallel() throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        PixelFormatUtil.setParallel(executor, 4);
+        try {
+            testPairsImpl(PixelFormatUtil.PARALLEL_MIN_PIXELS / 61, 61, 3);
+        } finally {
+            PixelFormatUtil.setParallel(null, 1);
+            executor.shutdown();
+        }
+    }
+
+    private static void benchImpl(final PixelFormat srcFmt, final PixelFormat dstFmt, final int loops) {
+        final int width = 1920, height = 1080;
+        final ByteBuffer src = createPixels(width, height, srcFmt.comp.bytesPerPixel(), width * srcFmt.comp.bytesPerPixel());
+        final ByteBuffer dst = Buffers.newDirectByteBuffer(width * height * dstFmt.comp.bytesPerPixel());
+        for(int flip=0; flip<2; flip++) {
+            final boolean srcGLOriented = 0 != flip;
+            final long t0 = System.nanoTime();
+            for(int i=0; i<loops; i++) {
+                PixelFormatUtil.convert(width, height, src, srcFmt, srcGLOriented, 0, dst, dstFmt, false, 0);
+            }
+            final long t1 = System.nanoTime();
+            System.err.printf("%s -> %s, %dx%d, flip %b: %.3f ms/frame%n",
+                    srcFmt, dstFmt, width, height, srcGLOriented, (t1-t0)/1e6/loops);
+        }
+    }
+
+    private static void benchAll(final int loops) {
+        benchImpl(PixelFormat.RGBA8888, PixelFormat.BGRA8888, loops);
+        benchImpl(PixelFormat.BGRA8888, PixelFormat.RGBA8888, loops);
+        benchImpl(PixelFormat.RGB888, PixelFormat.RGBA8888, loops);
+        benchImpl(PixelFormat.LUMINANCE, PixelFormat.RGBA8888, loops);
+        benchImpl(PixelFormat.RGBA8888, PixelFormat.RGBA8888, loops);
+    }
+
+    @Test
+    public void test10Bench() {
+        benchAll(10); // warm up
+        benchAll(20);
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        PixelFormatUtil.setParallel(executor, 4);
+        try {
+            System.err.println("Parallelism 4");
+            benchAll(20);
+        } finally {
+            PixelFormatUtil.setParallel(null, 1);
+            executor.shutdown();
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPixelFormatUtil02NEWT.class.getName());
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.TextureData;
+import com.jogamp.opengl.util.texture.TextureDataCache;
+import com.jogamp.opengl.util.texture.TextureIO;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link TextureDataCache} hits, misses, LRU eviction and invalidation via {@link TextureIO}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextureDataCacheNEWT extends UITestCase {
+    ImageTstFiles imageTstFiles;
+    List<URL> urls;
+
+    @Before
+    public void initTest() throws IOException {
+        imageTstFiles = new ImageTstFiles();
+        imageTstFiles.init();
+        urls = new ArrayList<URL>();
+        for(int i=0; i<imageTstFiles.pngStreams.size(); i++) {
+            urls.add(new URL(imageTstFiles.pngStreams.get(i).fullPath));
+        }
+    }
+
+    @After
+    public void cleanupTest() {
+        TextureIO.setTextureDataCache(null);
+        imageTstFiles.clear();
+    }
+
+    private List<TextureData> loadAll(final GLProfile glp) throws IOException {
+        final List<TextureData> res = new ArrayList<TextureData>();
+        for(int i=0; i<urls.size(); i++) {
+            res.add(TextureIO.newTextureData(glp, urls.get(i), false /* mipmap */, TextureIO.PNG));
+        }
+        return res;
+    }
+
+    @Test
+    public void test01HitMissInvalidate() throws IOException {
+        final GLProfile glp = GLProfile.getDefault();
+        final TextureDataCache cache = new TextureDataCache(64L * 1024L * 1024L);
+        TextureIO.setTextureDataCache(cache);
+        final int n = urls.size();
+
+        final List<TextureData> first = loadAll(glp);
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertEquals(n, cache.getMissCount());
+        Assert.assertEquals(n, cache.getEntryCount());
+
+        final List<TextureData> second = loadAll(glp);
+        Assert.assertEquals(n, cache.getHitCount());
+        Assert.assertEquals(n, cache.getMissCount());
+        Assert.assertEquals(0, cache.getEvictionCount());
+        for(int i=0; i<n; i++) {
+            final TextureData a = first.get(i), b = second.get(i);
+            Assert.assertNotSame(a, b);
+            Assert.assertNotSame(a.getBuffer(), b.getBuffer()); // duplicates sharing the pixel data
+            Assert.assertEquals(a.getBuffer(), b.getBuffer());
+            b.getBuffer().position(1); // independent position
+            Assert.assertEquals(0, a.getBuffer().position());
+            Assert.assertEquals(a.getWidth(), b.getWidth());
+            Assert.assertEquals(a.getHeight(), b.getHeight());
+            Assert.assertEquals(a.getPixelAttributes(), b.getPixelAttributes());
+            b.flush(); // must not affect the cache
+        }
+
+        cache.invalidate(urls.get(0));
+        Assert.assertEquals(n-1, cache.getEntryCount());
+        TextureIO.newTextureData(glp, urls.get(0), false /* mipmap */, TextureIO.PNG);
+        Assert.assertEquals(n+1, cache.getMissCount());
+
+        // different parameter, different entry
+        TextureIO.newTextureData(glp, urls.get(0), true /* mipmap */, TextureIO.PNG);
+        Assert.assertEquals(n+2, cache.getMissCount());
+        Assert.assertEquals(n+1, cache.getEntryCount());
+
+        System.err.println(cache);
+        cache.clear();
+        Assert.assertEquals(0, cache.getEntryCount());
+        Assert.assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    public void test02LRUEviction() throws IOException {
+        final GLProfile glp = GLProfile.getDefault();
+        final List<TextureData> all = loadAll(glp);
+        long maxSize = 0;
+        for(int i=0; i<all.size(); i++) {
+            maxSize = Math.max(maxSize, all.get(i).getEstimatedMemorySize());
+        }
+        final TextureDataCache cache = new TextureDataCache(2 * maxSize);
+        TextureIO.setTextureDataCache(cache);
+        final int n = urls.size();
+
+        loadAll(glp);
+        Assert.assertEquals(n, cache.getMissCount());
+        Assert.assertTrue(cache.getBytes() <= cache.getMaxBytes());
+        Assert.assertTrue(0 < cache.getEvictionCount());
+        Assert.assertEquals(n, cache.getEntryCount() + cache.getEvictionCount());
+
+        // most recently used entry is retained
+        TextureIO.newTextureData(glp, urls.get(n-1), false /* mipmap */, TextureIO.PNG);
+        Assert.assertEquals(1, cache.getHitCount());
+        System.err.println(cache);
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestTextureDataCacheNEWT.class.getName());
+    }
+}
@@ -47,6 +47,8 @@ import com.jogamp.opengl.util.texture.TextureIO;
 
 import org.junit.Assert;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
@@ -153,6 +155,35 @@ public class TestTextureIONEWT extends UITestCase {
         testImpl(imageTstFiles.ddsStreams, new ImageType(ImageType.T_DDS));
     }
 
+    /**
+     * Validates files shorter than {@link ImageType#MAGIC_MAX_SIZE} are read via their file suffix,
+     * here a 1x1 24 bit TGA of 21 bytes.
+     */
+    @Test
+    public void test05TinyTGAFile() throws IOException {
+        final byte[] tga = new byte[] { 0, 0, 2 /* uncompressed true-color */, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                                        1, 0 /* width */, 1, 0 /* height */, 24 /* bpp */, 0,
+                                        (byte)0x30, (byte)0x20, (byte)0x10 /* BGR */ };
+        Assert.assertTrue(tga.length < ImageType.MAGIC_MAX_SIZE);
+        final File file = File.createTempFile("TestTextureIONEWT", "."+ImageType.T_TGA);
+        try {
+            final FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(tga);
+            } finally {
+                out.close();
+            }
+            final TextureData texData = TextureIO.newTextureData(GLProfile.getDefault(), file, false /* mipmap */, null);
+            System.err.println("TextureData: "+texData);
+            Assert.assertNotNull(texData);
+            Assert.assertEquals(1, texData.getWidth());
+            Assert.assertEquals(1, texData.getHeight());
+            texData.flush();
+        } finally {
+            file.delete();
+        }
+    }
+
     public static void main(final String args[]) throws IOException {
         for(int i=0; i<args.length; i++) {
             if(args[i].equals("-time")) {